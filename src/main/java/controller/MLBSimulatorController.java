@@ -2,10 +2,24 @@ package controller;
 
 import gameEnum.PlayerData;
 import gameEnum.Side;
+import gameEnum.Fidelity;
+import gameEnum.RandomAlgorithm;
+import gameEnum.RareEvent;
+import gameEnum.SimulationEngine;
 import gameEnum.Teams;
+import gameEnum.TrackedStat;
 import model.Model;
 import model.player.Batter;
 import model.player.Pitcher;
+import model.simulation.BatchResult;
+import model.simulation.BatchSimulation;
+import model.simulation.LineupComparison;
+import model.simulation.PrecisionTarget;
+import model.simulation.RandomBenchmark;
+import model.simulation.RareEventEstimator;
+import model.simulation.RareEventResult;
+import model.simulation.RunDistribution;
+import model.simulation.SeasonResult;
 import model.simulation.SimulationResult;
 import view.TextUI;
 import view.UIInterface;
@@ -28,6 +42,9 @@ public class MLBSimulatorController implements MLBSimulatorControllerInterface {
     private static final String PITCHER = "pitcher";
     private static final String BATTER = "batter";
 
+    // larger console runs are played as one parallel batch and only the totals are shown
+    private static final int MAX_DISPLAYED_GAMES = 10;
+
     public MLBSimulatorController(UIInterface view) {
         this.view = new TextUI();
         this.running = true;
@@ -165,10 +182,202 @@ public class MLBSimulatorController implements MLBSimulatorControllerInterface {
             return;
         }
 
+        SimulationEngine engine;
+        Fidelity fidelity;
+        RandomAlgorithm randomAlgorithm;
+        try {
+            engine = SimulationEngine.fromName(simulateOptions.get("engine"));
+            fidelity = Fidelity.fromName(simulateOptions.get("fidelity"));
+            randomAlgorithm = RandomAlgorithm.fromName(simulateOptions.get("rng"));
+        } catch (IllegalArgumentException e) {
+            view.displayError(e.getMessage());
+            return;
+        }
+
+        // Master seed and the index of the first displayed game, a fresh seed for batches if none is given
+        Long seed = null;
+        int firstGame;
+        try {
+            if (simulateOptions.containsKey("seed")) {
+                seed = Long.parseLong(simulateOptions.get("seed"));
+            }
+            firstGame = Integer.parseInt(simulateOptions.getOrDefault("game", "0"));
+        } catch (NumberFormatException e) {
+            view.displayError("Invalid seed or game number");
+            return;
+        }
+        if (firstGame < 0 || (firstGame > 0 && seed == null)) {
+            view.displayError("--game needs a --seed and a non-negative game number");
+            return;
+        }
+        long batchSeed = seed != null ? seed : new SplittableRandom().nextLong();
+        boolean antithetic = simulateOptions.containsKey("antithetic");
+
         SimulationResult simulationResult = null;
-        if (outfile == null) {
+        if (simulateOptions.containsKey("exact")) {
+            RunDistribution runDistribution = model.startExactSimAndGetResult();
+            if (runDistribution != null) {
+                view.displayRunDistribution(runDistribution);
+            } else {
+                view.displayError("Simulation failed, make sure to set com team, batter lineup, and pitcher lineup");
+            }
+
+        } else if (simulateOptions.containsKey("swap-slot")) {
+            LineupComparison comparison;
+            try {
+                comparison = model.startComparisonSimAndGetResult(numberOfSimulations,
+                        Integer.parseInt(simulateOptions.get("swap-slot")), simulateOptions.get("swap-batter"),
+                        engine, fidelity, randomAlgorithm, batchSeed);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                view.displayError(e.getMessage());
+                return;
+            }
+            if (comparison != null) {
+                view.displayLineupComparison(comparison);
+            } else {
+                view.displayError("Simulation failed, make sure to set com team, batter lineup, and pitcher lineup");
+            }
+
+        } else if (simulateOptions.containsKey("bench-rng")) {
+            RandomBenchmark benchmark;
+            try {
+                benchmark = model.startRandomBenchmarkAndGetResult(numberOfSimulations, engine, fidelity, batchSeed);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                view.displayError(e.getMessage());
+                return;
+            }
+            if (benchmark != null) {
+                view.displayRandomBenchmark(benchmark);
+            } else {
+                view.displayError("Simulation failed, make sure to set com team, batter lineup, and pitcher lineup");
+            }
+
+        } else if (simulateOptions.containsKey("season")) {
+            SeasonResult seasonResult;
+            try {
+                seasonResult = model.startSeasonSimAndGetResult(numberOfSimulations, fidelity, randomAlgorithm,
+                        batchSeed);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                view.displayError(e.getMessage());
+                return;
+            }
+            if (seasonResult != null) {
+                view.displaySeasonResult(seasonResult);
+            } else {
+                view.displayError("Simulation failed, make sure to set the batter lineup");
+            }
+
+        } else if (simulateOptions.containsKey("grid")) {
+            try {
+                view.displayScenarioGridResult(model.startScenarioGridAndGetResult(simulateOptions.get("grid"),
+                        outfile));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                view.displayError(e.getMessage());
+            }
+
+        } else if (simulateOptions.containsKey("rare")) {
+            int threshold;
+            try {
+                threshold = Integer.parseInt(simulateOptions.getOrDefault("at-least",
+                        String.valueOf(RareEventEstimator.DEFAULT_RUNS)));
+            } catch (NumberFormatException e) {
+                view.displayError("Invalid run threshold: " + simulateOptions.get("at-least"));
+                return;
+            }
+            RareEventResult rareEventResult;
+            try {
+                rareEventResult = model.startRareEventSimAndGetResult(RareEvent.fromName(simulateOptions.get("rare")),
+                        threshold, numberOfSimulations, batchSeed);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                view.displayError(e.getMessage());
+                return;
+            }
+            if (rareEventResult != null) {
+                view.displayRareEventResult(rareEventResult);
+            } else {
+                view.displayError("Simulation failed, make sure to set com team, batter lineup, and pitcher lineup");
+            }
+
+        } else if (simulateOptions.containsKey("until-ci")) {
+            BatchResult batchResult;
+            try {
+                batchResult = model.startPrecisionSimAndGetResult(parsePrecisionTarget(simulateOptions), engine,
+                        fidelity, antithetic, randomAlgorithm, batchSeed);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                view.displayError(e.getMessage());
+                return;
+            }
+            if (batchResult != null) {
+                view.displayBatchResult(batchResult);
+            } else {
+                view.displayError("Simulation failed, make sure to set com team, batter lineup, and pitcher lineup");
+            }
+
+        } else if (simulateOptions.containsKey("workers")) {
+            int workers;
+            try {
+                workers = Integer.parseInt(simulateOptions.get("workers"));
+            } catch (NumberFormatException e) {
+                view.displayError("Invalid number of workers: " + simulateOptions.get("workers"));
+                return;
+            }
+            BatchResult batchResult;
+            try {
+                batchResult = model.startShardedSimAndGetResult(numberOfSimulations, workers, engine, fidelity,
+                        antithetic, randomAlgorithm, batchSeed);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                view.displayError(e.getMessage());
+                return;
+            }
+            if (batchResult != null) {
+                view.displayBatchResult(batchResult);
+            } else {
+                view.displayError("Simulation failed, make sure to set com team, batter lineup, and pitcher lineup");
+            }
+
+        } else if (simulateOptions.containsKey("pbp")) {
+            List<SimulationResult> results;
+            try {
+                results = model.startPlayByPlaySimAndGetResult(numberOfSimulations, randomAlgorithm, batchSeed,
+                        firstGame, simulateOptions.get("pbp"));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                view.displayError(e.getMessage());
+                return;
+            }
+            if (results == null) {
+                view.displayError("Simulation failed, make sure to set com team, batter lineup, and pitcher lineup");
+                return;
+            }
+            // the model only keeps the results of a run small enough to display
+            for (SimulationResult result : results) {
+                view.displaySimulationResult(result);
+            }
+            view.displayMessage("Play-by-play of " + numberOfSimulations + " games saved to " + simulateOptions.get("pbp")
+                    + " (seed " + batchSeed + ")");
+
+        } else if (outfile == null && numberOfSimulations > MAX_DISPLAYED_GAMES) {
+            BatchResult batchResult;
+            try {
+                batchResult = model.startBatchSimAndGetResult(numberOfSimulations, engine, fidelity, antithetic,
+                        randomAlgorithm, batchSeed);
+            } catch (IllegalStateException e) {
+                view.displayError(e.getMessage());
+                return;
+            }
+            if (batchResult != null) {
+                view.displayBatchResult(batchResult);
+            } else {
+                view.displayError("Simulation failed, make sure to set com team, batter lineup, and pitcher lineup");
+            }
+
+        } else if (engine != SimulationEngine.REFERENCE || fidelity != Fidelity.PITCH || antithetic) {
+            // displayed and saved games are played one at a time on the reference engine to render their details
+            view.displayError("--engine, --fidelity and --antithetic only apply to batches of more than "
+                    + MAX_DISPLAYED_GAMES + " games without -o");
+
+        } else if (outfile == null) {
             for (int i = 0; i < numberOfSimulations; i++) {
-                simulationResult = model.startSimAndGetResult();
+                simulationResult = playDisplayedGame(seed, randomAlgorithm, firstGame + i);
                 if (simulationResult != null) {
                     view.displaySimulationResult(simulationResult);
                 } else {
@@ -178,7 +387,7 @@ public class MLBSimulatorController implements MLBSimulatorControllerInterface {
 
         } else {
             for (int i = 0; i < numberOfSimulations; i++) {
-                simulationResult = model.startSimAndGetResult();
+                simulationResult = playDisplayedGame(seed, randomAlgorithm, firstGame + i);
                 if (simulationResult != null) {
                     view.displaySimulationResult(simulationResult);
                     String formattedFilename = formatOutputFilename(outfile, i + 1);
@@ -191,6 +400,56 @@ public class MLBSimulatorController implements MLBSimulatorControllerInterface {
 
     }
 
+    /**
+     * Plays one displayed game, seeded like game [gameIndex] of a batch when a master seed is given
+     *
+     * @param seed            The master seed, null for an unseeded game
+     * @param randomAlgorithm The algorithm of the random stream of a seeded game
+     * @param gameIndex       The index of the game under the master seed
+     * @return The result of the game, null if the lineup is not complete
+     */
+    private SimulationResult playDisplayedGame(Long seed, RandomAlgorithm randomAlgorithm, int gameIndex) {
+        if (seed == null) {
+            return model.startSimAndGetResult();
+        }
+        return model.startSimAndGetResult(randomAlgorithm, BatchSimulation.gameSeed(seed, gameIndex));
+    }
+
+    /**
+     * Builds the stopping rule of a precision run from the simulate options
+     *
+     * @param simulateOptions The parsed simulate options
+     * @return The precision target
+     * @throws IllegalArgumentException if a value is not a valid number or statistic
+     */
+    private PrecisionTarget parsePrecisionTarget(Map<String, String> simulateOptions) {
+        double width;
+        try {
+            width = Double.parseDouble(simulateOptions.get("until-ci"));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid interval width: " + simulateOptions.get("until-ci"));
+        }
+        int maxGames = PrecisionTarget.DEFAULT_MAX_GAMES;
+        long timeBudgetMillis = 0;
+        try {
+            if (simulateOptions.containsKey("max-games")) {
+                maxGames = Integer.parseInt(simulateOptions.get("max-games"));
+            }
+            if (simulateOptions.containsKey("time-limit")) {
+                timeBudgetMillis = Math.round(Double.parseDouble(simulateOptions.get("time-limit")) * 1000);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid game limit or time limit");
+        }
+
+        String track = simulateOptions.getOrDefault("track", TrackedStat.RUNS.getName());
+        TrackedStat[] stats = Arrays.stream(track.split(","))
+                .map(String::trim)
+                .map(TrackedStat::fromName)
+                .toArray(TrackedStat[]::new);
+        return new PrecisionTarget(width, maxGames, timeBudgetMillis, stats);
+    }
+
     /**
      * Formats the output filename by removing any existing file extension,
      * appending a sequence number, and then adding the .txt extension
@@ -209,7 +468,10 @@ public class MLBSimulatorController implements MLBSimulatorControllerInterface {
 
     /**
      * Parses the simulate command options
-     * Handles: simulate -n [number] -o [outfile]
+     * Handles: simulate -n [number] -o [outfile] --engine [engine] --fidelity [fidelity] --exact
+     * --until-ci [width] --max-games [number] --time-limit [seconds] --track [stat,stat] --seed [seed] --game [index]
+     * --antithetic --swap [slot] [batter name] --rare [event] --at-least [runs] --rng [algorithm] --bench-rng --season
+     * --workers [number] --grid [scenario file] --pbp [csv file]
      *
      * @param commandParts The command split into parts
      * @return A map containing the extracted option values
@@ -220,6 +482,9 @@ public class MLBSimulatorController implements MLBSimulatorControllerInterface {
         // Default values
         options.put("number", "1"); // Default to 1 simulation
         options.put("outfile", null); // Default to no outfile (print to console)
+        options.put("engine", SimulationEngine.REFERENCE.getName()); // Default to the reference engine
+        options.put("fidelity", Fidelity.PITCH.getName()); // Default to playing pitch by pitch
+        options.put("rng", RandomAlgorithm.SPLITTABLE.getName()); // Default to SplittableRandom streams
 
         // Skip the first part ("simulate")
         for (int i = 1; i < commandParts.length; i++) {
@@ -233,6 +498,47 @@ public class MLBSimulatorController implements MLBSimulatorControllerInterface {
                 // Extract outfile value
                 options.put("outfile", commandParts[i + 1]);
                 i++; // Skip the next part since we've processed it
+            } else if (part.equals("--exact")) {
+                // Solve the distribution instead of playing games
+                options.put("exact", "true");
+            } else if (part.equals("--bench-rng")) {
+                // Time every random algorithm instead of playing a batch
+                options.put("bench-rng", "true");
+            } else if (part.equals("--season")) {
+                // Play seasons against the league instead of games against one team
+                options.put("season", "true");
+            } else if (part.equals("--antithetic")) {
+                // Play the games in antithetic pairs
+                options.put("antithetic", "true");
+            } else if (part.equals("--swap") && i + 2 < commandParts.length) {
+                // Extract the slot and the batter name, which runs up to the next option
+                options.put("swap-slot", commandParts[i + 1]);
+                StringBuilder batterName = new StringBuilder(commandParts[i + 2]);
+                i += 2;
+                while (i + 1 < commandParts.length && !commandParts[i + 1].startsWith("-")) {
+                    batterName.append(" ").append(commandParts[++i]);
+                }
+                options.put("swap-batter", batterName.toString());
+            } else if ((part.equals("--until-ci") || part.equals("--max-games") || part.equals("--time-limit")
+                    || part.equals("--track") || part.equals("--seed") || part.equals("--game")
+                    || part.equals("--rare") || part.equals("--at-least") || part.equals("--workers")
+                    || part.equals("--grid") || part.equals("--pbp"))
+                    && i + 1 < commandParts.length) {
+                // Extract precision run, rare event, worker, grid, play-by-play and seed settings, keyed without the leading dashes
+                options.put(part.substring(2), commandParts[i + 1]);
+                i++; // Skip the next part since we've processed it
+            } else if (part.equals("--engine") && i + 1 < commandParts.length) {
+                // Extract engine used by batch runs
+                options.put("engine", commandParts[i + 1]);
+                i++; // Skip the next part since we've processed it
+            } else if (part.equals("--rng") && i + 1 < commandParts.length) {
+                // Extract random algorithm of the game streams
+                options.put("rng", commandParts[i + 1]);
+                i++; // Skip the next part since we've processed it
+            } else if (part.equals("--fidelity") && i + 1 < commandParts.length) {
+                // Extract level of detail used by batch runs
+                options.put("fidelity", commandParts[i + 1]);
+                i++; // Skip the next part since we've processed it
             }
         }
 
@@ -0,0 +1,45 @@
+package gameEnum;
+
+public enum BaseEvent {
+    SINGLE("1B"), DOUBLE("2B"), TRIPLE("3B"), HOME_RUN("HR"), WALK("BB"), OUT("out");
+
+    /** stores the scorebook abbreviation of the event. */
+    private final String abbreviation;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param abbreviation the scorebook abbreviation.
+     */
+    BaseEvent(String abbreviation) {
+        this.abbreviation = abbreviation;
+    }
+
+    /**
+     * Getter for the scorebook abbreviation.
+     *
+     * @return the abbreviation.
+     */
+    public String getAbbreviation() {
+        return this.abbreviation;
+    }
+
+    /**
+     * Get the event of a hit.
+     *
+     * @param hitType the type of hit.
+     * @return the event that matches the hit.
+     */
+    public static BaseEvent fromHit(Hits hitType) {
+        switch (hitType) {
+            case SINGLE:
+                return SINGLE;
+            case DOUBLE:
+                return DOUBLE;
+            case TRIPLE:
+                return TRIPLE;
+            default:
+                return HOME_RUN;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package gameEnum;
+
+public enum BattingStat {
+    PLATE_APPEARANCES("pa"), HITS("h"), SINGLES("1b"), DOUBLES("2b"), TRIPLES("3b"), HOME_RUNS("hr"), WALKS("bb"),
+    STRIKEOUTS("k"), RBI("rbi");
+
+    /** stores the name used in reports. */
+    private final String name;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param name the name used in reports.
+     */
+    BattingStat(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter for the report name.
+     *
+     * @return the report name.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Check whether the stat counts a type of hit.
+     *
+     * @return true for singles, doubles, triples and home runs.
+     */
+    public boolean isHit() {
+        return this == SINGLES || this == DOUBLES || this == TRIPLES || this == HOME_RUNS;
+    }
+
+    /**
+     * Get the stat that counts a type of hit.
+     *
+     * @param hit the type of the hit.
+     * @return the stat that matches the hit.
+     */
+    public static BattingStat fromHit(Hits hit) {
+        switch (hit) {
+            case SINGLE:
+                return SINGLES;
+            case DOUBLE:
+                return DOUBLES;
+            case TRIPLE:
+                return TRIPLES;
+            default:
+                return HOME_RUNS;
+        }
+    }
+
+    /**
+     * Get the enum from the report name.
+     *
+     * @param name the name used in reports.
+     * @return the enum that matches the name.
+     */
+    public static BattingStat fromName(String name) {
+        for (BattingStat stat : BattingStat.values()) {
+            if (stat.getName().equalsIgnoreCase(name)) {
+                return stat;
+            }
+        }
+        throw new IllegalArgumentException("No batting stat with name " + name);
+    }
+}
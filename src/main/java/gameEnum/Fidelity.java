@@ -0,0 +1,41 @@
+package gameEnum;
+
+public enum Fidelity {
+    PITCH("pitch"), PLATE_APPEARANCE("pa");
+
+    /** stores the name used on the command line. */
+    private final String name;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param name the name used on the command line.
+     */
+    Fidelity(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter for the command line name.
+     *
+     * @return the command line name.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get the enum from the command line name.
+     *
+     * @param name the name used on the command line.
+     * @return the enum that matches the name.
+     */
+    public static Fidelity fromName(String name) {
+        for (Fidelity fidelity : Fidelity.values()) {
+            if (fidelity.getName().equalsIgnoreCase(name)) {
+                return fidelity;
+            }
+        }
+        throw new IllegalArgumentException("No fidelity with name " + name);
+    }
+}
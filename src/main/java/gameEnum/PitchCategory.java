@@ -0,0 +1,41 @@
+package gameEnum;
+
+public enum PitchCategory {
+    FASTBALL("Fastball"), BREAKING("Breaking"), OFFSPEED("Offspeed");
+
+    /** stores the display name of the category. */
+    private final String displayName;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param displayName the name shown in game statistics.
+     */
+    PitchCategory(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Getter for the display name.
+     *
+     * @return the display name.
+     */
+    public String getDisplayName() {
+        return this.displayName;
+    }
+
+    /**
+     * Get the enum from the display name.
+     *
+     * @param displayName the name shown in game statistics.
+     * @return the enum that matches the display name.
+     */
+    public static PitchCategory fromDisplayName(String displayName) {
+        for (PitchCategory category : PitchCategory.values()) {
+            if (category.getDisplayName().equals(displayName)) {
+                return category;
+            }
+        }
+        throw new IllegalArgumentException("No pitch category with name " + displayName);
+    }
+}
@@ -0,0 +1,79 @@
+package gameEnum;
+
+public enum PitchResult {
+    BALL("ball"), CALLED_STRIKE("calledStrike"), SWINGING_STRIKE("swingingStrike"), IN_PLAY_OUT("inPlayOut"),
+    SINGLE("single"), DOUBLE("double"), TRIPLE("triple"), HOME_RUN("homeRun");
+
+    /** stores the name used in play-by-play logs. */
+    private final String name;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param name the name used in play-by-play logs.
+     */
+    PitchResult(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter for the play-by-play name.
+     *
+     * @return the play-by-play name.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Check whether the ball was put in play.
+     *
+     * @return true for an out in play or a hit.
+     */
+    public boolean isInPlay() {
+        return this.ordinal() >= IN_PLAY_OUT.ordinal();
+    }
+
+    /**
+     * Check whether the pitch was a hit.
+     *
+     * @return true for a single, double, triple or home run.
+     */
+    public boolean isHit() {
+        return this.ordinal() > IN_PLAY_OUT.ordinal();
+    }
+
+    /**
+     * Get the result of a hit.
+     *
+     * @param hit the type of the hit.
+     * @return the result that matches the hit.
+     */
+    public static PitchResult fromHit(Hits hit) {
+        switch (hit) {
+            case SINGLE:
+                return SINGLE;
+            case DOUBLE:
+                return DOUBLE;
+            case TRIPLE:
+                return TRIPLE;
+            default:
+                return HOME_RUN;
+        }
+    }
+
+    /**
+     * Get the enum from the play-by-play name.
+     *
+     * @param name the name used in play-by-play logs.
+     * @return the enum that matches the name.
+     */
+    public static PitchResult fromName(String name) {
+        for (PitchResult result : PitchResult.values()) {
+            if (result.getName().equalsIgnoreCase(name)) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("No pitch result with name " + name);
+    }
+}
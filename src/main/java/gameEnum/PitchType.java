@@ -0,0 +1,60 @@
+package gameEnum;
+
+public enum PitchType {
+    FOUR_SEAM("fourSeam", PitchCategory.FASTBALL), TWO_SEAM("twoSeam", PitchCategory.FASTBALL),
+    CUTTER("cutter", PitchCategory.FASTBALL), SINKER("sinker", PitchCategory.FASTBALL),
+    SLIDER("slider", PitchCategory.BREAKING), CURVE("curve", PitchCategory.BREAKING),
+    KNUCKLE("knuckle", PitchCategory.BREAKING), SWEEPER("sweeper", PitchCategory.BREAKING),
+    SLURVE("slurve", PitchCategory.BREAKING), SPLIT_FINGER("splitFinger", PitchCategory.OFFSPEED),
+    CHANGEUP("changeup", PitchCategory.OFFSPEED), FORK("fork", PitchCategory.OFFSPEED),
+    SCREW("screw", PitchCategory.OFFSPEED);
+
+    /** stores the display name of the pitch type. */
+    private final String displayName;
+    /** stores the category the pitch type belongs to. */
+    private final PitchCategory category;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param displayName the name shown in game statistics.
+     * @param category the category the pitch type belongs to.
+     */
+    PitchType(String displayName, PitchCategory category) {
+        this.displayName = displayName;
+        this.category = category;
+    }
+
+    /**
+     * Getter for the display name.
+     *
+     * @return the display name.
+     */
+    public String getDisplayName() {
+        return this.displayName;
+    }
+
+    /**
+     * Getter for the pitch category.
+     *
+     * @return the category of the pitch type.
+     */
+    public PitchCategory getCategory() {
+        return this.category;
+    }
+
+    /**
+     * Get the enum from the display name.
+     *
+     * @param displayName the name shown in game statistics.
+     * @return the enum that matches the display name.
+     */
+    public static PitchType fromDisplayName(String displayName) {
+        for (PitchType type : PitchType.values()) {
+            if (type.getDisplayName().equals(displayName)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("No pitch type with name " + displayName);
+    }
+}
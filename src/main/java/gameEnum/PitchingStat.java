@@ -0,0 +1,42 @@
+package gameEnum;
+
+public enum PitchingStat {
+    BATTERS_FACED("bf"), PITCHES("pitches"), STRIKES("strikes"), BALLS("balls"), STRIKEOUTS("k"), WALKS("bb"),
+    HITS("h"), HOME_RUNS("hr"), RUNS("r");
+
+    /** stores the name used in reports. */
+    private final String name;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param name the name used in reports.
+     */
+    PitchingStat(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter for the report name.
+     *
+     * @return the report name.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get the enum from the report name.
+     *
+     * @param name the name used in reports.
+     * @return the enum that matches the name.
+     */
+    public static PitchingStat fromName(String name) {
+        for (PitchingStat stat : PitchingStat.values()) {
+            if (stat.getName().equalsIgnoreCase(name)) {
+                return stat;
+            }
+        }
+        throw new IllegalArgumentException("No pitching stat with name " + name);
+    }
+}
@@ -0,0 +1,63 @@
+package gameEnum;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+public enum RandomAlgorithm {
+    L64X128_MIX("L64X128MixRandom"), XOROSHIRO128_PLUS_PLUS("Xoroshiro128PlusPlus"),
+    SPLITTABLE("SplittableRandom"), RANDOM("Random");
+
+    /** stores the JDK algorithm name, also used on the command line. */
+    private final String name;
+    /** stores the factory of the algorithm, looked up once. */
+    private final RandomGeneratorFactory<RandomGenerator> factory;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param name the JDK algorithm name.
+     */
+    RandomAlgorithm(String name) {
+        this.name = name;
+        this.factory = RandomGeneratorFactory.of(name);
+    }
+
+    /**
+     * Getter for the algorithm name.
+     *
+     * @return the algorithm name.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Create a generator of the algorithm.
+     * SplittableRandom is built directly, so seeded runs keep the streams they had before algorithms were selectable.
+     *
+     * @param seed the seed of the generator.
+     * @return a new generator.
+     */
+    public RandomGenerator create(long seed) {
+        if (this == SPLITTABLE) {
+            return new SplittableRandom(seed);
+        }
+        return factory.create(seed);
+    }
+
+    /**
+     * Get the enum from the algorithm name.
+     *
+     * @param name the algorithm name used on the command line.
+     * @return the enum that matches the name.
+     */
+    public static RandomAlgorithm fromName(String name) {
+        for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+            if (algorithm.getName().equalsIgnoreCase(name)) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("No random algorithm with name " + name);
+    }
+}
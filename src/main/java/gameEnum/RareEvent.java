@@ -0,0 +1,41 @@
+package gameEnum;
+
+public enum RareEvent {
+    NO_HITTER("no-hitter"), PERFECT_GAME("perfect"), RUNS("runs");
+
+    /** stores the name used on the command line. */
+    private final String name;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param name the name used on the command line.
+     */
+    RareEvent(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter for the command line name.
+     *
+     * @return the command line name.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get the enum from the command line name.
+     *
+     * @param name the name used on the command line.
+     * @return the enum that matches the name.
+     */
+    public static RareEvent fromName(String name) {
+        for (RareEvent event : RareEvent.values()) {
+            if (event.getName().equalsIgnoreCase(name)) {
+                return event;
+            }
+        }
+        throw new IllegalArgumentException("No rare event with name " + name);
+    }
+}
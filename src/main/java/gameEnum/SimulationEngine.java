@@ -0,0 +1,42 @@
+package gameEnum;
+
+public enum SimulationEngine {
+    REFERENCE("reference"), KERNEL("kernel"), VERIFY("verify"), COMPOSITION("composition"),
+    LANES("lanes");
+
+    /** stores the name used on the command line. */
+    private final String name;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param name the name used on the command line.
+     */
+    SimulationEngine(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter for the command line name.
+     *
+     * @return the command line name.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get the enum from the command line name.
+     *
+     * @param name the name used on the command line.
+     * @return the enum that matches the name.
+     */
+    public static SimulationEngine fromName(String name) {
+        for (SimulationEngine engine : SimulationEngine.values()) {
+            if (engine.getName().equalsIgnoreCase(name)) {
+                return engine;
+            }
+        }
+        throw new IllegalArgumentException("No simulation engine with name " + name);
+    }
+}
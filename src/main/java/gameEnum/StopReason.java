@@ -0,0 +1,26 @@
+package gameEnum;
+
+public enum StopReason {
+    PRECISION("target precision reached"), MAX_GAMES("game limit reached"), TIME_BUDGET("time budget spent");
+
+    /** stores the description shown in reports. */
+    private final String description;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param description the description shown in reports.
+     */
+    StopReason(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Getter for the description.
+     *
+     * @return the description.
+     */
+    public String getDescription() {
+        return this.description;
+    }
+}
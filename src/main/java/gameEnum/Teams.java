@@ -1,6 +1,7 @@
 package gameEnum;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 
 public enum Teams {
@@ -71,12 +72,20 @@ public enum Teams {
     }
 
     public static Teams randomTeam() {
-        Random random = new Random();
-        int index = random.nextInt(Teams.values().length);
-        Teams rTeam = Teams.values()[index];
-        if (rTeam == Teams.MARINERS) {
-            rTeam = randomTeam();
-        }
+        return randomTeam(new SplittableRandom());
+    }
+
+    /**
+     * Draw a random opponent other than the Mariners from the given generator.
+     *
+     * @param random the random source.
+     * @return the drawn team.
+     */
+    public static Teams randomTeam(RandomGenerator random) {
+        Teams rTeam;
+        do {
+            rTeam = Teams.values()[random.nextInt(Teams.values().length)];
+        } while (rTeam == Teams.MARINERS);
         return rTeam;
     }
 
@@ -0,0 +1,41 @@
+package gameEnum;
+
+public enum TrackedStat {
+    RUNS("runs"), HITS("hits"), SINGLES("1b"), DOUBLES("2b"), TRIPLES("3b"), HOME_RUNS("hr"), STRIKEOUTS("k"), WALKS("bb"), PITCHES("pitches");
+
+    /** stores the name used on the command line. */
+    private final String name;
+
+    /**
+     * Constructor for the enum.
+     *
+     * @param name the name used on the command line.
+     */
+    TrackedStat(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter for the command line name.
+     *
+     * @return the command line name.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get the enum from the command line name.
+     *
+     * @param name the name used on the command line.
+     * @return the enum that matches the name.
+     */
+    public static TrackedStat fromName(String name) {
+        for (TrackedStat stat : TrackedStat.values()) {
+            if (stat.getName().equalsIgnoreCase(name)) {
+                return stat;
+            }
+        }
+        throw new IllegalArgumentException("No tracked stat with name " + name);
+    }
+}
@@ -1,20 +1,45 @@
 package model;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.random.RandomGenerator;
 import java.util.stream.Stream;
 
 import gameEnum.PlayerData;
 import gameEnum.Side;
+import gameEnum.Fidelity;
+import gameEnum.RandomAlgorithm;
+import gameEnum.RareEvent;
+import gameEnum.SimulationEngine;
 import gameEnum.Teams;
 import model.filter.PlayerFilter;
 import model.player.Batter;
 import model.player.Pitcher;
 import model.player.Player;
+import model.random.RandomStreams;
+import model.simulation.BatchResult;
+import model.simulation.BatchSimulation;
+import model.simulation.GameKernel;
+import model.simulation.LineupComparison;
+import model.simulation.MarkovChainEngine;
+import model.simulation.PitchLog;
+import model.simulation.PitchLogReplayer;
+import model.simulation.PrecisionTarget;
+import model.simulation.RandomBenchmark;
+import model.simulation.RareEventEstimator;
+import model.simulation.RareEventResult;
+import model.simulation.RunDistribution;
+import model.simulation.ScenarioExecutor;
+import model.simulation.ScenarioGrid;
+import model.simulation.ScenarioGridResult;
+import model.simulation.SeasonResult;
+import model.simulation.SeasonSimulation;
+import model.simulation.ShardCoordinator;
 import model.simulation.Simulation;
 import model.simulation.SimulationResult;
 import model.sorter.PlayerSorter;
@@ -30,6 +55,8 @@ public class Model implements ModelInterface {
     private static final Teams DEFAULT_RANDOM_COM_TEAM = Teams.randomTeam();
     /** Use Name as the default sort on column. */
     private static final String DEFAULT_SORT_ON_NAME = "Name";
+    /** Most games of a play-by-play run whose results are kept for display. */
+    public static final int PLAY_BY_PLAY_KEPT_GAMES = 10;
     /** Run SetComTeam() before using this field. */
     private ComTeam comTeam = null;
     /** Run SetPlayerTeam() before using this field. */
@@ -566,6 +593,282 @@ public class Model implements ModelInterface {
         this.gameResult = game.runSimulation();
         return this.gameResult;
     }
+    /**
+     * Start a reproducible simulation.
+     * CMD: simulate --seed [seed] --rng [algorithm]
+     * @param randomAlgorithm the algorithm of the random stream of the game
+     * @param seed the seed of the game, the same seed and algorithm replay the same game
+     * @return SimulationResult, null if the lineup is not completed
+     */
+    public SimulationResult startSimAndGetResult(RandomAlgorithm randomAlgorithm, long seed) {
+        if (this.playerTeam.checkBatterLineupSpace() > 0 ||
+            this.comTeam.checkPitcherLineupSpace() > 0) {
+            System.out.println("Simulation failed.");
+            System.out.println("Lineup is not completed.");
+            return null;
+        }
+        Simulation game = new Simulation(this.playerTeam, this.comTeam, randomAlgorithm.create(seed));
+        this.gameResult = game.runSimulation();
+        return this.gameResult;
+    }
+    /**
+     * Start a batch of simulations spread over every core.
+     * CMD: simulate -n [number] --engine [engine] --fidelity [fidelity] --antithetic --rng [algorithm] --seed [seed]
+     * @param numberOfGames number of games to simulate
+     * @param engine the engine that plays the games
+     * @param fidelity the level of detail the games are played at
+     * @param antithetic true to play the games in antithetic pairs
+     * @param randomAlgorithm the algorithm of the random stream of every game
+     * @param seed the master seed every game seed is derived from
+     * @return BatchResult, null if the lineup is not completed
+     */
+    public BatchResult startBatchSimAndGetResult(int numberOfGames, SimulationEngine engine, Fidelity fidelity,
+                                                 boolean antithetic, RandomAlgorithm randomAlgorithm, long seed) {
+        if (this.playerTeam.checkBatterLineupSpace() > 0 ||
+            this.comTeam.checkPitcherLineupSpace() > 0) {
+            System.out.println("Simulation failed.");
+            System.out.println("Lineup is not completed.");
+            return null;
+        }
+        BatchSimulation batch = new BatchSimulation(this.playerTeam, this.comTeam).setEngine(engine)
+                .setFidelity(fidelity).setAntithetic(antithetic).setRandomAlgorithm(randomAlgorithm);
+        return batch.run(numberOfGames, seed);
+    }
+    /**
+     * Start a batch of simulations split over several worker processes on this machine.
+     * CMD: simulate -n [number] --workers [number]
+     * @param numberOfGames number of games to simulate
+     * @param workers number of worker processes running at once
+     * @param engine the engine that plays the games
+     * @param fidelity the level of detail the games are played at
+     * @param antithetic true to play the games in antithetic pairs
+     * @param randomAlgorithm the algorithm of the random stream of every game
+     * @param seed the master seed every game seed is derived from
+     * @return BatchResult, null if the lineup is not completed
+     */
+    public BatchResult startShardedSimAndGetResult(int numberOfGames, int workers, SimulationEngine engine,
+                                                   Fidelity fidelity, boolean antithetic,
+                                                   RandomAlgorithm randomAlgorithm, long seed) {
+        if (this.playerTeam.checkBatterLineupSpace() > 0 ||
+            this.comTeam.checkPitcherLineupSpace() > 0) {
+            System.out.println("Simulation failed.");
+            System.out.println("Lineup is not completed.");
+            return null;
+        }
+        ShardCoordinator coordinator = new ShardCoordinator(this.playerTeam, this.comTeam, workers).setEngine(engine)
+                .setFidelity(fidelity).setAntithetic(antithetic).setRandomAlgorithm(randomAlgorithm);
+        return coordinator.run(numberOfGames, seed);
+    }
+    /**
+     * Start a batch of simulations that keeps playing until the precision target is met.
+     * CMD: simulate --until-ci [width] --max-games [number] --time-limit [seconds] --track [stats]
+     * @param target the stopping rule
+     * @param engine the engine that plays the games
+     * @param fidelity the level of detail the games are played at
+     * @param antithetic true to play the games in antithetic pairs
+     * @param randomAlgorithm the algorithm of the random stream of every game
+     * @param seed the master seed every game seed is derived from
+     * @return BatchResult, null if the lineup is not completed
+     */
+    public BatchResult startPrecisionSimAndGetResult(PrecisionTarget target, SimulationEngine engine,
+                                                     Fidelity fidelity, boolean antithetic,
+                                                     RandomAlgorithm randomAlgorithm, long seed) {
+        if (this.playerTeam.checkBatterLineupSpace() > 0 ||
+            this.comTeam.checkPitcherLineupSpace() > 0) {
+            System.out.println("Simulation failed.");
+            System.out.println("Lineup is not completed.");
+            return null;
+        }
+        BatchSimulation batch = new BatchSimulation(this.playerTeam, this.comTeam).setEngine(engine)
+                .setFidelity(fidelity).setAntithetic(antithetic).setRandomAlgorithm(randomAlgorithm);
+        return batch.runUntil(target, seed);
+    }
+    /**
+     * Compare the current lineup with one batter swapped in, playing both on common random numbers.
+     * CMD: simulate -n [number] --swap [slot] [batter name]
+     * @param numberOfGames number of games each lineup plays
+     * @param slot the lineup slot to change, from 1 to 9
+     * @param batterName the batter swapped in, from the player team roster
+     * @param engine the engine that plays the games
+     * @param fidelity the level of detail the games are played at
+     * @param randomAlgorithm the algorithm of the random stream of every game
+     * @param seed the master seed every game seed is derived from
+     * @return LineupComparison, null if the lineup is not completed
+     */
+    public LineupComparison startComparisonSimAndGetResult(int numberOfGames, int slot, String batterName,
+                                                           SimulationEngine engine, Fidelity fidelity,
+                                                           RandomAlgorithm randomAlgorithm, long seed) {
+        if (this.playerTeam.checkBatterLineupSpace() > 0 ||
+            this.comTeam.checkPitcherLineupSpace() > 0) {
+            System.out.println("Simulation failed.");
+            System.out.println("Lineup is not completed.");
+            return null;
+        }
+        if (slot < 1 || slot > 9) {
+            throw new IllegalArgumentException("Lineup slot must be between 1 and 9");
+        }
+        Batter batter = getBatter(Side.PLAYER, batterName);
+        if (batter == null) {
+            throw new IllegalArgumentException("No batter named " + batterName);
+        }
+        PlayerTeam challenger = new PlayerTeam(Teams.fromCmdName(this.playerTeam.getTeamName()));
+        for (int i = 0; i < 9; i++) {
+            challenger.getBatterLineup().set(i, this.playerTeam.getBatterLineup().get(i));
+        }
+        challenger.getBatterLineup().set(slot - 1, batter);
+
+        BatchSimulation batch = new BatchSimulation(this.playerTeam, this.comTeam).setEngine(engine)
+                .setFidelity(fidelity).setRandomAlgorithm(randomAlgorithm);
+        return batch.compare(challenger, batter.getName() + " batting " + slot, numberOfGames, seed);
+    }
+    /**
+     * Time every random algorithm on the chosen engine and fidelity.
+     * CMD: simulate -n [number] --bench-rng --engine [engine] --fidelity [fidelity]
+     * @param numberOfGames number of games timed per algorithm
+     * @param engine the engine that plays the games
+     * @param fidelity the level of detail the games are played at
+     * @param seed the seed of the draws and of the games
+     * @return RandomBenchmark, null if the lineup is not completed
+     */
+    public RandomBenchmark startRandomBenchmarkAndGetResult(int numberOfGames, SimulationEngine engine,
+                                                            Fidelity fidelity, long seed) {
+        if (this.playerTeam.checkBatterLineupSpace() > 0 ||
+            this.comTeam.checkPitcherLineupSpace() > 0) {
+            System.out.println("Simulation failed.");
+            System.out.println("Lineup is not completed.");
+            return null;
+        }
+        BatchSimulation batch = new BatchSimulation(this.playerTeam, this.comTeam).setEngine(engine)
+                .setFidelity(fidelity);
+        return new RandomBenchmark(batch, numberOfGames).run(seed);
+    }
+    /**
+     * Estimate the probability of a rare game with importance sampling.
+     * CMD: simulate -n [number] --rare [no-hitter/perfect/runs] --at-least [runs] --seed [seed]
+     * @param event the rare event
+     * @param threshold the fewest runs of the runs event, ignored by the others
+     * @param numberOfGames number of tilted games to play
+     * @param seed the seed of the pilot run and of the games
+     * @return RareEventResult, null if the lineup is not completed
+     */
+    public RareEventResult startRareEventSimAndGetResult(RareEvent event, int threshold, int numberOfGames,
+                                                         long seed) {
+        if (this.playerTeam.checkBatterLineupSpace() > 0 ||
+            this.comTeam.checkPitcherLineupSpace() > 0) {
+            System.out.println("Simulation failed.");
+            System.out.println("Lineup is not completed.");
+            return null;
+        }
+        return new RareEventEstimator(this.playerTeam, this.comTeam, event, threshold).estimate(numberOfGames, seed);
+    }
+    /**
+     * Play many seasons of the batter lineup against every other team, rotating their pitchers.
+     * CMD: simulate -n [number] --season --fidelity [pitch/pa] --rng [algorithm] --seed [seed]
+     * @param numberOfSeasons number of seasons to play
+     * @param fidelity the level of detail the games are played at
+     * @param randomAlgorithm the algorithm of the random stream of every game
+     * @param seed the seed every season is derived from
+     * @return SeasonResult, null if the batter lineup is not completed
+     */
+    public SeasonResult startSeasonSimAndGetResult(int numberOfSeasons, Fidelity fidelity,
+                                                   RandomAlgorithm randomAlgorithm, long seed) {
+        if (this.playerTeam.checkBatterLineupSpace() > 0) {
+            System.out.println("Simulation failed.");
+            System.out.println("Lineup is not completed.");
+            return null;
+        }
+        return new SeasonSimulation(this.playerTeam)
+                .setFidelity(fidelity)
+                .setRandomAlgorithm(randomAlgorithm)
+                .run(numberOfSeasons, seed);
+    }
+    /**
+     * Play every scenario of a scenario file, each distinct lineup and rotation pair only once.
+     * The lineups come from the file, so the current lineups are left unchanged.
+     * CMD: simulate --grid [scenario file] -o [csv file]
+     * @param scenarioFile a JSON scenario file
+     * @param outfile a csv file for one summary row per scenario, null to skip it
+     * @return ScenarioGridResult
+     */
+    public ScenarioGridResult startScenarioGridAndGetResult(String scenarioFile, String outfile) {
+        ScenarioGridResult result = new ScenarioExecutor(ScenarioGrid.read(Path.of(scenarioFile))).run();
+        if (outfile != null) {
+            try {
+                result.writeCsv(Path.of(outfile));
+            } catch (IOException e) {
+                throw new IllegalStateException("Error writing to file: " + e.getMessage(), e);
+            }
+        }
+        return result;
+    }
+    /**
+     * Play games of a seeded batch pitch by pitch on the game kernel, recording every pitch.
+     * Game i is the same game as simulate --seed [seed] --game [i], and its details are rendered from its log.
+     * The rows of every game are written as soon as it is played, so only the results to display are kept.
+     * CMD: simulate -n [number] --pbp [csv file] --seed [seed] --game [first game] --rng [algorithm]
+     * @param numberOfGames number of games to play
+     * @param randomAlgorithm the algorithm of the random stream of every game
+     * @param seed the batch seed, every game seed is derived from it
+     * @param firstGame the index of the first game in the batch
+     * @param outfile a csv file for one row per pitch
+     * @return List of SimulationResult with details, empty for more than PLAY_BY_PLAY_KEPT_GAMES games,
+     *         null if the lineup is not completed
+     */
+    public List<SimulationResult> startPlayByPlaySimAndGetResult(int numberOfGames, RandomAlgorithm randomAlgorithm,
+                                                                 long seed, int firstGame, String outfile) {
+        if (this.playerTeam.checkBatterLineupSpace() > 0 ||
+            this.comTeam.checkPitcherLineupSpace() > 0) {
+            System.out.println("Simulation failed.");
+            System.out.println("Lineup is not completed.");
+            return null;
+        }
+        GameKernel kernel = new GameKernel(this.playerTeam, this.comTeam);
+        PitchLog log = new PitchLog();
+        kernel.setPitchLog(log);
+        PitchLogReplayer replayer = new PitchLogReplayer(this.playerTeam, this.comTeam);
+
+        List<SimulationResult> results = new ArrayList<>();
+        boolean keep = numberOfGames <= PLAY_BY_PLAY_KEPT_GAMES;
+        int lastGame = firstGame + numberOfGames - 1;
+        try (BufferedWriter out = Files.newBufferedWriter(Path.of(outfile))) {
+            out.write(PitchLogReplayer.CSV_HEADER);
+            out.newLine();
+            RandomGenerator random = null;
+            for (int i = firstGame; i <= lastGame; i++) {
+                random = RandomStreams.reseed(randomAlgorithm, random, BatchSimulation.gameSeed(seed, i));
+                SimulationResult result = kernel.playGame(random);
+                for (String row : replayer.toCsv(log, i)) {
+                    out.write(row);
+                    out.newLine();
+                }
+                // the last game stays the current game, so its details can be saved
+                if (keep || i == lastGame) {
+                    result.setDetails(replayer.toDetails(log));
+                    this.gameResult = result;
+                }
+                if (keep) {
+                    results.add(result);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Error writing to file: " + e.getMessage(), e);
+        }
+        return results;
+    }
+    /**
+     * Solve the exact run distribution of the current lineups without playing games.
+     * CMD: simulate --exact
+     * @return RunDistribution, null if the lineup is not completed
+     */
+    public RunDistribution startExactSimAndGetResult() {
+        if (this.playerTeam.checkBatterLineupSpace() > 0 ||
+            this.comTeam.checkPitcherLineupSpace() > 0) {
+            System.out.println("Simulation failed.");
+            System.out.println("Lineup is not completed.");
+            return null;
+        }
+        return new MarkovChainEngine(this.playerTeam, this.comTeam).solve();
+    }
     /**
      * Convert lineup to a String list.
      * @param lineup pitcher or batter lineup
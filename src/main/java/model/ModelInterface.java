@@ -5,10 +5,22 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import gameEnum.Side;
+import gameEnum.Fidelity;
+import gameEnum.RandomAlgorithm;
+import gameEnum.RareEvent;
+import gameEnum.SimulationEngine;
 import gameEnum.Teams;
 import model.player.Batter;
 import model.player.Pitcher;
 import model.player.Player;
+import model.simulation.BatchResult;
+import model.simulation.LineupComparison;
+import model.simulation.PrecisionTarget;
+import model.simulation.RandomBenchmark;
+import model.simulation.RareEventResult;
+import model.simulation.RunDistribution;
+import model.simulation.ScenarioGridResult;
+import model.simulation.SeasonResult;
 import model.simulation.SimulationResult;
 import model.team.Team;
 
@@ -126,6 +138,116 @@ public interface ModelInterface {
      * @return SimulationResult
      */
     SimulationResult startSimAndGetResult();
+    /**
+     * Start a reproducible simulation.
+     * @param randomAlgorithm the algorithm of the random stream of the game
+     * @param seed the seed of the game
+     * @return SimulationResult
+     */
+    SimulationResult startSimAndGetResult(RandomAlgorithm randomAlgorithm, long seed);
+    /**
+     * Start a batch of simulations spread over every core.
+     * @param numberOfGames number of games to simulate
+     * @param engine the engine that plays the games
+     * @param fidelity the level of detail the games are played at
+     * @param antithetic true to play the games in antithetic pairs
+     * @param randomAlgorithm the algorithm of the random stream of every game
+     * @param seed the master seed every game seed is derived from
+     * @return BatchResult
+     */
+    BatchResult startBatchSimAndGetResult(int numberOfGames, SimulationEngine engine, Fidelity fidelity,
+                                          boolean antithetic, RandomAlgorithm randomAlgorithm, long seed);
+    /**
+     * Start a batch of simulations split over several worker processes.
+     * @param numberOfGames number of games to simulate
+     * @param workers number of worker processes running at once
+     * @param engine the engine that plays the games
+     * @param fidelity the level of detail the games are played at
+     * @param antithetic true to play the games in antithetic pairs
+     * @param randomAlgorithm the algorithm of the random stream of every game
+     * @param seed the master seed every game seed is derived from
+     * @return BatchResult
+     */
+    BatchResult startShardedSimAndGetResult(int numberOfGames, int workers, SimulationEngine engine, Fidelity fidelity,
+                                            boolean antithetic, RandomAlgorithm randomAlgorithm, long seed);
+    /**
+     * Solve the exact run distribution of the current lineups.
+     * @return RunDistribution
+     */
+    RunDistribution startExactSimAndGetResult();
+    /**
+     * Start a batch of simulations that runs until the precision target is met.
+     * @param target the stopping rule
+     * @param engine the engine that plays the games
+     * @param fidelity the level of detail the games are played at
+     * @param antithetic true to play the games in antithetic pairs
+     * @param randomAlgorithm the algorithm of the random stream of every game
+     * @param seed the master seed every game seed is derived from
+     * @return BatchResult
+     */
+    BatchResult startPrecisionSimAndGetResult(PrecisionTarget target, SimulationEngine engine, Fidelity fidelity,
+                                              boolean antithetic, RandomAlgorithm randomAlgorithm, long seed);
+    /**
+     * Compare the current lineup with one batter swapped in, on common random numbers.
+     * @param numberOfGames number of games each lineup plays
+     * @param slot the lineup slot to change, from 1 to 9
+     * @param batterName the batter swapped in
+     * @param engine the engine that plays the games
+     * @param fidelity the level of detail the games are played at
+     * @param randomAlgorithm the algorithm of the random stream of every game
+     * @param seed the master seed every game seed is derived from
+     * @return LineupComparison
+     */
+    LineupComparison startComparisonSimAndGetResult(int numberOfGames, int slot, String batterName,
+                                                    SimulationEngine engine, Fidelity fidelity,
+                                                    RandomAlgorithm randomAlgorithm, long seed);
+    /**
+     * Time every random algorithm on the chosen engine and fidelity.
+     * @param numberOfGames number of games timed per algorithm
+     * @param engine the engine that plays the games
+     * @param fidelity the level of detail the games are played at
+     * @param seed the seed of the draws and of the games
+     * @return RandomBenchmark
+     */
+    RandomBenchmark startRandomBenchmarkAndGetResult(int numberOfGames, SimulationEngine engine, Fidelity fidelity,
+                                                     long seed);
+    /**
+     * Estimate the probability of a rare game with importance sampling.
+     * @param event the rare event
+     * @param threshold the fewest runs of the runs event
+     * @param numberOfGames number of tilted games to play
+     * @param seed the seed of the games
+     * @return RareEventResult
+     */
+    RareEventResult startRareEventSimAndGetResult(RareEvent event, int threshold, int numberOfGames, long seed);
+    /**
+     * Play many seasons of the batter lineup against every other team.
+     * @param numberOfSeasons number of seasons to play
+     * @param fidelity the level of detail the games are played at
+     * @param randomAlgorithm the algorithm of the random stream of every game
+     * @param seed the seed every season is derived from
+     * @return SeasonResult
+     */
+    SeasonResult startSeasonSimAndGetResult(int numberOfSeasons, Fidelity fidelity, RandomAlgorithm randomAlgorithm,
+                                            long seed);
+    /**
+     * Play every scenario of a scenario file.
+     * @param scenarioFile a JSON scenario file
+     * @param outfile a csv file for one summary row per scenario, null to skip it
+     * @return ScenarioGridResult
+     */
+    ScenarioGridResult startScenarioGridAndGetResult(String scenarioFile, String outfile);
+    /**
+     * Play games of a seeded batch pitch by pitch and write every pitch to a csv file.
+     * @param numberOfGames number of games to play
+     * @param randomAlgorithm the algorithm of the random stream of every game
+     * @param seed the batch seed
+     * @param firstGame the index of the first game in the batch
+     * @param outfile a csv file for one row per pitch
+     * @return List of SimulationResult with details, empty for more than 10 games, null if the lineup is not completed
+     */
+    List<SimulationResult> startPlayByPlaySimAndGetResult(int numberOfGames, RandomAlgorithm randomAlgorithm,
+                                                          long seed, int firstGame, String outfile);
     /**
      * Convert lineup to a String list.
      * @param lineup pitcher or batter lineup
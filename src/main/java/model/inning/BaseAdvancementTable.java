@@ -0,0 +1,132 @@
+package model.inning;
+
+import gameEnum.BaseEvent;
+
+/**
+ * Precomputed base-out transitions keyed by (base state, event).
+ * The base state is 3 bits: bit 0 for a runner on first, bit 1 on second and bit 2 on third.
+ * Every entry holds the new base state and the runs scored, so advancing runners is one array read
+ * whatever rules built the table.
+ */
+public final class BaseAdvancementTable {
+    /** Number of base states, every combination of the three bases. */
+    public static final int STATES = 8;
+    private static final int FIRST = 0b001;
+    private static final int SECOND = 0b010;
+    private static final int THIRD = 0b100;
+    private static final BaseEvent[] EVENTS = BaseEvent.values();
+
+    /** Force-only advancement: runners move as many bases as the batter, walks only push forced runners. */
+    public static final BaseAdvancementTable STANDARD = new BaseAdvancementTable(BaseAdvancementTable::standard);
+
+    /** Same as STANDARD except a runner on second scores on a single. */
+    public static final BaseAdvancementTable SECOND_SCORES_ON_SINGLE = new BaseAdvancementTable((bases, event) -> {
+        if (event != BaseEvent.SINGLE) {
+            return standard(bases, event);
+        }
+        int runs = Integer.bitCount(bases & (SECOND | THIRD));
+        return pack((bases & FIRST) == 0 ? FIRST : FIRST | SECOND, runs);
+    });
+
+    /**
+     * Rule used to build a table.
+     */
+    @FunctionalInterface
+    public interface Rule {
+        /**
+         * Advance the runners for one event.
+         * @param bases The base state before the event
+         * @param event The event
+         * @return The new base state and runs, packed with BaseAdvancementTable.pack
+         */
+        int advance(int bases, BaseEvent event);
+    }
+
+    private final int[] transitions = new int[STATES * EVENTS.length];
+
+    /**
+     * Constructor that evaluates the rule for every base state and event.
+     * @param rule The base running rule
+     */
+    public BaseAdvancementTable(Rule rule) {
+        for (int bases = 0; bases < STATES; bases++) {
+            for (BaseEvent event : EVENTS) {
+                int entry = rule.advance(bases, event);
+                int batter = event == BaseEvent.OUT ? 0 : 1;
+                if (entry < 0 || Integer.bitCount(bases) + batter != Integer.bitCount(basesOf(entry)) + runsOf(entry)) {
+                    throw new IllegalArgumentException("Rule loses or adds runners on " + event.getAbbreviation()
+                            + " from base state " + bases);
+                }
+                transitions[bases * EVENTS.length + event.ordinal()] = entry;
+            }
+        }
+    }
+
+    /**
+     * Pack a base state and runs into one table entry.
+     * @param bases The new base state
+     * @param runs The runs scored
+     * @return The packed entry
+     */
+    public static int pack(int bases, int runs) {
+        return runs << 3 | bases;
+    }
+
+    /**
+     * Get the packed transition of an event.
+     * @param bases The base state before the event
+     * @param event The event
+     * @return The packed new base state and runs
+     */
+    public int transition(int bases, BaseEvent event) {
+        return transitions[bases * EVENTS.length + event.ordinal()];
+    }
+
+    /**
+     * Get the base state of a packed transition.
+     * @param transition The packed transition
+     * @return The new base state
+     */
+    public static int basesOf(int transition) {
+        return transition & (STATES - 1);
+    }
+
+    /**
+     * Get the runs of a packed transition.
+     * @param transition The packed transition
+     * @return The runs scored
+     */
+    public static int runsOf(int transition) {
+        return transition >>> 3;
+    }
+
+    /**
+     * Force-only advancement, matching the original inning rules.
+     * @param bases The base state before the event
+     * @param event The event
+     * @return The packed new base state and runs
+     */
+    private static int standard(int bases, BaseEvent event) {
+        switch (event) {
+            case SINGLE:
+                return pack(((bases << 1) | FIRST) & (STATES - 1), bases >>> 2);
+            case DOUBLE:
+                return pack(((bases & FIRST) << 2) | SECOND, Integer.bitCount(bases & (SECOND | THIRD)));
+            case TRIPLE:
+                return pack(THIRD, Integer.bitCount(bases));
+            case HOME_RUN:
+                return pack(0, Integer.bitCount(bases) + 1);
+            case WALK:
+                if (bases == (FIRST | SECOND | THIRD)) {
+                    return pack(bases, 1);
+                } else if ((bases & (FIRST | SECOND)) == (FIRST | SECOND)) {
+                    return pack(bases | THIRD, 0);
+                } else if ((bases & FIRST) != 0) {
+                    return pack(bases | SECOND, 0);
+                }
+                return pack(bases | FIRST, 0);
+            default:
+                return pack(bases, 0);
+        }
+    }
+}
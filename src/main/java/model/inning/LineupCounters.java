@@ -0,0 +1,50 @@
+package model.inning;
+
+import gameEnum.BattingStat;
+
+/**
+ * Layout of the flat batting counters every engine fills per game: STATS counters per lineup slot in BattingStat
+ * order, slot after slot, so a whole lineup is LENGTH ints and adding two games is one loop.
+ */
+public final class LineupCounters {
+    /** Slots of the batting lineup. */
+    public static final int LINEUP_SIZE = 9;
+    /** Counters of one slot. */
+    public static final int STATS = BattingStat.values().length;
+    /** Counters of a whole lineup. */
+    public static final int LENGTH = LINEUP_SIZE * STATS;
+
+    private LineupCounters() {
+    }
+
+    /**
+     * Get the index of one counter.
+     * @param slot The lineup slot
+     * @param stat The stat
+     * @return The index of the counter in a lineup array
+     */
+    public static int index(int slot, BattingStat stat) {
+        return slot * STATS + stat.ordinal();
+    }
+
+    /**
+     * Count one plate appearance.
+     * Slots past the lineup address the next lineups, so an engine playing several games side by side can keep
+     * one array for all of them.
+     * @param counters The counters of the game
+     * @param slot The lineup slot at the plate
+     * @param outcome The stat of the outcome, null for an out in play
+     * @param runs The runs scored on the plate appearance, all of them batted in
+     */
+    public static void addPlateAppearance(int[] counters, int slot, BattingStat outcome, int runs) {
+        int offset = slot * STATS;
+        counters[offset + BattingStat.PLATE_APPEARANCES.ordinal()]++;
+        counters[offset + BattingStat.RBI.ordinal()] += runs;
+        if (outcome != null) {
+            counters[offset + outcome.ordinal()]++;
+            if (outcome.isHit()) {
+                counters[offset + BattingStat.HITS.ordinal()]++;
+            }
+        }
+    }
+}
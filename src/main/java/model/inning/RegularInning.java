@@ -1,22 +1,33 @@
 package model.inning;
 
 import gameEnum.Balls;
+import gameEnum.BaseEvent;
+import gameEnum.BattingStat;
 import gameEnum.Hits;
 import gameEnum.Outs;
+import gameEnum.PitchCategory;
+import gameEnum.PitchType;
 import gameEnum.Strikes;
 import model.player.Pitcher;
 import model.player.Batter;
+import model.player.BatterProfile;
 import model.team.Team;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 
 public class RegularInning implements Inning{
+    private static final PitchType[] PITCH_TYPES = PitchType.values();
+    private static final PitchCategory[] PITCH_CATEGORIES = PitchCategory.values();
+
     private int outs;
     private int strikes;
     private int balls;
-    private int[] bases;
-    private Random random = new Random();
+    // 3-bit base state, see BaseAdvancementTable
+    private int bases;
+    private RandomGenerator random;
+    private final BaseAdvancementTable baseAdvancement;
 
     private Pitcher currentPitcher;
     private int currentBatterIndex;
@@ -30,23 +41,44 @@ public class RegularInning implements Inning{
     private int homeRuns = 0;
     private int strikeouts = 0;
     private int walks = 0;
-    private Map<String, Integer> pitchTypeCounts = new HashMap<>();
-    private Map<String, Integer> pitchCategoryCounts = new HashMap<>();
-
-
-    private final Map<String, List<String>> pitchTypeMap = Map.of(
-            "Fastball", Arrays.asList("fourSeam", "twoSeam", "cutter", "sinker"),
-            "Breaking", Arrays.asList("slider", "curve", "knuckle", "sweeper", "slurve"),
-            "Offspeed", Arrays.asList("splitFinger", "changeup", "fork", "screw")
-    );
+    // indexed by PitchType and PitchCategory ordinal
+    private final int[] pitchTypeCounts = new int[PITCH_TYPES.length];
+    private final int[] pitchCategoryCounts = new int[PITCH_CATEGORIES.length];
+    // batting line of every lineup slot, laid out by LineupCounters
+    private final int[] battingLines = new int[LineupCounters.LENGTH];
+    // pitching line of the pitcher of the inning, laid out by RotationCounters for one pitcher
+    private final int[] pitchingLine = new int[RotationCounters.STATS];
+    // outcome of the last plate appearance, null for an out in play
+    private BattingStat outcome;
 
     /**
      * Start a clean inning with certain pitcher.
      * @param pitcher The pitcher face batters in the innings
      */
     public RegularInning(Pitcher pitcher) {
+        this(pitcher, new SplittableRandom());
+    }
+
+    /**
+     * Start a clean inning with certain pitcher, drawing from the given random source.
+     * @param pitcher The pitcher face batters in the innings
+     * @param random The random source used for every pitch of the inning
+     */
+    public RegularInning(Pitcher pitcher, RandomGenerator random) {
+        this(pitcher, random, BaseAdvancementTable.STANDARD);
+    }
+
+    /**
+     * Start a clean inning with certain pitcher and base running rules.
+     * @param pitcher The pitcher face batters in the innings
+     * @param random The random source used for every pitch of the inning
+     * @param baseAdvancement The table that moves runners on hits and walks
+     */
+    public RegularInning(Pitcher pitcher, RandomGenerator random, BaseAdvancementTable baseAdvancement) {
         this.currentPitcher = pitcher;
-        this.bases = new int[]{0, 0, 0, 0};
+        this.random = random;
+        this.baseAdvancement = baseAdvancement;
+        this.bases = 0;
         this.battersFaced = 0;
     }
 
@@ -58,11 +90,13 @@ public class RegularInning implements Inning{
         this.outs = 0;
         this.strikes = 0;
         this.balls = 0;
-        this.bases = new int[]{0, 0, 0, 0};
+        this.bases = 0;
         this.battersFaced = 0;
         this.pitchesThrown = 0;
-        this.pitchTypeCounts.clear();
-        this.pitchCategoryCounts.clear();
+        Arrays.fill(this.pitchTypeCounts, 0);
+        Arrays.fill(this.pitchCategoryCounts, 0);
+        Arrays.fill(this.battingLines, 0);
+        Arrays.fill(this.pitchingLine, 0);
         this.hits = 0;
         this.singles = 0;
         this.doubles = 0;
@@ -72,6 +106,17 @@ public class RegularInning implements Inning{
         this.walks = 0;
     }
 
+    /**
+     * Hand the inning to another pitcher and random source, so one instance can play every inning of many games.
+     * @param pitcher The pitcher who faces the batters of the next inning
+     * @param random The random source used for every pitch of the next inning
+     */
+    public void reset(Pitcher pitcher, RandomGenerator random) {
+        this.currentPitcher = pitcher;
+        this.random = random;
+        resetInning();
+    }
+
     /**
      * Runs a full inning with batter lineup, ends the inning when 3 outs.
      * @param playerTeam The team contains batter lineup
@@ -93,10 +138,16 @@ public class RegularInning implements Inning{
                 currentBatterIndex = 0;
             }
             Batter batter = lineup.get(currentBatterIndex);
-            score += inningAtBat(batter);
+            int firstPitch = pitchesThrown;
+            int runs = inningAtBat(batter);
+            LineupCounters.addPlateAppearance(battingLines, currentBatterIndex, outcome, runs);
+            RotationCounters.addPlateAppearance(pitchingLine, 0, outcome, runs, pitchesThrown - firstPitch, balls);
+            score += runs;
             currentBatterIndex++;
             battersFaced++;
         }
+        // hand the next batter to the following inning
+        this.currentBatterIndex = currentBatterIndex % lineup.size();
         return score;
     }
 
@@ -110,8 +161,8 @@ public class RegularInning implements Inning{
         this.balls = 0;
 
         while (true) {
-            String pitchName = determinePitchType();
-            String pitchCategory = getPitchCategory(pitchName);
+            PitchType pitchType = determinePitchType();
+            PitchCategory pitchCategory = getPitchCategory(pitchType);
 
             // Strike or ball
             boolean isStrike = random.nextDouble() < currentPitcher.getStrikesRate();
@@ -146,10 +197,12 @@ public class RegularInning implements Inning{
             if (strikes >= Strikes.THREE.ordinal() + 1) {
                 outs++;
                 strikeouts++;
+                outcome = BattingStat.STRIKEOUTS;
                 return 0;
             } else if (balls >= Balls.FOUR.ordinal() + 1) {
                 // Walk
                 walks++;
+                outcome = BattingStat.WALKS;
                 return advanceRunnersOnWalk();
             }
         }
@@ -157,182 +210,59 @@ public class RegularInning implements Inning{
 
     /**
      * Determine the pitch type of the ball thrown by pitcher.
-     * @return The name of the pitch type
+     * @return The pitch type
      */
-    private String determinePitchType() {
-        List<Map.Entry<String, Double>> pitches = new ArrayList<>();
-
-        if (currentPitcher.getFourSeam() > 0) {
-            pitches.add(Map.entry("fourSeam", currentPitcher.getFourSeam()));
-        }
-
-        if (currentPitcher.getTwoSeam() > 0) {
-            pitches.add(Map.entry("twoSeam", currentPitcher.getTwoSeam()));
-        }
-
-        if (currentPitcher.getCutter() > 0) {
-            pitches.add(Map.entry("cutter", currentPitcher.getCutter()));
-        }
-
-        if (currentPitcher.getSinker() > 0) {
-            pitches.add(Map.entry("sinker", currentPitcher.getSinker()));
-        }
-
-        if (currentPitcher.getSlider() > 0) {
-            pitches.add(Map.entry("slider", currentPitcher.getSlider()));
-        }
-
-        if (currentPitcher.getCurve() > 0) {
-            pitches.add(Map.entry("curve", currentPitcher.getCurve()));
-        }
-
-        if (currentPitcher.getKnuckle() > 0) {
-            pitches.add(Map.entry("knuckle", currentPitcher.getKnuckle()));
-        }
-
-        if (currentPitcher.getSweeper() > 0) {
-            pitches.add(Map.entry("sweeper", currentPitcher.getSweeper()));
-        }
-
-        if (currentPitcher.getSlurve() > 0) {
-            pitches.add(Map.entry("slurve", currentPitcher.getSlurve()));
-        }
-
-        if (currentPitcher.getSplitFinger() > 0) {
-            pitches.add(Map.entry("splitFinger", currentPitcher.getSplitFinger()));
-        }
-
-        if (currentPitcher.getChangeup() > 0) {
-            pitches.add(Map.entry("changeup", currentPitcher.getChangeup()));
-        }
-
-        if (currentPitcher.getFork() > 0) {
-            pitches.add(Map.entry("fork", currentPitcher.getFork()));
-        }
-
-        if (currentPitcher.getScrew() > 0) {
-            pitches.add(Map.entry("screw", currentPitcher.getScrew()));
-        }
-
-        double totalProb = pitches.stream().mapToDouble(Map.Entry::getValue).sum();
-        double rand = random.nextDouble() * totalProb;
-
-        String pitchType = pitches.get(0).getKey();
-
-        double sumProb = 0.0;
-        for (Map.Entry<String, Double> pitch : pitches) {
-            sumProb += pitch.getValue();
-            if (rand < sumProb) {
-                pitchType = pitch.getKey();
-                break;
-            }
-        }
+    private PitchType determinePitchType() {
+        PitchType pitchType = currentPitcher.getPitchMixSampler().nextPitchType(random);
         pitchesThrown++;
-        pitchTypeCounts.put(pitchType, pitchTypeCounts.getOrDefault(pitchType, 0) + 1);
+        pitchTypeCounts[pitchType.ordinal()]++;
         return pitchType;
     }
 
     /**
-     * Identify the thrown ball's pitch category based on pitch type name.
-     * @param pitchName The specific type of name of the pitch
+     * Identify the thrown ball's pitch category based on pitch type.
+     * @param pitchType The specific type of the pitch
      * @return The category of the pitch belongs
      */
-    private String getPitchCategory(String pitchName) {
-        String category = "Fastball";
-
-        for (Map.Entry<String, List<String>> entry : pitchTypeMap.entrySet()) {
-            if (entry.getValue().contains(pitchName)) {
-                category = entry.getKey();
-                break;
-            }
-        }
-        pitchCategoryCounts.put(category, pitchCategoryCounts.getOrDefault(category, 0) + 1);
+    private PitchCategory getPitchCategory(PitchType pitchType) {
+        PitchCategory category = pitchType.getCategory();
+        pitchCategoryCounts[category.ordinal()]++;
         return category;
     }
 
     /**
-     * Determine the outcome of the hit by batter. Use batter's statistics to see the hit result.
+     * Determine the outcome of the hit by batter. Use batter's compiled profile to see the hit result.
      * @param batter The current batter
      * @param pitchCategory The category of the pitch
      * @return The number of scores from this bat
      */
-    private int determineHitOutcome(Batter batter, String pitchCategory) {
-        int plateAppearances;
-        int hits;
-        int singles;
-        int doubles;
-        int triples;
-        int homeRuns;
-
-        switch (pitchCategory) {
-            case "Fastball":
-                plateAppearances = batter.getFastballPA();
-                hits = batter.getFastballH();
-                singles = batter.getFastball1B();
-                doubles = batter.getFastball2B();
-                triples = batter.getFastball3B();
-                homeRuns = batter.getFastballHR();
-                break;
-            case "Breaking":
-                plateAppearances = batter.getBreakingPA();
-                hits = batter.getBreakingH();
-                singles = batter.getBreaking1B();
-                doubles = batter.getBreaking2B();
-                triples = batter.getBreaking3B();
-                homeRuns = batter.getBreakingHR();
-                break;
-            case "Offspeed":
-                plateAppearances = batter.getOffspeedPA();
-                hits = batter.getOffspeedH();
-                singles = batter.getOffspeed1B();
-                doubles = batter.getOffspeed2B();
-                triples = batter.getOffspeed3B();
-                homeRuns = batter.getOffspeedHR();
-                break;
-            default:
-                plateAppearances = batter.getTotalPA();
-                hits = batter.getTotalH();
-                singles = batter.getTotal1B();
-                doubles = batter.getTotal2B();
-                triples = batter.getTotal3B();
-                homeRuns = batter.getTotalHR();
-        }
-
-        if (plateAppearances <= 0){
-            outs++;
-            return 0;
-        }
+    private int determineHitOutcome(Batter batter, PitchCategory pitchCategory) {
+        BatterProfile profile = batter.getProfile();
 
-        double hitRate = (double) hits / plateAppearances;
-        if (random.nextDouble() >= hitRate) {
+        if (random.nextDouble() >= profile.getHitProbability(pitchCategory)) {
             outs++;
-            return 0;
-        }
-
-        if (hits < 0) {
+            outcome = null;
             return 0;
         }
 
         this.hits++;
 
-        double rand = random.nextDouble();
-        double singleProb = (double) singles / hits;
-        double doubleProb = (double) doubles / hits;
-        double tripleProb = (double) triples / hits;
-
-        if (rand < singleProb) {
-            this.singles++;
-            return advanceRunners(Hits.SINGLE);
-        } else if (rand < singleProb + doubleProb) {
-            this.doubles++;
-            return advanceRunners(Hits.DOUBLE);
-        } else if (rand < singleProb + doubleProb + tripleProb) {
-            this.triples++;
-            return advanceRunners(Hits.TRIPLE);
-        } else {
-            this.homeRuns++;
-            return advanceRunners(Hits.HR);
+        Hits hitType = profile.getHitType(pitchCategory, random.nextDouble());
+        outcome = BattingStat.fromHit(hitType);
+        switch (hitType) {
+            case SINGLE:
+                this.singles++;
+                break;
+            case DOUBLE:
+                this.doubles++;
+                break;
+            case TRIPLE:
+                this.triples++;
+                break;
+            default:
+                this.homeRuns++;
         }
+        return advanceRunners(hitType);
     }
 
     /**
@@ -341,32 +271,7 @@ public class RegularInning implements Inning{
      * @return The number of scores made by the hit
      */
     protected int advanceRunners(Hits hitType) {
-        int runs = 0;
-
-        switch (hitType) {
-            case HR:
-                runs = bases[1] + bases[2] + bases[3] + 1;
-                bases[1] = bases[2] = bases[3] = 0;
-                break;
-            case TRIPLE:
-                runs = bases[1] + bases[2] + bases[3];
-                bases[3] = 1; // Batter on third
-                bases[1] = bases[2] = 0;
-                break;
-            case DOUBLE:
-                runs = bases[2] + bases[3]; // 2nd, 3rd score
-                bases[3] = bases[1]; // 1st go 3rd
-                bases[2] = 1;
-                bases[1] = 0;
-                break;
-            case SINGLE:
-                runs = bases[3]; // batter on 3rd base score
-                bases[3] = bases[2]; // 2nd go 3rd
-                bases[2] = bases[1]; // 1st go 2nd
-                bases[1] = 1;
-                break;
-        }
-        return runs;
+        return advance(BaseEvent.fromHit(hitType));
     }
 
     /**
@@ -374,18 +279,18 @@ public class RegularInning implements Inning{
      * @return The number of scores made by the walk
      */
     protected int advanceRunnersOnWalk() {
-        int runs = 0;
-
-        if (bases[1] == 1 && bases[2] == 1 && bases[3] == 1) {
-            runs = 1;
-        } else if (bases[2] == 1 && bases [1] == 1) {
-            bases[3] = 1;
-        } else if (bases[1] == 1){
-            bases[2] = 1;
-        }
+        return advance(BaseEvent.WALK);
+    }
 
-        bases[1] = 1;
-        return runs;
+    /**
+     * Look up the base state and runs of an event in the advancement table.
+     * @param event The event at the plate
+     * @return The number of scores made by the event
+     */
+    private int advance(BaseEvent event) {
+        int transition = baseAdvancement.transition(bases, event);
+        bases = BaseAdvancementTable.basesOf(transition);
+        return BaseAdvancementTable.runsOf(transition);
     }
 
     /**
@@ -397,7 +302,23 @@ public class RegularInning implements Inning{
     }
 
     /**
-     * Get the current batter index of the lineup.
+     * Get the batting line of every lineup slot in this inning.
+     * @return Flat counters laid out by LineupCounters, not to be modified
+     */
+    public int[] getBattingLines() {
+        return battingLines;
+    }
+
+    /**
+     * Get the pitching line of the pitcher of this inning.
+     * @return The counters of one pitcher laid out by RotationCounters, not to be modified
+     */
+    public int[] getPitchingLine() {
+        return pitchingLine;
+    }
+
+    /**
+     * Get the lineup index of the batter due up after this inning.
      * @return The current batter index
      */
     public int getCurrentBatterIndex() {
@@ -418,23 +339,53 @@ public class RegularInning implements Inning{
      * @return The number of times the specified pitch type was thrown
      */
     public int getPitchTypeCount(String pitchType) {
-        return pitchTypeCounts.getOrDefault(pitchType, 0);
+        return getPitchTypeCount(PitchType.fromDisplayName(pitchType));
+    }
+
+    /**
+     * Get the count of pitch type thrown in the inning.
+     * @param pitchType The type of pitches to count
+     * @return The number of times the specified pitch type was thrown
+     */
+    public int getPitchTypeCount(PitchType pitchType) {
+        return pitchTypeCounts[pitchType.ordinal()];
+    }
+
+    /**
+     * Get the count of pitch category thrown in the inning.
+     * @param pitchCategory The category of pitches to count
+     * @return The number of times a pitch of the category was thrown
+     */
+    public int getPitchCategoryCount(PitchCategory pitchCategory) {
+        return pitchCategoryCounts[pitchCategory.ordinal()];
     }
 
     /**
-     * Get the counts of pitch type thrown in the inning.
+     * Get the counts of pitch type thrown in the inning, built on demand for display.
      * @return A map of pitch types to their counts
      */
     public Map<String, Integer> getAllPitchTypeCounts() {
-        return new HashMap<>(pitchTypeCounts);
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (PitchType type : PITCH_TYPES) {
+            if (pitchTypeCounts[type.ordinal()] > 0) {
+                counts.put(type.getDisplayName(), pitchTypeCounts[type.ordinal()]);
+            }
+        }
+        return counts;
     }
 
     /**
-     * Get the counts of pitch categories thrown in the inning.
+     * Get the counts of pitch categories thrown in the inning, built on demand for display.
      * @return A map of pitch categories to their counts
      */
     public Map<String, Integer> getPitchCategoryCounts() {
-        return new HashMap<>(pitchCategoryCounts);
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (PitchCategory category : PITCH_CATEGORIES) {
+            if (pitchCategoryCounts[category.ordinal()] > 0) {
+                counts.put(category.getDisplayName(), pitchCategoryCounts[category.ordinal()]);
+            }
+        }
+        return counts;
     }
 
     /**
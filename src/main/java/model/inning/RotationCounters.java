@@ -0,0 +1,62 @@
+package model.inning;
+
+import gameEnum.BattingStat;
+import gameEnum.PitchingStat;
+
+/**
+ * Layout of the flat pitching counters every engine fills per game: STATS counters per pitcher slot in
+ * PitchingStat order, slot after slot, so a whole rotation is LENGTH ints. Strikes count every pitch that was not
+ * a ball, balls in play included, so strikes and balls add up to the pitches.
+ */
+public final class RotationCounters {
+    /** Pitchers of the rotation: starter, middle reliever and closer. */
+    public static final int ROTATION_SIZE = 3;
+    /** Counters of one pitcher. */
+    public static final int STATS = PitchingStat.values().length;
+    /** Counters of a whole rotation. */
+    public static final int LENGTH = ROTATION_SIZE * STATS;
+
+    private RotationCounters() {
+    }
+
+    /**
+     * Get the index of one counter.
+     * @param pitcher The pitcher slot
+     * @param stat The stat
+     * @return The index of the counter in a rotation array
+     */
+    public static int index(int pitcher, PitchingStat stat) {
+        return pitcher * STATS + stat.ordinal();
+    }
+
+    /**
+     * Count one plate appearance against a pitcher.
+     * Slots past the rotation address the next rotations, so an engine playing several games side by side can
+     * keep one array for all of them.
+     * @param counters The counters of the game
+     * @param pitcher The pitcher slot on the mound
+     * @param outcome The batting stat of the outcome, null for an out in play
+     * @param runs The runs scored on the plate appearance
+     * @param pitches The pitches thrown in the plate appearance, 0 when pitches are not played
+     * @param balls The balls among those pitches
+     */
+    public static void addPlateAppearance(int[] counters, int pitcher, BattingStat outcome, int runs, int pitches,
+                                          int balls) {
+        int offset = pitcher * STATS;
+        counters[offset + PitchingStat.BATTERS_FACED.ordinal()]++;
+        counters[offset + PitchingStat.PITCHES.ordinal()] += pitches;
+        counters[offset + PitchingStat.STRIKES.ordinal()] += pitches - balls;
+        counters[offset + PitchingStat.BALLS.ordinal()] += balls;
+        counters[offset + PitchingStat.RUNS.ordinal()] += runs;
+        if (outcome == BattingStat.STRIKEOUTS) {
+            counters[offset + PitchingStat.STRIKEOUTS.ordinal()]++;
+        } else if (outcome == BattingStat.WALKS) {
+            counters[offset + PitchingStat.WALKS.ordinal()]++;
+        } else if (outcome != null) {
+            counters[offset + PitchingStat.HITS.ordinal()]++;
+            if (outcome == BattingStat.HOME_RUNS) {
+                counters[offset + PitchingStat.HOME_RUNS.ordinal()]++;
+            }
+        }
+    }
+}
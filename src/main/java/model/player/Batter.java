@@ -36,6 +36,8 @@ public class Batter extends Player{
     private double AVG;
     private double OBP;
     private double OPS;
+    // compiled on first use, transient so it stays out of equals
+    private transient volatile BatterProfile profile;
 
     /**
      *
@@ -361,6 +363,19 @@ public class Batter extends Player{
         return this.OPS;
     }
 
+    /**
+     * Get the compiled outcome table, built once and cached for every later game.
+     * @return The profile of the batter
+     */
+    public BatterProfile getProfile() {
+        BatterProfile compiled = this.profile;
+        if (compiled == null) {
+            compiled = new BatterProfile(this);
+            this.profile = compiled;
+        }
+        return compiled;
+    }
+
     /**
      * Get the player type.
      * @return The player type
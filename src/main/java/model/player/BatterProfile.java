@@ -0,0 +1,109 @@
+package model.player;
+
+import gameEnum.Hits;
+import gameEnum.PitchCategory;
+
+/**
+ * Compiled hitting outcomes of one batter.
+ * For every pitch category it holds the hit probability of a ball in play and the cumulative
+ * single, double and triple thresholds, anything above the last threshold is a home run.
+ */
+public final class BatterProfile {
+    /** Values stored per pitch category: hit probability, then the 1B, 2B and 3B thresholds. */
+    private static final int STRIDE = 4;
+    private static final int HIT = 0;
+    private static final int SINGLE = 1;
+    private static final int DOUBLE = 2;
+    private static final int TRIPLE = 3;
+
+    private final double[] table = new double[PitchCategory.values().length * STRIDE];
+
+    /**
+     * Compile the per category outcome table of a batter.
+     * @param batter The batter whose splits are used
+     */
+    public BatterProfile(Batter batter) {
+        fill(PitchCategory.FASTBALL, batter.getFastballPA(), batter.getFastballH(), batter.getFastball1B(),
+                batter.getFastball2B(), batter.getFastball3B());
+        fill(PitchCategory.BREAKING, batter.getBreakingPA(), batter.getBreakingH(), batter.getBreaking1B(),
+                batter.getBreaking2B(), batter.getBreaking3B());
+        fill(PitchCategory.OFFSPEED, batter.getOffspeedPA(), batter.getOffspeedH(), batter.getOffspeed1B(),
+                batter.getOffspeed2B(), batter.getOffspeed3B());
+    }
+
+    /**
+     * Fill the table row of one pitch category.
+     * @param category The pitch category
+     * @param plateAppearances The plate appearances against the category
+     * @param hits The hits against the category
+     * @param singles The singles against the category
+     * @param doubles The doubles against the category
+     * @param triples The triples against the category
+     */
+    private void fill(PitchCategory category, int plateAppearances, int hits, int singles, int doubles,
+                      int triples) {
+        int base = category.ordinal() * STRIDE;
+        if (plateAppearances <= 0 || hits <= 0) {
+            // never a hit, the thresholds are never read
+            return;
+        }
+        double singleProb = (double) singles / hits;
+        double doubleProb = (double) doubles / hits;
+        double tripleProb = (double) triples / hits;
+
+        table[base + HIT] = (double) hits / plateAppearances;
+        table[base + SINGLE] = singleProb;
+        table[base + DOUBLE] = singleProb + doubleProb;
+        table[base + TRIPLE] = singleProb + doubleProb + tripleProb;
+    }
+
+    /**
+     * Get the probability that a ball in play against the category is a hit.
+     * @param category The pitch category
+     * @return The hit probability
+     */
+    public double getHitProbability(PitchCategory category) {
+        return table[category.ordinal() * STRIDE + HIT];
+    }
+
+    /**
+     * Map a uniform draw to the type of a hit against the category.
+     * @param category The pitch category
+     * @param u A uniform value in [0, 1)
+     * @return The type of the hit
+     */
+    public Hits getHitType(PitchCategory category, double u) {
+        int base = category.ordinal() * STRIDE;
+        if (u < table[base + SINGLE]) {
+            return Hits.SINGLE;
+        } else if (u < table[base + DOUBLE]) {
+            return Hits.DOUBLE;
+        } else if (u < table[base + TRIPLE]) {
+            return Hits.TRIPLE;
+        }
+        return Hits.HR;
+    }
+
+    /**
+     * Get the probability of one hit type given a hit against the category.
+     * @param category The pitch category
+     * @param hitType The type of hit
+     * @return The probability of the hit type given a hit
+     */
+    public double getHitTypeProbability(PitchCategory category, Hits hitType) {
+        int base = category.ordinal() * STRIDE;
+        double single = Math.min(1.0, table[base + SINGLE]);
+        double doubles = Math.min(1.0, table[base + DOUBLE]);
+        double triple = Math.min(1.0, table[base + TRIPLE]);
+        switch (hitType) {
+            case SINGLE:
+                return single;
+            case DOUBLE:
+                return doubles - single;
+            case TRIPLE:
+                return triple - doubles;
+            default:
+                return 1.0 - triple;
+        }
+    }
+}
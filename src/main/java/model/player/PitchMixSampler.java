@@ -0,0 +1,117 @@
+package model.player;
+
+import gameEnum.PitchType;
+import model.random.AliasTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Compiled pitch mix of one pitcher.
+ * Pitch types with a positive share are drawn from an alias table, so picking a pitch
+ * costs one random draw and two array reads with no allocation.
+ */
+public final class PitchMixSampler {
+    private final PitchType[] pitchTypes;
+    private final AliasTable table;
+
+    /**
+     * Compile the pitch mix of a pitcher.
+     * @param pitcher The pitcher whose pitch shares are used as weights
+     */
+    public PitchMixSampler(Pitcher pitcher) {
+        List<PitchType> thrown = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (PitchType type : PitchType.values()) {
+            double share = shareOf(pitcher, type);
+            if (share > 0) {
+                thrown.add(type);
+                weights.add(share);
+            }
+        }
+        if (thrown.isEmpty()) {
+            throw new IllegalStateException("Pitcher " + pitcher.getName() + " has no pitch mix");
+        }
+
+        this.pitchTypes = thrown.toArray(new PitchType[0]);
+        this.table = new AliasTable(weights.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    /**
+     * Get the share of one pitch type in a pitcher's attributes.
+     * @param pitcher The pitcher
+     * @param type The pitch type
+     * @return The share of the pitch type
+     */
+    private static double shareOf(Pitcher pitcher, PitchType type) {
+        switch (type) {
+            case FOUR_SEAM:
+                return pitcher.getFourSeam();
+            case TWO_SEAM:
+                return pitcher.getTwoSeam();
+            case CUTTER:
+                return pitcher.getCutter();
+            case SINKER:
+                return pitcher.getSinker();
+            case SLIDER:
+                return pitcher.getSlider();
+            case CURVE:
+                return pitcher.getCurve();
+            case KNUCKLE:
+                return pitcher.getKnuckle();
+            case SWEEPER:
+                return pitcher.getSweeper();
+            case SLURVE:
+                return pitcher.getSlurve();
+            case SPLIT_FINGER:
+                return pitcher.getSplitFinger();
+            case CHANGEUP:
+                return pitcher.getChangeup();
+            case FORK:
+                return pitcher.getFork();
+            default:
+                return pitcher.getScrew();
+        }
+    }
+
+    /**
+     * Draw the type of the next pitch.
+     * @param random The random source
+     * @return The pitch type
+     */
+    public PitchType nextPitchType(RandomGenerator random) {
+        return pitchTypes[table.sample(random)];
+    }
+
+    /**
+     * Map one uniform value to a pitch type.
+     * @param u A uniform value in [0, 1)
+     * @return The pitch type
+     */
+    public PitchType pitchTypeAt(double u) {
+        return pitchTypes[table.sample(u)];
+    }
+
+    /**
+     * Get the pitch types this pitcher throws.
+     * @return The pitch types, in the same order as the pitcher's attributes
+     */
+    public List<PitchType> getPitchTypes() {
+        return List.of(pitchTypes);
+    }
+
+    /**
+     * Get the probability of one pitch type.
+     * @param pitchType The pitch type
+     * @return The probability of throwing it, 0 if never thrown
+     */
+    public double probabilityOf(PitchType pitchType) {
+        for (int i = 0; i < pitchTypes.length; i++) {
+            if (pitchTypes[i] == pitchType) {
+                return table.probabilityOf(i);
+            }
+        }
+        return 0.0;
+    }
+}
@@ -23,6 +23,8 @@ public class Pitcher extends Player{
     private double changeup;
     private double fork;
     private double screw;
+    // compiled on first use, transient so it stays out of equals
+    private transient volatile PitchMixSampler pitchMixSampler;
 
     /**
      * Construct a new Pitcher with attributes.
@@ -216,6 +218,19 @@ public class Pitcher extends Player{
         return this.screw;
     }
 
+    /**
+     * Get the compiled pitch mix, built once and cached for every later inning.
+     * @return The pitch mix sampler of the pitcher
+     */
+    public PitchMixSampler getPitchMixSampler() {
+        PitchMixSampler sampler = this.pitchMixSampler;
+        if (sampler == null) {
+            sampler = new PitchMixSampler(this);
+            this.pitchMixSampler = sampler;
+        }
+        return sampler;
+    }
+
     /**
      * Get the player type.
      * @return The player type
@@ -0,0 +1,119 @@
+package model.player;
+
+import gameEnum.BaseEvent;
+import gameEnum.Hits;
+import gameEnum.PitchCategory;
+import gameEnum.PitchType;
+
+/**
+ * Exact outcome distribution of one plate appearance between a batter and a pitcher.
+ * Every pitch is a ball in play, a strike without contact or a ball with fixed probabilities,
+ * so the count is a small absorbing chain that is solved once instead of played pitch by pitch.
+ */
+public final class PlateAppearanceDistribution {
+    private static final BaseEvent[] EVENTS = BaseEvent.values();
+    private static final PitchCategory[] PITCH_CATEGORIES = PitchCategory.values();
+    private static final Hits[] HITS = Hits.values();
+    private static final int BALLS = 4;
+    private static final int STRIKES = 3;
+
+    // indexed by BaseEvent ordinal, OUT includes strikeouts
+    private final double[] probabilities = new double[EVENTS.length];
+    private final double strikeoutProbability;
+    private final double expectedPitches;
+
+    /**
+     * Solve the count chain of a matchup.
+     * @param batter The batter at the plate
+     * @param pitcher The pitcher on the mound
+     */
+    public PlateAppearanceDistribution(Batter batter, Pitcher pitcher) {
+        double strikeRate = pitcher.getStrikesRate();
+        double contact = strikeRate * batter.getZoneSwing() * batter.getZoneContact()
+                + (1 - strikeRate) * batter.getChaseSwing() * batter.getChaseContact();
+        double ball = (1 - strikeRate) * (1 - batter.getChaseSwing());
+        double strike = strikeRate * (1 - batter.getZoneSwing() * batter.getZoneContact())
+                + (1 - strikeRate) * batter.getChaseSwing() * (1 - batter.getChaseContact());
+
+        // probability of reaching every count, counts only move forward so one pass is enough
+        double[][] reach = new double[BALLS][STRIKES];
+        reach[0][0] = 1.0;
+        double inPlay = 0.0;
+        double strikeout = 0.0;
+        double walk = 0.0;
+        double pitches = 0.0;
+        for (int balls = 0; balls < BALLS; balls++) {
+            for (int strikes = 0; strikes < STRIKES; strikes++) {
+                double p = reach[balls][strikes];
+                pitches += p;
+                inPlay += p * contact;
+                if (strikes + 1 == STRIKES) {
+                    strikeout += p * strike;
+                } else {
+                    reach[balls][strikes + 1] += p * strike;
+                }
+                if (balls + 1 == BALLS) {
+                    walk += p * ball;
+                } else {
+                    reach[balls + 1][strikes] += p * ball;
+                }
+            }
+        }
+
+        // the pitch category of a ball in play follows the pitch mix
+        PitchMixSampler mix = pitcher.getPitchMixSampler();
+        double[] categoryShare = new double[PITCH_CATEGORIES.length];
+        for (PitchType type : mix.getPitchTypes()) {
+            categoryShare[type.getCategory().ordinal()] += mix.probabilityOf(type);
+        }
+
+        BatterProfile profile = batter.getProfile();
+        double fieldedOut = 0.0;
+        for (PitchCategory category : PITCH_CATEGORIES) {
+            double share = inPlay * categoryShare[category.ordinal()];
+            double hit = profile.getHitProbability(category);
+            fieldedOut += share * (1 - hit);
+            for (Hits hitType : HITS) {
+                probabilities[BaseEvent.fromHit(hitType).ordinal()] +=
+                        share * hit * profile.getHitTypeProbability(category, hitType);
+            }
+        }
+        probabilities[BaseEvent.WALK.ordinal()] = walk;
+        probabilities[BaseEvent.OUT.ordinal()] = strikeout + fieldedOut;
+        this.strikeoutProbability = strikeout;
+        this.expectedPitches = pitches;
+    }
+
+    /**
+     * Get the probability that the plate appearance ends in an event.
+     * @param event The event, OUT includes strikeouts
+     * @return The probability of the event
+     */
+    public double getProbability(BaseEvent event) {
+        return probabilities[event.ordinal()];
+    }
+
+    /**
+     * Get the probability of a strikeout.
+     * @return The strikeout probability
+     */
+    public double getStrikeoutProbability() {
+        return strikeoutProbability;
+    }
+
+    /**
+     * Get the probability that the batter reaches base on a hit or a walk.
+     * @return The on base probability
+     */
+    public double getOnBaseProbability() {
+        return 1.0 - probabilities[BaseEvent.OUT.ordinal()];
+    }
+
+    /**
+     * Get the mean number of pitches thrown in the plate appearance.
+     * @return The expected pitches
+     */
+    public double getExpectedPitches() {
+        return expectedPitches;
+    }
+}
@@ -0,0 +1,120 @@
+package model.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Walker/Vose alias table for sampling a fixed discrete distribution in constant time.
+ * The table is immutable once built, so one instance can be shared by every thread.
+ */
+public final class AliasTable {
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Build the alias table from non-negative weights, which do not need to sum to 1.
+     * @param weights The weight of each outcome
+     */
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        double total = 0.0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight)) {
+                throw new IllegalArgumentException("Weights must be non-negative");
+            }
+            total += weight;
+        }
+        if (n == 0 || total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        // scale so the average column is exactly 1
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+
+        // whatever is left is 1 up to rounding error
+        while (largeSize > 0) {
+            int more = large[--largeSize];
+            probability[more] = 1.0;
+            alias[more] = more;
+        }
+        while (smallSize > 0) {
+            int less = small[--smallSize];
+            probability[less] = 1.0;
+            alias[less] = less;
+        }
+    }
+
+    /**
+     * Get the number of outcomes.
+     * @return The number of outcomes
+     */
+    public int size() {
+        return probability.length;
+    }
+
+    /**
+     * Draw one outcome using a single uniform draw.
+     * @param random The random source
+     * @return The index of the drawn outcome
+     */
+    public int sample(RandomGenerator random) {
+        return sample(random.nextDouble());
+    }
+
+    /**
+     * Map one uniform value in [0, 1) to an outcome.
+     * The integer part of u * n picks the column and the fraction decides between it and its alias.
+     * @param u A uniform value in [0, 1)
+     * @return The index of the drawn outcome
+     */
+    public int sample(double u) {
+        double scaled = u * probability.length;
+        int column = (int) scaled;
+        if (column >= probability.length) {
+            column = probability.length - 1;
+        }
+        return scaled - column < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * Get the probability of one outcome as encoded in the table.
+     * @param index The index of the outcome
+     * @return The probability of drawing the outcome
+     */
+    public double probabilityOf(int index) {
+        double mass = probability[index];
+        for (int i = 0; i < alias.length; i++) {
+            if (alias[i] == index && i != index) {
+                mass += 1.0 - probability[i];
+            }
+        }
+        return mass / probability.length;
+    }
+}
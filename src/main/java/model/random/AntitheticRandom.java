@@ -0,0 +1,37 @@
+package model.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Mirror image of another random source: every long is bit-flipped, so every double u becomes 1 - u.
+ * A game played on the mirror of a stream is the antithetic partner of the game played on the stream itself.
+ */
+public final class AntitheticRandom implements RandomGenerator {
+    private final RandomGenerator source;
+
+    /**
+     * Constructor that mirrors a source.
+     * @param source The random source to mirror
+     */
+    public AntitheticRandom(RandomGenerator source) {
+        this.source = source;
+    }
+
+    /**
+     * Draw the mirror of the source's next long.
+     * @return The bitwise complement of the source's draw
+     */
+    @Override
+    public long nextLong() {
+        return ~source.nextLong();
+    }
+
+    /**
+     * Draw the mirror of the source's next double, built from the top 53 bits of nextLong like SplittableRandom.
+     * @return 1 - u - 2^-53 for the source's draw u, which stays in [0, 1)
+     */
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+}
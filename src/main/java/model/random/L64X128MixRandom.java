@@ -0,0 +1,58 @@
+package model.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * L64X128MixRandom generator that can be reseeded, drawing exactly the stream of the JDK algorithm of that name
+ * created on the same seed: a 64-bit LCG added to a xoroshiro128 state and mixed by mixLea64.
+ * One instance can serve every game a worker plays by reseeding it, instead of allocating a generator per game.
+ */
+public final class L64X128MixRandom implements RandomGenerator {
+    /** Multiplier of the LCG. */
+    private static final long M = 0xD1342543DE82EF95L;
+
+    private long a;
+    private long s;
+    private long x0;
+    private long x1;
+
+    /**
+     * Constructor of a generator on a seed.
+     * @param seed The seed, as given to RandomGeneratorFactory.of("L64X128MixRandom").create
+     */
+    public L64X128MixRandom(long seed) {
+        setSeed(seed);
+    }
+
+    /**
+     * Restart the generator on another seed, hashing it into the state like the JDK constructor.
+     * @param seed The seed, as given to RandomGeneratorFactory.of("L64X128MixRandom").create
+     */
+    public void setSeed(long seed) {
+        seed ^= RandomStreams.SILVER_RATIO_64;
+        a = RandomStreams.mixMurmur64(seed) | 1;
+        s = 1;
+        x0 = RandomStreams.mixStafford13(seed);
+        x1 = RandomStreams.mixStafford13(seed + RandomStreams.GOLDEN_RATIO_64);
+        if ((x0 | x1) == 0) {
+            x0 = RandomStreams.mixStafford13(s + RandomStreams.GOLDEN_RATIO_64);
+            x1 = RandomStreams.mixStafford13(s + 2 * RandomStreams.GOLDEN_RATIO_64);
+        }
+    }
+
+    /**
+     * Draw the next long from the sum of both states, then step the LCG and the xoroshiro128 state.
+     * @return The next long
+     */
+    @Override
+    public long nextLong() {
+        long result = RandomStreams.mixLea64(s + x0);
+        s = M * s + a;
+        long q0 = x0;
+        long q1 = x1 ^ q0;
+        q0 = Long.rotateLeft(q0, 24);
+        x0 = q0 ^ q1 ^ (q1 << 16);
+        x1 = Long.rotateLeft(q1, 37);
+        return result;
+    }
+}
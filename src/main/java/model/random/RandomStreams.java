@@ -0,0 +1,92 @@
+package model.random;
+
+import gameEnum.RandomAlgorithm;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * Per-game random streams of every RandomAlgorithm, restarted in place so a worker allocates one generator for all
+ * its games. Each stream is exactly the one RandomAlgorithm.create gives on the same seed, and the mixing
+ * functions the JDK generators hash their seeds with are kept here for the reseedable copies of this package.
+ */
+public final class RandomStreams {
+    /** Golden ratio constant of the JDK generators. */
+    static final long GOLDEN_RATIO_64 = 0x9E3779B97F4A7C15L;
+    /** Silver ratio constant of the JDK generators. */
+    static final long SILVER_RATIO_64 = 0x6A09E667F3BCC909L;
+
+    private RandomStreams() {
+    }
+
+    /**
+     * Restart the stream of an algorithm on another seed, reusing the previous generator when it can be reseeded.
+     * SplittableRandom cannot be reseeded, so its stream is drawn from a SplitMixRandom that can.
+     * @param algorithm The algorithm of the stream
+     * @param previous The generator of the previous game, may be null
+     * @param seed The seed of the game
+     * @return The reseeded generator, or a new one on the first game
+     */
+    public static RandomGenerator reseed(RandomAlgorithm algorithm, RandomGenerator previous, long seed) {
+        switch (algorithm) {
+            case L64X128_MIX:
+                if (previous instanceof L64X128MixRandom) {
+                    ((L64X128MixRandom) previous).setSeed(seed);
+                    return previous;
+                }
+                return new L64X128MixRandom(seed);
+            case XOROSHIRO128_PLUS_PLUS:
+                if (previous instanceof Xoroshiro128PlusPlus) {
+                    ((Xoroshiro128PlusPlus) previous).setSeed(seed);
+                    return previous;
+                }
+                return new Xoroshiro128PlusPlus(seed);
+            case RANDOM:
+                if (previous instanceof Random) {
+                    ((Random) previous).setSeed(seed);
+                    return previous;
+                }
+                return new Random(seed);
+            default:
+                // SPLITTABLE
+                if (previous instanceof SplitMixRandom) {
+                    ((SplitMixRandom) previous).setSeed(seed);
+                    return previous;
+                }
+                return new SplitMixRandom(seed);
+        }
+    }
+
+    /**
+     * Mix a seed with the MurmurHash3 finalizer.
+     * @param z The value to mix
+     * @return The mixed value
+     */
+    static long mixMurmur64(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Mix a seed with variant 13 of Stafford's mixers, as SplitMix64 does.
+     * @param z The value to mix
+     * @return The mixed value
+     */
+    static long mixStafford13(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Mix the output of an LXM generator with Doug Lea's 64-bit mixer.
+     * @param z The value to mix
+     * @return The mixed value
+     */
+    static long mixLea64(long z) {
+        z = (z ^ (z >>> 32)) * 0xDABA0B6EB09322E3L;
+        z = (z ^ (z >>> 32)) * 0xDABA0B6EB09322E3L;
+        return z ^ (z >>> 32);
+    }
+}
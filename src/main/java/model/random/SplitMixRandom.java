@@ -0,0 +1,62 @@
+package model.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * SplitMix64 generator that can be reseeded, drawing exactly the stream of new SplittableRandom(seed).
+ * One instance can serve every game a worker plays by reseeding it, instead of allocating a generator per game.
+ */
+public final class SplitMixRandom implements RandomGenerator {
+    /** Increment of the state, the golden ratio constant used by SplittableRandom. */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long seed;
+
+    /**
+     * Constructor of a generator on a seed.
+     * @param seed The seed, as given to SplittableRandom
+     */
+    public SplitMixRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Restart the generator on another seed.
+     * @param seed The seed, as given to SplittableRandom
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Draw the next long, mixed like SplittableRandom.
+     * @return The next long
+     */
+    @Override
+    public long nextLong() {
+        long z = seed += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Draw the next int, mixed like SplittableRandom.
+     * @return The next int
+     */
+    @Override
+    public int nextInt() {
+        long z = seed += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 33)) * 0x62A9D9ED799705F5L;
+        return (int) (((z ^ (z >>> 28)) * 0xCB24D0A5C88C35B3L) >>> 32);
+    }
+
+    /**
+     * Draw the next double from the top 53 bits of nextLong, like SplittableRandom.
+     * @return A double in [0, 1)
+     */
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+}
@@ -0,0 +1,50 @@
+package model.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Xoroshiro128PlusPlus generator that can be reseeded, drawing exactly the stream of the JDK algorithm of that name
+ * created on the same seed.
+ * One instance can serve every game a worker plays by reseeding it, instead of allocating a generator per game.
+ */
+public final class Xoroshiro128PlusPlus implements RandomGenerator {
+    private long x0;
+    private long x1;
+
+    /**
+     * Constructor of a generator on a seed.
+     * @param seed The seed, as given to RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create
+     */
+    public Xoroshiro128PlusPlus(long seed) {
+        setSeed(seed);
+    }
+
+    /**
+     * Restart the generator on another seed, hashing it into the state like the JDK constructor.
+     * @param seed The seed, as given to RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create
+     */
+    public void setSeed(long seed) {
+        seed ^= RandomStreams.SILVER_RATIO_64;
+        x0 = RandomStreams.mixStafford13(seed);
+        x1 = RandomStreams.mixStafford13(seed + RandomStreams.GOLDEN_RATIO_64);
+        if ((x0 | x1) == 0) {
+            x0 = RandomStreams.GOLDEN_RATIO_64;
+            x1 = RandomStreams.SILVER_RATIO_64;
+        }
+    }
+
+    /**
+     * Draw the next long and step the state.
+     * @return The next long
+     */
+    @Override
+    public long nextLong() {
+        long s0 = x0;
+        long s1 = x1;
+        long result = Long.rotateLeft(s0 + s1, 17) + s0;
+        s1 ^= s0;
+        x0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+        x1 = Long.rotateLeft(s1, 28);
+        return result;
+    }
+}
@@ -0,0 +1,573 @@
+package model.simulation;
+
+import gameEnum.PitchCategory;
+import gameEnum.PitchType;
+import gameEnum.PitchingStat;
+import gameEnum.StopReason;
+import gameEnum.TrackedStat;
+
+import model.player.Batter;
+import model.player.Pitcher;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregate of many simulated games between the same two teams.
+ * Totals are kept as longs so a batch can grow far beyond a single game's int counters.
+ * A batch is serializable, so a worker process can send the batch of its shard back to a ShardCoordinator.
+ */
+public class BatchResult implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final PitchType[] PITCH_TYPES = PitchType.values();
+    private static final PitchCategory[] PITCH_CATEGORIES = PitchCategory.values();
+    private static final TrackedStat[] TRACKED_STATS = TrackedStat.values();
+
+    private final String playerTeamName;
+    private final String comTeamName;
+
+    private long games = 0;
+    private long totalRuns = 0;
+    private final long[] inningRuns = new long[9];
+    private long totalPitchesThrown = 0;
+    // indexed by PitchType and PitchCategory ordinal
+    private final long[] pitchTypeCounts = new long[PITCH_TYPES.length];
+    private final long[] pitchCategoryCounts = new long[PITCH_CATEGORIES.length];
+    private long totalHits = 0;
+    private long totalSingles = 0;
+    private long totalDoubles = 0;
+    private long totalTriples = 0;
+    private long totalHomeRuns = 0;
+    private long totalStrikeouts = 0;
+    private long totalWalks = 0;
+    // simulated batting line of every lineup slot
+    private final BattingLines battingLines = new BattingLines();
+    private final PitchingLines pitchingLines = new PitchingLines();
+    // streaming mean, variance and range of every tracked statistic and inning
+    private final SimulationSummary summary = new SimulationSummary();
+    // mean of every antithetic pair, empty unless the games were played in pairs
+    private final RunningStatistic[] pairStatistics = new RunningStatistic[TRACKED_STATS.length];
+    private StopReason stopReason = null;
+    // bytes allocated by the threads that played the games, -1 when the JVM cannot measure it
+    private long allocatedBytes = -1;
+    private Long seed = null;
+
+    /**
+     * Constructor of an empty batch.
+     * @param playerTeamName The player team name
+     * @param comTeamName The computer team name
+     */
+    public BatchResult(String playerTeamName, String comTeamName) {
+        this.playerTeamName = playerTeamName;
+        this.comTeamName = comTeamName;
+        for (int i = 0; i < pairStatistics.length; i++) {
+            pairStatistics[i] = new RunningStatistic();
+        }
+    }
+
+    /**
+     * Add one finished game to the batch.
+     * @param result The result of a single game
+     */
+    public void add(SimulationResult result) {
+        games++;
+        totalRuns += result.getPlayerTeamScore();
+        int[] scores = result.getInningScores();
+        for (int i = 0; i < inningRuns.length; i++) {
+            inningRuns[i] += scores[i];
+        }
+        totalPitchesThrown += result.getTotalPitchesThrown();
+        for (PitchType type : PITCH_TYPES) {
+            pitchTypeCounts[type.ordinal()] += result.getPitchTypeCount(type);
+        }
+        for (PitchCategory category : PITCH_CATEGORIES) {
+            pitchCategoryCounts[category.ordinal()] += result.getPitchCategoryCount(category);
+        }
+        totalHits += result.getTotalHits();
+        totalSingles += result.getTotalSingles();
+        totalDoubles += result.getTotalDoubles();
+        totalTriples += result.getTotalTriples();
+        totalHomeRuns += result.getTotalHomeRuns();
+        totalStrikeouts += result.getTotalStrikeouts();
+        totalWalks += result.getTotalWalks();
+        battingLines.add(result.getBattingLines());
+        pitchingLines.add(result.getPitchingLines());
+        summary.add(result);
+    }
+
+    /**
+     * Add an antithetic pair of games, one played on a random stream and one on its mirror.
+     * Both games count as usual and the pair mean is kept to measure the variance of the pairs.
+     * @param first The game played on the stream
+     * @param second The game played on the mirror of the stream
+     */
+    public void addPair(SimulationResult first, SimulationResult second) {
+        add(first);
+        add(second);
+        for (TrackedStat stat : TRACKED_STATS) {
+            pairStatistics[stat.ordinal()].add((SimulationSummary.valueOf(first, stat)
+                    + SimulationSummary.valueOf(second, stat)) / 2);
+        }
+    }
+
+    /**
+     * Fold another batch into this one.
+     * @param other The batch to merge, left unchanged
+     */
+    public void merge(BatchResult other) {
+        games += other.games;
+        totalRuns += other.totalRuns;
+        for (int i = 0; i < inningRuns.length; i++) {
+            inningRuns[i] += other.inningRuns[i];
+        }
+        totalPitchesThrown += other.totalPitchesThrown;
+        for (int i = 0; i < pitchTypeCounts.length; i++) {
+            pitchTypeCounts[i] += other.pitchTypeCounts[i];
+        }
+        for (int i = 0; i < pitchCategoryCounts.length; i++) {
+            pitchCategoryCounts[i] += other.pitchCategoryCounts[i];
+        }
+        totalHits += other.totalHits;
+        totalSingles += other.totalSingles;
+        totalDoubles += other.totalDoubles;
+        totalTriples += other.totalTriples;
+        totalHomeRuns += other.totalHomeRuns;
+        totalStrikeouts += other.totalStrikeouts;
+        totalWalks += other.totalWalks;
+        battingLines.merge(other.battingLines);
+        pitchingLines.merge(other.pitchingLines);
+        summary.merge(other.summary);
+        for (int i = 0; i < pairStatistics.length; i++) {
+            pairStatistics[i].merge(other.pairStatistics[i]);
+        }
+        if (other.allocatedBytes >= 0) {
+            addAllocatedBytes(other.allocatedBytes);
+        }
+    }
+
+    /**
+     * Get the player team name.
+     * @return The player team name
+     */
+    public String getPlayerTeamName() {
+        return playerTeamName;
+    }
+
+    /**
+     * Get the computer team name.
+     * @return The computer team name
+     */
+    public String getComTeamName() {
+        return comTeamName;
+    }
+
+    /**
+     * Get the number of games in the batch.
+     * @return The number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Get the runs scored over all games.
+     * @return The total runs
+     */
+    public long getTotalRuns() {
+        return totalRuns;
+    }
+
+    /**
+     * Get the runs scored in one inning over all games.
+     * @param inning The inning, from 1 to 9
+     * @return The total runs of the inning
+     */
+    public long getInningRuns(int inning) {
+        return inningRuns[inning - 1];
+    }
+
+    /**
+     * Get the average runs per game.
+     * @return The mean runs, 0 for an empty batch
+     */
+    public double getAverageRuns() {
+        return average(totalRuns);
+    }
+
+    /**
+     * Getter of total pitches thrown.
+     * @return The total of pitches thrown
+     */
+    public long getTotalPitchesThrown() {
+        return totalPitchesThrown;
+    }
+
+    /**
+     * Get the count of one pitch type for the whole batch.
+     * @param pitchType The pitch type
+     * @return The number of pitches of that type
+     */
+    public long getPitchTypeCount(PitchType pitchType) {
+        return pitchTypeCounts[pitchType.ordinal()];
+    }
+
+    /**
+     * Get the count of one pitch category for the whole batch.
+     * @param pitchCategory The pitch category
+     * @return The number of pitches of that category
+     */
+    public long getPitchCategoryCount(PitchCategory pitchCategory) {
+        return pitchCategoryCounts[pitchCategory.ordinal()];
+    }
+
+    /**
+     * Get a map of pitch types and their counts for the whole batch, built on demand for display.
+     * @return A map of pitch type and counts
+     */
+    public Map<String, Long> getPitchTypeCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (PitchType type : PITCH_TYPES) {
+            if (pitchTypeCounts[type.ordinal()] > 0) {
+                counts.put(type.getDisplayName(), pitchTypeCounts[type.ordinal()]);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Get a map of pitch categories and their counts for the whole batch, built on demand for display.
+     * @return A map of pitch category and counts
+     */
+    public Map<String, Long> getPitchCategoryCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (PitchCategory category : PITCH_CATEGORIES) {
+            if (pitchCategoryCounts[category.ordinal()] > 0) {
+                counts.put(category.getDisplayName(), pitchCategoryCounts[category.ordinal()]);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Getter of the total hits.
+     * @return The total hits
+     */
+    public long getTotalHits() {
+        return totalHits;
+    }
+
+    /**
+     * Getter of the total singles.
+     * @return The total singles
+     */
+    public long getTotalSingles() {
+        return totalSingles;
+    }
+
+    /**
+     * Getter of the total doubles.
+     * @return The total doubles
+     */
+    public long getTotalDoubles() {
+        return totalDoubles;
+    }
+
+    /**
+     * Getter of the total triples.
+     * @return The total triples
+     */
+    public long getTotalTriples() {
+        return totalTriples;
+    }
+
+    /**
+     * Getter of the total homers.
+     * @return The total homers
+     */
+    public long getTotalHomeRuns() {
+        return totalHomeRuns;
+    }
+
+    /**
+     * Getter of the total strikeouts.
+     * @return The total strikeouts
+     */
+    public long getTotalStrikeouts() {
+        return totalStrikeouts;
+    }
+
+    /**
+     * Getter of the total walks.
+     * @return The total walks
+     */
+    public long getTotalWalks() {
+        return totalWalks;
+    }
+
+    /**
+     * Get the streaming mean, variance and range of a per game statistic.
+     * @param stat The tracked statistic
+     * @return The running statistic
+     */
+    public RunningStatistic getStatistic(TrackedStat stat) {
+        return summary.getStatistic(stat);
+    }
+
+    /**
+     * Get the streaming summary of every game, with the range of every statistic and the runs of every inning.
+     * @return The simulation summary
+     */
+    public SimulationSummary getSimulationSummary() {
+        return summary;
+    }
+
+    /**
+     * Check whether the games were played in antithetic pairs.
+     * @return true if the batch has at least one pair
+     */
+    public boolean isAntithetic() {
+        return pairStatistics[TrackedStat.RUNS.ordinal()].getCount() > 0;
+    }
+
+    /**
+     * Get the number of antithetic pairs in the batch.
+     * @return The number of pairs
+     */
+    public long getPairs() {
+        return pairStatistics[TrackedStat.RUNS.ordinal()].getCount();
+    }
+
+    /**
+     * Get the variance of one game that would give the same precision of the mean as this batch.
+     * For antithetic pairs this is twice the variance of a pair mean, for independent games the game variance.
+     * @param stat The tracked statistic
+     * @return The effective per game variance
+     */
+    public double getEffectiveVariance(TrackedStat stat) {
+        return isAntithetic() ? 2 * pairStatistics[stat.ordinal()].getVariance() : summary.getStatistic(stat).getVariance();
+    }
+
+    /**
+     * Get the half width of the confidence interval of a mean, from the pair means when played in pairs.
+     * @param stat The tracked statistic
+     * @param z The standard normal quantile of the confidence level
+     * @return The half width of the interval
+     */
+    public double getHalfWidth(TrackedStat stat, double z) {
+        return isAntithetic() ? pairStatistics[stat.ordinal()].getHalfWidth(z) : summary.getStatistic(stat).getHalfWidth(z);
+    }
+
+    /**
+     * Get how many plain Monte Carlo games one game of this batch is worth for the mean of a statistic.
+     * @param stat The tracked statistic
+     * @return The ratio of the plain variance to the effective variance, 1 for independent games
+     */
+    public double getVarianceReduction(TrackedStat stat) {
+        double effective = getEffectiveVariance(stat);
+        return !isAntithetic() || effective == 0.0 ? 1.0 : summary.getStatistic(stat).getVariance() / effective;
+    }
+
+    /**
+     * Get why a batch run to a precision target stopped.
+     * @return The stop reason, null for a batch of fixed size
+     */
+    public StopReason getStopReason() {
+        return stopReason;
+    }
+
+    /**
+     * Set why a batch run to a precision target stopped.
+     * @param stopReason The stop reason
+     */
+    public void setStopReason(StopReason stopReason) {
+        this.stopReason = stopReason;
+    }
+
+    /**
+     * Add the bytes a thread allocated while playing games of the batch.
+     * @param bytes The allocated bytes, ignored when negative
+     */
+    public void addAllocatedBytes(long bytes) {
+        if (bytes >= 0) {
+            allocatedBytes = Math.max(allocatedBytes, 0) + bytes;
+        }
+    }
+
+    /**
+     * Get the bytes allocated per game by the threads that played the batch.
+     * @return The bytes per game, -1 if they were not measured
+     */
+    public double getAllocatedBytesPerGame() {
+        return allocatedBytes < 0 || games == 0 ? -1 : (double) allocatedBytes / games;
+    }
+
+    /**
+     * Get the simulated batting line of every lineup slot.
+     * @return The batting lines
+     */
+    public BattingLines getBattingLines() {
+        return battingLines;
+    }
+
+    /**
+     * Set the batters of the lineup, whose input rates are reported next to their simulated lines.
+     * @param lineup The batting lineup in slot order
+     */
+    public void setBatters(List<Batter> lineup) {
+        battingLines.setBatters(lineup);
+    }
+
+    /**
+     * Get the simulated pitching line of every pitcher slot.
+     * @return The pitching lines
+     */
+    public PitchingLines getPitchingLines() {
+        return pitchingLines;
+    }
+
+    /**
+     * Set the pitchers of the rotation, whose input strike rates are reported next to their simulated lines.
+     * @param rotation The pitching lineup: starter, middle reliever and closer
+     */
+    public void setPitchers(List<Pitcher> rotation) {
+        pitchingLines.setPitchers(rotation);
+    }
+
+    /**
+     * Get the batch seed the games were derived from.
+     * @return The seed, null if the batch was not played from one
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Set the batch seed the games were derived from.
+     * @param seed The batch seed
+     */
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Divide a batch total by the number of games.
+     * @param total The batch total
+     * @return The per game average
+     */
+    private double average(long total) {
+        return games == 0 ? 0.0 : (double) total / games;
+    }
+
+    /**
+     * Check whether the games only played inning scores, as on the composition engine, so nothing but runs was
+     * counted: no plate appearance, pitch, hit, strikeout or walk.
+     * @return true if games were played and counted nothing but runs
+     */
+    public boolean isRunsOnly() {
+        return games > 0 && battingLines.getPlateAppearances() == 0 && totalPitchesThrown == 0 && totalHits == 0
+                && totalStrikeouts == 0 && totalWalks == 0;
+    }
+
+    /**
+     * Generate a report of totals and per game averages for the batch.
+     * Games that only played inning scores report their runs alone.
+     * @return A formatted string containing the batch statistics
+     */
+    public String getSummary() {
+        boolean runsOnly = isRunsOnly();
+        TrackedStat[] reported = runsOnly ? new TrackedStat[]{TrackedStat.RUNS} : TRACKED_STATS;
+        StringBuilder sb = new StringBuilder();
+        sb.append("=====Batch Statistics=====\n\n");
+        sb.append(String.format("%s vs %s, %d games\n", playerTeamName, comTeamName, games));
+        if (seed != null) {
+            sb.append(String.format("Seed: %d\n", seed));
+        }
+        sb.append(String.format("Average Runs: %.3f\n", getAverageRuns()));
+
+        sb.append("Average Runs by Inning:\n");
+        for (int i = 0; i < inningRuns.length; i++) {
+            sb.append(String.format(" %d: %.3f\n", i + 1, average(inningRuns[i])));
+        }
+        sb.append("\n");
+
+        if (!runsOnly) {
+            sb.append(String.format("%-14s %12s %10s\n", "", "Total", "Per Game"));
+            appendLine(sb, "Pitches", totalPitchesThrown);
+            appendLine(sb, "Hits", totalHits);
+            appendLine(sb, "Singles", totalSingles);
+            appendLine(sb, "Doubles", totalDoubles);
+            appendLine(sb, "Triples", totalTriples);
+            appendLine(sb, "Home Runs", totalHomeRuns);
+            appendLine(sb, "Strikeouts", totalStrikeouts);
+            appendLine(sb, "Walks", totalWalks);
+            sb.append("\n");
+        }
+        sb.append(summary.getTable(runsOnly));
+        sb.append("\n");
+        sb.append(summary.getDistributionTable(runsOnly));
+        if (battingLines.getPlateAppearances() > 0) {
+            sb.append("\n");
+            sb.append(battingLines.getTable(games));
+        }
+        if (pitchingLines.getTotal(PitchingStat.BATTERS_FACED) > 0) {
+            sb.append("\n");
+            sb.append(pitchingLines.getTable(games));
+        }
+        if (getAllocatedBytesPerGame() >= 0) {
+            sb.append(String.format("\nAllocated: %.0f bytes/game\n", getAllocatedBytesPerGame()));
+        }
+
+        if (stopReason != null) {
+            sb.append(String.format("\nStopped after %d games: %s\n", games, stopReason.getDescription()));
+            sb.append(String.format("%-14s %12s %10s\n", "95% CI", "Mean", "+/-"));
+            for (TrackedStat stat : reported) {
+                RunningStatistic statistic = summary.getStatistic(stat);
+                sb.append(String.format("%-14s %12.4f %10.4f\n", stat.getName(), statistic.getMean(),
+                        getHalfWidth(stat, PrecisionTarget.Z_95)));
+            }
+            sb.append("\n");
+        }
+
+        if (isAntithetic()) {
+            TrackedStat[] paired = runsOnly ? reported
+                    : new TrackedStat[]{TrackedStat.RUNS, TrackedStat.HITS, TrackedStat.STRIKEOUTS};
+            sb.append(String.format("\nAntithetic pairs: %d\n", getPairs()));
+            sb.append(String.format("%-14s %12s %10s\n", "Variance", "Plain", "Reduction"));
+            for (TrackedStat stat : paired) {
+                sb.append(String.format("%-14s %12.4f %9.2fx\n", stat.getName(), summary.getStatistic(stat).getVariance(),
+                        getVarianceReduction(stat)));
+            }
+            sb.append("\n");
+        }
+
+        if (!runsOnly) {
+            sb.append("Pitch Types: \n");
+            getPitchTypeCounts().forEach((type, count) -> appendLine(sb, " " + type, count));
+            sb.append("Pitch Categories: \n");
+            getPitchCategoryCounts().forEach((category, count) -> appendLine(sb, " " + category, count));
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Append one total and its per game average.
+     * @param sb The report being built
+     * @param label The statistic label
+     * @param total The batch total
+     */
+    private void appendLine(StringBuilder sb, String label, long total) {
+        sb.append(String.format("%-14s %12d %10.3f\n", label, total, average(total)));
+    }
+
+    /**
+     * Info of the batch result.
+     * @return A string of the batch result
+     */
+    @Override
+    public String toString() {
+        return String.format("%s Average Score over %d games: %.3f", playerTeamName, games, getAverageRuns());
+    }
+}
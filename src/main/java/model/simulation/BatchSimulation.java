@@ -0,0 +1,583 @@
+package model.simulation;
+
+import gameEnum.Fidelity;
+import gameEnum.RandomAlgorithm;
+import gameEnum.SimulationEngine;
+import gameEnum.StopReason;
+import gameEnum.TrackedStat;
+import model.inning.BaseAdvancementTable;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * Runs a batch of independent games across a fork-join pool and merges them into one BatchResult.
+ * Every game draws from its own random stream seeded from the batch seed and the game's index,
+ * and the batch is always split the same way, so a seed gives the same result on any number of threads
+ * and game i of a batch can be replayed on its own with gameSeed(seed, i).
+ * At plate appearance fidelity the matchups are solved once per batch and every engine plays on the kernel.
+ * The composition engine solves the inning types once per batch and plays every game as 9 inning draws.
+ * The lanes engine plays the games of a task side by side in a LaneKernel.
+ * With antithetic pairing, game 2k + 1 is played on the mirror of the stream of game 2k, and two lineups
+ * can be compared on common random numbers by playing game i of both from the same game seed.
+ * Streams are SplittableRandom unless another RandomAlgorithm is set; a seed replays the same games only with
+ * the same algorithm.
+ */
+public class BatchSimulation {
+    /** Games played sequentially by one task before it stops splitting. */
+    static final int GAMES_PER_TASK = 256;
+    /** Games played before the first precision check, enough for a stable variance estimate. */
+    static final int MIN_PRECISION_GAMES = 1000;
+    /** Increment between game seeds, the golden ratio constant used by SplitMix64. */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final PlayerTeam playerTeam;
+    private final ComTeam comTeam;
+    private final int parallelism;
+    private SimulationEngine engine = SimulationEngine.REFERENCE;
+    private BaseAdvancementTable baseAdvancement = BaseAdvancementTable.STANDARD;
+    private Fidelity fidelity = Fidelity.PITCH;
+    private boolean antithetic = false;
+    private RandomAlgorithm randomAlgorithm = RandomAlgorithm.SPLITTABLE;
+    // solved plate appearances of the batch being run, null when playing pitch by pitch
+    private MatchupTable matchups;
+    // solved inning types of the batch being run, null unless on the composition engine
+    private InningCompositionEngine composition;
+    // true once prepare solved the tables above for the current settings
+    private boolean prepared = false;
+
+    /**
+     * Constructor of a batch using every available core.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     */
+    public BatchSimulation(PlayerTeam playerTeam, ComTeam comTeam) {
+        this(playerTeam, comTeam, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor of a batch using a fixed number of worker threads.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param parallelism The number of worker threads
+     */
+    public BatchSimulation(PlayerTeam playerTeam, ComTeam comTeam, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.playerTeam = playerTeam;
+        this.comTeam = comTeam;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Get the number of worker threads.
+     * @return The number of worker threads
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Get the engine that plays the games.
+     * @return The simulation engine
+     */
+    public SimulationEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Set the engine that plays the games. VERIFY plays every game on both engines
+     * and fails if their box scores differ. COMPOSITION only plays the inning scores.
+     * @param engine The simulation engine
+     * @return This batch
+     */
+    public BatchSimulation setEngine(SimulationEngine engine) {
+        this.engine = engine;
+        prepared = false;
+        return this;
+    }
+
+    /**
+     * Get the table that moves runners on hits and walks.
+     * @return The base advancement table
+     */
+    public BaseAdvancementTable getBaseAdvancement() {
+        return baseAdvancement;
+    }
+
+    /**
+     * Set the table that moves runners on hits and walks.
+     * @param baseAdvancement The base advancement table
+     * @return This batch
+     */
+    public BatchSimulation setBaseAdvancement(BaseAdvancementTable baseAdvancement) {
+        this.baseAdvancement = baseAdvancement;
+        prepared = false;
+        return this;
+    }
+
+    /**
+     * Get the level of detail games are played at.
+     * @return The fidelity
+     */
+    public Fidelity getFidelity() {
+        return fidelity;
+    }
+
+    /**
+     * Set the level of detail games are played at. PLATE_APPEARANCE draws each plate appearance once
+     * instead of pitch by pitch, which is much faster but only keeps the expected pitch total.
+     * @param fidelity The fidelity
+     * @return This batch
+     */
+    public BatchSimulation setFidelity(Fidelity fidelity) {
+        this.fidelity = fidelity;
+        prepared = false;
+        return this;
+    }
+
+    /**
+     * Check whether games are played in antithetic pairs.
+     * @return true if games are paired
+     */
+    public boolean isAntithetic() {
+        return antithetic;
+    }
+
+    /**
+     * Set whether games are played in antithetic pairs, each odd game on the mirror of the stream of the game before.
+     * @param antithetic true to pair the games
+     * @return This batch
+     */
+    public BatchSimulation setAntithetic(boolean antithetic) {
+        this.antithetic = antithetic;
+        prepared = false;
+        return this;
+    }
+
+    /**
+     * Get the algorithm of the random stream of every game.
+     * @return The random algorithm
+     */
+    public RandomAlgorithm getRandomAlgorithm() {
+        return randomAlgorithm;
+    }
+
+    /**
+     * Set the algorithm of the random stream of every game.
+     * @param randomAlgorithm The random algorithm
+     * @return This batch
+     */
+    public BatchSimulation setRandomAlgorithm(RandomAlgorithm randomAlgorithm) {
+        this.randomAlgorithm = randomAlgorithm;
+        return this;
+    }
+
+    /**
+     * Run a batch of games and merge them into one result.
+     * @param games The number of games to play
+     * @param seed The batch seed, every game seed is derived from it
+     * @return BatchResult contains the totals of every game
+     */
+    public BatchResult run(int games, long seed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games cannot be negative");
+        }
+        return run(0, games, seed);
+    }
+
+    /**
+     * Run the games in [from, to) of a batch, the shard a worker process plays.
+     * Game i is seeded exactly like in run, so merging the shards of [0, games) gives the totals of run(games, seed).
+     * @param from The index of the first game
+     * @param to The index after the last game
+     * @param seed The batch seed, every game seed is derived from it
+     * @return BatchResult contains the totals of the games of the shard
+     */
+    public BatchResult run(int from, int to, long seed) {
+        checkRange(from, to);
+        prepare();
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            BatchResult batch = pool.invoke(new GameRangeTask(seed, from, to));
+            batch.setSeed(seed);
+            batch.setBatters(playerTeam.getBatterLineup());
+            batch.setPitchers(comTeam.getPitcherLineup());
+            return batch;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Check the teams and settings and solve what the engine and fidelity need, once for every range later played
+     * by runOnCallingThread. The solved tables are only read by games, so the ranges may run on many threads.
+     * @return This batch
+     */
+    BatchSimulation prepareRanges() {
+        prepare();
+        return this;
+    }
+
+    /**
+     * Run the games in [from, to) of a batch on the calling thread, for callers that already spread their tasks
+     * over a pool of their own. Games are seeded exactly like in run, but the seed and lineups are not set on the
+     * result, since it is meant to be merged into a batch that carries them.
+     * The batch must be prepared by prepareRanges, and not changed since.
+     * @param from The index of the first game
+     * @param to The index after the last game
+     * @param seed The batch seed, every game seed is derived from it
+     * @return BatchResult contains the totals of the games of the range
+     */
+    BatchResult runOnCallingThread(int from, int to, long seed) {
+        checkRange(from, to);
+        if (!prepared) {
+            throw new IllegalStateException("The batch must be prepared before its ranges are played");
+        }
+        return playGames(seed, from, to);
+    }
+
+    /**
+     * Check a range of games before playing it.
+     * @param from The index of the first game
+     * @param to The index after the last game
+     */
+    private void checkRange(int from, int to) {
+        if (from < 0 || to < from) {
+            throw new IllegalArgumentException("Invalid game range [" + from + ", " + to + ")");
+        }
+        if (antithetic && (from & 1) != 0) {
+            throw new IllegalArgumentException("An antithetic shard must start on an even game");
+        }
+    }
+
+    /**
+     * Run games in chunks until the target precision, the game limit or the time budget is reached.
+     * Games are numbered and seeded exactly like run, so stopping after n games gives the same totals as run(n, seed).
+     * @param target The stopping rule
+     * @param seed The batch seed, every game seed is derived from it
+     * @return BatchResult contains the totals, the intervals and why the batch stopped
+     */
+    public BatchResult runUntil(PrecisionTarget target, long seed) {
+        prepare();
+        for (TrackedStat stat : target.getStats()) {
+            if (engine == SimulationEngine.COMPOSITION && stat != TrackedStat.RUNS) {
+                throw new IllegalStateException("The composition engine only plays inning scores and cannot track "
+                        + stat.getName());
+            }
+        }
+        long start = System.nanoTime();
+        long budget = target.getTimeBudgetMillis() * 1_000_000L;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            BatchResult batch = new BatchResult(playerTeam.getTeamName(), comTeam.getTeamName());
+            batch.setSeed(seed);
+            batch.setBatters(playerTeam.getBatterLineup());
+            batch.setPitchers(comTeam.getPitcherLineup());
+            int played = 0;
+            int chunk = Math.min(MIN_PRECISION_GAMES, target.getMaxGames());
+            while (true) {
+                batch.merge(pool.invoke(new GameRangeTask(seed, played, played + chunk)));
+                played += chunk;
+                long elapsed = System.nanoTime() - start;
+
+                if (target.isReached(batch)) {
+                    batch.setStopReason(StopReason.PRECISION);
+                    return batch;
+                } else if (played >= target.getMaxGames()) {
+                    batch.setStopReason(StopReason.MAX_GAMES);
+                    return batch;
+                } else if (budget > 0 && elapsed >= budget) {
+                    batch.setStopReason(StopReason.TIME_BUDGET);
+                    return batch;
+                }
+
+                // aim a little past the estimate, but never more than double what has been played,
+                // fewer than a task's worth of games, or more than fits in the time left
+                long estimate = target.estimateGames(batch);
+                long next = Math.max(estimate + estimate / 10 - played, GAMES_PER_TASK);
+                next = Math.min(next, played);
+                if (budget > 0) {
+                    long affordable = (long) ((double) played * (budget - elapsed) / elapsed);
+                    next = Math.max(Math.min(next, affordable), GAMES_PER_TASK);
+                }
+                chunk = (int) Math.min(next + (antithetic ? next & 1 : 0), target.getMaxGames() - played);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Play the current lineup and a changed lineup on common random numbers, game i of both from the same seed.
+     * Games are not paired antithetically, and the lanes engine plays on the kernel.
+     * @param challenger The changed lineup, against the same rotation
+     * @param description What the changed lineup changes
+     * @param games The number of games each lineup plays
+     * @param seed The batch seed, every game seed is derived from it
+     * @return LineupComparison contains both lineups and their per game difference
+     */
+    public LineupComparison compare(PlayerTeam challenger, String description, int games, long seed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games cannot be negative");
+        }
+        prepare();
+        new Simulation(challenger, comTeam).validateTeamsBeforeSimulation();
+        MatchupTable challengerMatchups = solveMatchups(challenger);
+        InningCompositionEngine challengerComposition = solveInnings(challenger);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            LineupComparison comparison = pool.invoke(new ComparisonTask(description, seed, 0, games,
+                    challenger, challengerMatchups, challengerComposition));
+            comparison.setSeed(seed);
+            return comparison;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Check the teams and settings before a run and solve what the engine and fidelity need once per batch.
+     */
+    private void prepare() {
+        new Simulation(playerTeam, comTeam).validateTeamsBeforeSimulation();
+        if (fidelity == Fidelity.PLATE_APPEARANCE && engine == SimulationEngine.VERIFY) {
+            throw new IllegalStateException("The verify engine checks pitch by pitch games and cannot run at plate appearance fidelity");
+        }
+        if (antithetic && engine == SimulationEngine.LANES) {
+            throw new IllegalStateException("The lanes engine draws its own streams and cannot play antithetic pairs");
+        }
+        matchups = solveMatchups(playerTeam);
+        composition = solveInnings(playerTeam);
+        prepared = true;
+    }
+
+    /**
+     * Solve the plate appearances of a lineup at plate appearance fidelity.
+     * @param team The lineup
+     * @return The matchup table, null when playing pitch by pitch
+     */
+    private MatchupTable solveMatchups(PlayerTeam team) {
+        return fidelity == Fidelity.PLATE_APPEARANCE ? new MatchupTable(team, comTeam) : null;
+    }
+
+    /**
+     * Solve the inning types of a lineup on the composition engine.
+     * @param team The lineup
+     * @return The composition engine, null on any other engine
+     */
+    private InningCompositionEngine solveInnings(PlayerTeam team) {
+        return engine == SimulationEngine.COMPOSITION ? new InningCompositionEngine(team, comTeam, baseAdvancement) : null;
+    }
+
+    /**
+     * Get the bytes the current thread has allocated so far.
+     * @return The allocated bytes, -1 if the JVM cannot measure them
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * Add the bytes the current thread allocated since a reading to a batch.
+     * @param batch The batch played by the current thread
+     * @param before The reading of allocatedBytes before the games
+     */
+    private static void addAllocatedSince(BatchResult batch, long before) {
+        if (before >= 0) {
+            batch.addAllocatedBytes(allocatedBytes() - before);
+        }
+    }
+
+    /**
+     * Play every game of a range on the chosen engine on the calling thread.
+     * @param seed The batch seed
+     * @param from The index of the first game
+     * @param to The index after the last game
+     * @return BatchResult contains the games of the range
+     */
+    private BatchResult playGames(long seed, int from, int to) {
+        long allocatedBefore = allocatedBytes();
+        BatchResult batch = new BatchResult(playerTeam.getTeamName(), comTeam.getTeamName());
+        if (engine == SimulationEngine.LANES && matchups == null) {
+            new LaneKernel(playerTeam, comTeam, baseAdvancement, LaneKernel.DEFAULT_LANES, randomAlgorithm)
+                    .playGames(seed, from, to, batch);
+            addAllocatedSince(batch, allocatedBefore);
+            return batch;
+        }
+        LineupPlayer player = new LineupPlayer(playerTeam, matchups, composition);
+        for (int game = from; game < to; game++) {
+            long gameSeed = gameSeed(seed, game);
+            if (antithetic && game + 1 < to) {
+                batch.addPair(player.play(gameSeed, false, game), player.play(gameSeed, true, game + 1));
+                game++;
+            } else {
+                batch.add(player.play(gameSeed, false, game));
+            }
+        }
+        addAllocatedSince(batch, allocatedBefore);
+        return batch;
+    }
+
+    /**
+     * Derive the seed of one game from the batch seed, mixed with the SplitMix64 finalizer.
+     * @param seed The batch seed
+     * @param gameIndex The index of the game in the batch
+     * @return The seed of the game
+     */
+    public static long gameSeed(long seed, long gameIndex) {
+        long z = seed + (gameIndex + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Plays the games in [from, to), splitting in halves until a range is small enough to play directly.
+     * The split points depend only on the range, so the merge order is the same for any pool size.
+     */
+    private class GameRangeTask extends RecursiveTask<BatchResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        GameRangeTask(long seed, int from, int to) {
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BatchResult compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                return playGames(seed, from, to);
+            }
+
+            // pairs never straddle two tasks
+            int middle = antithetic ? ((from + to) >>> 1) & ~1 : (from + to) >>> 1;
+            GameRangeTask left = new GameRangeTask(seed, from, middle);
+            GameRangeTask right = new GameRangeTask(seed, middle, to);
+            left.fork();
+            BatchResult result = right.compute();
+            BatchResult leftResult = left.join();
+            leftResult.merge(result);
+            return leftResult;
+        }
+    }
+
+    /**
+     * Plays the games in [from, to) for both lineups, split the same way as GameRangeTask.
+     */
+    private class ComparisonTask extends RecursiveTask<LineupComparison> {
+        private static final long serialVersionUID = 1L;
+
+        private final String description;
+        private final long seed;
+        private final int from;
+        private final int to;
+        private final PlayerTeam challenger;
+        private final MatchupTable challengerMatchups;
+        private final InningCompositionEngine challengerComposition;
+
+        ComparisonTask(String description, long seed, int from, int to, PlayerTeam challenger,
+                       MatchupTable challengerMatchups, InningCompositionEngine challengerComposition) {
+            this.description = description;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+            this.challenger = challenger;
+            this.challengerMatchups = challengerMatchups;
+            this.challengerComposition = challengerComposition;
+        }
+
+        @Override
+        protected LineupComparison compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                LineupComparison comparison = new LineupComparison(description);
+                LineupPlayer basePlayer = new LineupPlayer(playerTeam, matchups, composition);
+                LineupPlayer challengerPlayer = new LineupPlayer(challenger, challengerMatchups, challengerComposition);
+                for (int game = from; game < to; game++) {
+                    long gameSeed = gameSeed(seed, game);
+                    comparison.add(basePlayer.play(gameSeed, false, game), challengerPlayer.play(gameSeed, false, game));
+                }
+                return comparison;
+            }
+
+            int middle = (from + to) >>> 1;
+            ComparisonTask left = new ComparisonTask(description, seed, from, middle, challenger,
+                    challengerMatchups, challengerComposition);
+            ComparisonTask right = new ComparisonTask(description, seed, middle, to, challenger,
+                    challengerMatchups, challengerComposition);
+            left.fork();
+            LineupComparison result = right.compute();
+            LineupComparison leftResult = left.join();
+            leftResult.merge(result);
+            return leftResult;
+        }
+    }
+
+    /**
+     * Plays single games of one lineup on the chosen engine. Holds a game kernel and the reusable contexts of its
+     * games, so every task needs its own.
+     */
+    private class LineupPlayer {
+        private final MatchupTable teamMatchups;
+        private final InningCompositionEngine teamComposition;
+        private final GameKernel kernel;
+        // mirrored games get their own context, so both games of an antithetic pair are alive together
+        private final SimulationContext context;
+        private final SimulationContext partner;
+        private final SimulationContext check;
+
+        LineupPlayer(PlayerTeam team, MatchupTable teamMatchups, InningCompositionEngine teamComposition) {
+            this.teamMatchups = teamMatchups;
+            this.teamComposition = teamComposition;
+            this.kernel = teamComposition != null || (engine == SimulationEngine.REFERENCE && teamMatchups == null)
+                    ? null : new GameKernel(team, comTeam, baseAdvancement, teamMatchups);
+            this.context = new SimulationContext(team, comTeam, baseAdvancement, randomAlgorithm);
+            this.partner = antithetic ? new SimulationContext(team, comTeam, baseAdvancement, randomAlgorithm) : null;
+            this.check = engine == SimulationEngine.VERIFY
+                    ? new SimulationContext(team, comTeam, baseAdvancement, randomAlgorithm) : null;
+        }
+
+        /**
+         * Play one game. The result is reused by the next game of the same kind, mirrored or not.
+         * @param gameSeed The seed of the game
+         * @param mirrored true to play on the mirror of the seed's stream
+         * @param game The index of the game in the batch
+         * @return SimulationResult contains the box score
+         */
+        SimulationResult play(long gameSeed, boolean mirrored, int game) {
+            SimulationContext current = mirrored ? partner : context;
+            RandomGenerator random = current.reset(gameSeed, mirrored);
+            if (teamComposition != null) {
+                return teamComposition.playGame(random, current.getResult());
+            }
+            if (engine == SimulationEngine.KERNEL || engine == SimulationEngine.LANES || teamMatchups != null) {
+                return kernel.playGame(random, current.getResult());
+            }
+            SimulationResult result = current.playReference();
+            if (engine == SimulationEngine.VERIFY
+                    && !result.hasSameBoxScore(kernel.playGame(check.reset(gameSeed, mirrored), check.getResult()))) {
+                throw new IllegalStateException("Game kernel diverged from the reference engine in game " + game);
+            }
+            return result;
+        }
+    }
+}
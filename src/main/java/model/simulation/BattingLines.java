@@ -0,0 +1,194 @@
+package model.simulation;
+
+import gameEnum.BattingStat;
+import model.inning.LineupCounters;
+import model.player.Batter;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Simulated batting line of every lineup slot over many games, reported next to the input rates of its batter.
+ * Engines count the plate appearances of a game in flat int counters laid out by LineupCounters, and a batch
+ * folds those arrays into longs and merges them like any other total.
+ * There are no errors, sacrifices or hit batters, so every run scored on a plate appearance is an RBI and every
+ * plate appearance that is not a walk is an at bat.
+ */
+public class BattingLines implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int LINEUP_SIZE = LineupCounters.LINEUP_SIZE;
+    private static final int LENGTH = LineupCounters.LENGTH;
+
+    private final long[] lines = new long[LENGTH];
+    // name and input rates of the batter of every slot, null until the lineup is set
+    private String[] names;
+    private double[] inputAverage;
+    private double[] inputOnBase;
+    private double[] inputOps;
+
+    /**
+     * Add the counters of one game.
+     * @param gameLines The flat counters of the game
+     */
+    public void add(int[] gameLines) {
+        for (int i = 0; i < LENGTH; i++) {
+            lines[i] += gameLines[i];
+        }
+    }
+
+    /**
+     * Fold the lines of other games of the same lineup into these.
+     * @param other The lines to merge, left unchanged
+     */
+    public void merge(BattingLines other) {
+        for (int i = 0; i < LENGTH; i++) {
+            lines[i] += other.lines[i];
+        }
+        if (names == null && other.names != null) {
+            names = other.names.clone();
+            inputAverage = other.inputAverage.clone();
+            inputOnBase = other.inputOnBase.clone();
+            inputOps = other.inputOps.clone();
+        }
+    }
+
+    /**
+     * Set the batters of the lineup, whose names and input rates are shown next to their lines.
+     * @param lineup The batting lineup in slot order
+     */
+    public void setBatters(List<Batter> lineup) {
+        if (lineup.size() != LINEUP_SIZE) {
+            throw new IllegalArgumentException("Batting lineup should be 9 batters!");
+        }
+        names = new String[LINEUP_SIZE];
+        inputAverage = new double[LINEUP_SIZE];
+        inputOnBase = new double[LINEUP_SIZE];
+        inputOps = new double[LINEUP_SIZE];
+        for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+            Batter batter = lineup.get(slot);
+            names[slot] = batter.getName();
+            inputAverage[slot] = batter.getAVG();
+            inputOnBase[slot] = batter.getOBP();
+            inputOps[slot] = batter.getOPS();
+        }
+    }
+
+    /**
+     * Get one total of a slot.
+     * @param slot The lineup slot, from 0 to 8
+     * @param stat The stat
+     * @return The total over every game
+     */
+    public long get(int slot, BattingStat stat) {
+        if (slot < 0 || slot >= LINEUP_SIZE) {
+            throw new IllegalArgumentException("Lineup slot must be between 0 and 8");
+        }
+        return lines[LineupCounters.index(slot, stat)];
+    }
+
+    /**
+     * Get the plate appearances of the whole lineup.
+     * @return The plate appearances over every slot and game
+     */
+    public long getPlateAppearances() {
+        long total = 0;
+        for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+            total += get(slot, BattingStat.PLATE_APPEARANCES);
+        }
+        return total;
+    }
+
+    /**
+     * Get the simulated batting average of a slot.
+     * @param slot The lineup slot
+     * @return Hits per at bat, 0 without at bats
+     */
+    public double getAverage(int slot) {
+        return ratio(get(slot, BattingStat.HITS), atBats(slot));
+    }
+
+    /**
+     * Get the simulated on-base percentage of a slot.
+     * @param slot The lineup slot
+     * @return Hits and walks per plate appearance, 0 without plate appearances
+     */
+    public double getOnBasePercentage(int slot) {
+        return ratio(get(slot, BattingStat.HITS) + get(slot, BattingStat.WALKS),
+                get(slot, BattingStat.PLATE_APPEARANCES));
+    }
+
+    /**
+     * Get the simulated slugging percentage of a slot.
+     * @param slot The lineup slot
+     * @return Total bases per at bat, 0 without at bats
+     */
+    public double getSlugging(int slot) {
+        long totalBases = get(slot, BattingStat.SINGLES) + 2 * get(slot, BattingStat.DOUBLES)
+                + 3 * get(slot, BattingStat.TRIPLES) + 4 * get(slot, BattingStat.HOME_RUNS);
+        return ratio(totalBases, atBats(slot));
+    }
+
+    /**
+     * Get the simulated on-base plus slugging of a slot.
+     * @param slot The lineup slot
+     * @return OBP plus SLG
+     */
+    public double getOps(int slot) {
+        return getOnBasePercentage(slot) + getSlugging(slot);
+    }
+
+    /**
+     * Get the at bats of a slot.
+     * @param slot The lineup slot
+     * @return Plate appearances that were not walks
+     */
+    private long atBats(int slot) {
+        return get(slot, BattingStat.PLATE_APPEARANCES) - get(slot, BattingStat.WALKS);
+    }
+
+    /**
+     * Divide two totals.
+     * @param numerator The numerator
+     * @param denominator The denominator
+     * @return The ratio, 0 when the denominator is 0
+     */
+    private static double ratio(long numerator, long denominator) {
+        return denominator == 0 ? 0.0 : (double) numerator / denominator;
+    }
+
+    /**
+     * Build the table of every slot's simulated slash line next to its batter's input rates.
+     * @param games The games the lines were counted over
+     * @return The table, one row per slot
+     */
+    String getTable(long games) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Batting Lines:\n");
+        sb.append(String.format("%-4s %-20s %6s %6s %6s %6s %6s %6s | %6s %6s %6s\n", "Slot", "Batter", "PA/G",
+                "RBI/G", "AVG", "OBP", "SLG", "OPS", "In AVG", "In OBP", "In OPS"));
+        for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+            String name = names == null ? "Slot " + (slot + 1) : names[slot];
+            sb.append(String.format("%-4d %-20s %6.3f %6.3f %6.3f %6.3f %6.3f %6.3f", slot + 1, name,
+                    perGame(slot, BattingStat.PLATE_APPEARANCES, games), perGame(slot, BattingStat.RBI, games),
+                    getAverage(slot), getOnBasePercentage(slot), getSlugging(slot), getOps(slot)));
+            if (names == null) {
+                sb.append(" |\n");
+            } else {
+                sb.append(String.format(" | %6.3f %6.3f %6.3f\n", inputAverage[slot], inputOnBase[slot],
+                        inputOps[slot]));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Get one total of a slot per game.
+     * @param slot The lineup slot
+     * @param stat The stat
+     * @param games The games the lines were counted over
+     * @return The per game average
+     */
+    private double perGame(int slot, BattingStat stat, long games) {
+        return ratio(get(slot, stat), games);
+    }
+}
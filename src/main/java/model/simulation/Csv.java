@@ -0,0 +1,22 @@
+package model.simulation;
+
+/**
+ * Quoting of the fields of the CSV files written by the simulations, following RFC 4180.
+ */
+final class Csv {
+
+    private Csv() {
+    }
+
+    /**
+     * Quote a field of a row when it holds a comma, a quote or a line break.
+     * @param field The field
+     * @return The field, quoted if needed
+     */
+    static String quote(String field) {
+        if (field.contains(",") || field.contains("\"") || field.contains("\n") || field.contains("\r")) {
+            return "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+        return field;
+    }
+}
@@ -0,0 +1,417 @@
+package model.simulation;
+
+import gameEnum.Balls;
+import gameEnum.BaseEvent;
+import gameEnum.BattingStat;
+import gameEnum.Hits;
+import gameEnum.Outs;
+import gameEnum.PitchCategory;
+import gameEnum.PitchResult;
+import gameEnum.PitchType;
+import gameEnum.Strikes;
+import model.inning.BaseAdvancementTable;
+import model.inning.LineupCounters;
+import model.inning.RotationCounters;
+import model.player.Batter;
+import model.player.BatterProfile;
+import model.player.PitchMixSampler;
+import model.player.Pitcher;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless game engine that plays the same rules as Simulation and RegularInning on primitive state.
+ * Lineup and pitcher data are compiled into arrays once, the count and outs are ints and the bases a 3-bit state
+ * moved through a BaseAdvancementTable, so a game allocates nothing until its box score is returned.
+ * Random draws are taken in the same order as RegularInning, so the same random source gives the same box score
+ * from both engines. A kernel keeps the state of the game being played and must not be shared between threads.
+ * Given a MatchupTable the kernel plays at plate appearance fidelity instead: every plate appearance is one draw
+ * from the solved outcome distribution, the pitch total is the expected count and pitch types are not tracked.
+ * Pitch by pitch, every pitch can also be recorded into a PitchLog, which costs one null check per pitch when off.
+ */
+public final class GameKernel {
+    private static final PitchType[] PITCH_TYPES = PitchType.values();
+    private static final BaseEvent[] EVENTS = BaseEvent.values();
+    private static final int INNINGS = 9;
+    private static final int LINEUP_SIZE = 9;
+    private static final int MAX_OUTS = Outs.THREE.ordinal() + 1;
+    private static final int MAX_STRIKES = Strikes.THREE.ordinal() + 1;
+    private static final int MAX_BALLS = Balls.FOUR.ordinal() + 1;
+    /** Index of the pitcher in the rotation for every inning, same as Simulation. */
+    static final int[] PITCHER_BY_INNING = {0, 0, 0, 0, 0, 1, 1, 2, 2};
+    /** Innings pitched by every pitcher of the rotation in a game, following PITCHER_BY_INNING. */
+    static final int[] INNINGS_OF_SLOT = {5, 2, 2};
+
+    private final String playerTeamName;
+    private final String comTeamName;
+
+    // compiled lineup, indexed by lineup slot
+    private final double[] zoneSwing = new double[LINEUP_SIZE];
+    private final double[] zoneContact = new double[LINEUP_SIZE];
+    private final double[] chaseSwing = new double[LINEUP_SIZE];
+    private final double[] chaseContact = new double[LINEUP_SIZE];
+    private final BatterProfile[] profiles = new BatterProfile[LINEUP_SIZE];
+
+    // compiled rotation, indexed by pitcher slot
+    private final double[] strikeRate = new double[3];
+    private final PitchMixSampler[] pitchMix = new PitchMixSampler[3];
+    private final BaseAdvancementTable baseAdvancement;
+    // solved plate appearances, null when playing pitch by pitch
+    private final MatchupTable matchups;
+    // play-by-play of the game being played, null when not recording
+    private PitchLog pitchLog;
+
+    // state of the game being played
+    private int inning;
+    private int outs;
+    private int bases;
+    private final int[] inningRuns = new int[INNINGS];
+    private final int[] pitchTypeCounts = new int[PITCH_TYPES.length];
+    private int pitches;
+    private int ballsThrown;
+    private double expectedPitches;
+    private int hits;
+    private int singles;
+    private int doubles;
+    private int triples;
+    private int homeRuns;
+    private int strikeouts;
+    private int walks;
+    // batting line of every lineup slot, laid out by LineupCounters
+    private final int[] battingLines = new int[LineupCounters.LENGTH];
+    // pitching line of every pitcher slot, laid out by RotationCounters
+    private final int[] pitchingLines = new int[RotationCounters.LENGTH];
+    // outcome of the last plate appearance, null for an out in play
+    private BattingStat outcome;
+
+    /**
+     * Constructor that compiles both lineups with the standard base running rules.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     */
+    public GameKernel(PlayerTeam playerTeam, ComTeam comTeam) {
+        this(playerTeam, comTeam, BaseAdvancementTable.STANDARD);
+    }
+
+    /**
+     * Constructor that compiles both lineups.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param baseAdvancement The table that moves runners on hits and walks
+     */
+    public GameKernel(PlayerTeam playerTeam, ComTeam comTeam, BaseAdvancementTable baseAdvancement) {
+        this(playerTeam, comTeam, baseAdvancement, null);
+    }
+
+    /**
+     * Constructor that compiles both lineups and plays at plate appearance fidelity when given a matchup table.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param baseAdvancement The table that moves runners on hits and walks
+     * @param matchups The solved plate appearances of the two lineups, null to play pitch by pitch
+     */
+    public GameKernel(PlayerTeam playerTeam, ComTeam comTeam, BaseAdvancementTable baseAdvancement,
+                      MatchupTable matchups) {
+        this.baseAdvancement = baseAdvancement;
+        this.matchups = matchups;
+        new Simulation(playerTeam, comTeam).validateTeamsBeforeSimulation();
+        this.playerTeamName = playerTeam.getTeamName();
+        this.comTeamName = comTeam.getTeamName();
+
+        List<Batter> lineup = playerTeam.getBatterLineup();
+        if (lineup.size() != LINEUP_SIZE) {
+            throw new IllegalStateException("Batting lineup should be 9 batters!");
+        }
+        for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+            Batter batter = lineup.get(slot);
+            zoneSwing[slot] = batter.getZoneSwing();
+            zoneContact[slot] = batter.getZoneContact();
+            chaseSwing[slot] = batter.getChaseSwing();
+            chaseContact[slot] = batter.getChaseContact();
+            profiles[slot] = batter.getProfile();
+        }
+
+        List<Pitcher> rotation = comTeam.getPitcherLineup();
+        for (int slot = 0; slot < strikeRate.length; slot++) {
+            Pitcher pitcher = rotation.get(slot);
+            strikeRate[slot] = pitcher.getStrikesRate();
+            pitchMix[slot] = pitcher.getPitchMixSampler();
+        }
+    }
+
+    /**
+     * Record every pitch of the following games into a log, which is cleared at the start of every game.
+     * @param pitchLog The log, null to stop recording
+     */
+    public void setPitchLog(PitchLog pitchLog) {
+        if (pitchLog != null && matchups != null) {
+            throw new IllegalStateException("Pitches are only recorded at pitch fidelity");
+        }
+        this.pitchLog = pitchLog;
+    }
+
+    /**
+     * Play a full 9-inning game.
+     * @param random The random source of the game
+     * @return SimulationResult contains the box score, without the inning details
+     */
+    public SimulationResult playGame(RandomGenerator random) {
+        return playGame(random, new SimulationResult(playerTeamName, comTeamName));
+    }
+
+    /**
+     * Play a full 9-inning game into a given result, so a worker can reuse one result for every game.
+     * @param random The random source of the game
+     * @param result A new or reset result to fill
+     * @return The filled result, without the inning details
+     */
+    public SimulationResult playGame(RandomGenerator random, SimulationResult result) {
+        Arrays.fill(inningRuns, 0);
+        Arrays.fill(pitchTypeCounts, 0);
+        Arrays.fill(battingLines, 0);
+        Arrays.fill(pitchingLines, 0);
+        pitches = ballsThrown = hits = singles = doubles = triples = homeRuns = strikeouts = walks = 0;
+        expectedPitches = 0.0;
+        if (pitchLog != null) {
+            pitchLog.clear();
+        }
+
+        int slot = 0;
+        int total = 0;
+        for (inning = 0; inning < INNINGS; inning++) {
+            int pitcher = PITCHER_BY_INNING[inning];
+            int runs = 0;
+            outs = 0;
+            bases = 0;
+            while (outs < MAX_OUTS) {
+                int firstPitch = pitches;
+                int firstBall = ballsThrown;
+                int scored = matchups == null ? plateAppearance(random, pitcher, slot)
+                        : sampledPlateAppearance(random, pitcher, slot);
+                LineupCounters.addPlateAppearance(battingLines, slot, outcome, scored);
+                RotationCounters.addPlateAppearance(pitchingLines, pitcher, outcome, scored, pitches - firstPitch,
+                        ballsThrown - firstBall);
+                runs += scored;
+                slot = slot + 1 == LINEUP_SIZE ? 0 : slot + 1;
+            }
+            inningRuns[inning] = runs;
+            total += runs;
+        }
+        if (matchups != null) {
+            pitches = (int) Math.round(expectedPitches);
+        }
+        return toResult(total, result);
+    }
+
+    /**
+     * Play one plate appearance with a single draw from its solved outcome distribution.
+     * @param random The random source of the game
+     * @param pitcher The pitcher slot on the mound
+     * @param batter The lineup slot at the plate
+     * @return The runs scored on the play
+     */
+    private int sampledPlateAppearance(RandomGenerator random, int pitcher, int batter) {
+        expectedPitches += matchups.getExpectedPitches(pitcher, batter);
+        int sampled = matchups.sample(pitcher, batter, random);
+        if (sampled == MatchupTable.STRIKEOUT) {
+            outs++;
+            strikeouts++;
+            outcome = BattingStat.STRIKEOUTS;
+            return 0;
+        }
+
+        BaseEvent event = EVENTS[sampled];
+        switch (event) {
+            case OUT:
+                outs++;
+                outcome = null;
+                return 0;
+            case WALK:
+                walks++;
+                outcome = BattingStat.WALKS;
+                break;
+            case SINGLE:
+                hits++;
+                singles++;
+                outcome = BattingStat.SINGLES;
+                break;
+            case DOUBLE:
+                hits++;
+                doubles++;
+                outcome = BattingStat.DOUBLES;
+                break;
+            case TRIPLE:
+                hits++;
+                triples++;
+                outcome = BattingStat.TRIPLES;
+                break;
+            default:
+                hits++;
+                homeRuns++;
+                outcome = BattingStat.HOME_RUNS;
+        }
+        return advance(event);
+    }
+
+    /**
+     * Play one plate appearance.
+     * @param random The random source of the game
+     * @param pitcher The pitcher slot on the mound
+     * @param batter The lineup slot at the plate
+     * @return The runs scored on the play
+     */
+    private int plateAppearance(RandomGenerator random, int pitcher, int batter) {
+        int strikes = 0;
+        int balls = 0;
+
+        while (true) {
+            PitchType pitchType = pitchMix[pitcher].nextPitchType(random);
+            pitches++;
+            pitchTypeCounts[pitchType.ordinal()]++;
+
+            PitchResult result;
+            if (random.nextDouble() < strikeRate[pitcher]) {
+                if (random.nextDouble() < zoneSwing[batter]) {
+                    if (random.nextDouble() < zoneContact[batter]) {
+                        return ballInPlay(random, pitcher, batter, pitchType, balls, strikes);
+                    }
+                    result = PitchResult.SWINGING_STRIKE;
+                } else {
+                    result = PitchResult.CALLED_STRIKE;
+                }
+                strikes++;
+            } else if (random.nextDouble() < chaseSwing[batter]) {
+                if (random.nextDouble() < chaseContact[batter]) {
+                    return ballInPlay(random, pitcher, batter, pitchType, balls, strikes);
+                }
+                result = PitchResult.SWINGING_STRIKE;
+                strikes++;
+            } else {
+                result = PitchResult.BALL;
+                balls++;
+                ballsThrown++;
+            }
+
+            int runs = 0;
+            if (strikes >= MAX_STRIKES) {
+                outs++;
+                strikeouts++;
+                outcome = BattingStat.STRIKEOUTS;
+            } else if (balls >= MAX_BALLS) {
+                walks++;
+                outcome = BattingStat.WALKS;
+                runs = advance(BaseEvent.WALK);
+            }
+            if (pitchLog != null) {
+                record(pitcher, batter, pitchType, result, result == PitchResult.BALL ? balls - 1 : balls,
+                        result == PitchResult.BALL ? strikes : strikes - 1, runs);
+            }
+            if (strikes >= MAX_STRIKES || balls >= MAX_BALLS) {
+                return runs;
+            }
+        }
+    }
+
+    /**
+     * Resolve a ball put in play from the batter's compiled profile.
+     * @param random The random source of the game
+     * @param pitcher The pitcher slot on the mound
+     * @param batter The lineup slot at the plate
+     * @param pitchType The type of the pitch hit
+     * @param balls The balls before the pitch
+     * @param strikes The strikes before the pitch
+     * @return The runs scored on the play
+     */
+    private int ballInPlay(RandomGenerator random, int pitcher, int batter, PitchType pitchType, int balls,
+                           int strikes) {
+        BatterProfile profile = profiles[batter];
+        PitchCategory category = pitchType.getCategory();
+        if (random.nextDouble() >= profile.getHitProbability(category)) {
+            outs++;
+            outcome = null;
+            if (pitchLog != null) {
+                record(pitcher, batter, pitchType, PitchResult.IN_PLAY_OUT, balls, strikes, 0);
+            }
+            return 0;
+        }
+
+        hits++;
+        Hits hitType = profile.getHitType(category, random.nextDouble());
+        outcome = BattingStat.fromHit(hitType);
+        switch (hitType) {
+            case SINGLE:
+                singles++;
+                break;
+            case DOUBLE:
+                doubles++;
+                break;
+            case TRIPLE:
+                triples++;
+                break;
+            default:
+                homeRuns++;
+        }
+        int runs = advance(BaseEvent.fromHit(hitType));
+        if (pitchLog != null) {
+            record(pitcher, batter, pitchType, PitchResult.fromHit(hitType), balls, strikes, runs);
+        }
+        return runs;
+    }
+
+    /**
+     * Add the pitch just played to the log, with the outs and bases it left.
+     * @param pitcher The pitcher slot on the mound
+     * @param batter The lineup slot at the plate
+     * @param pitchType The type of the pitch
+     * @param result The result of the pitch
+     * @param balls The balls before the pitch
+     * @param strikes The strikes before the pitch
+     * @param runs The runs scored on the pitch
+     */
+    private void record(int pitcher, int batter, PitchType pitchType, PitchResult result, int balls, int strikes,
+                        int runs) {
+        pitchLog.add(PitchLog.pack(inning + 1, pitcher, batter, pitchType, result, balls, strikes, outs, bases,
+                runs));
+    }
+
+    /**
+     * Move the runners for an event through the advancement table.
+     * @param event The event at the plate
+     * @return The runs scored on the event
+     */
+    private int advance(BaseEvent event) {
+        int transition = baseAdvancement.transition(bases, event);
+        bases = BaseAdvancementTable.basesOf(transition);
+        return BaseAdvancementTable.runsOf(transition);
+    }
+
+    /**
+     * Copy the box score of the finished game into a result.
+     * @param total The runs of the game
+     * @param result A new or reset result
+     * @return SimulationResult contains the box score
+     */
+    private SimulationResult toResult(int total, SimulationResult result) {
+        result.setPlayerTeamScore(total);
+        System.arraycopy(inningRuns, 0, result.getInningScores(), 0, INNINGS);
+        result.addPitchesThrown(pitches);
+        for (PitchType type : PITCH_TYPES) {
+            result.addPitchTypeCount(type, pitchTypeCounts[type.ordinal()]);
+            result.addPitchCategoryCount(type.getCategory(), pitchTypeCounts[type.ordinal()]);
+        }
+        result.addHits(hits);
+        result.addSingles(singles);
+        result.addDoubles(doubles);
+        result.addTriples(triples);
+        result.addHR(homeRuns);
+        result.addStrikeouts(strikeouts);
+        result.addWalks(walks);
+        result.addBattingLines(battingLines);
+        result.addPitchingLines(pitchingLines);
+        return result;
+    }
+}
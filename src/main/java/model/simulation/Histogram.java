@@ -0,0 +1,130 @@
+package model.simulation;
+
+import java.io.Serializable;
+
+/**
+ * Fixed-bucket histogram of a non-negative per-game count, one long per value.
+ * The last bucket collects every value at or above it, so adding a game is one array increment and never
+ * allocates, and histograms of the same size merge bucket by bucket.
+ */
+public class Histogram implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // counts[v] games with value v, the last bucket every larger value too
+    private final long[] counts;
+    private long total = 0;
+
+    /**
+     * Constructor of an empty histogram.
+     * @param buckets The number of buckets, the last one holding every value from buckets - 1 up
+     */
+    public Histogram(int buckets) {
+        if (buckets < 2) {
+            throw new IllegalArgumentException("A histogram needs at least 2 buckets");
+        }
+        this.counts = new long[buckets];
+    }
+
+    /**
+     * Add one game.
+     * @param value The value of the game, 0 or more
+     */
+    public void add(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Histogram values cannot be negative");
+        }
+        counts[Math.min(value, counts.length - 1)]++;
+        total++;
+    }
+
+    /**
+     * Fold another histogram into this one.
+     * @param other The histogram to merge, left unchanged
+     */
+    public void merge(Histogram other) {
+        if (other.counts.length != counts.length) {
+            throw new IllegalArgumentException("Cannot merge histograms of " + counts.length + " and "
+                    + other.counts.length + " buckets");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+    }
+
+    /**
+     * Get the number of buckets.
+     * @return The number of buckets
+     */
+    public int getBuckets() {
+        return counts.length;
+    }
+
+    /**
+     * Get the number of games added.
+     * @return The number of games
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Get the number of games in one bucket.
+     * @param value The value, the last bucket counting every larger value too
+     * @return The number of games
+     */
+    public long getCount(int value) {
+        return value < 0 ? 0 : counts[Math.min(value, counts.length - 1)];
+    }
+
+    /**
+     * Get the share of the games with at most a value.
+     * @param value The value, below the last bucket
+     * @return The share, 0 before any game
+     */
+    public double getShareAtMost(int value) {
+        if (value >= counts.length - 1) {
+            throw new IllegalArgumentException("Values above " + (counts.length - 1) + " are not kept apart");
+        }
+        if (total == 0 || value < 0) {
+            return 0.0;
+        }
+        long seen = 0;
+        for (int i = 0; i <= value; i++) {
+            seen += counts[i];
+        }
+        return (double) seen / total;
+    }
+
+    /**
+     * Get the share of the games with at least a value.
+     * @param value The value, at most the last bucket
+     * @return The share, 0 before any game
+     */
+    public double getShareAtLeast(int value) {
+        if (value > counts.length - 1) {
+            throw new IllegalArgumentException("Values above " + (counts.length - 1) + " are not kept apart");
+        }
+        return total == 0 ? 0.0 : 1.0 - getShareAtMost(value - 1);
+    }
+
+    /**
+     * Get the value below which a share of the games fall, by nearest rank.
+     * @param share The share of the games, in (0, 1]
+     * @return The value at the percentile, the last bucket when it falls there, 0 before any game
+     */
+    public int getPercentile(double share) {
+        if (!(share > 0) || share > 1) {
+            throw new IllegalArgumentException("Percentile share must be in (0, 1]");
+        }
+        long rank = (long) Math.ceil(share * total);
+        long seen = 0;
+        for (int value = 0; value < counts.length; value++) {
+            seen += counts[value];
+            if (seen >= rank && seen > 0) {
+                return value;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,142 @@
+package model.simulation;
+
+import model.inning.BaseAdvancementTable;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Game engine that plays whole innings instead of plate appearances.
+ * An inning only depends on the pitcher and the leadoff slot, so the exact joint distribution of
+ * (runs, next leadoff) is solved once for each of the 3 x 9 inning types and kept as a cumulative table
+ * ordered by runs, so a game is 9 chained draws and a higher draw never scores fewer runs, which keeps games
+ * on antithetic or common random numbers in step. Only the inning scores are played, the rest of the box score stays empty.
+ * The engine is immutable once built, so one instance can be shared by every thread.
+ */
+public final class InningCompositionEngine {
+    private static final int INNINGS = 9;
+    private static final int LINEUP_SIZE = 9;
+    private static final int WIDTH = MarkovChainEngine.MAX_INNING_RUNS + 1;
+
+    private final String playerTeamName;
+    private final String comTeamName;
+    // [pitcher slot][leadoff slot], innings with a chance of happening ordered by runs then next leadoff,
+    // as next leadoff * WIDTH + runs and the probability of that inning or one scoring fewer runs
+    private final int[][][] outcomes;
+    private final double[][][] cumulative;
+
+    /**
+     * Constructor with the standard base running rules.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     */
+    public InningCompositionEngine(PlayerTeam playerTeam, ComTeam comTeam) {
+        this(playerTeam, comTeam, BaseAdvancementTable.STANDARD);
+    }
+
+    /**
+     * Constructor that solves every inning type of the matchup.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param baseAdvancement The table that moves runners on hits and walks
+     */
+    public InningCompositionEngine(PlayerTeam playerTeam, ComTeam comTeam, BaseAdvancementTable baseAdvancement) {
+        MarkovChainEngine chain = new MarkovChainEngine(playerTeam, comTeam, baseAdvancement);
+        this.playerTeamName = playerTeam.getTeamName();
+        this.comTeamName = comTeam.getTeamName();
+        this.outcomes = new int[chain.getPitcherCount()][LINEUP_SIZE][];
+        this.cumulative = new double[chain.getPitcherCount()][LINEUP_SIZE][];
+        for (int pitcher = 0; pitcher < outcomes.length; pitcher++) {
+            for (int leadoff = 0; leadoff < LINEUP_SIZE; leadoff++) {
+                compile(pitcher, leadoff, chain.solveInning(pitcher, leadoff));
+            }
+        }
+    }
+
+    /**
+     * Keep the innings of one type that can happen, ordered by runs, with their cumulative probability.
+     * @param pitcher The pitcher slot on the mound
+     * @param leadoff The lineup slot leading off
+     * @param distribution The probability of every inning, as [next leadoff * WIDTH + runs]
+     */
+    private void compile(int pitcher, int leadoff, double[] distribution) {
+        double mass = 0.0;
+        int count = 0;
+        for (double p : distribution) {
+            mass += p;
+            count += p > 0 ? 1 : 0;
+        }
+        int[] kept = new int[count];
+        double[] total = new double[count];
+        int i = 0;
+        double sum = 0.0;
+        for (int runs = 0; runs < WIDTH; runs++) {
+            for (int next = 0; next < LINEUP_SIZE; next++) {
+                double p = distribution[next * WIDTH + runs];
+                if (p > 0) {
+                    sum += p / mass;
+                    kept[i] = next * WIDTH + runs;
+                    total[i++] = sum;
+                }
+            }
+        }
+        // the last inning takes whatever rounding error is left
+        total[count - 1] = 1.0;
+        outcomes[pitcher][leadoff] = kept;
+        cumulative[pitcher][leadoff] = total;
+    }
+
+    /**
+     * Get the probability of an inning ending with some runs and the next leadoff slot.
+     * @param pitcher The pitcher slot on the mound
+     * @param leadoff The lineup slot leading off
+     * @param runs The runs scored in the inning
+     * @param nextLeadoff The lineup slot leading off the next inning
+     * @return The probability of the inning
+     */
+    public double getInningProbability(int pitcher, int leadoff, int runs, int nextLeadoff) {
+        int[] kept = outcomes[pitcher][leadoff];
+        double[] total = cumulative[pitcher][leadoff];
+        for (int i = 0; i < kept.length; i++) {
+            if (kept[i] == nextLeadoff * WIDTH + runs) {
+                return i == 0 ? total[0] : total[i] - total[i - 1];
+            }
+        }
+        return 0.0;
+    }
+
+    /**
+     * Play a full 9-inning game with one draw per inning.
+     * @param random The random source of the game
+     * @return SimulationResult contains the inning scores and the total
+     */
+    public SimulationResult playGame(RandomGenerator random) {
+        return playGame(random, new SimulationResult(playerTeamName, comTeamName));
+    }
+
+    /**
+     * Play a full 9-inning game with one draw per inning into a given result.
+     * @param random The random source of the game
+     * @param result A new or reset result to fill
+     * @return The filled result with the inning scores and the total
+     */
+    public SimulationResult playGame(RandomGenerator random, SimulationResult result) {
+        int[] inningScores = result.getInningScores();
+        int slot = 0;
+        int total = 0;
+        for (int inning = 0; inning < INNINGS; inning++) {
+            int pitcher = GameKernel.PITCHER_BY_INNING[inning];
+            // first inning whose cumulative probability is above the draw
+            int found = Arrays.binarySearch(cumulative[pitcher][slot], random.nextDouble());
+            int outcome = outcomes[pitcher][slot][found < 0 ? -found - 1 : found + 1];
+            slot = outcome / WIDTH;
+            inningScores[inning] = outcome % WIDTH;
+            total += inningScores[inning];
+        }
+
+        result.setPlayerTeamScore(total);
+        return result;
+    }
+}
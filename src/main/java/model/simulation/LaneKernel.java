@@ -0,0 +1,487 @@
+package model.simulation;
+
+import gameEnum.Balls;
+import gameEnum.BaseEvent;
+import gameEnum.BattingStat;
+import gameEnum.Hits;
+import gameEnum.Outs;
+import gameEnum.PitchCategory;
+import gameEnum.PitchType;
+import gameEnum.RandomAlgorithm;
+import gameEnum.Strikes;
+import model.inning.BaseAdvancementTable;
+import model.inning.LineupCounters;
+import model.inning.RotationCounters;
+import model.player.Batter;
+import model.player.BatterProfile;
+import model.player.PitchMixSampler;
+import model.player.Pitcher;
+import model.random.RandomStreams;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless engine that plays several independent games in lockstep, one pitch per game per step.
+ * The state of every game lives in int lanes (structure of arrays) and every pitch takes the same fixed draws,
+ * so the strike, swing and contact decisions are one branch-free pass over all lanes. The pass runs on
+ * jdk.incubator.vector masks when the JVM was started with --add-modules jdk.incubator.vector, and on a scalar
+ * loop with the same results otherwise. A lane that finishes its
+ * game is refilled with the next game of the range, so the lanes stay full until the range runs out.
+ * The rules and probabilities are the same as GameKernel but draws are taken in a different order,
+ * so the two engines agree statistically rather than game by game.
+ * A lane kernel keeps the state of the games being played and must not be shared between threads.
+ */
+public final class LaneKernel {
+    /** Games played side by side by default. */
+    public static final int DEFAULT_LANES = 16;
+    /** Whether the boot layer of this JVM has the incubating vector module. */
+    static final boolean VECTOR_MODULE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    private static final PitchType[] PITCH_TYPES = PitchType.values();
+    private static final int INNINGS = 9;
+    private static final int LINEUP_SIZE = 9;
+    private static final int MAX_OUTS = Outs.THREE.ordinal() + 1;
+    private static final int MAX_STRIKES = Strikes.THREE.ordinal() + 1;
+    private static final int MAX_BALLS = Balls.FOUR.ordinal() + 1;
+    // result of one pitch, kept as a double so the vector pass stores it without leaving double lanes
+    private static final double BALL = 0;
+    private static final double STRIKE = 1;
+    private static final double IN_PLAY = 2;
+
+    private final String playerTeamName;
+    private final String comTeamName;
+    private final BaseAdvancementTable baseAdvancement;
+    private final int lanes;
+    // true to take the decisions on vector masks, only possible with the vector module
+    private boolean vectorized = VECTOR_MODULE;
+
+    // compiled lineup, indexed by lineup slot
+    private final double[] zoneSwing = new double[LINEUP_SIZE];
+    private final double[] zoneContact = new double[LINEUP_SIZE];
+    private final double[] chaseSwing = new double[LINEUP_SIZE];
+    private final double[] chaseContact = new double[LINEUP_SIZE];
+    private final BatterProfile[] profiles = new BatterProfile[LINEUP_SIZE];
+
+    // compiled rotation, indexed by pitcher slot
+    private final double[] strikeRate = new double[3];
+    private final PitchMixSampler[] pitchMix = new PitchMixSampler[3];
+
+    // state of the game in every lane, game is -1 for an idle lane
+    private final RandomAlgorithm randomAlgorithm;
+    private final RandomGenerator[] random;
+    // box score of a finished game, reused since the batch only reads it
+    private final SimulationResult finished;
+    private final int[] game;
+    private final int[] inning;
+    private final int[] pitcher;
+    private final int[] slot;
+    private final int[] outs;
+    private final int[] bases;
+    private final int[] strikes;
+    private final int[] balls;
+    // rates of the matchup at the plate in every lane, set when a plate appearance starts
+    private final double[] laneStrikeRate;
+    private final double[] laneZoneSwing;
+    private final double[] laneZoneContact;
+    private final double[] laneChaseSwing;
+    private final double[] laneChaseContact;
+
+    // draws and decisions of the current step
+    private final double[] pitchDraw;
+    private final double[] strikeDraw;
+    private final double[] swingDraw;
+    private final double[] contactDraw;
+    private final double[] pitchResult;
+
+    // box score of the game in every lane
+    private final int[] inningRuns;
+    private final int[] pitchTypeCounts;
+    private final int[] pitches;
+    private final int[] singles;
+    private final int[] doubles;
+    private final int[] triples;
+    private final int[] homeRuns;
+    private final int[] strikeouts;
+    private final int[] walks;
+    // batting lines of the game in every lane, one lineup of LineupCounters after another
+    private final int[] battingLines;
+    // pitching lines of the game in every lane, one rotation of RotationCounters after another
+    private final int[] pitchingLines;
+
+    /**
+     * Constructor with the default number of lanes.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param baseAdvancement The table that moves runners on hits and walks
+     */
+    public LaneKernel(PlayerTeam playerTeam, ComTeam comTeam, BaseAdvancementTable baseAdvancement) {
+        this(playerTeam, comTeam, baseAdvancement, DEFAULT_LANES);
+    }
+
+    /**
+     * Constructor with SplittableRandom streams.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param baseAdvancement The table that moves runners on hits and walks
+     * @param lanes The number of games played side by side
+     */
+    public LaneKernel(PlayerTeam playerTeam, ComTeam comTeam, BaseAdvancementTable baseAdvancement, int lanes) {
+        this(playerTeam, comTeam, baseAdvancement, lanes, RandomAlgorithm.SPLITTABLE);
+    }
+
+    /**
+     * Constructor that compiles both lineups and allocates the lanes.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param baseAdvancement The table that moves runners on hits and walks
+     * @param lanes The number of games played side by side
+     * @param randomAlgorithm The algorithm of the random stream of every game
+     */
+    public LaneKernel(PlayerTeam playerTeam, ComTeam comTeam, BaseAdvancementTable baseAdvancement, int lanes,
+                      RandomAlgorithm randomAlgorithm) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Lane count must be at least 1");
+        }
+        new Simulation(playerTeam, comTeam).validateTeamsBeforeSimulation();
+        this.playerTeamName = playerTeam.getTeamName();
+        this.comTeamName = comTeam.getTeamName();
+        this.baseAdvancement = baseAdvancement;
+        this.lanes = lanes;
+        this.randomAlgorithm = randomAlgorithm;
+
+        List<Batter> lineup = playerTeam.getBatterLineup();
+        for (int i = 0; i < LINEUP_SIZE; i++) {
+            Batter batter = lineup.get(i);
+            zoneSwing[i] = batter.getZoneSwing();
+            zoneContact[i] = batter.getZoneContact();
+            chaseSwing[i] = batter.getChaseSwing();
+            chaseContact[i] = batter.getChaseContact();
+            profiles[i] = batter.getProfile();
+        }
+        List<Pitcher> rotation = comTeam.getPitcherLineup();
+        for (int i = 0; i < strikeRate.length; i++) {
+            strikeRate[i] = rotation.get(i).getStrikesRate();
+            pitchMix[i] = rotation.get(i).getPitchMixSampler();
+        }
+
+        this.random = new RandomGenerator[lanes];
+        this.finished = new SimulationResult(playerTeamName, comTeamName);
+        this.game = new int[lanes];
+        this.inning = new int[lanes];
+        this.pitcher = new int[lanes];
+        this.slot = new int[lanes];
+        this.outs = new int[lanes];
+        this.bases = new int[lanes];
+        this.strikes = new int[lanes];
+        this.balls = new int[lanes];
+        this.laneStrikeRate = new double[lanes];
+        this.laneZoneSwing = new double[lanes];
+        this.laneZoneContact = new double[lanes];
+        this.laneChaseSwing = new double[lanes];
+        this.laneChaseContact = new double[lanes];
+        this.pitchDraw = new double[lanes];
+        this.strikeDraw = new double[lanes];
+        this.swingDraw = new double[lanes];
+        this.contactDraw = new double[lanes];
+        this.pitchResult = new double[lanes];
+        this.inningRuns = new int[lanes * INNINGS];
+        this.pitchTypeCounts = new int[lanes * PITCH_TYPES.length];
+        this.pitches = new int[lanes];
+        this.singles = new int[lanes];
+        this.doubles = new int[lanes];
+        this.triples = new int[lanes];
+        this.homeRuns = new int[lanes];
+        this.strikeouts = new int[lanes];
+        this.walks = new int[lanes];
+        this.battingLines = new int[lanes * LineupCounters.LENGTH];
+        this.pitchingLines = new int[lanes * RotationCounters.LENGTH];
+    }
+
+    /**
+     * Get the number of games played side by side.
+     * @return The number of lanes
+     */
+    public int getLanes() {
+        return lanes;
+    }
+
+    /**
+     * Check whether the decisions are taken on vector masks.
+     * @return true when vectorized, false on the scalar loop
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * Choose between the vector masks and the scalar loop, which give the same games.
+     * @param vectorized true for the vector masks
+     * @return This kernel
+     */
+    LaneKernel setVectorized(boolean vectorized) {
+        if (vectorized && !VECTOR_MODULE) {
+            throw new IllegalStateException("Vector decisions need --add-modules jdk.incubator.vector");
+        }
+        this.vectorized = vectorized;
+        return this;
+    }
+
+    /**
+     * Play the games in [from, to) of a batch and add them to a result.
+     * Game i draws from its own random stream seeded with BatchSimulation.gameSeed(seed, i).
+     * @param seed The batch seed
+     * @param from The index of the first game
+     * @param to The index after the last game
+     * @param batch The result the games are added to
+     */
+    public void playGames(long seed, int from, int to, BatchResult batch) {
+        int next = from;
+        int live = 0;
+        for (int lane = 0; lane < lanes; lane++) {
+            if (next < to) {
+                startGame(lane, next++, seed);
+                live++;
+            } else {
+                game[lane] = -1;
+            }
+        }
+
+        while (live > 0) {
+            drawPitches();
+            decidePitches();
+            for (int lane = 0; lane < lanes; lane++) {
+                if (game[lane] < 0 || !resolvePitch(lane)) {
+                    continue;
+                }
+                batch.add(toResult(lane));
+                if (next < to) {
+                    startGame(lane, next++, seed);
+                } else {
+                    game[lane] = -1;
+                    live--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Take the four draws of the next pitch in every live lane.
+     */
+    private void drawPitches() {
+        for (int lane = 0; lane < lanes; lane++) {
+            if (game[lane] >= 0) {
+                RandomGenerator laneRandom = random[lane];
+                pitchDraw[lane] = laneRandom.nextDouble();
+                strikeDraw[lane] = laneRandom.nextDouble();
+                swingDraw[lane] = laneRandom.nextDouble();
+                contactDraw[lane] = laneRandom.nextDouble();
+            }
+        }
+    }
+
+    /**
+     * Decide ball, strike or ball in play for every lane in one pass without branches on the draws.
+     * Idle lanes are decided too, their result is never read.
+     */
+    private void decidePitches() {
+        int first = 0;
+        if (vectorized) {
+            first = VectorPitchDecider.decide(lanes, strikeDraw, swingDraw, contactDraw, laneStrikeRate,
+                    laneZoneSwing, laneZoneContact, laneChaseSwing, laneChaseContact, BALL, STRIKE, IN_PLAY,
+                    pitchResult);
+        }
+        for (int lane = first; lane < lanes; lane++) {
+            boolean inZone = strikeDraw[lane] < laneStrikeRate[lane];
+            double swingRate = inZone ? laneZoneSwing[lane] : laneChaseSwing[lane];
+            double contactRate = inZone ? laneZoneContact[lane] : laneChaseContact[lane];
+            boolean swing = swingDraw[lane] < swingRate;
+            boolean contact = swing & contactDraw[lane] < contactRate;
+            pitchResult[lane] = contact ? IN_PLAY : (inZone | swing ? STRIKE : BALL);
+        }
+    }
+
+    /**
+     * Apply the decided pitch to one lane.
+     * @param lane The lane
+     * @return true if the game in the lane is over
+     */
+    private boolean resolvePitch(int lane) {
+        PitchType pitchType = pitchMix[pitcher[lane]].pitchTypeAt(pitchDraw[lane]);
+        pitches[lane]++;
+        pitchTypeCounts[lane * PITCH_TYPES.length + pitchType.ordinal()]++;
+
+        double result = pitchResult[lane];
+        if (result == IN_PLAY) {
+            ballInPlay(lane, pitchType.getCategory());
+        } else if (result == STRIKE) {
+            if (++strikes[lane] < MAX_STRIKES) {
+                return false;
+            }
+            outs[lane]++;
+            strikeouts[lane]++;
+            countPlateAppearance(lane, BattingStat.STRIKEOUTS, 0);
+        } else {
+            if (++balls[lane] < MAX_BALLS) {
+                return false;
+            }
+            walks[lane]++;
+            countPlateAppearance(lane, BattingStat.WALKS, advance(lane, BaseEvent.WALK));
+        }
+        return endPlateAppearance(lane);
+    }
+
+    /**
+     * Resolve a ball put in play in one lane, with two more draws from the lane's stream.
+     * @param lane The lane
+     * @param category The category of the pitch hit
+     */
+    private void ballInPlay(int lane, PitchCategory category) {
+        BatterProfile profile = profiles[slot[lane]];
+        RandomGenerator laneRandom = random[lane];
+        if (laneRandom.nextDouble() >= profile.getHitProbability(category)) {
+            outs[lane]++;
+            countPlateAppearance(lane, null, 0);
+            return;
+        }
+
+        Hits hitType = profile.getHitType(category, laneRandom.nextDouble());
+        switch (hitType) {
+            case SINGLE:
+                singles[lane]++;
+                break;
+            case DOUBLE:
+                doubles[lane]++;
+                break;
+            case TRIPLE:
+                triples[lane]++;
+                break;
+            default:
+                homeRuns[lane]++;
+        }
+        countPlateAppearance(lane, BattingStat.fromHit(hitType), advance(lane, BaseEvent.fromHit(hitType)));
+    }
+
+    /**
+     * Move the runners of one lane and credit the runs to the inning.
+     * @param lane The lane
+     * @param event The event at the plate
+     * @return The runs scored on the event
+     */
+    private int advance(int lane, BaseEvent event) {
+        int transition = baseAdvancement.transition(bases[lane], event);
+        bases[lane] = BaseAdvancementTable.basesOf(transition);
+        int runs = BaseAdvancementTable.runsOf(transition);
+        inningRuns[lane * INNINGS + inning[lane]] += runs;
+        return runs;
+    }
+
+    /**
+     * Count the plate appearance that just ended in one lane into the batting line of its slot and the pitching
+     * line of the pitcher on the mound. The count of the lane still holds the last pitch, except for a ball in play.
+     * @param lane The lane
+     * @param outcome The stat of the outcome, null for an out in play
+     * @param runs The runs scored on the plate appearance
+     */
+    private void countPlateAppearance(int lane, BattingStat outcome, int runs) {
+        LineupCounters.addPlateAppearance(battingLines, lane * LINEUP_SIZE + slot[lane], outcome, runs);
+        int inPlay = outcome == null || outcome.isHit() ? 1 : 0;
+        RotationCounters.addPlateAppearance(pitchingLines, lane * RotationCounters.ROTATION_SIZE + pitcher[lane],
+                outcome, runs, balls[lane] + strikes[lane] + inPlay, balls[lane]);
+    }
+
+    /**
+     * Send the next batter up, and move to the next inning on the third out.
+     * @param lane The lane
+     * @return true if the game in the lane is over
+     */
+    private boolean endPlateAppearance(int lane) {
+        strikes[lane] = 0;
+        balls[lane] = 0;
+        slot[lane] = slot[lane] + 1 == LINEUP_SIZE ? 0 : slot[lane] + 1;
+        if (outs[lane] >= MAX_OUTS) {
+            outs[lane] = 0;
+            bases[lane] = 0;
+            if (++inning[lane] == INNINGS) {
+                return true;
+            }
+            pitcher[lane] = GameKernel.PITCHER_BY_INNING[inning[lane]];
+        }
+        setMatchup(lane);
+        return false;
+    }
+
+    /**
+     * Copy the rates of the pitcher and batter now facing each other in one lane next to the draws.
+     * @param lane The lane
+     */
+    private void setMatchup(int lane) {
+        int batter = slot[lane];
+        laneStrikeRate[lane] = strikeRate[pitcher[lane]];
+        laneZoneSwing[lane] = zoneSwing[batter];
+        laneZoneContact[lane] = zoneContact[batter];
+        laneChaseSwing[lane] = chaseSwing[batter];
+        laneChaseContact[lane] = chaseContact[batter];
+    }
+
+    /**
+     * Clear a lane and start a game in it.
+     * @param lane The lane
+     * @param gameIndex The index of the game in the batch
+     * @param seed The batch seed
+     */
+    private void startGame(int lane, int gameIndex, long seed) {
+        random[lane] = RandomStreams.reseed(randomAlgorithm, random[lane], BatchSimulation.gameSeed(seed, gameIndex));
+        game[lane] = gameIndex;
+        inning[lane] = 0;
+        pitcher[lane] = GameKernel.PITCHER_BY_INNING[0];
+        slot[lane] = 0;
+        outs[lane] = 0;
+        bases[lane] = 0;
+        strikes[lane] = 0;
+        balls[lane] = 0;
+        Arrays.fill(inningRuns, lane * INNINGS, (lane + 1) * INNINGS, 0);
+        Arrays.fill(pitchTypeCounts, lane * PITCH_TYPES.length, (lane + 1) * PITCH_TYPES.length, 0);
+        pitches[lane] = singles[lane] = doubles[lane] = triples[lane] = homeRuns[lane] = 0;
+        strikeouts[lane] = walks[lane] = 0;
+        Arrays.fill(battingLines, lane * LineupCounters.LENGTH, (lane + 1) * LineupCounters.LENGTH, 0);
+        Arrays.fill(pitchingLines, lane * RotationCounters.LENGTH, (lane + 1) * RotationCounters.LENGTH, 0);
+        setMatchup(lane);
+    }
+
+    /**
+     * Copy the box score of the game finished in a lane into a result.
+     * @param lane The lane
+     * @return The reused result, valid until the next game finishes
+     */
+    private SimulationResult toResult(int lane) {
+        SimulationResult result = finished;
+        result.reset();
+        int[] scores = result.getInningScores();
+        System.arraycopy(inningRuns, lane * INNINGS, scores, 0, INNINGS);
+        int total = 0;
+        for (int score : scores) {
+            total += score;
+        }
+        result.setPlayerTeamScore(total);
+        result.addPitchesThrown(pitches[lane]);
+        for (PitchType type : PITCH_TYPES) {
+            int count = pitchTypeCounts[lane * PITCH_TYPES.length + type.ordinal()];
+            result.addPitchTypeCount(type, count);
+            result.addPitchCategoryCount(type.getCategory(), count);
+        }
+        int hits = singles[lane] + doubles[lane] + triples[lane] + homeRuns[lane];
+        result.addHits(hits);
+        result.addSingles(singles[lane]);
+        result.addDoubles(doubles[lane]);
+        result.addTriples(triples[lane]);
+        result.addHR(homeRuns[lane]);
+        result.addStrikeouts(strikeouts[lane]);
+        result.addWalks(walks[lane]);
+        result.addBattingLines(battingLines, lane * LineupCounters.LENGTH);
+        result.addPitchingLines(pitchingLines, lane * RotationCounters.LENGTH);
+        return result;
+    }
+}
@@ -0,0 +1,172 @@
+package model.simulation;
+
+import gameEnum.TrackedStat;
+
+/**
+ * Paired comparison of two lineups against the same rotation played on common random numbers.
+ * Game i of both lineups is driven by the same random stream, so the per game difference has far less
+ * variance than the difference of two independent batches and a small change shows up in fewer games.
+ */
+public class LineupComparison {
+    private static final TrackedStat[] TRACKED_STATS = TrackedStat.values();
+    private static final TrackedStat[] REPORTED_STATS = {TrackedStat.RUNS, TrackedStat.HITS, TrackedStat.STRIKEOUTS};
+
+    private final String description;
+    // indexed by TrackedStat ordinal
+    private final RunningStatistic[] base = new RunningStatistic[TRACKED_STATS.length];
+    private final RunningStatistic[] challenger = new RunningStatistic[TRACKED_STATS.length];
+    private final RunningStatistic[] difference = new RunningStatistic[TRACKED_STATS.length];
+    private Long seed = null;
+
+    /**
+     * Constructor of an empty comparison.
+     * @param description What the challenger lineup changes
+     */
+    public LineupComparison(String description) {
+        this.description = description;
+        for (int i = 0; i < TRACKED_STATS.length; i++) {
+            base[i] = new RunningStatistic();
+            challenger[i] = new RunningStatistic();
+            difference[i] = new RunningStatistic();
+        }
+    }
+
+    /**
+     * Add one game of both lineups played on the same random stream.
+     * @param baseGame The game of the current lineup
+     * @param challengerGame The game of the changed lineup
+     */
+    public void add(SimulationResult baseGame, SimulationResult challengerGame) {
+        for (TrackedStat stat : TRACKED_STATS) {
+            double baseValue = SimulationSummary.valueOf(baseGame, stat);
+            double challengerValue = SimulationSummary.valueOf(challengerGame, stat);
+            base[stat.ordinal()].add(baseValue);
+            challenger[stat.ordinal()].add(challengerValue);
+            difference[stat.ordinal()].add(challengerValue - baseValue);
+        }
+    }
+
+    /**
+     * Fold another comparison into this one.
+     * @param other The comparison to merge, left unchanged
+     */
+    public void merge(LineupComparison other) {
+        for (int i = 0; i < TRACKED_STATS.length; i++) {
+            base[i].merge(other.base[i]);
+            challenger[i].merge(other.challenger[i]);
+            difference[i].merge(other.difference[i]);
+        }
+    }
+
+    /**
+     * Get what the challenger lineup changes.
+     * @return The description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Get the number of games played by each lineup.
+     * @return The number of games
+     */
+    public long getGames() {
+        return base[0].getCount();
+    }
+
+    /**
+     * Get the per game statistic of the current lineup.
+     * @param stat The tracked statistic
+     * @return The running statistic
+     */
+    public RunningStatistic getBaseStatistic(TrackedStat stat) {
+        return base[stat.ordinal()];
+    }
+
+    /**
+     * Get the per game statistic of the changed lineup.
+     * @param stat The tracked statistic
+     * @return The running statistic
+     */
+    public RunningStatistic getChallengerStatistic(TrackedStat stat) {
+        return challenger[stat.ordinal()];
+    }
+
+    /**
+     * Get the per game difference, changed lineup minus current lineup.
+     * @param stat The tracked statistic
+     * @return The running statistic of the differences
+     */
+    public RunningStatistic getDifferenceStatistic(TrackedStat stat) {
+        return difference[stat.ordinal()];
+    }
+
+    /**
+     * Get the standard error the difference of means would have with two independent batches of the same size.
+     * @param stat The tracked statistic
+     * @return The independent standard error
+     */
+    public double getIndependentStandardError(TrackedStat stat) {
+        return Math.hypot(base[stat.ordinal()].getStandardError(), challenger[stat.ordinal()].getStandardError());
+    }
+
+    /**
+     * Get how many independent games one common random number game is worth for the difference of means.
+     * @param stat The tracked statistic
+     * @return The ratio of the independent variance to the paired variance
+     */
+    public double getVarianceReduction(TrackedStat stat) {
+        double paired = difference[stat.ordinal()].getVariance();
+        double independent = base[stat.ordinal()].getVariance() + challenger[stat.ordinal()].getVariance();
+        return paired == 0.0 ? 1.0 : independent / paired;
+    }
+
+    /**
+     * Get the batch seed the games were derived from.
+     * @return The seed, null if the comparison was not played from one
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Set the batch seed the games were derived from.
+     * @param seed The batch seed
+     */
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Generate a report of both lineups and their difference with 95% intervals.
+     * @return A formatted string containing the comparison
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=====Lineup Comparison=====\n\n");
+        sb.append(String.format("%s, %d games on common random numbers\n", description, getGames()));
+        if (seed != null) {
+            sb.append(String.format("Seed: %d\n", seed));
+        }
+        sb.append(String.format("%-12s %9s %9s %9s %9s %10s %9s\n", "", "Current", "Changed", "Diff", "+/-",
+                "Indep +/-", "Reduction"));
+        for (TrackedStat stat : REPORTED_STATS) {
+            RunningStatistic diff = difference[stat.ordinal()];
+            sb.append(String.format("%-12s %9.4f %9.4f %+9.4f %9.4f %10.4f %8.2fx\n", stat.getName(),
+                    base[stat.ordinal()].getMean(), challenger[stat.ordinal()].getMean(), diff.getMean(),
+                    diff.getHalfWidth(PrecisionTarget.Z_95),
+                    PrecisionTarget.Z_95 * getIndependentStandardError(stat), getVarianceReduction(stat)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Info of the comparison.
+     * @return A string of the run difference
+     */
+    @Override
+    public String toString() {
+        return String.format("%s: %+.3f runs per game over %d games", description,
+                difference[TrackedStat.RUNS.ordinal()].getMean(), getGames());
+    }
+}
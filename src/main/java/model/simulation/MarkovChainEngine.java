@@ -0,0 +1,195 @@
+package model.simulation;
+
+import gameEnum.BaseEvent;
+import gameEnum.Outs;
+import model.inning.BaseAdvancementTable;
+import model.player.Batter;
+import model.player.PlateAppearanceDistribution;
+import model.player.Pitcher;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Analytic engine that solves a game as a Markov chain instead of playing it.
+ * Each plate appearance is reduced to its exact outcome distribution, an inning is then solved over
+ * (outs, bases, runs) with the lineup slot fixed by the number of batters faced, and the 9 innings are
+ * composed over (leadoff slot, runs so far). The result matches what Simulation converges to.
+ */
+public class MarkovChainEngine {
+    private static final BaseEvent[] EVENTS = BaseEvent.values();
+    private static final int INNINGS = 9;
+    private static final int LINEUP_SIZE = 9;
+    private static final int MAX_OUTS = Outs.THREE.ordinal() + 1;
+    /** Runs kept per inning, a longer inning is counted in the last bucket. */
+    static final int MAX_INNING_RUNS = 30;
+    /** Probability of the inning still going below which the rest of it is dropped. */
+    private static final double TOLERANCE = 1e-15;
+    /** Upper bound of batters in one inning, far beyond any inning with a real chance of happening. */
+    private static final int MAX_BATTERS = 500;
+
+    private final String playerTeamName;
+    private final String comTeamName;
+    private final BaseAdvancementTable baseAdvancement;
+    // [pitcher slot][lineup slot][BaseEvent ordinal]
+    private final double[][][] matchups;
+
+    /**
+     * Constructor with the standard base running rules.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     */
+    public MarkovChainEngine(PlayerTeam playerTeam, ComTeam comTeam) {
+        this(playerTeam, comTeam, BaseAdvancementTable.STANDARD);
+    }
+
+    /**
+     * Constructor that solves the plate appearance of every batter against every pitcher.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param baseAdvancement The table that moves runners on hits and walks
+     */
+    public MarkovChainEngine(PlayerTeam playerTeam, ComTeam comTeam, BaseAdvancementTable baseAdvancement) {
+        new Simulation(playerTeam, comTeam).validateTeamsBeforeSimulation();
+        this.playerTeamName = playerTeam.getTeamName();
+        this.comTeamName = comTeam.getTeamName();
+        this.baseAdvancement = baseAdvancement;
+
+        List<Batter> lineup = playerTeam.getBatterLineup();
+        List<Pitcher> rotation = comTeam.getPitcherLineup();
+        this.matchups = new double[rotation.size()][LINEUP_SIZE][EVENTS.length];
+        for (int pitcher = 0; pitcher < rotation.size(); pitcher++) {
+            for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+                PlateAppearanceDistribution distribution =
+                        new PlateAppearanceDistribution(lineup.get(slot), rotation.get(pitcher));
+                for (BaseEvent event : EVENTS) {
+                    matchups[pitcher][slot][event.ordinal()] = distribution.getProbability(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * Solve the run distribution of a full game.
+     * @return RunDistribution contains the per inning and per game distributions
+     */
+    public RunDistribution solve() {
+        int width = MAX_INNING_RUNS + 1;
+        int maxGameRuns = INNINGS * MAX_INNING_RUNS;
+
+        // inning transitions of every pitcher from every leadoff slot, [next leadoff * width + runs]
+        double[][][] innings = new double[matchups.length][LINEUP_SIZE][];
+        for (int pitcher = 0; pitcher < matchups.length; pitcher++) {
+            for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+                innings[pitcher][slot] = solveInning(pitcher, slot);
+            }
+        }
+
+        double[][] inningRuns = new double[INNINGS][width];
+        double[][] leadoff = new double[INNINGS][LINEUP_SIZE];
+        // [leadoff slot][runs so far]
+        double[][] game = new double[LINEUP_SIZE][maxGameRuns + 1];
+        game[0][0] = 1.0;
+        int reached = 0;
+        for (int inning = 0; inning < INNINGS; inning++) {
+            double[][] after = new double[LINEUP_SIZE][maxGameRuns + 1];
+            for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+                double[] transition = innings[GameKernel.PITCHER_BY_INNING[inning]][slot];
+                for (int total = 0; total <= reached; total++) {
+                    double p = game[slot][total];
+                    if (p == 0.0) {
+                        continue;
+                    }
+                    leadoff[inning][slot] += p;
+                    for (int next = 0; next < LINEUP_SIZE; next++) {
+                        for (int runs = 0; runs < width; runs++) {
+                            double q = transition[next * width + runs];
+                            if (q != 0.0) {
+                                after[next][total + runs] += p * q;
+                                inningRuns[inning][runs] += p * q;
+                            }
+                        }
+                    }
+                }
+            }
+            game = after;
+            reached += MAX_INNING_RUNS;
+        }
+
+        double[] gameRuns = new double[maxGameRuns + 1];
+        for (double[] slotRuns : game) {
+            for (int total = 0; total <= maxGameRuns; total++) {
+                gameRuns[total] += slotRuns[total];
+            }
+        }
+        return new RunDistribution(playerTeamName, comTeamName, inningRuns, gameRuns, leadoff);
+    }
+
+    /**
+     * Get the number of pitchers in the rotation.
+     * @return The number of pitcher slots
+     */
+    int getPitcherCount() {
+        return matchups.length;
+    }
+
+    /**
+     * Solve one inning of a pitcher from a leadoff slot.
+     * Every batter moves the lineup on by one, so all live states share the slot at the plate.
+     * @param pitcher The pitcher slot on the mound
+     * @param leadoff The lineup slot leading off
+     * @return The probability of every (next leadoff, runs) pair, as [next leadoff * width + runs]
+     */
+    double[] solveInning(int pitcher, int leadoff) {
+        int width = MAX_INNING_RUNS + 1;
+        int states = BaseAdvancementTable.STATES * width;
+        double[] end = new double[LINEUP_SIZE * width];
+        // [outs * states + bases * width + runs]
+        double[] live = new double[MAX_OUTS * states];
+        double[] next = new double[MAX_OUTS * states];
+        live[0] = 1.0;
+
+        double remaining = 1.0;
+        for (int batter = 0; remaining > TOLERANCE && batter < MAX_BATTERS; batter++) {
+            int slot = (leadoff + batter) % LINEUP_SIZE;
+            int nextLeadoff = (slot + 1) % LINEUP_SIZE;
+            double[] outcome = matchups[pitcher][slot];
+            Arrays.fill(next, 0.0);
+            remaining = 0.0;
+
+            for (int outs = 0; outs < MAX_OUTS; outs++) {
+                for (int bases = 0; bases < BaseAdvancementTable.STATES; bases++) {
+                    for (int runs = 0; runs < width; runs++) {
+                        double p = live[outs * states + bases * width + runs];
+                        if (p == 0.0) {
+                            continue;
+                        }
+                        for (BaseEvent event : EVENTS) {
+                            double q = p * outcome[event.ordinal()];
+                            if (q == 0.0) {
+                                continue;
+                            }
+                            int transition = baseAdvancement.transition(bases, event);
+                            int newBases = BaseAdvancementTable.basesOf(transition);
+                            int newRuns = Math.min(MAX_INNING_RUNS, runs + BaseAdvancementTable.runsOf(transition));
+                            int newOuts = event == BaseEvent.OUT ? outs + 1 : outs;
+                            if (newOuts == MAX_OUTS) {
+                                end[nextLeadoff * width + newRuns] += q;
+                            } else {
+                                next[newOuts * states + newBases * width + newRuns] += q;
+                                remaining += q;
+                            }
+                        }
+                    }
+                }
+            }
+
+            double[] swap = live;
+            live = next;
+            next = swap;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,113 @@
+package model.simulation;
+
+import gameEnum.BaseEvent;
+import model.player.Batter;
+import model.player.PlateAppearanceDistribution;
+import model.player.Pitcher;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Plate appearance outcome of every batter in the lineup against every pitcher in the rotation,
+ * solved once from the count chain so a plate appearance is one draw.
+ * Outcomes are BaseEvent ordinals, with OUT meaning a fielded out, plus STRIKEOUT. The draw is inverted through
+ * the cumulative distribution with outcomes ordered from worst to best, so a higher draw never gives a worse
+ * outcome and games on antithetic or common random numbers stay in step.
+ * The table is immutable once built, so one instance can be shared by every thread.
+ */
+public final class MatchupTable {
+    private static final BaseEvent[] EVENTS = BaseEvent.values();
+    /** Outcome index of a strikeout, after every BaseEvent. */
+    public static final int STRIKEOUT = EVENTS.length;
+    /** Number of outcomes of a plate appearance. */
+    public static final int OUTCOMES = EVENTS.length + 1;
+    /** Outcomes from worst to best for the batting team. */
+    private static final int[] ORDER = {STRIKEOUT, BaseEvent.OUT.ordinal(), BaseEvent.WALK.ordinal(),
+            BaseEvent.SINGLE.ordinal(), BaseEvent.DOUBLE.ordinal(), BaseEvent.TRIPLE.ordinal(),
+            BaseEvent.HOME_RUN.ordinal()};
+
+    // [pitcher slot][lineup slot][position in ORDER], the probability of that outcome or a worse one
+    private final double[][][] cumulative;
+    private final double[][] expectedPitches;
+
+    /**
+     * Constructor that solves every matchup of the two lineups.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     */
+    public MatchupTable(PlayerTeam playerTeam, ComTeam comTeam) {
+        new Simulation(playerTeam, comTeam).validateTeamsBeforeSimulation();
+        List<Batter> lineup = playerTeam.getBatterLineup();
+        List<Pitcher> rotation = comTeam.getPitcherLineup();
+        this.cumulative = new double[rotation.size()][lineup.size()][ORDER.length];
+        this.expectedPitches = new double[rotation.size()][lineup.size()];
+
+        for (int pitcher = 0; pitcher < rotation.size(); pitcher++) {
+            for (int slot = 0; slot < lineup.size(); slot++) {
+                PlateAppearanceDistribution distribution =
+                        new PlateAppearanceDistribution(lineup.get(slot), rotation.get(pitcher));
+                double[] weights = new double[OUTCOMES];
+                for (BaseEvent event : EVENTS) {
+                    weights[event.ordinal()] = distribution.getProbability(event);
+                }
+                weights[BaseEvent.OUT.ordinal()] -= distribution.getStrikeoutProbability();
+                weights[STRIKEOUT] = distribution.getStrikeoutProbability();
+                double total = 0.0;
+                for (int i = 0; i < ORDER.length; i++) {
+                    total += weights[ORDER[i]];
+                    cumulative[pitcher][slot][i] = total;
+                }
+                // the best outcome takes whatever rounding error is left
+                cumulative[pitcher][slot][ORDER.length - 1] = 1.0;
+                expectedPitches[pitcher][slot] = distribution.getExpectedPitches();
+            }
+        }
+    }
+
+    /**
+     * Draw the outcome of one plate appearance.
+     * @param pitcher The pitcher slot on the mound
+     * @param slot The lineup slot at the plate
+     * @param random The random source
+     * @return A BaseEvent ordinal, or STRIKEOUT
+     */
+    public int sample(int pitcher, int slot, RandomGenerator random) {
+        double u = random.nextDouble();
+        double[] table = cumulative[pitcher][slot];
+        int i = 0;
+        while (u >= table[i]) {
+            i++;
+        }
+        return ORDER[i];
+    }
+
+    /**
+     * Get the probability of one outcome of a matchup.
+     * @param pitcher The pitcher slot on the mound
+     * @param slot The lineup slot at the plate
+     * @param outcome A BaseEvent ordinal, or STRIKEOUT
+     * @return The probability of the outcome
+     */
+    public double probabilityOf(int pitcher, int slot, int outcome) {
+        double[] table = cumulative[pitcher][slot];
+        for (int i = 0; i < ORDER.length; i++) {
+            if (ORDER[i] == outcome) {
+                return i == 0 ? table[0] : table[i] - table[i - 1];
+            }
+        }
+        return 0.0;
+    }
+
+    /**
+     * Get the mean number of pitches of a matchup.
+     * @param pitcher The pitcher slot on the mound
+     * @param slot The lineup slot at the plate
+     * @return The expected pitches of the plate appearance
+     */
+    public double getExpectedPitches(int pitcher, int slot) {
+        return expectedPitches[pitcher][slot];
+    }
+}
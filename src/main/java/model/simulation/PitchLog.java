@@ -0,0 +1,230 @@
+package model.simulation;
+
+import gameEnum.PitchResult;
+import gameEnum.PitchType;
+
+import java.util.Arrays;
+
+/**
+ * Play-by-play of one game, one packed long per pitch in a growable primitive buffer.
+ * Every pitch keeps its inning, pitcher slot, lineup slot, pitch type, result, the count before the pitch and
+ * the outs, bases and runs after it, which is enough to replay the game; names are resolved from the lineups
+ * when the log is rendered by a PitchLogReplayer. Clearing keeps the buffer, so a worker recording many games
+ * allocates only while the longest game grows it.
+ */
+public final class PitchLog {
+    private static final int INITIAL_CAPACITY = 512;
+
+    // bit offsets of the packed fields, low bits first
+    private static final int INNING_SHIFT = 0;
+    private static final int PITCHER_SHIFT = 4;
+    private static final int BATTER_SHIFT = 6;
+    private static final int TYPE_SHIFT = 10;
+    private static final int RESULT_SHIFT = 15;
+    private static final int BALLS_SHIFT = 18;
+    private static final int STRIKES_SHIFT = 20;
+    private static final int OUTS_SHIFT = 22;
+    private static final int BASES_SHIFT = 24;
+    private static final int RUNS_SHIFT = 27;
+
+    private static final PitchType[] PITCH_TYPES = PitchType.values();
+    private static final PitchResult[] RESULTS = PitchResult.values();
+
+    private long[] events = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Pack one pitch into a long.
+     * @param inning The inning, from 1 to 9
+     * @param pitcher The pitcher slot, from 0 to 2
+     * @param batter The lineup slot, from 0 to 8
+     * @param pitchType The type of the pitch
+     * @param result The result of the pitch
+     * @param balls The balls before the pitch
+     * @param strikes The strikes before the pitch
+     * @param outs The outs after the pitch
+     * @param bases The 3-bit base state after the pitch
+     * @param runs The runs scored on the pitch
+     * @return The packed pitch
+     */
+    public static long pack(int inning, int pitcher, int batter, PitchType pitchType, PitchResult result,
+                            int balls, int strikes, int outs, int bases, int runs) {
+        return (long) inning << INNING_SHIFT
+                | (long) pitcher << PITCHER_SHIFT
+                | (long) batter << BATTER_SHIFT
+                | (long) pitchType.ordinal() << TYPE_SHIFT
+                | (long) result.ordinal() << RESULT_SHIFT
+                | (long) balls << BALLS_SHIFT
+                | (long) strikes << STRIKES_SHIFT
+                | (long) outs << OUTS_SHIFT
+                | (long) bases << BASES_SHIFT
+                | (long) runs << RUNS_SHIFT;
+    }
+
+    /**
+     * Add one pitch at the end of the log.
+     * @param event The pitch packed by pack
+     */
+    public void add(long event) {
+        if (size == events.length) {
+            events = Arrays.copyOf(events, 2 * size);
+        }
+        events[size++] = event;
+    }
+
+    /**
+     * Get one pitch of the log.
+     * @param index The index of the pitch in the game
+     * @return The packed pitch
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No pitch " + index + " in a log of " + size);
+        }
+        return events[index];
+    }
+
+    /**
+     * Get the number of pitches in the log.
+     * @return The number of pitches
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Empty the log for the next game, keeping its buffer.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Get the inning of a packed pitch.
+     * @param event The packed pitch
+     * @return The inning, from 1 to 9
+     */
+    public static int inning(long event) {
+        return field(event, INNING_SHIFT, 4);
+    }
+
+    /**
+     * Get the pitcher slot of a packed pitch.
+     * @param event The packed pitch
+     * @return The pitcher slot
+     */
+    public static int pitcher(long event) {
+        return field(event, PITCHER_SHIFT, 2);
+    }
+
+    /**
+     * Get the lineup slot of a packed pitch.
+     * @param event The packed pitch
+     * @return The lineup slot
+     */
+    public static int batter(long event) {
+        return field(event, BATTER_SHIFT, 4);
+    }
+
+    /**
+     * Get the pitch type of a packed pitch.
+     * @param event The packed pitch
+     * @return The pitch type
+     */
+    public static PitchType pitchType(long event) {
+        return PITCH_TYPES[field(event, TYPE_SHIFT, 5)];
+    }
+
+    /**
+     * Get the result of a packed pitch.
+     * @param event The packed pitch
+     * @return The pitch result
+     */
+    public static PitchResult result(long event) {
+        return RESULTS[field(event, RESULT_SHIFT, 3)];
+    }
+
+    /**
+     * Get the balls before a packed pitch.
+     * @param event The packed pitch
+     * @return The balls
+     */
+    public static int balls(long event) {
+        return field(event, BALLS_SHIFT, 2);
+    }
+
+    /**
+     * Get the strikes before a packed pitch.
+     * @param event The packed pitch
+     * @return The strikes
+     */
+    public static int strikes(long event) {
+        return field(event, STRIKES_SHIFT, 2);
+    }
+
+    /**
+     * Get the outs after a packed pitch.
+     * @param event The packed pitch
+     * @return The outs
+     */
+    public static int outs(long event) {
+        return field(event, OUTS_SHIFT, 2);
+    }
+
+    /**
+     * Get the base state after a packed pitch.
+     * @param event The packed pitch
+     * @return The 3-bit base state, bit 0 for first base
+     */
+    public static int bases(long event) {
+        return field(event, BASES_SHIFT, 3);
+    }
+
+    /**
+     * Get the runs scored on a packed pitch.
+     * @param event The packed pitch
+     * @return The runs
+     */
+    public static int runs(long event) {
+        return field(event, RUNS_SHIFT, 3);
+    }
+
+    /**
+     * Check whether a packed pitch ended the plate appearance.
+     * @param event The packed pitch
+     * @return true on a ball in play, a third strike or a fourth ball
+     */
+    public static boolean endsPlateAppearance(long event) {
+        return isStrikeout(event) || isWalk(event) || result(event).isInPlay();
+    }
+
+    /**
+     * Check whether a packed pitch was a third strike.
+     * @param event The packed pitch
+     * @return true on a strikeout
+     */
+    public static boolean isStrikeout(long event) {
+        PitchResult result = result(event);
+        return strikes(event) == 2 && (result == PitchResult.CALLED_STRIKE || result == PitchResult.SWINGING_STRIKE);
+    }
+
+    /**
+     * Check whether a packed pitch was a fourth ball.
+     * @param event The packed pitch
+     * @return true on a walk
+     */
+    public static boolean isWalk(long event) {
+        return balls(event) == 3 && result(event) == PitchResult.BALL;
+    }
+
+    /**
+     * Read one field of a packed pitch.
+     * @param event The packed pitch
+     * @param shift The bit offset of the field
+     * @param bits The width of the field
+     * @return The value of the field
+     */
+    private static int field(long event, int shift, int bits) {
+        return (int) (event >>> shift) & ((1 << bits) - 1);
+    }
+}
@@ -0,0 +1,109 @@
+package model.simulation;
+
+import gameEnum.PitchResult;
+import model.player.Batter;
+import model.player.Pitcher;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Renders a PitchLog back into text with the names of the lineups it was recorded against: the inning details
+ * of a SimulationResult, or one CSV row per pitch.
+ */
+public class PitchLogReplayer {
+    /** Header of the play-by-play rows. */
+    public static final String CSV_HEADER = "game,pitch,inning,pitcher,batter,pitch_type,result,balls,strikes,"
+            + "outs,bases,runs";
+    private static final int INNINGS = 9;
+
+    private final List<String> batterNames = new ArrayList<>();
+    private final List<String> pitcherNames = new ArrayList<>();
+
+    /**
+     * Constructor of a replayer for the lineups of a game.
+     * @param playerTeam The player team the log was recorded for
+     * @param comTeam The computer team the log was recorded against
+     */
+    public PitchLogReplayer(PlayerTeam playerTeam, ComTeam comTeam) {
+        for (Batter batter : playerTeam.getBatterLineup()) {
+            batterNames.add(batter.getName());
+        }
+        for (Pitcher pitcher : comTeam.getPitcherLineup()) {
+            pitcherNames.add(pitcher.getName());
+        }
+    }
+
+    /**
+     * Render the inning details of a game, the same text as SimulationResult.getDetails of the reference engine.
+     * @param log The play-by-play of the game
+     * @return The details of every inning
+     */
+    public String toDetails(PitchLog log) {
+        int[] pitcher = new int[INNINGS];
+        int[] battersFaced = new int[INNINGS];
+        int[] runs = new int[INNINGS];
+        int[] pitches = new int[INNINGS];
+        int[] hits = new int[INNINGS];
+        int[] strikeouts = new int[INNINGS];
+        int[] walks = new int[INNINGS];
+        int innings = 0;
+        for (int i = 0; i < log.size(); i++) {
+            long event = log.get(i);
+            int inning = PitchLog.inning(event) - 1;
+            innings = Math.max(innings, inning + 1);
+            pitcher[inning] = PitchLog.pitcher(event);
+            pitches[inning]++;
+            runs[inning] += PitchLog.runs(event);
+            if (PitchLog.endsPlateAppearance(event)) {
+                battersFaced[inning]++;
+            }
+            if (PitchLog.result(event).isHit()) {
+                hits[inning]++;
+            } else if (PitchLog.isStrikeout(event)) {
+                strikeouts[inning]++;
+            } else if (PitchLog.isWalk(event)) {
+                walks[inning]++;
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < innings; i++) {
+            sb.append("Inning ").append(i + 1).append(":\n");
+            sb.append("Pitcher: ").append(pitcherNames.get(pitcher[i])).append("\n");
+            sb.append("Batters faced: ").append(battersFaced[i]).append("\n");
+            sb.append("Score: ").append(runs[i]).append("\n");
+
+            sb.append("Pitches: ").append(pitches[i]).append("\n");
+            sb.append("Hits: ").append(hits[i]).append("\n");
+            sb.append("Strikeouts: ").append(strikeouts[i]).append("\n");
+            sb.append("Walks: ").append(walks[i]).append("\n\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Render one CSV row per pitch of a game, without the header.
+     * @param log The play-by-play of the game
+     * @param game The index of the game, written in the first column
+     * @return The rows in pitch order
+     */
+    public List<String> toCsv(PitchLog log, int game) {
+        List<String> rows = new ArrayList<>(log.size());
+        for (int i = 0; i < log.size(); i++) {
+            long event = log.get(i);
+            PitchResult result = PitchLog.result(event);
+            rows.add(String.join(",", String.valueOf(game), String.valueOf(i + 1),
+                    String.valueOf(PitchLog.inning(event)),
+                    Csv.quote(pitcherNames.get(PitchLog.pitcher(event))),
+                    Csv.quote(batterNames.get(PitchLog.batter(event))),
+                    PitchLog.pitchType(event).getDisplayName(), result.getName(),
+                    String.valueOf(PitchLog.balls(event)), String.valueOf(PitchLog.strikes(event)),
+                    String.valueOf(PitchLog.outs(event)), String.valueOf(PitchLog.bases(event)),
+                    String.valueOf(PitchLog.runs(event))));
+        }
+        return rows;
+    }
+}
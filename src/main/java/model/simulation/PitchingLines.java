@@ -0,0 +1,167 @@
+package model.simulation;
+
+import gameEnum.PitchingStat;
+import model.inning.RotationCounters;
+import model.player.Pitcher;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Simulated pitching line of every pitcher slot over many games, reported next to the input strike rate of its
+ * pitcher. Engines count the plate appearances of a game in flat int counters laid out by RotationCounters, and a
+ * batch folds those arrays into longs and merges them like any other total.
+ * The starter pitches innings 1-5, the middle reliever 6-7 and the closer 8-9, as in GameKernel.PITCHER_BY_INNING.
+ * Games played a plate appearance at a time throw no counted pitches, so their pitch columns show "-".
+ */
+public class PitchingLines implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int ROTATION_SIZE = RotationCounters.ROTATION_SIZE;
+    private static final int LENGTH = RotationCounters.LENGTH;
+    private static final String[] INNINGS = {"1-5", "6-7", "8-9"};
+
+    private final long[] lines = new long[LENGTH];
+    // name and input strike rate of the pitcher of every slot, null until the rotation is set
+    private String[] names;
+    private double[] inputStrikeRate;
+
+    /**
+     * Add the counters of one game.
+     * @param gameLines The flat counters of the game
+     */
+    public void add(int[] gameLines) {
+        for (int i = 0; i < LENGTH; i++) {
+            lines[i] += gameLines[i];
+        }
+    }
+
+    /**
+     * Fold the lines of other games of the same rotation into these.
+     * @param other The lines to merge, left unchanged
+     */
+    public void merge(PitchingLines other) {
+        for (int i = 0; i < LENGTH; i++) {
+            lines[i] += other.lines[i];
+        }
+        if (names == null && other.names != null) {
+            names = other.names.clone();
+            inputStrikeRate = other.inputStrikeRate.clone();
+        }
+    }
+
+    /**
+     * Set the pitchers of the rotation, whose names and input strike rates are shown next to their lines.
+     * @param rotation The pitching lineup: starter, middle reliever and closer
+     */
+    public void setPitchers(List<Pitcher> rotation) {
+        if (rotation.size() != ROTATION_SIZE) {
+            throw new IllegalArgumentException("Pitching lineup should be 3 pitchers!");
+        }
+        names = new String[ROTATION_SIZE];
+        inputStrikeRate = new double[ROTATION_SIZE];
+        for (int pitcher = 0; pitcher < ROTATION_SIZE; pitcher++) {
+            names[pitcher] = rotation.get(pitcher).getName();
+            inputStrikeRate[pitcher] = rotation.get(pitcher).getStrikesRate();
+        }
+    }
+
+    /**
+     * Get one total of a pitcher slot.
+     * @param pitcher The pitcher slot, from 0 to 2
+     * @param stat The stat
+     * @return The total over every game
+     */
+    public long get(int pitcher, PitchingStat stat) {
+        if (pitcher < 0 || pitcher >= ROTATION_SIZE) {
+            throw new IllegalArgumentException("Pitcher slot must be between 0 and 2");
+        }
+        return lines[RotationCounters.index(pitcher, stat)];
+    }
+
+    /**
+     * Get one total of the whole rotation.
+     * @param stat The stat
+     * @return The total over every pitcher slot and game
+     */
+    public long getTotal(PitchingStat stat) {
+        long total = 0;
+        for (int pitcher = 0; pitcher < ROTATION_SIZE; pitcher++) {
+            total += get(pitcher, stat);
+        }
+        return total;
+    }
+
+    /**
+     * Get the simulated share of strikes of a pitcher slot, balls in play included.
+     * @param pitcher The pitcher slot
+     * @return Strikes per pitch, 0 without pitches
+     */
+    public double getStrikeRate(int pitcher) {
+        return ratio(get(pitcher, PitchingStat.STRIKES), get(pitcher, PitchingStat.PITCHES));
+    }
+
+    /**
+     * Get the runs a pitcher slot allows over nine innings.
+     * @param pitcher The pitcher slot
+     * @param games The games the lines were counted over
+     * @return Runs per nine innings pitched, 0 without games
+     */
+    public double getRunsPerNine(int pitcher, long games) {
+        return ratio(9 * get(pitcher, PitchingStat.RUNS), games * GameKernel.INNINGS_OF_SLOT[pitcher]);
+    }
+
+    /**
+     * Divide two totals.
+     * @param numerator The numerator
+     * @param denominator The denominator
+     * @return The ratio, 0 when the denominator is 0
+     */
+    private static double ratio(long numerator, long denominator) {
+        return denominator == 0 ? 0.0 : (double) numerator / denominator;
+    }
+
+    /**
+     * Build the table of every pitcher slot's simulated line per game.
+     * @param games The games the lines were counted over
+     * @return The table, one row per pitcher slot
+     */
+    String getTable(long games) {
+        boolean pitched = getTotal(PitchingStat.PITCHES) > 0;
+        StringBuilder sb = new StringBuilder();
+        sb.append("Pitching Lines:\n");
+        sb.append(String.format("%-4s %-20s %6s %7s %7s %6s %6s %6s %6s %6s %6s | %7s\n", "Inn", "Pitcher", "BF/G",
+                "Pit/G", "Strike%", "K/G", "BB/G", "H/G", "HR/G", "R/G", "R/9", "In Str%"));
+        for (int pitcher = 0; pitcher < ROTATION_SIZE; pitcher++) {
+            String name = names == null ? "Pitcher " + (pitcher + 1) : names[pitcher];
+            sb.append(String.format("%-4s %-20s %6.3f", INNINGS[pitcher], name,
+                    perGame(pitcher, PitchingStat.BATTERS_FACED, games)));
+            if (pitched) {
+                sb.append(String.format(" %7.2f %7.1f", perGame(pitcher, PitchingStat.PITCHES, games),
+                        100 * getStrikeRate(pitcher)));
+            } else {
+                sb.append(String.format(" %7s %7s", "-", "-"));
+            }
+            sb.append(String.format(" %6.3f %6.3f %6.3f %6.3f %6.3f %6.3f",
+                    perGame(pitcher, PitchingStat.STRIKEOUTS, games), perGame(pitcher, PitchingStat.WALKS, games),
+                    perGame(pitcher, PitchingStat.HITS, games), perGame(pitcher, PitchingStat.HOME_RUNS, games),
+                    perGame(pitcher, PitchingStat.RUNS, games), getRunsPerNine(pitcher, games)));
+            if (names == null) {
+                sb.append(" |\n");
+            } else {
+                sb.append(String.format(" | %7.1f\n", 100 * inputStrikeRate[pitcher]));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Get one total of a pitcher slot per game.
+     * @param pitcher The pitcher slot
+     * @param stat The stat
+     * @param games The games the lines were counted over
+     * @return The per game average
+     */
+    private double perGame(int pitcher, PitchingStat stat, long games) {
+        return ratio(get(pitcher, stat), games);
+    }
+}
@@ -0,0 +1,122 @@
+package model.simulation;
+
+import gameEnum.TrackedStat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Stopping rule of a batch that keeps playing until its confidence intervals are narrow enough.
+ * The batch stops as soon as every tracked statistic has a 95% interval no wider than the target width,
+ * or when the game limit or the time budget runs out.
+ */
+public class PrecisionTarget {
+    /** Standard normal quantile of a two sided 95% interval. */
+    public static final double Z_95 = 1.959963984540054;
+    /** Default upper bound of games. */
+    public static final int DEFAULT_MAX_GAMES = 10_000_000;
+
+    private final double width;
+    private final int maxGames;
+    private final long timeBudgetMillis;
+    private final Set<TrackedStat> stats;
+
+    /**
+     * Constructor of a target on mean runs only.
+     * @param width The full width of the interval to reach
+     * @param maxGames The most games to play
+     * @param timeBudgetMillis The time budget in milliseconds, 0 for none
+     */
+    public PrecisionTarget(double width, int maxGames, long timeBudgetMillis) {
+        this(width, maxGames, timeBudgetMillis, TrackedStat.RUNS);
+    }
+
+    /**
+     * Constructor of a target on some statistics.
+     * @param width The full width of the interval to reach
+     * @param maxGames The most games to play
+     * @param timeBudgetMillis The time budget in milliseconds, 0 for none
+     * @param stats The statistics that must all reach the width
+     */
+    public PrecisionTarget(double width, int maxGames, long timeBudgetMillis, TrackedStat... stats) {
+        if (!(width > 0)) {
+            throw new IllegalArgumentException("Interval width must be positive");
+        }
+        if (maxGames < 2) {
+            throw new IllegalArgumentException("Game limit must be at least 2");
+        }
+        if (timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("Time budget cannot be negative");
+        }
+        if (stats.length == 0) {
+            throw new IllegalArgumentException("At least one statistic must be tracked");
+        }
+        this.width = width;
+        this.maxGames = maxGames;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.stats = Collections.unmodifiableSet(EnumSet.copyOf(Arrays.asList(stats)));
+    }
+
+    /**
+     * Get the full width of the interval to reach.
+     * @return The target width
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Get the most games to play.
+     * @return The game limit
+     */
+    public int getMaxGames() {
+        return maxGames;
+    }
+
+    /**
+     * Get the time budget.
+     * @return The time budget in milliseconds, 0 for none
+     */
+    public long getTimeBudgetMillis() {
+        return timeBudgetMillis;
+    }
+
+    /**
+     * Get the statistics that must reach the width.
+     * @return The tracked statistics
+     */
+    public Set<TrackedStat> getStats() {
+        return stats;
+    }
+
+    /**
+     * Check whether a batch is precise enough on every tracked statistic.
+     * @param batch The batch so far
+     * @return true if every interval is no wider than the target
+     */
+    public boolean isReached(BatchResult batch) {
+        for (TrackedStat stat : stats) {
+            if (2 * batch.getHalfWidth(stat, Z_95) > width) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimate how many games in total the batch needs for every interval to reach the width.
+     * @param batch The batch so far, with at least two games
+     * @return The estimated total number of games
+     */
+    public long estimateGames(BatchResult batch) {
+        long needed = batch.getGames();
+        for (TrackedStat stat : stats) {
+            double halfWidth = width / 2;
+            double games = Math.ceil(batch.getEffectiveVariance(stat) * Z_95 * Z_95 / (halfWidth * halfWidth));
+            needed = Math.max(needed, (long) Math.min(games, Long.MAX_VALUE / 2));
+        }
+        return needed;
+    }
+}
@@ -0,0 +1,230 @@
+package model.simulation;
+
+import gameEnum.RandomAlgorithm;
+import gameEnum.TrackedStat;
+import model.random.RandomStreams;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Benchmark of every RandomAlgorithm on the engine and fidelity of a batch.
+ * Every algorithm is timed on raw draws and on a full batch, and its draws go through a chi-square test of
+ * uniformity over equal buckets, so the fastest generator can be picked among those that pass.
+ * Raw draws come from the generators batches play on: blocks of about one game's draws, each drawn after
+ * RandomStreams reseeds the generator on the seed of its game.
+ * The mean runs of every batch are reported as well: generators that are fine should agree within their intervals.
+ */
+public class RandomBenchmark {
+    /** Default number of raw draws timed per algorithm. */
+    public static final int DEFAULT_DRAWS = 10_000_000;
+    /** Number of equal buckets of the uniformity test. */
+    static final int BUCKETS = 64;
+    /** Chi-square critical value with BUCKETS - 1 degrees of freedom at the 0.1% level. */
+    static final double CHI_SQUARE_LIMIT = 103.442;
+    /** Number of raw draws between two reseeds, about the draws of a game at pitch fidelity. */
+    static final int DRAWS_PER_GAME = 1024;
+    private static final RandomAlgorithm[] ALGORITHMS = RandomAlgorithm.values();
+
+    private final BatchSimulation batch;
+    private final int games;
+    private final int draws;
+    // indexed by RandomAlgorithm ordinal
+    private final double[] drawsPerSecond = new double[ALGORITHMS.length];
+    private final double[] gamesPerSecond = new double[ALGORITHMS.length];
+    private final double[] chiSquare = new double[ALGORITHMS.length];
+    private final BatchResult[] results = new BatchResult[ALGORITHMS.length];
+    private Long seed = null;
+
+    /**
+     * Constructor of a benchmark with the default number of draws.
+     * @param batch The batch whose engine and fidelity are timed, its random algorithm is changed by the run
+     * @param games The number of games of every timed batch
+     */
+    public RandomBenchmark(BatchSimulation batch, int games) {
+        this(batch, games, DEFAULT_DRAWS);
+    }
+
+    /**
+     * Constructor of a benchmark.
+     * @param batch The batch whose engine and fidelity are timed, its random algorithm is changed by the run
+     * @param games The number of games of every timed batch
+     * @param draws The number of raw draws timed per algorithm
+     */
+    public RandomBenchmark(BatchSimulation batch, int games, int draws) {
+        if (games < 2) {
+            throw new IllegalArgumentException("Benchmark needs at least 2 games");
+        }
+        if (draws < BUCKETS) {
+            throw new IllegalArgumentException("Benchmark needs at least " + BUCKETS + " draws");
+        }
+        this.batch = batch;
+        this.games = games;
+        this.draws = draws;
+    }
+
+    /**
+     * Time every algorithm, after one untimed warm-up batch each.
+     * @param seed The seed of the draws and the batch seed of the games
+     * @return This benchmark
+     */
+    public RandomBenchmark run(long seed) {
+        this.seed = seed;
+        RandomAlgorithm original = batch.getRandomAlgorithm();
+        try {
+            for (RandomAlgorithm algorithm : ALGORITHMS) {
+                int i = algorithm.ordinal();
+                timeDraws(algorithm, seed);
+
+                batch.setRandomAlgorithm(algorithm);
+                batch.run(Math.max(2, games / 10), seed);
+                long start = System.nanoTime();
+                results[i] = batch.run(games, seed);
+                gamesPerSecond[i] = games / ((System.nanoTime() - start) / 1e9);
+            }
+        } finally {
+            batch.setRandomAlgorithm(original);
+        }
+        return this;
+    }
+
+    /**
+     * Time raw draws of one algorithm, after an untimed warm-up, and bucket them for the uniformity test.
+     * @param algorithm The random algorithm
+     * @param seed The batch seed the games of the draws are seeded from
+     */
+    private void timeDraws(RandomAlgorithm algorithm, long seed) {
+        RandomGenerator random = bucketDraws(algorithm, null, ~seed, new int[BUCKETS], Math.max(BUCKETS, draws / 10));
+        int[] counts = new int[BUCKETS];
+        long start = System.nanoTime();
+        bucketDraws(algorithm, random, seed, counts, draws);
+        drawsPerSecond[algorithm.ordinal()] = draws / ((System.nanoTime() - start) / 1e9);
+
+        double expected = (double) draws / BUCKETS;
+        double statistic = 0.0;
+        for (int count : counts) {
+            statistic += (count - expected) * (count - expected) / expected;
+        }
+        chiSquare[algorithm.ordinal()] = statistic;
+    }
+
+    /**
+     * Count draws into equal buckets of [0, 1), reseeding the generator for every game's block of draws.
+     * @param algorithm The random algorithm
+     * @param random The generator to reseed, may be null
+     * @param seed The batch seed the games are seeded from
+     * @param counts The counts of every bucket, added to
+     * @param n The number of draws
+     * @return The generator, to reuse for the next draws
+     */
+    private static RandomGenerator bucketDraws(RandomAlgorithm algorithm, RandomGenerator random, long seed,
+                                               int[] counts, int n) {
+        for (int game = 0; game * DRAWS_PER_GAME < n; game++) {
+            random = RandomStreams.reseed(algorithm, random, BatchSimulation.gameSeed(seed, game));
+            int end = Math.min(n, (game + 1) * DRAWS_PER_GAME);
+            for (int i = game * DRAWS_PER_GAME; i < end; i++) {
+                counts[(int) (random.nextDouble() * BUCKETS)]++;
+            }
+        }
+        return random;
+    }
+
+    /**
+     * Get the raw draw rate of an algorithm.
+     * @param algorithm The random algorithm
+     * @return The draws per second, 0 before the run
+     */
+    public double getDrawsPerSecond(RandomAlgorithm algorithm) {
+        return drawsPerSecond[algorithm.ordinal()];
+    }
+
+    /**
+     * Get the end to end game rate of an algorithm.
+     * @param algorithm The random algorithm
+     * @return The games per second, 0 before the run
+     */
+    public double getGamesPerSecond(RandomAlgorithm algorithm) {
+        return gamesPerSecond[algorithm.ordinal()];
+    }
+
+    /**
+     * Get the chi-square statistic of the bucketed draws of an algorithm.
+     * @param algorithm The random algorithm
+     * @return The chi-square statistic
+     */
+    public double getChiSquare(RandomAlgorithm algorithm) {
+        return chiSquare[algorithm.ordinal()];
+    }
+
+    /**
+     * Check whether the draws of an algorithm pass the uniformity test.
+     * @param algorithm The random algorithm
+     * @return true if the chi-square statistic is below the critical value
+     */
+    public boolean isUniform(RandomAlgorithm algorithm) {
+        return chiSquare[algorithm.ordinal()] < CHI_SQUARE_LIMIT;
+    }
+
+    /**
+     * Get the timed batch of an algorithm.
+     * @param algorithm The random algorithm
+     * @return The batch result, null before the run
+     */
+    public BatchResult getResult(RandomAlgorithm algorithm) {
+        return results[algorithm.ordinal()];
+    }
+
+    /**
+     * Get the algorithm with the highest game rate among those that pass the uniformity test.
+     * @return The fastest algorithm, null before the run or if none passes
+     */
+    public RandomAlgorithm getFastest() {
+        RandomAlgorithm fastest = null;
+        for (RandomAlgorithm algorithm : ALGORITHMS) {
+            if (results[algorithm.ordinal()] != null && isUniform(algorithm)
+                    && (fastest == null || getGamesPerSecond(algorithm) > getGamesPerSecond(fastest))) {
+                fastest = algorithm;
+            }
+        }
+        return fastest;
+    }
+
+    /**
+     * Generate a report of every algorithm.
+     * @return A formatted string containing the benchmark
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=====Random Generator Benchmark=====\n\n");
+        sb.append(String.format("Engine: %s, fidelity: %s, %d games and %d draws per generator, %d threads\n",
+                batch.getEngine().getName(), batch.getFidelity().getName(), games, draws, batch.getParallelism()));
+        if (seed != null) {
+            sb.append(String.format("Seed: %d\n", seed));
+        }
+        sb.append(String.format("%-22s %12s %12s %9s %8s %16s\n", "Generator", "Draws/s", "Games/s", "Chi-sq",
+                "Uniform", "Runs/game"));
+        for (RandomAlgorithm algorithm : ALGORITHMS) {
+            BatchResult result = results[algorithm.ordinal()];
+            String runs = result == null ? "-" : String.format("%.4f +/- %.4f", result.getAverageRuns(),
+                    result.getHalfWidth(TrackedStat.RUNS, PrecisionTarget.Z_95));
+            sb.append(String.format("%-22s %12.0f %12.0f %9.1f %8s %16s\n", algorithm.getName(),
+                    getDrawsPerSecond(algorithm), getGamesPerSecond(algorithm), getChiSquare(algorithm),
+                    isUniform(algorithm) ? "yes" : "no", runs));
+        }
+        RandomAlgorithm fastest = getFastest();
+        if (fastest != null) {
+            sb.append(String.format("Fastest uniform generator: %s\n", fastest.getName()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Info of the benchmark.
+     * @return A string of the fastest generator
+     */
+    @Override
+    public String toString() {
+        RandomAlgorithm fastest = getFastest();
+        return fastest == null ? "Random generator benchmark not run"
+                : String.format("Fastest generator: %s at %.0f games/s", fastest.getName(), getGamesPerSecond(fastest));
+    }
+}
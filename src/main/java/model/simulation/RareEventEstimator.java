@@ -0,0 +1,274 @@
+package model.simulation;
+
+import gameEnum.BaseEvent;
+import gameEnum.RareEvent;
+import model.inning.BaseAdvancementTable;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Importance sampling estimator of the probability of a rare game, such as a no-hitter.
+ * Games are played at plate appearance fidelity from a tilted MatchupTable: the probability of the outcomes
+ * that decide the event is multiplied by the tilt and the outs take up the rest, so the event happens often.
+ * Every game is weighted by its likelihood ratio, the product over its plate appearances of the true probability
+ * over the tilted one, which keeps the mean of the weighted indicator an unbiased estimate of the true probability.
+ * A game stops as soon as the event is decided, which leaves the estimate unbiased because the weight of the
+ * plate appearances not played averages to one.
+ * Without a given tilt a short pilot run at every candidate picks the one with the smallest relative variance.
+ */
+public final class RareEventEstimator {
+    /** Games of the pilot run at every candidate tilt. */
+    public static final int PILOT_GAMES = 2_000;
+    /** Default threshold of the runs event. */
+    public static final int DEFAULT_RUNS = 10;
+    // highest tilted probability of a plate appearance, so every out keeps some probability
+    private static final double MAX_TILTED = 0.95;
+    private static final double[] LOWERING_TILTS = {1.0, 0.8, 0.6, 0.45, 0.35, 0.25, 0.18, 0.12, 0.08, 0.05};
+    private static final double[] RAISING_TILTS = {1.0, 1.2, 1.4, 1.6, 1.8, 2.0, 2.4, 2.8, 3.4};
+    private static final BaseEvent[] EVENTS = BaseEvent.values();
+    private static final int INNINGS = 9;
+    private static final int LINEUP_SIZE = 9;
+    private static final int MAX_OUTS = 3;
+
+    private final RareEvent event;
+    private final int threshold;
+    private final BaseAdvancementTable baseAdvancement;
+    // [pitcher slot][lineup slot][outcome] of the untilted matchups
+    private final double[][][] probabilities;
+    // which outcomes the tilt multiplies, by MatchupTable outcome index
+    private final boolean[] tilted = new boolean[MatchupTable.OUTCOMES];
+
+    /**
+     * Constructor with the standard base running rules.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param event The rare event to estimate
+     * @param threshold The fewest runs of the runs event, ignored by the others
+     */
+    public RareEventEstimator(PlayerTeam playerTeam, ComTeam comTeam, RareEvent event, int threshold) {
+        this(playerTeam, comTeam, BaseAdvancementTable.STANDARD, event, threshold);
+    }
+
+    /**
+     * Constructor that solves the matchups of the two lineups.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param baseAdvancement The base running rules
+     * @param event The rare event to estimate
+     * @param threshold The fewest runs of the runs event, ignored by the others
+     */
+    public RareEventEstimator(PlayerTeam playerTeam, ComTeam comTeam, BaseAdvancementTable baseAdvancement,
+                              RareEvent event, int threshold) {
+        if (event == RareEvent.RUNS && threshold < 1) {
+            throw new IllegalArgumentException("Run threshold must be at least 1");
+        }
+        MatchupTable matchups = new MatchupTable(playerTeam, comTeam);
+        this.event = event;
+        this.threshold = threshold;
+        this.baseAdvancement = baseAdvancement;
+        int pitchers = comTeam.getPitcherLineup().size();
+        this.probabilities = new double[pitchers][LINEUP_SIZE][MatchupTable.OUTCOMES];
+        for (int pitcher = 0; pitcher < pitchers; pitcher++) {
+            for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+                for (int outcome = 0; outcome < MatchupTable.OUTCOMES; outcome++) {
+                    probabilities[pitcher][slot][outcome] = matchups.probabilityOf(pitcher, slot, outcome);
+                }
+            }
+        }
+        // a no-hitter is decided by hits alone, the other events by every batter who reaches base
+        for (BaseEvent baseEvent : EVENTS) {
+            tilted[baseEvent.ordinal()] = baseEvent != BaseEvent.OUT
+                    && (baseEvent != BaseEvent.WALK || event != RareEvent.NO_HITTER);
+        }
+    }
+
+    /**
+     * Get the rare event being estimated.
+     * @return The event
+     */
+    public RareEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * Get the highest tilt every matchup can take.
+     * @return The largest tilt that keeps every out possible
+     */
+    public double getMaxTilt() {
+        double highest = 0.0;
+        for (double[][] pitcher : probabilities) {
+            for (double[] matchup : pitcher) {
+                highest = Math.max(highest, tiltedMass(matchup));
+            }
+        }
+        return highest == 0.0 ? Double.POSITIVE_INFINITY : MAX_TILTED / highest;
+    }
+
+    /**
+     * Pick the tilt with a pilot run, then estimate the probability.
+     * @param games The number of games of the estimate, pilot games not counted
+     * @param seed The seed of the pilot and of the games
+     * @return The estimate
+     */
+    public RareEventResult estimate(int games, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double tilt = chooseTilt(random.split());
+        RareEventResult result = play(games, tilt, random);
+        result.setSeed(seed);
+        return result;
+    }
+
+    /**
+     * Estimate the probability with a fixed tilt.
+     * @param games The number of games of the estimate
+     * @param tilt The factor of the probability of the deciding outcomes, 1 for plain Monte Carlo
+     * @param seed The seed of the games
+     * @return The estimate
+     */
+    public RareEventResult estimate(int games, double tilt, long seed) {
+        RareEventResult result = play(games, tilt, new SplittableRandom(seed));
+        result.setSeed(seed);
+        return result;
+    }
+
+    /**
+     * Pick the candidate tilt with the smallest relative variance over a pilot run.
+     * @param random The random source of the pilot
+     * @return The chosen tilt
+     */
+    private double chooseTilt(RandomGenerator random) {
+        double[] candidates = event == RareEvent.RUNS ? RAISING_TILTS : LOWERING_TILTS;
+        double maxTilt = getMaxTilt();
+        double best = 1.0;
+        double bestRelativeVariance = Double.POSITIVE_INFINITY;
+        for (double tilt : candidates) {
+            if (tilt > maxTilt) {
+                continue;
+            }
+            RareEventResult pilot = play(PILOT_GAMES, tilt, random);
+            double mean = pilot.getProbability();
+            if (pilot.getOccurrences() < 2 || mean == 0.0) {
+                continue;
+            }
+            double relativeVariance = pilot.getWeightedStatistic().getVariance() / (mean * mean);
+            if (relativeVariance < bestRelativeVariance) {
+                bestRelativeVariance = relativeVariance;
+                best = tilt;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Play weighted games with one tilt.
+     * @param games The number of games
+     * @param tilt The factor of the probability of the deciding outcomes
+     * @param random The random source
+     * @return The estimate
+     */
+    private RareEventResult play(int games, double tilt, RandomGenerator random) {
+        if (games < 2) {
+            throw new IllegalArgumentException("Rare event estimate needs at least 2 games");
+        }
+        if (!(tilt > 0) || tilt > getMaxTilt()) {
+            throw new IllegalArgumentException(String.format("Tilt must be in (0, %.3f]", getMaxTilt()));
+        }
+        int pitchers = probabilities.length;
+        double[][][] cumulative = new double[pitchers][LINEUP_SIZE][MatchupTable.OUTCOMES];
+        double[][][] ratios = new double[pitchers][LINEUP_SIZE][MatchupTable.OUTCOMES];
+        for (int pitcher = 0; pitcher < pitchers; pitcher++) {
+            for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+                tiltMatchup(probabilities[pitcher][slot], tilt, cumulative[pitcher][slot], ratios[pitcher][slot]);
+            }
+        }
+
+        RareEventResult result = new RareEventResult(event, threshold, tilt);
+        for (int game = 0; game < games; game++) {
+            result.add(playGame(random, cumulative, ratios));
+        }
+        return result;
+    }
+
+    /**
+     * Build the tilted distribution of one matchup and the likelihood ratio of every outcome.
+     * @param probability The untilted probability of every outcome
+     * @param tilt The factor of the probability of the deciding outcomes
+     * @param cumulative Filled with the tilted cumulative distribution
+     * @param ratio Filled with the true over tilted probability of every outcome
+     */
+    private void tiltMatchup(double[] probability, double tilt, double[] cumulative, double[] ratio) {
+        double mass = tiltedMass(probability);
+        // the outs share what the tilt takes from or leaves to them in proportion
+        double outScale = mass < 1.0 ? (1.0 - tilt * mass) / (1.0 - mass) : 1.0;
+        double total = 0.0;
+        for (int outcome = 0; outcome < MatchupTable.OUTCOMES; outcome++) {
+            double scale = tilted[outcome] ? tilt : outScale;
+            total += probability[outcome] * scale;
+            cumulative[outcome] = total;
+            ratio[outcome] = 1.0 / scale;
+        }
+        cumulative[MatchupTable.OUTCOMES - 1] = 1.0;
+    }
+
+    /**
+     * Get the probability of the outcomes the tilt multiplies.
+     * @param probability The untilted probability of every outcome
+     * @return The tilted mass
+     */
+    private double tiltedMass(double[] probability) {
+        double mass = 0.0;
+        for (int outcome = 0; outcome < MatchupTable.OUTCOMES; outcome++) {
+            if (tilted[outcome]) {
+                mass += probability[outcome];
+            }
+        }
+        return mass;
+    }
+
+    /**
+     * Play one tilted game until the event is decided.
+     * @param random The random source
+     * @param cumulative The tilted cumulative distribution of every matchup
+     * @param ratios The likelihood ratio of every outcome of every matchup
+     * @return The likelihood ratio of the game if the event happened, 0 if it did not
+     */
+    private double playGame(RandomGenerator random, double[][][] cumulative, double[][][] ratios) {
+        double weight = 1.0;
+        int slot = 0;
+        int runs = 0;
+        for (int inning = 0; inning < INNINGS; inning++) {
+            int pitcher = GameKernel.PITCHER_BY_INNING[inning];
+            int outs = 0;
+            int bases = 0;
+            while (outs < MAX_OUTS) {
+                double[] table = cumulative[pitcher][slot];
+                double u = random.nextDouble();
+                int outcome = 0;
+                while (u >= table[outcome]) {
+                    outcome++;
+                }
+                weight *= ratios[pitcher][slot][outcome];
+                slot = slot + 1 == LINEUP_SIZE ? 0 : slot + 1;
+
+                if (outcome == MatchupTable.STRIKEOUT || outcome == BaseEvent.OUT.ordinal()) {
+                    outs++;
+                    continue;
+                }
+                if (event == RareEvent.PERFECT_GAME
+                        || (event == RareEvent.NO_HITTER && outcome != BaseEvent.WALK.ordinal())) {
+                    return 0.0;
+                }
+                int transition = baseAdvancement.transition(bases, EVENTS[outcome]);
+                bases = BaseAdvancementTable.basesOf(transition);
+                runs += BaseAdvancementTable.runsOf(transition);
+                if (event == RareEvent.RUNS && runs >= threshold) {
+                    return weight;
+                }
+            }
+        }
+        return event == RareEvent.RUNS ? 0.0 : weight;
+    }
+}
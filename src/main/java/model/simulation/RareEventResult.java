@@ -0,0 +1,186 @@
+package model.simulation;
+
+import gameEnum.RareEvent;
+
+/**
+ * Importance sampling estimate of the probability of a rare game.
+ * Every game adds its likelihood ratio if the event happened and 0 if it did not, so the mean is the estimate
+ * and the standard error comes from the same running statistic as a batch.
+ */
+public class RareEventResult {
+    private final RareEvent event;
+    private final int threshold;
+    private final double tilt;
+    private final RunningStatistic weighted = new RunningStatistic();
+    private long occurrences = 0;
+    private Long seed = null;
+
+    /**
+     * Constructor of an empty estimate.
+     * @param event The rare event
+     * @param threshold The fewest runs of the runs event, ignored by the others
+     * @param tilt The factor of the probability of the deciding outcomes the games were played with
+     */
+    public RareEventResult(RareEvent event, int threshold, double tilt) {
+        this.event = event;
+        this.threshold = threshold;
+        this.tilt = tilt;
+    }
+
+    /**
+     * Add one tilted game.
+     * @param weight The likelihood ratio of the game if the event happened, 0 if it did not
+     */
+    public void add(double weight) {
+        weighted.add(weight);
+        if (weight > 0) {
+            occurrences++;
+        }
+    }
+
+    /**
+     * Get the rare event.
+     * @return The event
+     */
+    public RareEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * Get a readable description of the event.
+     * @return The description
+     */
+    public String getDescription() {
+        switch (event) {
+            case NO_HITTER:
+                return "No-hitter";
+            case PERFECT_GAME:
+                return "Perfect game";
+            default:
+                return threshold + "+ runs";
+        }
+    }
+
+    /**
+     * Get the tilt the games were played with.
+     * @return The tilt, 1 for plain Monte Carlo
+     */
+    public double getTilt() {
+        return tilt;
+    }
+
+    /**
+     * Get the number of games played.
+     * @return The number of games
+     */
+    public long getGames() {
+        return weighted.getCount();
+    }
+
+    /**
+     * Get the number of tilted games in which the event happened.
+     * @return The number of occurrences
+     */
+    public long getOccurrences() {
+        return occurrences;
+    }
+
+    /**
+     * Get the running statistic of the weighted indicator.
+     * @return The running statistic
+     */
+    public RunningStatistic getWeightedStatistic() {
+        return weighted;
+    }
+
+    /**
+     * Get the estimated probability of the event.
+     * @return The probability
+     */
+    public double getProbability() {
+        return weighted.getMean();
+    }
+
+    /**
+     * Get the standard error of the estimated probability.
+     * @return The standard error
+     */
+    public double getStandardError() {
+        return weighted.getStandardError();
+    }
+
+    /**
+     * Get the standard error relative to the estimated probability.
+     * @return The relative error, infinite if the event never happened
+     */
+    public double getRelativeError() {
+        double probability = getProbability();
+        return probability == 0.0 ? Double.POSITIVE_INFINITY : getStandardError() / probability;
+    }
+
+    /**
+     * Get how many plain games one tilted game is worth.
+     * @return The ratio of the plain Monte Carlo variance of the indicator to the weighted variance
+     */
+    public double getVarianceReduction() {
+        double probability = getProbability();
+        double variance = weighted.getVariance();
+        return variance == 0.0 ? 1.0 : probability * (1.0 - probability) / variance;
+    }
+
+    /**
+     * Get the number of plain games that would reach the same standard error.
+     * @return The number of untilted games
+     */
+    public double getPlainGamesNeeded() {
+        return getGames() * getVarianceReduction();
+    }
+
+    /**
+     * Get the seed the games were played from.
+     * @return The seed, null if the estimate was not played from one
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Set the seed the games were played from.
+     * @param seed The seed
+     */
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Generate a report of the estimate with its 95% interval.
+     * @return A formatted string containing the estimate
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=====Rare Event Estimate=====\n\n");
+        sb.append(String.format("%s, %d games tilted by %.2f\n", getDescription(), getGames(), tilt));
+        if (seed != null) {
+            sb.append(String.format("Seed: %d\n", seed));
+        }
+        sb.append(String.format("Probability: %.6g +/- %.3g (SE %.3g, %.1f%% relative)\n", getProbability(),
+                weighted.getHalfWidth(PrecisionTarget.Z_95), getStandardError(), 100 * getRelativeError()));
+        if (getProbability() > 0) {
+            sb.append(String.format("About 1 in %.0f games\n", 1 / getProbability()));
+        }
+        sb.append(String.format("Occurred in %d tilted games\n", occurrences));
+        sb.append(String.format("Variance reduction: %.1fx, worth %.3g plain games\n", getVarianceReduction(),
+                getPlainGamesNeeded()));
+        return sb.toString();
+    }
+
+    /**
+     * Info of the estimate.
+     * @return A string of the probability and its standard error
+     */
+    @Override
+    public String toString() {
+        return String.format("%s: %.6g (SE %.3g) over %d games", getDescription(), getProbability(),
+                getStandardError(), getGames());
+    }
+}
@@ -0,0 +1,150 @@
+package model.simulation;
+
+/**
+ * Exact distribution of runs scored by one lineup against a rotation, per inning and per game,
+ * together with the probability of each lineup slot leading off each inning.
+ */
+public class RunDistribution {
+    private final String playerTeamName;
+    private final String comTeamName;
+    // [inning][runs]
+    private final double[][] inningRuns;
+    // [runs]
+    private final double[] gameRuns;
+    // [inning][lineup slot]
+    private final double[][] leadoff;
+
+    /**
+     * Constructor of a solved distribution.
+     * @param playerTeamName The player team name
+     * @param comTeamName The computer team name
+     * @param inningRuns The run distribution of every inning
+     * @param gameRuns The run distribution of the game
+     * @param leadoff The leadoff slot distribution of every inning
+     */
+    RunDistribution(String playerTeamName, String comTeamName, double[][] inningRuns, double[] gameRuns,
+                    double[][] leadoff) {
+        this.playerTeamName = playerTeamName;
+        this.comTeamName = comTeamName;
+        this.inningRuns = inningRuns;
+        this.gameRuns = gameRuns;
+        this.leadoff = leadoff;
+    }
+
+    /**
+     * Get the player team name.
+     * @return The player team name
+     */
+    public String getPlayerTeamName() {
+        return playerTeamName;
+    }
+
+    /**
+     * Get the computer team name.
+     * @return The computer team name
+     */
+    public String getComTeamName() {
+        return comTeamName;
+    }
+
+    /**
+     * Get the expected runs of a game.
+     * @return The mean runs per game
+     */
+    public double getExpectedRuns() {
+        return mean(gameRuns);
+    }
+
+    /**
+     * Get the probability of scoring exactly some runs in a game.
+     * @param runs The runs
+     * @return P(runs = k)
+     */
+    public double getRunProbability(int runs) {
+        return runs >= 0 && runs < gameRuns.length ? gameRuns[runs] : 0.0;
+    }
+
+    /**
+     * Get the expected runs of one inning.
+     * @param inning The inning, from 1 to 9
+     * @return The mean runs of the inning
+     */
+    public double getInningExpectedRuns(int inning) {
+        return mean(inningRuns[inning - 1]);
+    }
+
+    /**
+     * Get the probability of scoring exactly some runs in one inning.
+     * @param inning The inning, from 1 to 9
+     * @param runs The runs
+     * @return P(runs = k) in the inning
+     */
+    public double getInningRunProbability(int inning, int runs) {
+        double[] distribution = inningRuns[inning - 1];
+        return runs >= 0 && runs < distribution.length ? distribution[runs] : 0.0;
+    }
+
+    /**
+     * Get the probability that a lineup slot leads off an inning.
+     * @param inning The inning, from 1 to 9
+     * @param slot The lineup slot, from 0 to 8
+     * @return The probability the slot bats first in the inning
+     */
+    public double getLeadoffProbability(int inning, int slot) {
+        return leadoff[inning - 1][slot];
+    }
+
+    /**
+     * Get the largest run total with a probability in the game distribution.
+     * @return The largest run total kept
+     */
+    public int getMaxRuns() {
+        return gameRuns.length - 1;
+    }
+
+    /**
+     * Mean of a run distribution.
+     * @param distribution The probability of every run total
+     * @return The mean runs
+     */
+    private static double mean(double[] distribution) {
+        double mean = 0.0;
+        for (int runs = 1; runs < distribution.length; runs++) {
+            mean += runs * distribution[runs];
+        }
+        return mean;
+    }
+
+    /**
+     * Generate a report of the expected runs and the most likely run totals.
+     * @return A formatted string containing the distribution
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=====Exact Run Distribution=====\n\n");
+        sb.append(String.format("%s vs %s\n", playerTeamName, comTeamName));
+        sb.append(String.format("Expected Runs: %.3f\n", getExpectedRuns()));
+
+        sb.append("Expected Runs by Inning:\n");
+        for (int inning = 1; inning <= inningRuns.length; inning++) {
+            sb.append(String.format(" %d: %.3f  P(0) %.3f\n", inning, getInningExpectedRuns(inning),
+                    getInningRunProbability(inning, 0)));
+        }
+        sb.append("\n");
+
+        sb.append("P(Runs = k):\n");
+        for (int runs = 0; runs <= 15; runs++) {
+            sb.append(String.format(" %2d: %.4f\n", runs, getRunProbability(runs)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Info of the run distribution.
+     * @return A string of the expected score
+     */
+    @Override
+    public String toString() {
+        return String.format("%s Expected Score: %.3f", playerTeamName, getExpectedRuns());
+    }
+}
@@ -0,0 +1,121 @@
+package model.simulation;
+
+import java.io.Serializable;
+
+/**
+ * Streaming mean, variance and range of one per-game statistic.
+ * Values are folded in with Welford's update and partial results combined with Chan's formula,
+ * so memory stays constant however many games are played.
+ */
+public class RunningStatistic implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private long count = 0;
+    private double mean = 0.0;
+    // sum of squared distances from the mean
+    private double m2 = 0.0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Add one observation.
+     * @param value The value of one game
+     */
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Fold another statistic into this one.
+     * @param other The statistic to merge, left unchanged
+     */
+    public void merge(RunningStatistic other) {
+        if (other.count == 0) {
+            return;
+        }
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+    }
+
+    /**
+     * Get the number of observations.
+     * @return The count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the mean of the observations.
+     * @return The mean, 0 when empty
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Get the smallest observation.
+     * @return The minimum, 0 when empty
+     */
+    public double getMin() {
+        return count == 0 ? 0.0 : min;
+    }
+
+    /**
+     * Get the largest observation.
+     * @return The maximum, 0 when empty
+     */
+    public double getMax() {
+        return count == 0 ? 0.0 : max;
+    }
+
+    /**
+     * Get the sample variance of the observations.
+     * @return The unbiased variance, 0 with fewer than two observations
+     */
+    public double getVariance() {
+        return count < 2 ? 0.0 : m2 / (count - 1);
+    }
+
+    /**
+     * Get the standard error of the mean.
+     * @return The standard error, infinite with fewer than two observations
+     */
+    public double getStandardError() {
+        return count < 2 ? Double.POSITIVE_INFINITY : Math.sqrt(getVariance() / count);
+    }
+
+    /**
+     * Get the half width of the normal confidence interval of the mean.
+     * @param z The standard normal quantile of the confidence level, 1.96 for 95%
+     * @return The half width of the interval
+     */
+    public double getHalfWidth(double z) {
+        return z * getStandardError();
+    }
+
+    /**
+     * Info of the statistic.
+     * @return A string of the mean and its standard error
+     */
+    @Override
+    public String toString() {
+        return String.format("%.4f (SE %.4f, n=%d)", mean, getStandardError(), count);
+    }
+}
@@ -0,0 +1,129 @@
+package model.simulation;
+
+import gameEnum.Teams;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One normalized scenario of a grid: a batting order against an opponent's pitchers for a number of games.
+ * Batters and pitchers are named as in the roster files, so two scenarios written differently in a scenario file
+ * but putting the same players on the field are equal.
+ */
+public final class Scenario {
+    private final int order;
+    private final List<String> batters;
+    private final Teams opponent;
+    private final int rotation;
+    private final List<String> pitchers;
+    private final int games;
+
+    /**
+     * Constructor of a scenario.
+     * @param order The number of the first order of the file with these batters, from 1
+     * @param batters The nine batters, in batting order
+     * @param opponent The opponent
+     * @param rotation The number of the first rotation choice of the file giving these pitchers, from 1
+     * @param pitchers The starter, middle reliever and closer
+     * @param games The number of games
+     */
+    public Scenario(int order, List<String> batters, Teams opponent, int rotation, List<String> pitchers, int games) {
+        this.order = order;
+        this.batters = Collections.unmodifiableList(new ArrayList<>(batters));
+        this.opponent = opponent;
+        this.rotation = rotation;
+        this.pitchers = Collections.unmodifiableList(new ArrayList<>(pitchers));
+        this.games = games;
+    }
+
+    /**
+     * Get the number of the order in the scenario file.
+     * @return The order number, from 1
+     */
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * Get the batters.
+     * @return The nine batters, in batting order
+     */
+    public List<String> getBatters() {
+        return batters;
+    }
+
+    /**
+     * Get the opponent.
+     * @return The opponent
+     */
+    public Teams getOpponent() {
+        return opponent;
+    }
+
+    /**
+     * Get the number of the rotation choice in the scenario file.
+     * @return The rotation number, from 1
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Get the pitchers.
+     * @return The starter, middle reliever and closer
+     */
+    public List<String> getPitchers() {
+        return pitchers;
+    }
+
+    /**
+     * Get the number of games.
+     * @return The number of games
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Get the lineup and rotation of the scenario, shared by the scenarios that only differ in games.
+     * @return The batters, the opponent and the pitchers
+     */
+    List<String> getPairKey() {
+        List<String> key = new ArrayList<>(batters);
+        key.add(opponent.getCmdName());
+        key.addAll(pitchers);
+        return key;
+    }
+
+    /**
+     * Check if two scenarios put the same players on the field for the same number of games.
+     * @param obj Object to compare
+     * @return true if the objects are equal
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return EqualsBuilder.reflectionEquals(this, obj, "order", "rotation");
+    }
+
+    /**
+     * Get the hash code of the object
+     * @return The hash code of the object
+     */
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this, "order", "rotation");
+    }
+
+    /**
+     * Info of the scenario.
+     * @return A string of the order, the opponent and its pitchers and the games
+     */
+    @Override
+    public String toString() {
+        return String.format("order %d vs %s (%s) x%d", order, opponent.getCmdName(), String.join(", ", pitchers),
+                games);
+    }
+}
@@ -0,0 +1,293 @@
+package model.simulation;
+
+import gameEnum.Fidelity;
+import gameEnum.RandomAlgorithm;
+import gameEnum.SimulationEngine;
+import gameEnum.Teams;
+import model.player.Batter;
+import model.player.Pitcher;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs every scenario of a ScenarioGrid.
+ * The grid is expanded order by opponent by rotation by games and every scenario is normalized to the roster names
+ * of its players, so duplicates are dropped. Scenarios with the same lineup and pitchers form a pair, and a pair is
+ * simulated once up to its largest game count: game i of every scenario of the grid is seeded with
+ * BatchSimulation.gameSeed(seed, i), so the scenario of n games is the first n games of its pair. The games of every
+ * pair are cut into tasks of at most GAMES_PER_TASK games, split at the game counts, and the tasks of all pairs run
+ * on one work-stealing pool so a large pair does not leave the other workers idle. Every pair is prepared once,
+ * so its matchup or inning tables are solved a single time and shared by all of its tasks.
+ */
+public class ScenarioExecutor {
+    /** Most games of one task, so a large pair is shared by several workers. */
+    static final int GAMES_PER_TASK = 10_000;
+
+    private final Teams team;
+    private final int parallelism;
+    private final SimulationEngine engine;
+    private final Fidelity fidelity;
+    private final RandomAlgorithm randomAlgorithm;
+    private final long seed;
+    private final List<Scenario> scenarios = new ArrayList<>();
+    private int listed = 0;
+    // lineup by batters and pitching lineup by opponent and pitchers, loaded once for every pair using them
+    private final Map<List<String>, PlayerTeam> lineups = new HashMap<>();
+    private final Map<List<String>, ComTeam> rotations = new HashMap<>();
+
+    /**
+     * Constructor of an executor using every available core.
+     * @param grid The scenario grid
+     */
+    public ScenarioExecutor(ScenarioGrid grid) {
+        this(grid, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor of an executor using a fixed number of worker threads, which normalizes and dedupes the grid.
+     * @param grid The scenario grid
+     * @param parallelism The number of worker threads
+     * @throws IllegalArgumentException if the grid names an unknown team or player or an invalid setting
+     */
+    public ScenarioExecutor(ScenarioGrid grid, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        if (grid.getTeam() == null) {
+            throw new IllegalArgumentException("A scenario file needs a team");
+        }
+        if (isEmpty(grid.getOrders()) || isEmpty(grid.getOpponents()) || isEmpty(grid.getRotations())
+                || isEmpty(grid.getGames())) {
+            throw new IllegalArgumentException("A scenario file needs orders, opponents, rotations and games");
+        }
+        this.team = Teams.fromCmdName(grid.getTeam());
+        this.parallelism = parallelism;
+        this.engine = SimulationEngine.fromName(grid.getEngine());
+        this.fidelity = Fidelity.fromName(grid.getFidelity());
+        this.randomAlgorithm = RandomAlgorithm.fromName(grid.getRng());
+        this.seed = grid.getSeed() != null ? grid.getSeed() : new SplittableRandom().nextLong();
+
+        List<List<String>> orders = normalizeOrders(grid.getOrders());
+        Map<Teams, List<List<String>>> pitchersByOpponent = new LinkedHashMap<>();
+        for (String name : grid.getOpponents()) {
+            Teams opponent = Teams.fromCmdName(name);
+            if (opponent == team) {
+                throw new IllegalArgumentException("The " + name + " cannot play themselves");
+            }
+            pitchersByOpponent.computeIfAbsent(opponent, o -> normalizeRotations(o, grid.getRotations()));
+        }
+        for (int games : grid.getGames()) {
+            if (games < 1) {
+                throw new IllegalArgumentException("Every scenario needs at least 1 game");
+            }
+        }
+
+        Set<Scenario> seen = new LinkedHashSet<>();
+        for (int order = 0; order < orders.size(); order++) {
+            for (String name : grid.getOpponents()) {
+                Teams opponent = Teams.fromCmdName(name);
+                List<List<String>> pitchers = pitchersByOpponent.get(opponent);
+                for (int rotation = 0; rotation < pitchers.size(); rotation++) {
+                    for (int games : grid.getGames()) {
+                        listed++;
+                        // the numbers of the first order and rotation with these players, so duplicates are equal
+                        seen.add(new Scenario(orders.indexOf(orders.get(order)) + 1, orders.get(order), opponent,
+                                grid.getRotations().get(pitchers.indexOf(pitchers.get(rotation))),
+                                pitchers.get(rotation), games));
+                    }
+                }
+            }
+        }
+        scenarios.addAll(seen);
+    }
+
+    /**
+     * Check whether a list of the scenario file is missing or empty.
+     * @param list The list
+     * @return true if there is nothing in it
+     */
+    private static boolean isEmpty(List<?> list) {
+        return list == null || list.isEmpty();
+    }
+
+    /**
+     * Replace the batter names of every order by their roster names and load every distinct lineup.
+     * @param orders The orders of the scenario file
+     * @return The orders with roster names
+     */
+    private List<List<String>> normalizeOrders(List<List<String>> orders) {
+        List<List<String>> normalized = new ArrayList<>();
+        for (int order = 0; order < orders.size(); order++) {
+            List<String> names = orders.get(order);
+            PlayerTeam lineup = new PlayerTeam(team);
+            if (names == null || names.size() != lineup.getBatterLineup().size()) {
+                throw new IllegalArgumentException("Order " + (order + 1) + " must name "
+                        + lineup.getBatterLineup().size() + " batters");
+            }
+            List<String> batters = new ArrayList<>();
+            for (int slot = 0; slot < names.size(); slot++) {
+                Batter batter = lineup.getBatterFromLoader(names.get(slot).trim());
+                if (batter == null) {
+                    throw new IllegalArgumentException("No batter named " + names.get(slot) + " on the "
+                            + team.getCmdName());
+                }
+                lineup.getBatterLineup().set(slot, batter);
+                batters.add(batter.getName());
+            }
+            lineups.putIfAbsent(batters, lineup);
+            normalized.add(batters);
+        }
+        return normalized;
+    }
+
+    /**
+     * Replace the rotation numbers of an opponent by its pitchers and load every distinct pitching lineup.
+     * @param opponent The opponent
+     * @param rotations The rotation numbers of the scenario file, from 1
+     * @return The starter, middle reliever and closer of every rotation
+     */
+    private List<List<String>> normalizeRotations(Teams opponent, List<Integer> rotations) {
+        List<List<String>> normalized = new ArrayList<>();
+        for (int rotation : rotations) {
+            if (rotation < 1) {
+                throw new IllegalArgumentException("Rotation numbers start at 1");
+            }
+            ComTeam comTeam = SeasonSimulation.rotation(opponent, rotation - 1);
+            List<String> pitchers = new ArrayList<>();
+            for (Pitcher pitcher : comTeam.getPitcherLineup()) {
+                pitchers.add(pitcher.getName());
+            }
+            List<String> key = new ArrayList<>(pitchers);
+            key.add(0, opponent.getCmdName());
+            this.rotations.putIfAbsent(key, comTeam);
+            normalized.add(pitchers);
+        }
+        return normalized;
+    }
+
+    /**
+     * Get the distinct scenarios of the grid.
+     * @return The scenarios, in the order they are first listed
+     */
+    public List<Scenario> getScenarios() {
+        return Collections.unmodifiableList(scenarios);
+    }
+
+    /**
+     * Get the number of scenarios the grid lists, duplicates included.
+     * @return The number of listed scenarios
+     */
+    public int getListed() {
+        return listed;
+    }
+
+    /**
+     * Get the batch seed shared by every scenario.
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Play every lineup and rotation pair once and give every scenario the first games of its pair.
+     * @return ScenarioGridResult contains one batch per scenario
+     */
+    public ScenarioGridResult run() {
+        Map<List<String>, TreeSet<Integer>> gamesByPair = new LinkedHashMap<>();
+        for (Scenario scenario : scenarios) {
+            gamesByPair.computeIfAbsent(scenario.getPairKey(), k -> new TreeSet<>()).add(scenario.getGames());
+        }
+
+        // every pair is cut at its game counts and every GAMES_PER_TASK games
+        List<Callable<BatchResult>> tasks = new ArrayList<>();
+        Map<List<String>, Integer> firstTask = new HashMap<>();
+        Map<List<String>, Map<Integer, Integer>> lastTask = new HashMap<>();
+        long gamesPlayed = 0;
+        for (Scenario scenario : scenarios) {
+            List<String> key = scenario.getPairKey();
+            if (firstTask.containsKey(key)) {
+                continue;
+            }
+            // the pair's tables are solved once and shared by all its tasks
+            BatchSimulation pair = new BatchSimulation(lineups.get(scenario.getBatters()), rotationOf(scenario), 1)
+                    .setEngine(engine)
+                    .setFidelity(fidelity)
+                    .setRandomAlgorithm(randomAlgorithm)
+                    .prepareRanges();
+
+            firstTask.put(key, tasks.size());
+            Map<Integer, Integer> last = new HashMap<>();
+            int from = 0;
+            for (int games : gamesByPair.get(key)) {
+                while (from < games) {
+                    int start = from;
+                    int end = Math.min(games, from + GAMES_PER_TASK);
+                    tasks.add(() -> pair.runOnCallingThread(start, end, seed));
+                    from = end;
+                }
+                last.put(games, tasks.size() - 1);
+            }
+            lastTask.put(key, last);
+            gamesPlayed += from;
+        }
+
+        List<BatchResult> parts = new ArrayList<>();
+        ExecutorService pool = Executors.newWorkStealingPool(parallelism);
+        try {
+            for (Future<BatchResult> part : pool.invokeAll(tasks)) {
+                parts.add(part.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while playing the scenarios", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                    : new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<BatchResult> results = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            List<String> key = scenario.getPairKey();
+            BatchResult batch = new BatchResult(team.getCmdName(), scenario.getOpponent().getCmdName());
+            for (int task = firstTask.get(key); task <= lastTask.get(key).get(scenario.getGames()); task++) {
+                batch.merge(parts.get(task));
+            }
+            batch.setSeed(seed);
+            batch.setBatters(lineups.get(scenario.getBatters()).getBatterLineup());
+            batch.setPitchers(rotationOf(scenario).getPitcherLineup());
+            results.add(batch);
+        }
+        return new ScenarioGridResult(team.getCmdName(), seed, listed, firstTask.size(), gamesPlayed, scenarios,
+                results);
+    }
+
+    /**
+     * Get the loaded opponent of a scenario with its pitching lineup set.
+     * @param scenario The scenario
+     * @return The opponent with the scenario's rotation
+     */
+    private ComTeam rotationOf(Scenario scenario) {
+        List<String> rotationKey = new ArrayList<>(scenario.getPitchers());
+        rotationKey.add(0, scenario.getOpponent().getCmdName());
+        return rotations.get(rotationKey);
+    }
+}
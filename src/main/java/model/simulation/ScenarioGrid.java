@@ -0,0 +1,203 @@
+package model.simulation;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gameEnum.Fidelity;
+import gameEnum.RandomAlgorithm;
+import gameEnum.SimulationEngine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scenario file read with Jackson: the cross product of batting orders, opponents, rotation choices and game
+ * counts to simulate, with the settings shared by every scenario. For example
+ * <pre>
+ * {
+ *   "team": "mariners",
+ *   "orders": [["Julio Rodriguez", "Cal Raleigh", ...], ...],
+ *   "opponents": ["angels", "astros"],
+ *   "rotations": [1, 2],
+ *   "games": [1000, 10000],
+ *   "engine": "kernel", "fidelity": "pa", "rng": "SplittableRandom", "seed": 42
+ * }
+ * </pre>
+ * Every order names nine batters of the team. Rotation k is the kth starter of the opponent by name, relieved by
+ * its relievers 2k - 1 and 2k, cycling like a SeasonSimulation. Unknown fields are rejected so a typo is not
+ * silently ignored.
+ */
+public class ScenarioGrid {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private String team;
+    private List<List<String>> orders = new ArrayList<>();
+    private List<String> opponents = new ArrayList<>();
+    private List<Integer> rotations = List.of(1);
+    private List<Integer> games = List.of(1000);
+    private String engine = SimulationEngine.REFERENCE.getName();
+    private String fidelity = Fidelity.PITCH.getName();
+    private String rng = RandomAlgorithm.SPLITTABLE.getName();
+    private Long seed = null;
+
+    /**
+     * Read a scenario file.
+     * @param file The JSON file
+     * @return The grid of the file
+     * @throws IllegalArgumentException if the file cannot be read or is not a scenario grid
+     */
+    public static ScenarioGrid read(Path file) {
+        try {
+            return MAPPER.readValue(file.toFile(), ScenarioGrid.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read scenario file " + file + ": "
+                    + e.getMessage().lines().findFirst().orElse(""), e);
+        }
+    }
+
+    /**
+     * Get the team the orders bat for.
+     * @return The team command name
+     */
+    public String getTeam() {
+        return team;
+    }
+
+    /**
+     * Set the team the orders bat for.
+     * @param team The team command name
+     */
+    public void setTeam(String team) {
+        this.team = team;
+    }
+
+    /**
+     * Get the batting orders.
+     * @return Every order, nine batter names each
+     */
+    public List<List<String>> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Set the batting orders.
+     * @param orders Every order, nine batter names each
+     */
+    public void setOrders(List<List<String>> orders) {
+        this.orders = orders;
+    }
+
+    /**
+     * Get the opponents.
+     * @return The opponent command names
+     */
+    public List<String> getOpponents() {
+        return opponents;
+    }
+
+    /**
+     * Set the opponents.
+     * @param opponents The opponent command names
+     */
+    public void setOpponents(List<String> opponents) {
+        this.opponents = opponents;
+    }
+
+    /**
+     * Get the rotation choices, 1 when the file has none.
+     * @return The rotation numbers, from 1
+     */
+    public List<Integer> getRotations() {
+        return rotations;
+    }
+
+    /**
+     * Set the rotation choices.
+     * @param rotations The rotation numbers, from 1
+     */
+    public void setRotations(List<Integer> rotations) {
+        this.rotations = rotations;
+    }
+
+    /**
+     * Get the game counts, 1000 when the file has none.
+     * @return The number of games of every scenario
+     */
+    public List<Integer> getGames() {
+        return games;
+    }
+
+    /**
+     * Set the game counts.
+     * @param games The number of games of every scenario
+     */
+    public void setGames(List<Integer> games) {
+        this.games = games;
+    }
+
+    /**
+     * Get the engine name.
+     * @return The engine name
+     */
+    public String getEngine() {
+        return engine;
+    }
+
+    /**
+     * Set the engine name.
+     * @param engine The engine name
+     */
+    public void setEngine(String engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Get the fidelity name.
+     * @return The fidelity name
+     */
+    public String getFidelity() {
+        return fidelity;
+    }
+
+    /**
+     * Set the fidelity name.
+     * @param fidelity The fidelity name
+     */
+    public void setFidelity(String fidelity) {
+        this.fidelity = fidelity;
+    }
+
+    /**
+     * Get the random algorithm name.
+     * @return The random algorithm name
+     */
+    public String getRng() {
+        return rng;
+    }
+
+    /**
+     * Set the random algorithm name.
+     * @param rng The random algorithm name
+     */
+    public void setRng(String rng) {
+        this.rng = rng;
+    }
+
+    /**
+     * Get the batch seed shared by every scenario.
+     * @return The seed, null for a fresh one
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Set the batch seed shared by every scenario.
+     * @param seed The seed, null for a fresh one
+     */
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+}
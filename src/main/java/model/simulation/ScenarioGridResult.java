@@ -0,0 +1,167 @@
+package model.simulation;
+
+import gameEnum.TrackedStat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Batches of every distinct scenario of a grid, with how much work the deduplication saved.
+ */
+public class ScenarioGridResult {
+    /** Header of the summary rows. */
+    public static final String CSV_HEADER = "order,opponent,rotation,games,batters,starter,reliever,closer,"
+            + "runs_per_game,runs_95_half_width,hits_per_game,home_runs_per_game,strikeouts_per_game,walks_per_game";
+
+    private final String playerTeamName;
+    private final long seed;
+    private final int listed;
+    private final int pairs;
+    private final long gamesPlayed;
+    private final List<Scenario> scenarios;
+    private final List<BatchResult> results;
+
+    /**
+     * Constructor of the result of a grid.
+     * @param playerTeamName The team the orders bat for
+     * @param seed The batch seed shared by every scenario
+     * @param listed The number of scenarios the grid lists, duplicates included
+     * @param pairs The number of lineup and rotation pairs simulated
+     * @param gamesPlayed The number of games simulated
+     * @param scenarios The distinct scenarios
+     * @param results The batch of every scenario, in the same order
+     */
+    public ScenarioGridResult(String playerTeamName, long seed, int listed, int pairs, long gamesPlayed,
+                              List<Scenario> scenarios, List<BatchResult> results) {
+        if (scenarios.size() != results.size()) {
+            throw new IllegalArgumentException("Every scenario needs one batch");
+        }
+        this.playerTeamName = playerTeamName;
+        this.seed = seed;
+        this.listed = listed;
+        this.pairs = pairs;
+        this.gamesPlayed = gamesPlayed;
+        this.scenarios = Collections.unmodifiableList(new ArrayList<>(scenarios));
+        this.results = Collections.unmodifiableList(new ArrayList<>(results));
+    }
+
+    /**
+     * Get the distinct scenarios.
+     * @return The scenarios, in the order they are first listed
+     */
+    public List<Scenario> getScenarios() {
+        return scenarios;
+    }
+
+    /**
+     * Get the batch of one scenario.
+     * @param scenario The index of the scenario
+     * @return The batch
+     */
+    public BatchResult getResult(int scenario) {
+        return results.get(scenario);
+    }
+
+    /**
+     * Get the number of scenarios the grid lists, duplicates included.
+     * @return The number of listed scenarios
+     */
+    public int getListed() {
+        return listed;
+    }
+
+    /**
+     * Get the number of lineup and rotation pairs simulated.
+     * @return The number of pairs
+     */
+    public int getPairs() {
+        return pairs;
+    }
+
+    /**
+     * Get the number of games simulated, each pair only once up to its largest game count.
+     * @return The number of games
+     */
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Get the batch seed shared by every scenario.
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Get one summary row per scenario.
+     * @return The header and the rows, comma separated
+     */
+    public List<String> getRows() {
+        List<String> rows = new ArrayList<>();
+        rows.add(CSV_HEADER);
+        for (int i = 0; i < scenarios.size(); i++) {
+            Scenario scenario = scenarios.get(i);
+            BatchResult batch = results.get(i);
+            double games = batch.getGames();
+            rows.add(String.join(",", String.valueOf(scenario.getOrder()), scenario.getOpponent().getCmdName(),
+                    String.valueOf(scenario.getRotation()), String.valueOf(scenario.getGames()),
+                    Csv.quote(String.join(";", scenario.getBatters())), Csv.quote(scenario.getPitchers().get(0)),
+                    Csv.quote(scenario.getPitchers().get(1)), Csv.quote(scenario.getPitchers().get(2)),
+                    String.format("%.4f", batch.getAverageRuns()),
+                    String.format("%.4f", batch.getHalfWidth(TrackedStat.RUNS, PrecisionTarget.Z_95)),
+                    String.format("%.4f", batch.getTotalHits() / games),
+                    String.format("%.4f", batch.getTotalHomeRuns() / games),
+                    String.format("%.4f", batch.getTotalStrikeouts() / games),
+                    String.format("%.4f", batch.getTotalWalks() / games)));
+        }
+        return rows;
+    }
+
+    /**
+     * Write the summary rows to a file.
+     * @param file The CSV file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeCsv(Path file) throws IOException {
+        Files.write(file, getRows());
+    }
+
+    /**
+     * Generate a report of the runs of every scenario with 95% intervals.
+     * @return A formatted string containing the scenarios
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=====Scenario Grid=====\n\n");
+        sb.append(String.format("%s, %d scenarios listed, %d distinct, %d lineup/rotation pairs, %d games played\n",
+                playerTeamName, listed, scenarios.size(), pairs, gamesPlayed));
+        sb.append(String.format("Seed: %d\n\n", seed));
+
+        sb.append(String.format("%5s %-12s %-22s %8s %10s %8s\n", "Order", "Opponent", "Starter", "Games",
+                "Runs/game", "+/-"));
+        for (int i = 0; i < scenarios.size(); i++) {
+            Scenario scenario = scenarios.get(i);
+            BatchResult batch = results.get(i);
+            sb.append(String.format("%5d %-12s %-22s %8d %10.3f %8.3f\n", scenario.getOrder(),
+                    scenario.getOpponent().getCmdName(), scenario.getPitchers().get(0), scenario.getGames(),
+                    batch.getAverageRuns(), batch.getHalfWidth(TrackedStat.RUNS, PrecisionTarget.Z_95)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Info of the grid.
+     * @return A string of the number of scenarios and games
+     */
+    @Override
+    public String toString() {
+        return String.format("%s: %d distinct scenarios of %d listed, %d games played", playerTeamName,
+                scenarios.size(), listed, gamesPlayed);
+    }
+}
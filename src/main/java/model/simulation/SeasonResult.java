@@ -0,0 +1,229 @@
+package model.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Running totals of many seasons of one lineup: the runs of every season, their distribution and the runs per
+ * game against every opponent. Games and seasons are folded in as they finish and no game is kept, so any
+ * number of seasons fits in the same memory.
+ */
+public class SeasonResult {
+    private static final double[] PERCENTILES = {0.05, 0.25, 0.5, 0.75, 0.95};
+
+    private final String playerTeamName;
+    private final List<String> opponentNames;
+    private final RunningStatistic seasonRuns = new RunningStatistic();
+    // indexed by opponent, runs of every game against it
+    private final RunningStatistic[] opponentRuns;
+    // number of seasons by season runs, grown on demand
+    private long[] seasonsByRuns = new long[1024];
+    private Long seed = null;
+
+    /**
+     * Constructor of an empty result.
+     * @param playerTeamName The player team name
+     * @param opponentNames The name of every opponent, in schedule order
+     */
+    public SeasonResult(String playerTeamName, List<String> opponentNames) {
+        this.playerTeamName = playerTeamName;
+        this.opponentNames = Collections.unmodifiableList(new ArrayList<>(opponentNames));
+        this.opponentRuns = new RunningStatistic[opponentNames.size()];
+        for (int i = 0; i < opponentRuns.length; i++) {
+            opponentRuns[i] = new RunningStatistic();
+        }
+    }
+
+    /**
+     * Add one game of a season.
+     * @param opponent The index of the opponent
+     * @param runs The runs of the game
+     */
+    public void addGame(int opponent, int runs) {
+        opponentRuns[opponent].add(runs);
+    }
+
+    /**
+     * Add the run total of a finished season.
+     * @param runs The runs of the season
+     */
+    public void addSeason(int runs) {
+        if (runs < 0) {
+            throw new IllegalArgumentException("Season runs cannot be negative");
+        }
+        seasonRuns.add(runs);
+        ensureCapacity(runs + 1);
+        seasonsByRuns[runs]++;
+    }
+
+    /**
+     * Fold another result of the same schedule into this one.
+     * @param other The result to merge, left unchanged
+     */
+    public void merge(SeasonResult other) {
+        seasonRuns.merge(other.seasonRuns);
+        for (int i = 0; i < opponentRuns.length; i++) {
+            opponentRuns[i].merge(other.opponentRuns[i]);
+        }
+        ensureCapacity(other.seasonsByRuns.length);
+        for (int runs = 0; runs < other.seasonsByRuns.length; runs++) {
+            seasonsByRuns[runs] += other.seasonsByRuns[runs];
+        }
+    }
+
+    /**
+     * Grow the distribution of season runs.
+     * @param length The length it needs
+     */
+    private void ensureCapacity(int length) {
+        if (length > seasonsByRuns.length) {
+            seasonsByRuns = Arrays.copyOf(seasonsByRuns, Math.max(length, 2 * seasonsByRuns.length));
+        }
+    }
+
+    /**
+     * Get the player team name.
+     * @return The player team name
+     */
+    public String getPlayerTeamName() {
+        return playerTeamName;
+    }
+
+    /**
+     * Get the name of every opponent.
+     * @return The opponent names, in schedule order
+     */
+    public List<String> getOpponentNames() {
+        return opponentNames;
+    }
+
+    /**
+     * Get the number of seasons played.
+     * @return The number of seasons
+     */
+    public long getSeasons() {
+        return seasonRuns.getCount();
+    }
+
+    /**
+     * Get the number of games played over every season.
+     * @return The number of games
+     */
+    public long getGames() {
+        long games = 0;
+        for (RunningStatistic opponent : opponentRuns) {
+            games += opponent.getCount();
+        }
+        return games;
+    }
+
+    /**
+     * Get the running statistic of the runs of every season.
+     * @return The running statistic
+     */
+    public RunningStatistic getSeasonRuns() {
+        return seasonRuns;
+    }
+
+    /**
+     * Get the running statistic of the runs per game against one opponent.
+     * @param opponent The index of the opponent
+     * @return The running statistic
+     */
+    public RunningStatistic getOpponentRuns(int opponent) {
+        return opponentRuns[opponent];
+    }
+
+    /**
+     * Get the season runs below which a share of the seasons fall, by nearest rank.
+     * @param share The share of the seasons, in (0, 1]
+     * @return The season runs at the percentile, 0 before any season
+     */
+    public int getPercentile(double share) {
+        if (!(share > 0) || share > 1) {
+            throw new IllegalArgumentException("Percentile share must be in (0, 1]");
+        }
+        long rank = (long) Math.ceil(share * getSeasons());
+        long seen = 0;
+        for (int runs = 0; runs < seasonsByRuns.length; runs++) {
+            seen += seasonsByRuns[runs];
+            if (seen >= rank && seen > 0) {
+                return runs;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Get the opponents ordered by runs per game, the most runs first.
+     * @return The opponent indexes
+     */
+    public List<Integer> getStandings() {
+        List<Integer> standings = new ArrayList<>();
+        for (int i = 0; i < opponentRuns.length; i++) {
+            standings.add(i);
+        }
+        standings.sort(Comparator.comparingDouble((Integer i) -> opponentRuns[i].getMean()).reversed());
+        return standings;
+    }
+
+    /**
+     * Get the batch seed the seasons were derived from.
+     * @return The seed, null if the seasons were not played from one
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Set the batch seed the seasons were derived from.
+     * @param seed The batch seed
+     */
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Generate a report of the season runs and the runs against every opponent with 95% intervals.
+     * @return A formatted string containing the seasons
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=====Season Simulation=====\n\n");
+        sb.append(String.format("%s, %d seasons of %d games against %d opponents\n", playerTeamName, getSeasons(),
+                getSeasons() == 0 ? 0 : getGames() / getSeasons(), opponentNames.size()));
+        if (seed != null) {
+            sb.append(String.format("Seed: %d\n", seed));
+        }
+        sb.append(String.format("Runs per season: %.1f +/- %.1f (SD %.1f)\n", seasonRuns.getMean(),
+                seasonRuns.getHalfWidth(PrecisionTarget.Z_95), Math.sqrt(seasonRuns.getVariance())));
+        sb.append("Percentiles:");
+        for (double share : PERCENTILES) {
+            sb.append(String.format(" %.0f%%: %d", 100 * share, getPercentile(share)));
+        }
+        sb.append("\n\n");
+
+        sb.append(String.format("%-4s %-14s %10s %10s %8s\n", "", "Opponent", "Games/yr", "Runs/game", "+/-"));
+        int rank = 1;
+        for (int opponent : getStandings()) {
+            RunningStatistic runs = opponentRuns[opponent];
+            sb.append(String.format("%3d. %-14s %10.0f %10.3f %8.3f\n", rank++, opponentNames.get(opponent),
+                    getSeasons() == 0 ? 0.0 : (double) runs.getCount() / getSeasons(), runs.getMean(),
+                    runs.getHalfWidth(PrecisionTarget.Z_95)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Info of the seasons.
+     * @return A string of the mean and median season runs
+     */
+    @Override
+    public String toString() {
+        return String.format("%s: %.1f runs per season (median %d) over %d seasons", playerTeamName,
+                seasonRuns.getMean(), getSeasons() == 0 ? 0 : getPercentile(0.5), getSeasons());
+    }
+}
@@ -0,0 +1,303 @@
+package model.simulation;
+
+import gameEnum.Fidelity;
+import gameEnum.RandomAlgorithm;
+import gameEnum.Teams;
+import model.inning.BaseAdvancementTable;
+import model.player.Pitcher;
+import model.random.RandomStreams;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * Many seasons of one lineup against every other team of the league, played on the game kernel.
+ * The schedule visits the opponents in rounds, in Teams order, until GAMES_PER_SEASON games are scheduled,
+ * so every opponent is played 5 or 6 times. Every opponent rotates its pitchers by Pitcher.getRotation():
+ * game j against it is started by its starter j and finished by its relievers 2j and 2j + 1, cycling through
+ * each list in name order.
+ * Seasons are split over worker threads like a BatchSimulation and every game is folded into a SeasonResult as
+ * it finishes, so no game result is kept. Season s is seeded with BatchSimulation.gameSeed(seed, s) and its game g
+ * with BatchSimulation.gameSeed of that seed and g, so a seed gives the same seasons on any number of threads.
+ * Only the lineup bats, so the opponents are ranked by the runs the lineup scores against them.
+ */
+public class SeasonSimulation {
+    /** Games of one season. */
+    public static final int GAMES_PER_SEASON = 162;
+    /** Seasons played sequentially by one task before it stops splitting. */
+    static final int SEASONS_PER_TASK = 4;
+    private static final int STARTER = 1;
+    private static final int RELIEVER = 2;
+
+    private final PlayerTeam playerTeam;
+    private final int parallelism;
+    private final List<Teams> opponents = new ArrayList<>();
+    // opponent index and pitching lineup of every game of the season
+    private final int[] opponentOfGame = new int[GAMES_PER_SEASON];
+    private final ComTeam[] rotationOfGame = new ComTeam[GAMES_PER_SEASON];
+    private BaseAdvancementTable baseAdvancement = BaseAdvancementTable.STANDARD;
+    private Fidelity fidelity = Fidelity.PITCH;
+    private RandomAlgorithm randomAlgorithm = RandomAlgorithm.SPLITTABLE;
+    // solved plate appearances of every game of the run, null when playing pitch by pitch
+    private MatchupTable[] matchups;
+
+    /**
+     * Constructor of seasons using every available core.
+     * @param playerTeam The player team
+     */
+    public SeasonSimulation(PlayerTeam playerTeam) {
+        this(playerTeam, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor of seasons using a fixed number of worker threads, which loads every opponent and its rotation.
+     * @param playerTeam The player team
+     * @param parallelism The number of worker threads
+     */
+    public SeasonSimulation(PlayerTeam playerTeam, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.playerTeam = playerTeam;
+        this.parallelism = parallelism;
+        for (Teams team : Teams.values()) {
+            if (!team.getCmdName().equals(playerTeam.getTeamName())) {
+                opponents.add(team);
+            }
+        }
+        buildSchedule();
+    }
+
+    /**
+     * Schedule the opponents in rounds and give every game the rotation of its opponent.
+     */
+    private void buildSchedule() {
+        int[] scheduled = new int[opponents.size()];
+        int game = 0;
+        for (int round = 0; game < GAMES_PER_SEASON; round++) {
+            for (int opponent = 0; opponent < opponents.size() && game < GAMES_PER_SEASON; opponent++) {
+                opponentOfGame[game] = opponent;
+                rotationOfGame[game] = rotation(opponents.get(opponent), scheduled[opponent]++);
+                game++;
+            }
+        }
+    }
+
+    /**
+     * Load an opponent with the pitchers of one of its games against the lineup.
+     * @param team The opponent
+     * @param game The index of the game among those against this opponent
+     * @return The opponent with its pitching lineup set
+     */
+    static ComTeam rotation(Teams team, int game) {
+        ComTeam comTeam = new ComTeam(team);
+        List<Pitcher> starters = new ArrayList<>();
+        List<Pitcher> relievers = new ArrayList<>();
+        for (Pitcher pitcher : comTeam.getPitcherLoaderLineup()) {
+            if (!hasPitchMix(pitcher)) {
+                continue;
+            }
+            if (pitcher.getRotation() == STARTER) {
+                starters.add(pitcher);
+            } else if (pitcher.getRotation() == RELIEVER) {
+                relievers.add(pitcher);
+            }
+        }
+        if (starters.isEmpty() || relievers.size() < 2) {
+            throw new IllegalStateException("The " + team.getCmdName() + " need a starter and two relievers");
+        }
+        // the loader lineup is a set, so the rotation order is fixed by name
+        starters.sort(Comparator.comparing(Pitcher::getName));
+        relievers.sort(Comparator.comparing(Pitcher::getName));
+        comTeam.getPitcherLineup().set(0, starters.get(game % starters.size()));
+        comTeam.getPitcherLineup().set(1, relievers.get(2 * game % relievers.size()));
+        comTeam.getPitcherLineup().set(2, relievers.get((2 * game + 1) % relievers.size()));
+        return comTeam;
+    }
+
+    /**
+     * Check whether a pitcher from a roster file can be put on the mound.
+     * @param pitcher The pitcher
+     * @return false for rows without any pitch share, such as position players who pitched
+     */
+    private static boolean hasPitchMix(Pitcher pitcher) {
+        try {
+            pitcher.getPitchMixSampler();
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Get every opponent of the season.
+     * @return The opponents, in schedule order
+     */
+    public List<Teams> getOpponents() {
+        return Collections.unmodifiableList(opponents);
+    }
+
+    /**
+     * Get the opponent of one game of the season.
+     * @param game The index of the game in the season
+     * @return The opponent
+     */
+    public Teams getOpponent(int game) {
+        return opponents.get(opponentOfGame[game]);
+    }
+
+    /**
+     * Get the pitchers of one game of the season.
+     * @param game The index of the game in the season
+     * @return The starter, middle reliever and closer
+     */
+    public List<Pitcher> getRotation(int game) {
+        return Collections.unmodifiableList(rotationOfGame[game].getPitcherLineup());
+    }
+
+    /**
+     * Get the number of worker threads.
+     * @return The number of worker threads
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Set the base running rules.
+     * @param baseAdvancement The table that moves runners on hits and walks
+     * @return This simulation
+     */
+    public SeasonSimulation setBaseAdvancement(BaseAdvancementTable baseAdvancement) {
+        this.baseAdvancement = baseAdvancement;
+        return this;
+    }
+
+    /**
+     * Get the level of detail every game is played at.
+     * @return The fidelity
+     */
+    public Fidelity getFidelity() {
+        return fidelity;
+    }
+
+    /**
+     * Set the level of detail every game is played at.
+     * @param fidelity The fidelity
+     * @return This simulation
+     */
+    public SeasonSimulation setFidelity(Fidelity fidelity) {
+        this.fidelity = fidelity;
+        return this;
+    }
+
+    /**
+     * Set the algorithm of the random stream of every game.
+     * @param randomAlgorithm The random algorithm
+     * @return This simulation
+     */
+    public SeasonSimulation setRandomAlgorithm(RandomAlgorithm randomAlgorithm) {
+        this.randomAlgorithm = randomAlgorithm;
+        return this;
+    }
+
+    /**
+     * Play many seasons and fold them into one result.
+     * @param seasons The number of seasons to play
+     * @param seed The batch seed, every season seed is derived from it
+     * @return SeasonResult contains the totals of every season
+     */
+    public SeasonResult run(int seasons, long seed) {
+        if (seasons < 0) {
+            throw new IllegalArgumentException("Number of seasons cannot be negative");
+        }
+        matchups = new MatchupTable[GAMES_PER_SEASON];
+        for (int game = 0; game < GAMES_PER_SEASON; game++) {
+            new Simulation(playerTeam, rotationOfGame[game]).validateTeamsBeforeSimulation();
+            if (fidelity == Fidelity.PLATE_APPEARANCE) {
+                matchups[game] = new MatchupTable(playerTeam, rotationOfGame[game]);
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            SeasonResult result = pool.invoke(new SeasonRangeTask(seed, 0, seasons));
+            result.setSeed(seed);
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays the seasons in [from, to), splitting in halves until a range is small enough to play directly.
+     */
+    private class SeasonRangeTask extends RecursiveTask<SeasonResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        SeasonRangeTask(long seed, int from, int to) {
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SeasonResult compute() {
+            if (to - from <= SEASONS_PER_TASK) {
+                return playRange();
+            }
+
+            int middle = (from + to) >>> 1;
+            SeasonRangeTask left = new SeasonRangeTask(seed, from, middle);
+            SeasonRangeTask right = new SeasonRangeTask(seed, middle, to);
+            left.fork();
+            SeasonResult result = right.compute();
+            SeasonResult leftResult = left.join();
+            leftResult.merge(result);
+            return leftResult;
+        }
+
+        /**
+         * Play every season of the range, reusing one kernel per game of the schedule and one result.
+         * @return SeasonResult contains the seasons of the range
+         */
+        private SeasonResult playRange() {
+            List<String> names = new ArrayList<>();
+            for (Teams opponent : opponents) {
+                names.add(opponent.getCmdName());
+            }
+            SeasonResult seasons = new SeasonResult(playerTeam.getTeamName(), names);
+            GameKernel[] kernels = new GameKernel[GAMES_PER_SEASON];
+            for (int game = 0; game < GAMES_PER_SEASON; game++) {
+                kernels[game] = new GameKernel(playerTeam, rotationOfGame[game], baseAdvancement, matchups[game]);
+            }
+            SimulationResult result = new SimulationResult(playerTeam.getTeamName(), "");
+            RandomGenerator random = null;
+
+            for (int season = from; season < to; season++) {
+                long seasonSeed = BatchSimulation.gameSeed(seed, season);
+                int total = 0;
+                for (int game = 0; game < GAMES_PER_SEASON; game++) {
+                    random = RandomStreams.reseed(randomAlgorithm, random, BatchSimulation.gameSeed(seasonSeed, game));
+                    result.reset();
+                    int runs = kernels[game].playGame(random, result).getPlayerTeamScore();
+                    seasons.addGame(opponentOfGame[game], runs);
+                    total += runs;
+                }
+                seasons.addSeason(total);
+            }
+            return seasons;
+        }
+    }
+}
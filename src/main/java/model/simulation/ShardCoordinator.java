@@ -0,0 +1,262 @@
+package model.simulation;
+
+import gameEnum.Fidelity;
+import gameEnum.RandomAlgorithm;
+import gameEnum.SimulationEngine;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batch split over several worker JVMs on this machine.
+ * The games are cut into SHARDS_PER_WORKER shards per worker. Every shard is played by a ShardWorker process
+ * launched with ProcessBuilder, which sends its BatchResult back on its standard output. The shards are merged
+ * in game order, so the totals are those of BatchSimulation.run with the same seed. A shard whose process
+ * crashes, exits with an error or sends no result is played again by a new process, up to MAX_ATTEMPTS times.
+ */
+public class ShardCoordinator {
+    /** Most processes launched for one shard before the batch fails. */
+    public static final int MAX_ATTEMPTS = 3;
+    /** Shards per worker, so a crash only replays a part of a worker's games. */
+    static final int SHARDS_PER_WORKER = 2;
+
+    private final PlayerTeam playerTeam;
+    private final ComTeam comTeam;
+    private final int workers;
+    private SimulationEngine engine = SimulationEngine.REFERENCE;
+    private Fidelity fidelity = Fidelity.PITCH;
+    private boolean antithetic = false;
+    private RandomAlgorithm randomAlgorithm = RandomAlgorithm.SPLITTABLE;
+    // command that starts a worker, the shard arguments are appended to it
+    private List<String> workerCommand;
+    private final AtomicInteger retries = new AtomicInteger();
+
+    /**
+     * Constructor of a coordinator that starts workers with the java and class path of this JVM.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param workers The number of worker processes running at once
+     */
+    public ShardCoordinator(PlayerTeam playerTeam, ComTeam comTeam, int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Worker count must be at least 1");
+        }
+        this.playerTeam = playerTeam;
+        this.comTeam = comTeam;
+        this.workers = workers;
+        this.workerCommand = defaultWorkerCommand();
+    }
+
+    /**
+     * Build the command that starts a worker with the java, class path and vector module of this JVM.
+     * @return The command, without the shard arguments
+     */
+    private static List<String> defaultWorkerCommand() {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        if (LaneKernel.VECTOR_MODULE) {
+            command.add("--add-modules");
+            command.add("jdk.incubator.vector");
+        }
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), ShardWorker.class.getName()));
+        return List.copyOf(command);
+    }
+
+    /**
+     * Set the engine that plays the games.
+     * @param engine The simulation engine
+     * @return This coordinator
+     */
+    public ShardCoordinator setEngine(SimulationEngine engine) {
+        this.engine = engine;
+        return this;
+    }
+
+    /**
+     * Set the level of detail the games are played at.
+     * @param fidelity The fidelity
+     * @return This coordinator
+     */
+    public ShardCoordinator setFidelity(Fidelity fidelity) {
+        this.fidelity = fidelity;
+        return this;
+    }
+
+    /**
+     * Set whether the games are played in antithetic pairs.
+     * @param antithetic true to pair the games
+     * @return This coordinator
+     */
+    public ShardCoordinator setAntithetic(boolean antithetic) {
+        this.antithetic = antithetic;
+        return this;
+    }
+
+    /**
+     * Set the algorithm of the random stream of every game.
+     * @param randomAlgorithm The random algorithm
+     * @return This coordinator
+     */
+    public ShardCoordinator setRandomAlgorithm(RandomAlgorithm randomAlgorithm) {
+        this.randomAlgorithm = randomAlgorithm;
+        return this;
+    }
+
+    /**
+     * Replace the command that starts a worker, such as a wrapper script or a remote shell.
+     * @param workerCommand The command, the shard arguments are appended to it
+     * @return This coordinator
+     */
+    ShardCoordinator setWorkerCommand(List<String> workerCommand) {
+        this.workerCommand = List.copyOf(workerCommand);
+        return this;
+    }
+
+    /**
+     * Get the number of worker processes running at once.
+     * @return The number of workers
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Get how many shards were played again after a failed process, over every run.
+     * @return The number of retries
+     */
+    public int getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * Play a batch over the worker processes and merge their results.
+     * @param games The number of games to play
+     * @param seed The batch seed, every game seed is derived from it
+     * @return BatchResult contains the totals of every game
+     */
+    public BatchResult run(int games, long seed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games cannot be negative");
+        }
+        // check the lineups here rather than in every worker
+        new Simulation(playerTeam, comTeam).validateTeamsBeforeSimulation();
+        // no games make no shards, so an empty batch is returned without starting a worker
+        int shards = Math.min(games, workers * SHARDS_PER_WORKER);
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / workers);
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<BatchResult>> results = new ArrayList<>();
+            for (int shard = 0; shard < shards; shard++) {
+                int from = boundary(games, shards, shard);
+                int to = boundary(games, shards, shard + 1);
+                List<String> command = new ArrayList<>(workerCommand);
+                command.addAll(ShardWorker.arguments(playerTeam, comTeam, engine, fidelity, antithetic,
+                        randomAlgorithm, threads, seed, from, to));
+                results.add(pool.submit(() -> playShard(command, from, to)));
+            }
+
+            BatchResult batch = new BatchResult(playerTeam.getTeamName(), comTeam.getTeamName());
+            for (Future<BatchResult> result : results) {
+                batch.merge(result.get());
+            }
+            batch.setSeed(seed);
+            batch.setBatters(playerTeam.getBatterLineup());
+            batch.setPitchers(comTeam.getPitcherLineup());
+            return batch;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the workers", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IllegalStateException ? (IllegalStateException) e.getCause()
+                    : new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Get the first game of a shard, on an even game when the games are paired.
+     * @param games The number of games of the batch
+     * @param shards The number of shards
+     * @param shard The index of the shard, shards for the end of the batch
+     * @return The index of the first game of the shard
+     */
+    private int boundary(int games, int shards, int shard) {
+        if (shard == shards) {
+            return games;
+        }
+        int from = (int) ((long) games * shard / shards);
+        return antithetic ? from & ~1 : from;
+    }
+
+    /**
+     * Play one shard, launching a new process after every failure.
+     * @param command The command of the worker with the shard arguments
+     * @param from The index of the first game of the shard
+     * @param to The index after the last game of the shard
+     * @return BatchResult contains the games of the shard
+     */
+    private BatchResult playShard(List<String> command, int from, int to) throws InterruptedException {
+        String failure = null;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            if (attempt > 1) {
+                retries.incrementAndGet();
+            }
+            try {
+                return launch(command);
+            } catch (IOException | IllegalStateException e) {
+                failure = e.getMessage();
+            }
+        }
+        throw new IllegalStateException(String.format("Shard of games [%d, %d) failed %d times: %s", from, to,
+                MAX_ATTEMPTS, failure));
+    }
+
+    /**
+     * Run one worker process and read its result.
+     * @param command The command of the worker with the shard arguments
+     * @return BatchResult sent back by the worker
+     * @throws IOException if the process cannot be started or read
+     */
+    private BatchResult launch(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String encoded = null;
+        String lastLine = null;
+        try (BufferedReader reader = process.inputReader()) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(ShardWorker.RESULT_PREFIX)) {
+                    encoded = line.substring(ShardWorker.RESULT_PREFIX.length());
+                } else if (!line.isBlank()) {
+                    lastLine = line;
+                }
+            }
+        } catch (IOException e) {
+            process.destroyForcibly();
+            throw e;
+        }
+        int exitCode;
+        try {
+            exitCode = process.waitFor();
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            throw e;
+        }
+        if (exitCode != 0 || encoded == null) {
+            throw new IllegalStateException("Worker exited with status " + exitCode
+                    + (lastLine == null ? "" : ": " + lastLine));
+        }
+        return ShardWorker.decode(encoded);
+    }
+}
@@ -0,0 +1,202 @@
+package model.simulation;
+
+import gameEnum.Fidelity;
+import gameEnum.RandomAlgorithm;
+import gameEnum.SimulationEngine;
+import gameEnum.StopReason;
+import gameEnum.Teams;
+import model.player.Batter;
+import model.player.Pitcher;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Entry point of a worker process launched by a ShardCoordinator.
+ * The arguments name the lineups, the batch settings and the game range of the shard; the worker plays the range
+ * and prints its BatchResult serialized on one line after RESULT_PREFIX, then exits. Any other output is ignored
+ * by the coordinator, and a failure exits with status 1 so the shard is played again.
+ */
+public final class ShardWorker {
+    /** Start of the line that carries the result of the shard. */
+    static final String RESULT_PREFIX = "SHARD_RESULT ";
+    /** Classes a shard result is made of, primitive arrays aside. Any other class is rejected before it is built. */
+    private static final ObjectInputFilter RESULT_FILTER = ObjectInputFilter.Config.createFilter(String.join(";",
+            BatchResult.class.getName(), BattingLines.class.getName(), PitchingLines.class.getName(),
+            SimulationSummary.class.getName(), RunningStatistic.class.getName(), Histogram.class.getName(),
+            StopReason.class.getName(), Enum.class.getName(), String.class.getName(), Long.class.getName(),
+            Number.class.getName(), "!*"));
+
+    private ShardWorker() {
+    }
+
+    /**
+     * Play the shard given by the arguments and print its result.
+     * @param args --team [team] --opponent [team] --batter [name] (9 times) --pitcher [name] (3 times)
+     *             --engine [engine] --fidelity [fidelity] --rng [algorithm] --antithetic --threads [n]
+     *             --seed [seed] --from [game] --to [game]
+     */
+    public static void main(String[] args) {
+        try {
+            System.out.println(RESULT_PREFIX + encode(play(args)));
+        } catch (RuntimeException e) {
+            System.err.println("Shard failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Build the arguments of a shard, the inverse of play.
+     * @param playerTeam The player team with a complete batting lineup
+     * @param comTeam The computer team with a complete pitching lineup
+     * @param engine The engine that plays the games
+     * @param fidelity The level of detail of the games
+     * @param antithetic true to play the games in antithetic pairs
+     * @param randomAlgorithm The algorithm of the random stream of every game
+     * @param threads The number of worker threads of the process
+     * @param seed The batch seed
+     * @param from The index of the first game of the shard
+     * @param to The index after the last game of the shard
+     * @return The arguments of main
+     */
+    static List<String> arguments(PlayerTeam playerTeam, ComTeam comTeam, SimulationEngine engine, Fidelity fidelity,
+                                  boolean antithetic, RandomAlgorithm randomAlgorithm, int threads, long seed,
+                                  int from, int to) {
+        List<String> args = new ArrayList<>(List.of("--team", playerTeam.getTeamName(),
+                "--opponent", comTeam.getTeamName()));
+        for (Batter batter : playerTeam.getBatterLineup()) {
+            args.add("--batter");
+            args.add(batter.getName());
+        }
+        for (Pitcher pitcher : comTeam.getPitcherLineup()) {
+            args.add("--pitcher");
+            args.add(pitcher.getName());
+        }
+        args.addAll(List.of("--engine", engine.getName(), "--fidelity", fidelity.getName(),
+                "--rng", randomAlgorithm.getName(), "--threads", String.valueOf(threads),
+                "--seed", String.valueOf(seed), "--from", String.valueOf(from), "--to", String.valueOf(to)));
+        if (antithetic) {
+            args.add("--antithetic");
+        }
+        return args;
+    }
+
+    /**
+     * Rebuild the lineups and settings of a shard and play its games.
+     * @param args The arguments built by arguments
+     * @return BatchResult contains the games of the shard
+     */
+    static BatchResult play(String[] args) {
+        PlayerTeam playerTeam = null;
+        ComTeam comTeam = null;
+        List<String> batters = new ArrayList<>();
+        List<String> pitchers = new ArrayList<>();
+        SimulationEngine engine = SimulationEngine.REFERENCE;
+        Fidelity fidelity = Fidelity.PITCH;
+        RandomAlgorithm randomAlgorithm = RandomAlgorithm.SPLITTABLE;
+        boolean antithetic = false;
+        int threads = 1;
+        long seed = 0;
+        int from = 0;
+        int to = 0;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--antithetic")) {
+                antithetic = true;
+                continue;
+            }
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value of " + option);
+            }
+            String value = args[++i];
+            if (option.equals("--team")) {
+                playerTeam = new PlayerTeam(Teams.fromCmdName(value));
+            } else if (option.equals("--opponent")) {
+                comTeam = new ComTeam(Teams.fromCmdName(value));
+            } else if (option.equals("--batter")) {
+                batters.add(value);
+            } else if (option.equals("--pitcher")) {
+                pitchers.add(value);
+            } else if (option.equals("--engine")) {
+                engine = SimulationEngine.fromName(value);
+            } else if (option.equals("--fidelity")) {
+                fidelity = Fidelity.fromName(value);
+            } else if (option.equals("--rng")) {
+                randomAlgorithm = RandomAlgorithm.fromName(value);
+            } else if (option.equals("--threads")) {
+                threads = Integer.parseInt(value);
+            } else if (option.equals("--seed")) {
+                seed = Long.parseLong(value);
+            } else if (option.equals("--from")) {
+                from = Integer.parseInt(value);
+            } else if (option.equals("--to")) {
+                to = Integer.parseInt(value);
+            } else {
+                throw new IllegalArgumentException("Unknown shard option " + option);
+            }
+        }
+        if (playerTeam == null || comTeam == null) {
+            throw new IllegalArgumentException("A shard needs --team and --opponent");
+        }
+        for (int slot = 0; slot < batters.size() && slot < playerTeam.getBatterLineup().size(); slot++) {
+            Batter batter = playerTeam.getBatterFromLoader(batters.get(slot));
+            if (batter == null) {
+                throw new IllegalArgumentException("No batter named " + batters.get(slot));
+            }
+            playerTeam.getBatterLineup().set(slot, batter);
+        }
+        for (int slot = 0; slot < pitchers.size() && slot < comTeam.getPitcherLineup().size(); slot++) {
+            Pitcher pitcher = comTeam.getPitcherFromLoader(pitchers.get(slot));
+            if (pitcher == null) {
+                throw new IllegalArgumentException("No pitcher named " + pitchers.get(slot));
+            }
+            comTeam.getPitcherLineup().set(slot, pitcher);
+        }
+
+        return new BatchSimulation(playerTeam, comTeam, threads)
+                .setEngine(engine)
+                .setFidelity(fidelity)
+                .setAntithetic(antithetic)
+                .setRandomAlgorithm(randomAlgorithm)
+                .run(from, to, seed);
+    }
+
+    /**
+     * Serialize a batch into one line of text.
+     * @param batch The batch
+     * @return The batch serialized and encoded in Base64
+     */
+    static String encode(BatchResult batch) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(batch);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize the shard result", e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Read a batch back from a line written by encode, refusing any class a BatchResult is not made of.
+     * @param line The encoded batch, without the prefix
+     * @return The batch
+     */
+    static BatchResult decode(String line) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(line)))) {
+            in.setObjectInputFilter(RESULT_FILTER);
+            return (BatchResult) in.readObject();
+        } catch (IOException | ClassNotFoundException | IllegalArgumentException | ClassCastException e) {
+            throw new IllegalStateException("Could not read the shard result: " + e.getMessage(), e);
+        }
+    }
+}
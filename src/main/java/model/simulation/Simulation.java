@@ -1,21 +1,28 @@
 package model.simulation;
 
-
+import gameEnum.PitchCategory;
+import gameEnum.PitchType;
+import model.inning.BaseAdvancementTable;
 import model.inning.RegularInning;
 import model.player.Batter;
 import model.player.Pitcher;
 import model.team.ComTeam;
 import model.team.PlayerTeam;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 public class Simulation {
+    private static final PitchType[] PITCH_TYPES = PitchType.values();
+    private static final PitchCategory[] PITCH_CATEGORIES = PitchCategory.values();
+
     private PlayerTeam playerTeam;
     private ComTeam comTeam;
-    private int[] inningScores;
     private int currentInning;
     private int currentBatterIndex;
+    private final RandomGenerator random;
+    private final BaseAdvancementTable baseAdvancement;
 
     /**
      * Constructor of simulation class.
@@ -23,11 +30,33 @@ public class Simulation {
      * @param comTeam The computer team
      */
     public Simulation(PlayerTeam playerTeam, ComTeam comTeam) {
+        this(playerTeam, comTeam, new SplittableRandom());
+    }
+
+    /**
+     * Constructor of simulation class with its own random source.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param random The random source shared by every inning of this game
+     */
+    public Simulation(PlayerTeam playerTeam, ComTeam comTeam, RandomGenerator random) {
+        this(playerTeam, comTeam, random, BaseAdvancementTable.STANDARD);
+    }
+
+    /**
+     * Constructor of simulation class with its own random source and base running rules.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param random The random source shared by every inning of this game
+     * @param baseAdvancement The table that moves runners on hits and walks
+     */
+    public Simulation(PlayerTeam playerTeam, ComTeam comTeam, RandomGenerator random, BaseAdvancementTable baseAdvancement) {
         this.playerTeam = playerTeam;
         this.comTeam = comTeam;
-        this.inningScores = new int[9];
         this.currentInning = 1;
         this.currentBatterIndex = 0;
+        this.random = random;
+        this.baseAdvancement = baseAdvancement;
     }
 
     /**
@@ -45,34 +74,46 @@ public class Simulation {
     public SimulationResult runSimulation() {
         validateTeamsBeforeSimulation();
         SimulationResult result = new SimulationResult(playerTeam.getTeamName(), comTeam.getTeamName());
-        StringBuilder details = new StringBuilder();
+        return runSimulation(random, new RegularInning(getCurrentPitcher(1), random, baseAdvancement), result);
+    }
+
+    /**
+     * Play one game into a given result, reusing one inning object for all nine innings.
+     * The teams must already be validated, and the result must be new or reset.
+     * @param random The random source of the game
+     * @param inning The inning object to play every inning with
+     * @param result The result to fill
+     * @return The filled result
+     */
+    SimulationResult runSimulation(RandomGenerator random, RegularInning inning, SimulationResult result) {
+        int[] inningScores = result.getInningScores();
+        int total = 0;
+        currentBatterIndex = 0;
 
         // simulate 9 innings
         for (currentInning = 1; currentInning <= 9; currentInning++) {
             Pitcher currentPitcher = getCurrentPitcher(currentInning);
-            RegularInning inning = new RegularInning(currentPitcher);
-
-            details.append("Inning ").append(currentInning).append(":\n");
-            details.append("Pitcher: ").append(currentPitcher.getName()).append("\n");
+            inning.reset(currentPitcher, random);
 
             // Pass current batter index and get inning score
             int inningScore = inning.runInning(playerTeam, currentBatterIndex);
             inningScores[currentInning - 1] = inningScore;
+            total += inningScore;
 
             // Track batter index for next inning
             currentBatterIndex = inning.getCurrentBatterIndex();
 
-            details.append("Batters faced: ").append(inning.getBattersFaced()).append("\n");
-            details.append("Score: ").append(inningScore).append("\n");
-
-            details.append("Pitches: ").append(inning.getPitchesThrown()).append("\n");
-            details.append("Hits: ").append(inning.getHits()).append("\n");
-            details.append("Strikeouts: ").append(inning.getStrikeouts()).append("\n");
-            details.append("Walks: ").append(inning.getWalks()).append("\n\n");
+            // Keep the inning numbers only, the details text is rendered from them on demand
+            result.recordInning(currentInning, currentPitcher.getName(), inning.getBattersFaced(),
+                    inning.getPitchesThrown(), inning.getHits(), inning.getStrikeouts(), inning.getWalks());
 
             result.addPitchesThrown(inning.getPitchesThrown());
-            result.addPitchTypeCounts(inning.getAllPitchTypeCounts());
-            result.addPitchCategoryCounts(inning.getPitchCategoryCounts());
+            for (PitchType type : PITCH_TYPES) {
+                result.addPitchTypeCount(type, inning.getPitchTypeCount(type));
+            }
+            for (PitchCategory category : PITCH_CATEGORIES) {
+                result.addPitchCategoryCount(category, inning.getPitchCategoryCount(category));
+            }
             result.addHits(inning.getHits());
             result.addSingles(inning.getSingles());
             result.addDoubles(inning.getDoubles());
@@ -80,12 +121,12 @@ public class Simulation {
             result.addHR(inning.getHomeRuns());
             result.addStrikeouts(inning.getStrikeouts());
             result.addWalks(inning.getWalks());
+            result.addBattingLines(inning.getBattingLines());
+            result.addPitchingLine(getCurrentPitcherSlot(currentInning), inning.getPitchingLine());
 
         }
         // set result
-        result.setPlayerTeamScore(calculateTotalScore());
-        result.setDetails(details.toString());
-        result.setInningScores(inningScores);
+        result.setPlayerTeamScore(total);
 
         return result;
     }
@@ -95,38 +136,40 @@ public class Simulation {
      * @return The pitcher for current inning
      */
     private Pitcher getCurrentPitcher(int inning) {
-        List<Pitcher> pitcherLineup = comTeam.getPitcherLineup();
+        return comTeam.getPitcherLineup().get(getCurrentPitcherSlot(inning));
+    }
 
+    /**
+     * Get the slot of the pitcher of an inning in the pitching lineup.
+     * @param inning The inning, from 1 to 9
+     * @return 0 for the starter in innings 1-5, 1 in innings 6-7 and 2 in innings 8-9
+     */
+    private int getCurrentPitcherSlot(int inning) {
         if (inning <= 5) {
-            return pitcherLineup.get(0);
+            return 0;
         } else if (inning <= 7) {
-            return pitcherLineup.get(1);
+            return 1;
         } else {
-            return pitcherLineup.get(2);
+            return 2;
         }
     }
 
-    private void validateTeamsBeforeSimulation() {
+    /**
+     * Make sure both lineups are complete before any game is played,
+     * and compile the batter profiles of the locked lineup.
+     */
+    void validateTeamsBeforeSimulation() {
         // Check if batting lineup is complete
         if (playerTeam.getBatterLineup().contains(null)) {
             throw new IllegalStateException("Player team must have a complete batting lineup of 9 players");
         }
+        for (Batter batter : playerTeam.getBatterLineup()) {
+            batter.getProfile();
+        }
 
         // Check if pitching lineup is complete
         if (comTeam.getPitcherLineup().contains(null)) {
             throw new IllegalStateException("Computer team must have a complete pitching lineup of 3 pitchers");
         }
     }
-
-    /**
-     * Calculate all innings score.
-     * @return The Mariners' total score
-     */
-    private int calculateTotalScore() {
-        int total = 0;
-        for (int score : inningScores) {
-            total += score;
-        }
-        return total;
-    }
 }
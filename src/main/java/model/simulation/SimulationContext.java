@@ -0,0 +1,87 @@
+package model.simulation;
+
+import gameEnum.RandomAlgorithm;
+import model.inning.BaseAdvancementTable;
+import model.inning.RegularInning;
+import model.random.AntitheticRandom;
+import model.random.RandomStreams;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Reusable state of the games a worker plays for one lineup: the random stream, the result and, for the
+ * reference engine, the simulation and its inning. Every game starts with reset, which reseeds the stream and
+ * clears the result in place, so a worker allocates nothing per game on any random algorithm.
+ * The result returned for a game is only valid until the next reset, and a context must not be shared by threads.
+ */
+public class SimulationContext {
+    private final RandomAlgorithm randomAlgorithm;
+    private final SimulationResult result;
+    private final Simulation simulation;
+    private final RegularInning inning;
+    private RandomGenerator stream;
+    private RandomGenerator mirror;
+    private RandomGenerator random;
+
+    /**
+     * Constructor of a context for one lineup, validating both teams once.
+     * @param playerTeam The player team
+     * @param comTeam The computer team
+     * @param baseAdvancement The table that moves runners on hits and walks
+     * @param randomAlgorithm The algorithm of the random stream of every game
+     */
+    public SimulationContext(PlayerTeam playerTeam, ComTeam comTeam, BaseAdvancementTable baseAdvancement,
+                             RandomAlgorithm randomAlgorithm) {
+        this.randomAlgorithm = randomAlgorithm;
+        this.stream = RandomStreams.reseed(randomAlgorithm, null, 0L);
+        this.mirror = new AntitheticRandom(stream);
+        this.random = stream;
+        this.result = new SimulationResult(playerTeam.getTeamName(), comTeam.getTeamName());
+        this.simulation = new Simulation(playerTeam, comTeam, stream, baseAdvancement);
+        simulation.validateTeamsBeforeSimulation();
+        this.inning = new RegularInning(comTeam.getPitcherLineup().get(0), stream, baseAdvancement);
+    }
+
+    /**
+     * Start the next game: reseed the random stream and clear the result.
+     * @param gameSeed The seed of the game
+     * @param mirrored true to play on the mirror of the seed's stream
+     * @return The random source of the game
+     */
+    public RandomGenerator reset(long gameSeed, boolean mirrored) {
+        RandomGenerator reseeded = RandomStreams.reseed(randomAlgorithm, stream, gameSeed);
+        if (reseeded != stream) {
+            stream = reseeded;
+            mirror = new AntitheticRandom(stream);
+        }
+        random = mirrored ? mirror : stream;
+        result.reset();
+        return random;
+    }
+
+    /**
+     * Get the random source of the current game.
+     * @return The random source
+     */
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * Get the result of the current game, reused by every game of this context.
+     * @return The result
+     */
+    public SimulationResult getResult() {
+        return result;
+    }
+
+    /**
+     * Play the current game on the reference engine.
+     * @return The result of the game, with the inning details
+     */
+    public SimulationResult playReference() {
+        return simulation.runSimulation(random, inning, result);
+    }
+}
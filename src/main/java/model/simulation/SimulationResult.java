@@ -1,9 +1,21 @@
 package model.simulation;
 
-import java.util.HashMap;
+import gameEnum.BattingStat;
+import gameEnum.PitchCategory;
+import gameEnum.PitchingStat;
+import gameEnum.PitchType;
+import model.inning.LineupCounters;
+import model.inning.RotationCounters;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class SimulationResult {
+    private static final PitchType[] PITCH_TYPES = PitchType.values();
+    private static final PitchCategory[] PITCH_CATEGORIES = PitchCategory.values();
+    private static final int INNINGS = 9;
+
     private int playerTeamScore;
     private String playerTeamName;
     private String comTeamName;
@@ -12,8 +24,9 @@ public class SimulationResult {
 
 
     private int totalPitchesThrown = 0;
-    private Map<String, Integer> pitchTypeCounts = new HashMap<>();
-    private Map<String, Integer> pitchCategoryCounts = new HashMap<>();
+    // indexed by PitchType and PitchCategory ordinal
+    private final int[] pitchTypeCounts = new int[PITCH_TYPES.length];
+    private final int[] pitchCategoryCounts = new int[PITCH_CATEGORIES.length];
     private int totalHits = 0;
     private int totalSingles = 0;
     private int totalDoubles = 0;
@@ -21,6 +34,19 @@ public class SimulationResult {
     private int totalHomeRuns = 0;
     private int totalStrikeouts = 0;
     private int totalWalks = 0;
+    // batting line of every lineup slot, laid out by LineupCounters
+    private final int[] battingLines = new int[LineupCounters.LENGTH];
+    // pitching line of every pitcher slot, laid out by RotationCounters
+    private final int[] pitchingLines = new int[RotationCounters.LENGTH];
+
+    // numeric summary of every inning, the details text is only rendered from it when asked for
+    private final String[] inningPitchers = new String[INNINGS];
+    private final int[] inningBattersFaced = new int[INNINGS];
+    private final int[] inningPitches = new int[INNINGS];
+    private final int[] inningHits = new int[INNINGS];
+    private final int[] inningStrikeouts = new int[INNINGS];
+    private final int[] inningWalks = new int[INNINGS];
+    private int inningsRecorded = 0;
 
     /**
      * Constructor with computer team
@@ -30,8 +56,37 @@ public class SimulationResult {
         this.playerTeamName = playerTeamName;
         this.comTeamName = comTeamName;
         this.playerTeamScore = 0;
-        this.details = "";
-        this.inningScores = new int[9];
+        this.details = null;
+        this.inningScores = new int[INNINGS];
+    }
+
+    /**
+     * Clear the box score and the inning summaries so the result can be filled by another game.
+     * The inning scores are cleared in place, so an array handed to setInningScores is zeroed as well.
+     */
+    public void reset() {
+        playerTeamScore = 0;
+        details = null;
+        Arrays.fill(inningScores, 0);
+        totalPitchesThrown = 0;
+        Arrays.fill(pitchTypeCounts, 0);
+        Arrays.fill(pitchCategoryCounts, 0);
+        totalHits = 0;
+        totalSingles = 0;
+        totalDoubles = 0;
+        totalTriples = 0;
+        totalHomeRuns = 0;
+        totalStrikeouts = 0;
+        totalWalks = 0;
+        Arrays.fill(battingLines, 0);
+        Arrays.fill(pitchingLines, 0);
+        Arrays.fill(inningPitchers, null);
+        Arrays.fill(inningBattersFaced, 0);
+        Arrays.fill(inningPitches, 0);
+        Arrays.fill(inningHits, 0);
+        Arrays.fill(inningStrikeouts, 0);
+        Arrays.fill(inningWalks, 0);
+        inningsRecorded = 0;
     }
 
     /**
@@ -76,13 +131,76 @@ public class SimulationResult {
     }
 
     /**
-     * Get the details of the game
+     * Get the details of the game, rendered from the inning summaries the first time it is asked for.
      * @return The game detail string
      */
     public String getDetails() {
+        if (details == null) {
+            details = renderDetails();
+        }
         return details;
     }
 
+    /**
+     * Record the numeric summary of one inning.
+     * @param inning The inning, from 1 to 9
+     * @param pitcherName The name of the pitcher of the inning
+     * @param battersFaced The batters faced
+     * @param pitches The pitches thrown
+     * @param hits The hits allowed
+     * @param strikeouts The strikeouts
+     * @param walks The walks
+     */
+    public void recordInning(int inning, String pitcherName, int battersFaced, int pitches, int hits,
+                             int strikeouts, int walks) {
+        int i = inning - 1;
+        inningPitchers[i] = pitcherName;
+        inningBattersFaced[i] = battersFaced;
+        inningPitches[i] = pitches;
+        inningHits[i] = hits;
+        inningStrikeouts[i] = strikeouts;
+        inningWalks[i] = walks;
+        inningsRecorded = Math.max(inningsRecorded, inning);
+    }
+
+    /**
+     * Get the number of batters faced in one inning.
+     * @param inning The inning, from 1 to 9
+     * @return The batters faced
+     */
+    public int getInningBattersFaced(int inning) {
+        return inningBattersFaced[inning - 1];
+    }
+
+    /**
+     * Get the number of pitches thrown in one inning.
+     * @param inning The inning, from 1 to 9
+     * @return The pitches thrown
+     */
+    public int getInningPitches(int inning) {
+        return inningPitches[inning - 1];
+    }
+
+    /**
+     * Render the details text of the recorded innings.
+     * @return The game detail string
+     */
+    private String renderDetails() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < inningsRecorded; i++) {
+            sb.append("Inning ").append(i + 1).append(":\n");
+            sb.append("Pitcher: ").append(inningPitchers[i]).append("\n");
+            sb.append("Batters faced: ").append(inningBattersFaced[i]).append("\n");
+            sb.append("Score: ").append(inningScores[i]).append("\n");
+
+            sb.append("Pitches: ").append(inningPitches[i]).append("\n");
+            sb.append("Hits: ").append(inningHits[i]).append("\n");
+            sb.append("Strikeouts: ").append(inningStrikeouts[i]).append("\n");
+            sb.append("Walks: ").append(inningWalks[i]).append("\n\n");
+        }
+        return sb.toString();
+    }
+
     /**
      * Set the inning score.
      * @param scores Arrays of score for innings
@@ -105,24 +223,38 @@ public class SimulationResult {
      */
     public void addPitchTypeCounts(Map<String, Integer> counts) {
         for (Map.Entry<String, Integer> entry : counts.entrySet()) {
-            String pitchType = entry.getKey();
-            int count = entry.getValue();
-            pitchTypeCounts.put(pitchType, pitchTypeCounts.getOrDefault(pitchType, 0) + count);
+            addPitchTypeCount(PitchType.fromDisplayName(entry.getKey()), entry.getValue());
         }
     }
 
+    /**
+     * Add the count of one pitch type to the total counts.
+     * @param pitchType The pitch type
+     * @param count The number of pitches of that type
+     */
+    public void addPitchTypeCount(PitchType pitchType, int count) {
+        pitchTypeCounts[pitchType.ordinal()] += count;
+    }
+
     /**
      * Add pitch category counts from an inning to the total counts.
      * @param counts A map of pitch categories to their counts
      */
     public void addPitchCategoryCounts(Map<String, Integer> counts) {
         for (Map.Entry<String, Integer> entry : counts.entrySet()) {
-            String category = entry.getKey();
-            int count = entry.getValue();
-            pitchCategoryCounts.put(category, pitchCategoryCounts.getOrDefault(category, 0) + count);
+            addPitchCategoryCount(PitchCategory.fromDisplayName(entry.getKey()), entry.getValue());
         }
     }
 
+    /**
+     * Add the count of one pitch category to the total counts.
+     * @param pitchCategory The pitch category
+     * @param count The number of pitches of that category
+     */
+    public void addPitchCategoryCount(PitchCategory pitchCategory, int count) {
+        pitchCategoryCounts[pitchCategory.ordinal()] += count;
+    }
+
     /**
      * Calculate the thrown pitches.
      * @return The thrown pitches
@@ -187,6 +319,92 @@ public class SimulationResult {
         this.totalWalks += walks;
     }
 
+    /**
+     * Add the batting lines of an inning or a game.
+     * @param lines Flat counters laid out by LineupCounters
+     */
+    public void addBattingLines(int[] lines) {
+        addBattingLines(lines, 0);
+    }
+
+    /**
+     * Add the batting lines of one game from a larger array.
+     * @param lines Flat counters laid out by LineupCounters
+     * @param from The index of the first counter of the game
+     */
+    public void addBattingLines(int[] lines, int from) {
+        for (int i = 0; i < battingLines.length; i++) {
+            battingLines[i] += lines[from + i];
+        }
+    }
+
+    /**
+     * Get the batting lines of every lineup slot.
+     * @return Flat counters laid out by LineupCounters, not to be modified
+     */
+    public int[] getBattingLines() {
+        return battingLines;
+    }
+
+    /**
+     * Get one stat of a lineup slot for the entire game.
+     * @param slot The lineup slot, from 0 to 8
+     * @param stat The stat
+     * @return The count of the stat
+     */
+    public int getBattingStat(int slot, BattingStat stat) {
+        return battingLines[LineupCounters.index(slot, stat)];
+    }
+
+    /**
+     * Add the pitching lines of a game.
+     * @param lines Flat counters laid out by RotationCounters
+     */
+    public void addPitchingLines(int[] lines) {
+        addPitchingLines(lines, 0);
+    }
+
+    /**
+     * Add the pitching lines of one game from a larger array.
+     * @param lines Flat counters laid out by RotationCounters
+     * @param from The index of the first counter of the game
+     */
+    public void addPitchingLines(int[] lines, int from) {
+        for (int i = 0; i < pitchingLines.length; i++) {
+            pitchingLines[i] += lines[from + i];
+        }
+    }
+
+    /**
+     * Add the line of one pitcher, such as the pitcher of an inning.
+     * @param pitcher The pitcher slot, from 0 to 2
+     * @param line The counters of one pitcher laid out by RotationCounters
+     */
+    public void addPitchingLine(int pitcher, int[] line) {
+        int offset = RotationCounters.index(pitcher, PitchingStat.BATTERS_FACED);
+        for (int i = 0; i < RotationCounters.STATS; i++) {
+            pitchingLines[offset + i] += line[i];
+        }
+    }
+
+    /**
+     * Get the pitching lines of every pitcher slot.
+     * @return Flat counters laid out by RotationCounters, not to be modified
+     */
+    public int[] getPitchingLines() {
+        return pitchingLines;
+    }
+
+    /**
+     * Get one stat of a pitcher slot for the entire game.
+     * @param pitcher The pitcher slot, from 0 to 2
+     * @param stat The stat
+     * @return The count of the stat
+     */
+    public int getPitchingStat(int pitcher, PitchingStat stat) {
+        return pitchingLines[RotationCounters.index(pitcher, stat)];
+    }
+
     /**
      * Getter of total pitches thrown.
      * @return The total of pitches has thrown
@@ -196,19 +414,49 @@ public class SimulationResult {
     }
 
     /**
-     * Get a map of pitch types and their counts for the entire game.
+     * Get the count of one pitch type for the entire game.
+     * @param pitchType The pitch type
+     * @return The number of pitches of that type
+     */
+    public int getPitchTypeCount(PitchType pitchType) {
+        return pitchTypeCounts[pitchType.ordinal()];
+    }
+
+    /**
+     * Get the count of one pitch category for the entire game.
+     * @param pitchCategory The pitch category
+     * @return The number of pitches of that category
+     */
+    public int getPitchCategoryCount(PitchCategory pitchCategory) {
+        return pitchCategoryCounts[pitchCategory.ordinal()];
+    }
+
+    /**
+     * Get a map of pitch types and their counts for the entire game, built on demand for display.
      * @return A map of pitch type and counts
      */
     public Map<String, Integer> getPitchTypeCounts() {
-        return pitchTypeCounts;
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (PitchType type : PITCH_TYPES) {
+            if (pitchTypeCounts[type.ordinal()] > 0) {
+                counts.put(type.getDisplayName(), pitchTypeCounts[type.ordinal()]);
+            }
+        }
+        return counts;
     }
 
     /**
-     * Get a map of pitch categories and their counts for the entire game.
+     * Get a map of pitch categories and their counts for the entire game, built on demand for display.
      * @return A map of pitch category and counts
      */
     public Map<String, Integer> getPitchCategoryCounts() {
-        return pitchCategoryCounts;
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (PitchCategory category : PITCH_CATEGORIES) {
+            if (pitchCategoryCounts[category.ordinal()] > 0) {
+                counts.put(category.getDisplayName(), pitchCategoryCounts[category.ordinal()]);
+            }
+        }
+        return counts;
     }
 
     /**
@@ -278,12 +526,12 @@ public class SimulationResult {
         sb.append("Pitching Statistics:\n");
         sb.append("Total Pitches: ").append(totalPitchesThrown).append("\n");
         sb.append("Pitch Types: \n");
-        pitchTypeCounts.forEach((type, counts) -> {
+        getPitchTypeCounts().forEach((type, counts) -> {
             sb.append((String.format(" %-12s: %d\n",
                     type, counts)));
         });
         sb.append("Pitch Categories: \n");
-        pitchCategoryCounts.forEach((category, counts) -> {
+        getPitchCategoryCounts().forEach((category, counts) -> {
             sb.append((String.format(" %-12s: %d\n",
                     category, counts)));
         });
@@ -301,6 +549,28 @@ public class SimulationResult {
         return sb.toString();
     }
 
+    /**
+     * Check whether another game has the same box score, ignoring the inning details text.
+     * @param other The other game result
+     * @return true if scores, pitch counts, batting totals and batting and pitching lines all match
+     */
+    public boolean hasSameBoxScore(SimulationResult other) {
+        return playerTeamScore == other.playerTeamScore
+                && Arrays.equals(inningScores, other.inningScores)
+                && totalPitchesThrown == other.totalPitchesThrown
+                && Arrays.equals(pitchTypeCounts, other.pitchTypeCounts)
+                && Arrays.equals(pitchCategoryCounts, other.pitchCategoryCounts)
+                && totalHits == other.totalHits
+                && totalSingles == other.totalSingles
+                && totalDoubles == other.totalDoubles
+                && totalTriples == other.totalTriples
+                && totalHomeRuns == other.totalHomeRuns
+                && totalStrikeouts == other.totalStrikeouts
+                && totalWalks == other.totalWalks
+                && Arrays.equals(battingLines, other.battingLines)
+                && Arrays.equals(pitchingLines, other.pitchingLines);
+    }
+
     /**
      * Get the total score format.
      * @return The total score string
@@ -0,0 +1,282 @@
+package model.simulation;
+
+import gameEnum.TrackedStat;
+
+import java.io.Serializable;
+
+/**
+ * Streaming summary of many games: count, mean, variance, min and max of every tracked statistic and the mean runs
+ * of every inning, with fixed-bucket histograms of the runs, hits and pitches per game and the runs per inning.
+ * A game is folded in with add and per-thread summaries are combined with merge in constant time, so a summary
+ * takes the same memory after 10 games as after 100 million and no SimulationResult is kept.
+ */
+public class SimulationSummary implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final TrackedStat[] TRACKED_STATS = TrackedStat.values();
+    private static final int INNINGS = 9;
+    // histogram sizes, the last bucket of each holding every larger value
+    private static final int RUN_BUCKETS = 31;
+    private static final int INNING_RUN_BUCKETS = 16;
+    private static final int HIT_BUCKETS = 41;
+    private static final int PITCH_BUCKETS = 256;
+    private static final double[] PERCENTILES = {0.05, 0.25, 0.5, 0.75, 0.95, 0.99};
+
+    // indexed by TrackedStat ordinal
+    private final RunningStatistic[] statistics = new RunningStatistic[TRACKED_STATS.length];
+    // indexed by inning - 1
+    private final RunningStatistic[] inningRuns = new RunningStatistic[INNINGS];
+    private final Histogram runsHistogram = new Histogram(RUN_BUCKETS);
+    private final Histogram hitsHistogram = new Histogram(HIT_BUCKETS);
+    private final Histogram pitchesHistogram = new Histogram(PITCH_BUCKETS);
+    private final Histogram[] inningRunsHistograms = new Histogram[INNINGS];
+
+    /**
+     * Constructor of an empty summary.
+     */
+    public SimulationSummary() {
+        for (int i = 0; i < statistics.length; i++) {
+            statistics[i] = new RunningStatistic();
+        }
+        for (int i = 0; i < inningRuns.length; i++) {
+            inningRuns[i] = new RunningStatistic();
+            inningRunsHistograms[i] = new Histogram(INNING_RUN_BUCKETS);
+        }
+    }
+
+    /**
+     * Add one finished game.
+     * @param result The result of a single game
+     */
+    public void add(SimulationResult result) {
+        for (TrackedStat stat : TRACKED_STATS) {
+            statistics[stat.ordinal()].add(valueOf(result, stat));
+        }
+        int[] scores = result.getInningScores();
+        for (int i = 0; i < inningRuns.length; i++) {
+            inningRuns[i].add(scores[i]);
+            inningRunsHistograms[i].add(scores[i]);
+        }
+        runsHistogram.add(result.getPlayerTeamScore());
+        hitsHistogram.add(result.getTotalHits());
+        pitchesHistogram.add(result.getTotalPitchesThrown());
+    }
+
+    /**
+     * Fold another summary into this one.
+     * @param other The summary to merge, left unchanged
+     */
+    public void merge(SimulationSummary other) {
+        for (int i = 0; i < statistics.length; i++) {
+            statistics[i].merge(other.statistics[i]);
+        }
+        for (int i = 0; i < inningRuns.length; i++) {
+            inningRuns[i].merge(other.inningRuns[i]);
+            inningRunsHistograms[i].merge(other.inningRunsHistograms[i]);
+        }
+        runsHistogram.merge(other.runsHistogram);
+        hitsHistogram.merge(other.hitsHistogram);
+        pitchesHistogram.merge(other.pitchesHistogram);
+    }
+
+    /**
+     * Get the value of a tracked statistic in one game.
+     * @param result The result of a single game
+     * @param stat The tracked statistic
+     * @return The value of the statistic
+     */
+    static double valueOf(SimulationResult result, TrackedStat stat) {
+        switch (stat) {
+            case RUNS:
+                return result.getPlayerTeamScore();
+            case HITS:
+                return result.getTotalHits();
+            case SINGLES:
+                return result.getTotalSingles();
+            case DOUBLES:
+                return result.getTotalDoubles();
+            case TRIPLES:
+                return result.getTotalTriples();
+            case HOME_RUNS:
+                return result.getTotalHomeRuns();
+            case STRIKEOUTS:
+                return result.getTotalStrikeouts();
+            case WALKS:
+                return result.getTotalWalks();
+            default:
+                return result.getTotalPitchesThrown();
+        }
+    }
+
+    /**
+     * Get the number of games summarized.
+     * @return The number of games
+     */
+    public long getGames() {
+        return statistics[TrackedStat.RUNS.ordinal()].getCount();
+    }
+
+    /**
+     * Get the running statistic of a tracked statistic.
+     * @param stat The tracked statistic
+     * @return The running statistic over every game
+     */
+    public RunningStatistic getStatistic(TrackedStat stat) {
+        return statistics[stat.ordinal()];
+    }
+
+    /**
+     * Get the running statistic of the runs of one inning.
+     * @param inning The inning, from 1 to 9
+     * @return The running statistic over every game
+     */
+    public RunningStatistic getInningRuns(int inning) {
+        if (inning < 1 || inning > INNINGS) {
+            throw new IllegalArgumentException("Inning must be between 1 and " + INNINGS);
+        }
+        return inningRuns[inning - 1];
+    }
+
+    /**
+     * Get the histogram of the runs per game.
+     * @return The histogram, 30 runs and more in the last bucket
+     */
+    public Histogram getRunsHistogram() {
+        return runsHistogram;
+    }
+
+    /**
+     * Get the histogram of the hits per game.
+     * @return The histogram, 40 hits and more in the last bucket
+     */
+    public Histogram getHitsHistogram() {
+        return hitsHistogram;
+    }
+
+    /**
+     * Get the histogram of the pitches per game.
+     * @return The histogram, 255 pitches and more in the last bucket
+     */
+    public Histogram getPitchesHistogram() {
+        return pitchesHistogram;
+    }
+
+    /**
+     * Get the histogram of the runs of one inning.
+     * @param inning The inning, from 1 to 9
+     * @return The histogram, 15 runs and more in the last bucket
+     */
+    public Histogram getInningRunsHistogram(int inning) {
+        getInningRuns(inning);
+        return inningRunsHistograms[inning - 1];
+    }
+
+    /**
+     * Generate the percentile table of every histogram and the distribution of the runs per game.
+     * @param runsOnly true to leave out the hits and pitches of games that only played inning scores
+     * @return The tables
+     */
+    String getDistributionTable(boolean runsOnly) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("P(shutout): %.4f  P(5+ runs): %.4f\n", runsHistogram.getShareAtMost(0),
+                runsHistogram.getShareAtLeast(5)));
+        sb.append(String.format("%-14s %8s", "Percentiles", "P(0)"));
+        for (double share : PERCENTILES) {
+            sb.append(String.format(" %5s", String.format("p%.0f", 100 * share)));
+        }
+        sb.append("\n");
+        appendPercentiles(sb, "runs", runsHistogram);
+        if (!runsOnly) {
+            appendPercentiles(sb, "hits", hitsHistogram);
+            appendPercentiles(sb, "pitches", pitchesHistogram);
+        }
+        for (int i = 0; i < inningRunsHistograms.length; i++) {
+            appendPercentiles(sb, "inning " + (i + 1), inningRunsHistograms[i]);
+        }
+        sb.append("\n");
+
+        sb.append(String.format("%-6s %8s %8s %8s\n", "Runs", "P(=)", "P(<=)", "P(>=)"));
+        int last = runsHistogram.getBuckets() - 1;
+        for (int runs = 0; runs < last; runs++) {
+            if (runsHistogram.getShareAtLeast(runs) == 0) {
+                break;
+            }
+            sb.append(String.format("%-6d %8.4f %8.4f %8.4f\n", runs, share(runsHistogram, runs),
+                    runsHistogram.getShareAtMost(runs), runsHistogram.getShareAtLeast(runs)));
+        }
+        if (runsHistogram.getCount(last) > 0) {
+            sb.append(String.format("%-6s %8.4f %8s %8.4f\n", last + "+", share(runsHistogram, last), "",
+                    runsHistogram.getShareAtLeast(last)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Append the share of zeros and the percentiles of one histogram.
+     * @param sb The report being built
+     * @param label The histogram label
+     * @param histogram The histogram
+     */
+    private static void appendPercentiles(StringBuilder sb, String label, Histogram histogram) {
+        sb.append(String.format("%-14s %8.4f", label, share(histogram, 0)));
+        int last = histogram.getBuckets() - 1;
+        for (double share : PERCENTILES) {
+            int value = histogram.getPercentile(share);
+            sb.append(String.format(" %5s", value == last ? last + "+" : String.valueOf(value)));
+        }
+        sb.append("\n");
+    }
+
+    /**
+     * Get the share of the games in one bucket.
+     * @param histogram The histogram
+     * @param value The value of the bucket
+     * @return The share, 0 before any game
+     */
+    private static double share(Histogram histogram, int value) {
+        return histogram.getTotal() == 0 ? 0.0 : (double) histogram.getCount(value) / histogram.getTotal();
+    }
+
+    /**
+     * Generate a table of the mean, standard deviation and range of every tracked statistic.
+     * @param runsOnly true to keep only the runs of games that only played inning scores
+     * @return The table, one line per statistic
+     */
+    String getTable(boolean runsOnly) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-14s %10s %10s %8s %8s\n", "Per Game", "Mean", "SD", "Min", "Max"));
+        for (TrackedStat stat : runsOnly ? new TrackedStat[]{TrackedStat.RUNS} : TRACKED_STATS) {
+            RunningStatistic statistic = statistics[stat.ordinal()];
+            sb.append(String.format("%-14s %10.3f %10.3f %8.0f %8.0f\n", stat.getName(), statistic.getMean(),
+                    Math.sqrt(statistic.getVariance()), statistic.getMin(), statistic.getMax()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Generate a report of every tracked statistic, the mean runs of every inning and the distributions.
+     * @return A formatted string containing the summary
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=====Simulation Summary=====\n\n");
+        sb.append(String.format("%d games\n", getGames()));
+        sb.append(getTable(false));
+        sb.append("Mean Runs by Inning:\n");
+        for (int i = 0; i < inningRuns.length; i++) {
+            sb.append(String.format(" %d: %.3f\n", i + 1, inningRuns[i].getMean()));
+        }
+        sb.append("\n");
+        sb.append(getDistributionTable(false));
+        return sb.toString();
+    }
+
+    /**
+     * Info of the summary.
+     * @return A string of the mean runs and the number of games
+     */
+    @Override
+    public String toString() {
+        return String.format("%.3f runs per game over %d games", statistics[TrackedStat.RUNS.ordinal()].getMean(),
+                getGames());
+    }
+}
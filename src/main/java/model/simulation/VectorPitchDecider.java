@@ -0,0 +1,56 @@
+package model.simulation;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Strike, swing and contact decisions of a LaneKernel step taken as jdk.incubator.vector masks.
+ * Only LaneKernel loads this class, and only once it found the incubator module in the boot layer, so a JVM
+ * started without --add-modules jdk.incubator.vector never links it and plays on the scalar loop instead.
+ */
+final class VectorPitchDecider {
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorPitchDecider() {
+    }
+
+    /**
+     * Decide the pitch of the lanes that fill whole vectors, leaving the rest to the scalar rule of LaneKernel.
+     * Every array is indexed by lane and the rates are those of the matchup at the plate in the lane.
+     * @param lanes The number of lanes
+     * @param strikeDraw The strike draws
+     * @param swingDraw The swing draws
+     * @param contactDraw The contact draws
+     * @param strikeRate The strike rates of the pitchers
+     * @param zoneSwing The swing rates of the batters on strikes
+     * @param zoneContact The contact rates of the batters on strikes
+     * @param chaseSwing The swing rates of the batters on balls
+     * @param chaseContact The contact rates of the batters on balls
+     * @param ball The result of a ball
+     * @param strike The result of a strike
+     * @param inPlay The result of a ball in play
+     * @param pitchResult The results, filled up to the returned lane
+     * @return The index of the first lane left to the scalar rule
+     */
+    static int decide(int lanes, double[] strikeDraw, double[] swingDraw, double[] contactDraw, double[] strikeRate,
+                      double[] zoneSwing, double[] zoneContact, double[] chaseSwing, double[] chaseContact,
+                      double ball, double strike, double inPlay, double[] pitchResult) {
+        DoubleVector balls = DoubleVector.broadcast(DOUBLES, ball);
+        int bound = DOUBLES.loopBound(lanes);
+        for (int lane = 0; lane < bound; lane += DOUBLES.length()) {
+            VectorMask<Double> inZone = DoubleVector.fromArray(DOUBLES, strikeDraw, lane)
+                    .lt(DoubleVector.fromArray(DOUBLES, strikeRate, lane));
+            DoubleVector swingRate = DoubleVector.fromArray(DOUBLES, chaseSwing, lane)
+                    .blend(DoubleVector.fromArray(DOUBLES, zoneSwing, lane), inZone);
+            DoubleVector contactRate = DoubleVector.fromArray(DOUBLES, chaseContact, lane)
+                    .blend(DoubleVector.fromArray(DOUBLES, zoneContact, lane), inZone);
+            VectorMask<Double> swing = DoubleVector.fromArray(DOUBLES, swingDraw, lane).lt(swingRate);
+            VectorMask<Double> contact = swing.and(DoubleVector.fromArray(DOUBLES, contactDraw, lane).lt(contactRate));
+            balls.blend(strike, inZone.or(swing))
+                    .blend(inPlay, contact)
+                    .intoArray(pitchResult, lane);
+        }
+        return bound;
+    }
+}
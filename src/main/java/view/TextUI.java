@@ -53,6 +53,48 @@ public class TextUI implements UIInterface {
         System.out.println("  help                  - Show this help message");
         System.out.println(
                 "  simulate -n [number] -o [outfile] - Run [number] game simulations and write to file [outfile]. If no options are provided, 1 simulation will be run and printed to console.");
+        System.out.println(
+                "                        Without -o, more than 10 games run in parallel and only the batch totals are printed;");
+        System.out.println(
+                "                        Games printed one by one or written with -o are played without --engine, --fidelity or --antithetic.");
+        System.out.println(
+                "                        --engine [reference/kernel/verify] picks the batch engine; verify plays both and checks they agree.");
+        System.out.println(
+                "                        --engine composition plays each game as 9 draws of solved innings; only runs are kept.");
+        System.out.println(
+                "                        --engine lanes plays 16 games side by side pitch by pitch, deciding pitches on vector masks when run with --add-modules jdk.incubator.vector.");
+        System.out.println(
+                "                        --fidelity [pitch/pa] pa draws each plate appearance at once; faster, but pitch counts are only estimated.");
+        System.out.println(
+                "                        --seed [seed] makes runs reproducible; --game [i] with a seed replays game i of that batch.");
+        System.out.println(
+                "                        --rng [L64X128MixRandom/Xoroshiro128PlusPlus/SplittableRandom/Random] picks the generator; default SplittableRandom.");
+        System.out.println(
+                "  simulate -n [number] --bench-rng - Time every generator on the chosen engine and check its draws are uniform.");
+        System.out.println(
+                "  simulate --exact      - Solve the exact run distribution of the matchup instead of playing games.");
+        System.out.println(
+                "  simulate --until-ci [width] --max-games [number] --time-limit [seconds] --track [runs,hits,1b,2b,3b,hr,k,bb,pitches]");
+        System.out.println(
+                "                        - Play games until the 95% interval of every tracked mean is narrower than [width].");
+        System.out.println(
+                "                        --antithetic plays batches in mirrored pairs and reports the variance reduction.");
+        System.out.println(
+                "  simulate -n [number] --swap [slot] [batter] - Compare the lineup with [batter] batting in [slot] on common random numbers.");
+        System.out.println(
+                "  simulate -n [number] --rare [no-hitter/perfect/runs] --at-least [runs]");
+        System.out.println(
+                "                        - Estimate the chance of a rare game by importance sampling; runs defaults to 10+.");
+        System.out.println(
+                "  simulate -n [number] --workers [number] - Split a batch over worker JVMs on this machine; a crashed worker's shard is rerun.");
+        System.out.println(
+                "  simulate -n [number] --season - Play [number] seasons of 162 games against the other 29 teams, cycling their rotations.");
+        System.out.println(
+                "  simulate --grid [file] -o [csv] - Play every scenario of a JSON scenario file once and write one row per scenario.");
+        System.out.println(
+                "  simulate -n [number] --pbp [csv] --seed [seed] --game [index]");
+        System.out.println(
+                "                        - Record every pitch of [number] seeded games from game [index] and write one row per pitch; up to 10 games are also shown.");
         System.out.println("  exit                  - Exit the program");
     }
 
@@ -136,6 +178,76 @@ public class TextUI implements UIInterface {
         System.out.println(totalStatistics);
     }
 
+    /**
+     * Displays the aggregate of a batch of simulations
+     *
+     * @param batchResult Batch details
+     */
+    public void displayBatchResult(BatchResult batchResult) {
+        System.out.println(batchResult.toString());
+        System.out.println(batchResult.getSummary());
+    }
+
+    /**
+     * Displays the exact run distribution of a matchup
+     *
+     * @param runDistribution Solved run distribution
+     */
+    public void displayRunDistribution(RunDistribution runDistribution) {
+        System.out.println(runDistribution.toString());
+        System.out.println(runDistribution.getSummary());
+    }
+
+    /**
+     * Displays the comparison of two lineups played on common random numbers
+     *
+     * @param comparison Lineup comparison results
+     */
+    public void displayLineupComparison(LineupComparison comparison) {
+        System.out.println(comparison.toString());
+        System.out.println(comparison.getSummary());
+    }
+
+    /**
+     * Displays the importance sampling estimate of a rare game
+     *
+     * @param result Rare event estimate
+     */
+    public void displayRareEventResult(RareEventResult result) {
+        System.out.println(result.toString());
+        System.out.println(result.getSummary());
+    }
+
+    /**
+     * Displays the totals of many seasons
+     *
+     * @param result Season results
+     */
+    public void displaySeasonResult(SeasonResult result) {
+        System.out.println(result.toString());
+        System.out.println(result.getSummary());
+    }
+
+    /**
+     * Displays the runs of every scenario of a grid
+     *
+     * @param result Scenario grid results
+     */
+    public void displayScenarioGridResult(ScenarioGridResult result) {
+        System.out.println(result.toString());
+        System.out.println(result.getSummary());
+    }
+
+    /**
+     * Displays the benchmark of every random algorithm
+     *
+     * @param benchmark Random generator benchmark
+     */
+    public void displayRandomBenchmark(RandomBenchmark benchmark) {
+        System.out.println(benchmark.toString());
+        System.out.println(benchmark.getSummary());
+    }
+
     /**
      * Gets the next command from the user
      *
@@ -58,6 +58,55 @@ public interface UIInterface {
      */
     void displaySimulationResult(SimulationResult simulationResult);
 
+    /**
+     * Displays the aggregate of a batch of simulations
+     *
+     * @param batchResult Batch simulation results
+     */
+    void displayBatchResult(BatchResult batchResult);
+
+    /**
+     * Displays the exact run distribution of a matchup
+     *
+     * @param runDistribution Solved run distribution
+     */
+    void displayRunDistribution(RunDistribution runDistribution);
+
+    /**
+     * Displays the comparison of two lineups played on common random numbers
+     *
+     * @param comparison Lineup comparison results
+     */
+    void displayLineupComparison(LineupComparison comparison);
+
+    /**
+     * Displays the importance sampling estimate of a rare game
+     *
+     * @param result Rare event estimate
+     */
+    void displayRareEventResult(RareEventResult result);
+
+    /**
+     * Displays the totals of many seasons
+     *
+     * @param result Season results
+     */
+    void displaySeasonResult(SeasonResult result);
+
+    /**
+     * Displays the runs of every scenario of a grid
+     *
+     * @param result Scenario grid results
+     */
+    void displayScenarioGridResult(ScenarioGridResult result);
+
+    /**
+     * Displays the benchmark of every random algorithm
+     *
+     * @param benchmark Random generator benchmark
+     */
+    void displayRandomBenchmark(RandomBenchmark benchmark);
+
     /**
      * Gets the next command from the user
      *
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.file.InvalidPathException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -24,10 +25,24 @@ import org.mockito.MockitoAnnotations;
 
 import gameEnum.PlayerData;
 import gameEnum.Side;
+import gameEnum.Fidelity;
+import gameEnum.RandomAlgorithm;
+import gameEnum.RareEvent;
+import gameEnum.SimulationEngine;
 import gameEnum.Teams;
+import gameEnum.TrackedStat;
 import model.Model;
 import model.player.Batter;
 import model.player.Pitcher;
+import model.simulation.BatchResult;
+import model.simulation.BatchSimulation;
+import model.simulation.LineupComparison;
+import model.simulation.PrecisionTarget;
+import model.simulation.RandomBenchmark;
+import model.simulation.RareEventResult;
+import model.simulation.RunDistribution;
+import model.simulation.ScenarioGridResult;
+import model.simulation.SeasonResult;
 import model.simulation.SimulationResult;
 import view.TextUI;
 
@@ -342,6 +357,448 @@ class MLBSimulatorControllerTest {
         verify(mockView).displayError(anyString());
     }
 
+    @Test
+    void testRunSimulationBatch() throws Exception {
+        // Setup
+        java.lang.reflect.Method runSimulation = MLBSimulatorController.class.getDeclaredMethod("runSimulation", String[].class);
+        runSimulation.setAccessible(true);
+
+        BatchResult mockBatchResult = mock(BatchResult.class);
+        when(mockModel.startBatchSimAndGetResult(eq(1000), eq(SimulationEngine.REFERENCE), eq(Fidelity.PITCH), eq(false), eq(RandomAlgorithm.SPLITTABLE), anyLong())).thenReturn(mockBatchResult);
+
+        // Large console runs are played as one batch
+        String[] command = new String[]{"simulate", "-n", "1000"};
+        runSimulation.invoke(controllerForPrivateMethods, (Object) command);
+
+        verify(mockModel).startBatchSimAndGetResult(eq(1000), eq(SimulationEngine.REFERENCE), eq(Fidelity.PITCH), eq(false), eq(RandomAlgorithm.SPLITTABLE), anyLong());
+        verify(mockModel, never()).startSimAndGetResult();
+        verify(mockView).displayBatchResult(mockBatchResult);
+
+        // Test with batch that fails
+        reset(mockModel, mockView);
+        when(mockModel.startBatchSimAndGetResult(eq(1000), eq(SimulationEngine.REFERENCE), eq(Fidelity.PITCH), eq(false), eq(RandomAlgorithm.SPLITTABLE), anyLong())).thenReturn(null);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) command);
+
+        verify(mockView).displayError(anyString());
+
+        // Test with a chosen engine
+        reset(mockModel, mockView);
+        when(mockModel.startBatchSimAndGetResult(eq(1000), eq(SimulationEngine.KERNEL), eq(Fidelity.PITCH), eq(false), eq(RandomAlgorithm.SPLITTABLE), anyLong())).thenReturn(mockBatchResult);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "1000", "--engine", "kernel"});
+
+        verify(mockModel).startBatchSimAndGetResult(eq(1000), eq(SimulationEngine.KERNEL), eq(Fidelity.PITCH), eq(false), eq(RandomAlgorithm.SPLITTABLE), anyLong());
+        verify(mockView).displayBatchResult(mockBatchResult);
+
+        // Test with an unknown engine
+        reset(mockModel, mockView);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "1000", "--engine", "fast"});
+
+        verify(mockModel, never()).startBatchSimAndGetResult(anyInt(), any(), any(), anyBoolean(), any(), anyLong());
+        verify(mockView).displayError(anyString());
+
+        // Test at plate appearance fidelity
+        reset(mockModel, mockView);
+        when(mockModel.startBatchSimAndGetResult(eq(1000), eq(SimulationEngine.KERNEL), eq(Fidelity.PLATE_APPEARANCE), eq(false), eq(RandomAlgorithm.SPLITTABLE), anyLong()))
+                .thenReturn(mockBatchResult);
+
+        runSimulation.invoke(controllerForPrivateMethods,
+                (Object) new String[]{"simulate", "-n", "1000", "--engine", "kernel", "--fidelity", "pa"});
+
+        verify(mockModel).startBatchSimAndGetResult(eq(1000), eq(SimulationEngine.KERNEL), eq(Fidelity.PLATE_APPEARANCE), eq(false), eq(RandomAlgorithm.SPLITTABLE), anyLong());
+        verify(mockView).displayBatchResult(mockBatchResult);
+
+        // Test with an unknown fidelity
+        reset(mockModel, mockView);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "1000", "--fidelity", "inning"});
+
+        verify(mockModel, never()).startBatchSimAndGetResult(anyInt(), any(), any(), anyBoolean(), any(), anyLong());
+        verify(mockView).displayError(anyString());
+
+        // Test with antithetic pairs
+        reset(mockModel, mockView);
+        when(mockModel.startBatchSimAndGetResult(eq(1000), eq(SimulationEngine.REFERENCE), eq(Fidelity.PITCH), eq(true), eq(RandomAlgorithm.SPLITTABLE), anyLong()))
+                .thenReturn(mockBatchResult);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "1000", "--antithetic"});
+
+        verify(mockModel).startBatchSimAndGetResult(eq(1000), eq(SimulationEngine.REFERENCE), eq(Fidelity.PITCH), eq(true), eq(RandomAlgorithm.SPLITTABLE), anyLong());
+        verify(mockView).displayBatchResult(mockBatchResult);
+
+        // Test batch options on games that are displayed or saved one by one
+        String batchOnly = "--engine, --fidelity and --antithetic only apply to batches of more than 10 games without -o";
+        String[][] displayedGames = {
+                {"simulate", "-n", "3", "--engine", "kernel"},
+                {"simulate", "-n", "10", "--antithetic"},
+                {"simulate", "-n", "1000", "-o", "games.csv", "--fidelity", "pa"}
+        };
+        for (String[] args : displayedGames) {
+            reset(mockModel, mockView);
+            runSimulation.invoke(controllerForPrivateMethods, (Object) args);
+            verify(mockView).displayError(batchOnly);
+            verify(mockModel, never()).startSimAndGetResult();
+            verify(mockModel, never()).startBatchSimAndGetResult(anyInt(), any(), any(), anyBoolean(), any(), anyLong());
+        }
+    }
+
+    @Test
+    void testRunSimulationSwap() throws Exception {
+        // Setup
+        java.lang.reflect.Method runSimulation = MLBSimulatorController.class.getDeclaredMethod("runSimulation", String[].class);
+        runSimulation.setAccessible(true);
+
+        LineupComparison mockComparison = mock(LineupComparison.class);
+        when(mockModel.startComparisonSimAndGetResult(eq(5000), eq(4), eq("Julio Rodriguez"), eq(SimulationEngine.KERNEL),
+                eq(Fidelity.PITCH), eq(RandomAlgorithm.SPLITTABLE), eq(3L))).thenReturn(mockComparison);
+
+        // The batter name runs up to the next option
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "5000", "--swap", "4",
+                "Julio", "Rodriguez", "--engine", "kernel", "--seed", "3"});
+
+        verify(mockModel).startComparisonSimAndGetResult(5000, 4, "Julio Rodriguez", SimulationEngine.KERNEL, Fidelity.PITCH, RandomAlgorithm.SPLITTABLE, 3L);
+        verify(mockView).displayLineupComparison(mockComparison);
+        verify(mockModel, never()).startBatchSimAndGetResult(anyInt(), any(), any(), anyBoolean(), any(), anyLong());
+
+        // Test with an unknown batter
+        reset(mockModel, mockView);
+        when(mockModel.startComparisonSimAndGetResult(anyInt(), anyInt(), anyString(), any(), any(), any(), anyLong()))
+                .thenThrow(new IllegalArgumentException("No batter named Nobody"));
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "5000", "--swap", "4", "Nobody"});
+
+        verify(mockView).displayError("No batter named Nobody");
+
+        // Test with a slot that is not a number
+        reset(mockModel, mockView);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "--swap", "first", "Nobody"});
+
+        verify(mockModel, never()).startComparisonSimAndGetResult(anyInt(), anyInt(), anyString(), any(), any(), any(), anyLong());
+        verify(mockView).displayError(anyString());
+    }
+
+    @Test
+    void testRunSimulationRandomAlgorithm() throws Exception {
+        // Setup
+        java.lang.reflect.Method runSimulation = MLBSimulatorController.class.getDeclaredMethod("runSimulation", String[].class);
+        runSimulation.setAccessible(true);
+
+        BatchResult mockBatchResult = mock(BatchResult.class);
+        when(mockModel.startBatchSimAndGetResult(1000, SimulationEngine.KERNEL, Fidelity.PITCH, false,
+                RandomAlgorithm.XOROSHIRO128_PLUS_PLUS, 11L)).thenReturn(mockBatchResult);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "1000", "--engine", "kernel",
+                "--rng", "Xoroshiro128PlusPlus", "--seed", "11"});
+
+        verify(mockModel).startBatchSimAndGetResult(1000, SimulationEngine.KERNEL, Fidelity.PITCH, false,
+                RandomAlgorithm.XOROSHIRO128_PLUS_PLUS, 11L);
+        verify(mockView).displayBatchResult(mockBatchResult);
+
+        // Replayed games use the same algorithm as the batch
+        reset(mockModel, mockView);
+        SimulationResult mockSimulationResult = mock(SimulationResult.class);
+        when(mockModel.startSimAndGetResult(any(), anyLong())).thenReturn(mockSimulationResult);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "--rng", "Random", "--seed", "11",
+                "--game", "4"});
+
+        verify(mockModel).startSimAndGetResult(RandomAlgorithm.RANDOM, BatchSimulation.gameSeed(11L, 4));
+
+        // Test with an unknown algorithm
+        reset(mockModel, mockView);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "1000", "--rng", "Mersenne"});
+
+        verify(mockModel, never()).startBatchSimAndGetResult(anyInt(), any(), any(), anyBoolean(), any(), anyLong());
+        verify(mockView).displayError(anyString());
+
+        // Benchmark every algorithm
+        reset(mockModel, mockView);
+        RandomBenchmark mockBenchmark = mock(RandomBenchmark.class);
+        when(mockModel.startRandomBenchmarkAndGetResult(eq(50000), eq(SimulationEngine.LANES), eq(Fidelity.PITCH), anyLong()))
+                .thenReturn(mockBenchmark);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "50000", "--bench-rng",
+                "--engine", "lanes"});
+
+        verify(mockModel).startRandomBenchmarkAndGetResult(eq(50000), eq(SimulationEngine.LANES), eq(Fidelity.PITCH), anyLong());
+        verify(mockView).displayRandomBenchmark(mockBenchmark);
+        verify(mockModel, never()).startBatchSimAndGetResult(anyInt(), any(), any(), anyBoolean(), any(), anyLong());
+    }
+
+    @Test
+    void testRunSimulationRare() throws Exception {
+        // Setup
+        java.lang.reflect.Method runSimulation = MLBSimulatorController.class.getDeclaredMethod("runSimulation", String[].class);
+        runSimulation.setAccessible(true);
+
+        RareEventResult mockRareEventResult = mock(RareEventResult.class);
+        when(mockModel.startRareEventSimAndGetResult(eq(RareEvent.NO_HITTER), eq(10), eq(100000), eq(8L)))
+                .thenReturn(mockRareEventResult);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "100000", "--rare",
+                "no-hitter", "--seed", "8"});
+
+        verify(mockModel).startRareEventSimAndGetResult(RareEvent.NO_HITTER, 10, 100000, 8L);
+        verify(mockView).displayRareEventResult(mockRareEventResult);
+        verify(mockModel, never()).startBatchSimAndGetResult(anyInt(), any(), any(), anyBoolean(), any(), anyLong());
+
+        // Test with a run threshold
+        reset(mockModel, mockView);
+        when(mockModel.startRareEventSimAndGetResult(eq(RareEvent.RUNS), eq(15), eq(100000), anyLong()))
+                .thenReturn(mockRareEventResult);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "100000", "--rare",
+                "runs", "--at-least", "15"});
+
+        verify(mockModel).startRareEventSimAndGetResult(eq(RareEvent.RUNS), eq(15), eq(100000), anyLong());
+        verify(mockView).displayRareEventResult(mockRareEventResult);
+
+        // Test with an unknown event and a bad threshold
+        reset(mockModel, mockView);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "1000", "--rare", "cycle"});
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "1000", "--rare", "runs",
+                "--at-least", "many"});
+
+        verify(mockModel, never()).startRareEventSimAndGetResult(any(), anyInt(), anyInt(), anyLong());
+        verify(mockView, times(2)).displayError(anyString());
+    }
+
+    @Test
+    void testRunSimulationSeason() throws Exception {
+        // Setup
+        java.lang.reflect.Method runSimulation = MLBSimulatorController.class.getDeclaredMethod("runSimulation", String[].class);
+        runSimulation.setAccessible(true);
+
+        SeasonResult mockSeasonResult = mock(SeasonResult.class);
+        when(mockModel.startSeasonSimAndGetResult(eq(500), eq(Fidelity.PLATE_APPEARANCE), eq(RandomAlgorithm.SPLITTABLE),
+                eq(4L))).thenReturn(mockSeasonResult);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "500", "--season",
+                "--fidelity", "pa", "--seed", "4"});
+
+        verify(mockModel).startSeasonSimAndGetResult(500, Fidelity.PLATE_APPEARANCE, RandomAlgorithm.SPLITTABLE, 4L);
+        verify(mockView).displaySeasonResult(mockSeasonResult);
+        verify(mockModel, never()).startBatchSimAndGetResult(anyInt(), any(), any(), anyBoolean(), any(), anyLong());
+
+        // Test with an incomplete lineup
+        reset(mockModel, mockView);
+        when(mockModel.startSeasonSimAndGetResult(anyInt(), any(), any(), anyLong())).thenReturn(null);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "10", "--season"});
+
+        verify(mockView).displayError(anyString());
+        verify(mockView, never()).displaySeasonResult(any());
+    }
+
+    @Test
+    void testRunSimulationGrid() throws Exception {
+        // Setup
+        java.lang.reflect.Method runSimulation = MLBSimulatorController.class.getDeclaredMethod("runSimulation", String[].class);
+        runSimulation.setAccessible(true);
+
+        ScenarioGridResult mockGridResult = mock(ScenarioGridResult.class);
+        when(mockModel.startScenarioGridAndGetResult("grid.json", "rows.csv")).thenReturn(mockGridResult);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "--grid", "grid.json",
+                "-o", "rows.csv"});
+
+        verify(mockModel).startScenarioGridAndGetResult("grid.json", "rows.csv");
+        verify(mockView).displayScenarioGridResult(mockGridResult);
+        verify(mockModel, never()).startBatchSimAndGetResult(anyInt(), any(), any(), anyBoolean(), any(), anyLong());
+
+        // Test with an unreadable scenario file
+        reset(mockModel, mockView);
+        when(mockModel.startScenarioGridAndGetResult(anyString(), any()))
+                .thenThrow(new IllegalArgumentException("Could not read scenario file missing.json"));
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "--grid", "missing.json"});
+
+        verify(mockModel).startScenarioGridAndGetResult("missing.json", null);
+        verify(mockView).displayError("Could not read scenario file missing.json");
+        verify(mockView, never()).displayScenarioGridResult(any());
+    }
+
+    @Test
+    void testRunSimulationPlayByPlay() throws Exception {
+        // Setup
+        java.lang.reflect.Method runSimulation = MLBSimulatorController.class.getDeclaredMethod("runSimulation", String[].class);
+        runSimulation.setAccessible(true);
+
+        SimulationResult mockResult = mock(SimulationResult.class);
+        when(mockModel.startPlayByPlaySimAndGetResult(2, RandomAlgorithm.SPLITTABLE, 42L, 3, "pbp.csv"))
+                .thenReturn(List.of(mockResult, mockResult));
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "2", "--pbp",
+                "pbp.csv", "--seed", "42", "--game", "3"});
+
+        verify(mockModel).startPlayByPlaySimAndGetResult(2, RandomAlgorithm.SPLITTABLE, 42L, 3, "pbp.csv");
+        verify(mockView, times(2)).displaySimulationResult(mockResult);
+        verify(mockView).displayMessage("Play-by-play of 2 games saved to pbp.csv (seed 42)");
+
+        // Test with a file that cannot be written
+        reset(mockModel, mockView);
+        when(mockModel.startPlayByPlaySimAndGetResult(anyInt(), any(), anyLong(), anyInt(), anyString()))
+                .thenThrow(new IllegalStateException("Error writing to file: pbp.csv"));
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "--pbp", "pbp.csv"});
+
+        verify(mockView).displayError("Error writing to file: pbp.csv");
+        verify(mockView, never()).displaySimulationResult(any());
+
+        // Test with a file name that is not a valid path
+        reset(mockModel, mockView);
+        when(mockModel.startPlayByPlaySimAndGetResult(anyInt(), any(), anyLong(), anyInt(), anyString()))
+                .thenThrow(new InvalidPathException("pbp.csv", "Illegal char"));
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "--pbp", "pbp.csv"});
+
+        verify(mockView).displayError("Illegal char: pbp.csv");
+        verify(mockView, never()).displaySimulationResult(any());
+    }
+
+    @Test
+    void testRunSimulationWorkers() throws Exception {
+        // Setup
+        java.lang.reflect.Method runSimulation = MLBSimulatorController.class.getDeclaredMethod("runSimulation", String[].class);
+        runSimulation.setAccessible(true);
+
+        BatchResult mockBatchResult = mock(BatchResult.class);
+        when(mockModel.startShardedSimAndGetResult(eq(5000), eq(3), eq(SimulationEngine.KERNEL), eq(Fidelity.PITCH),
+                eq(false), eq(RandomAlgorithm.SPLITTABLE), eq(8L))).thenReturn(mockBatchResult);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "5000", "--workers",
+                "3", "--engine", "kernel", "--seed", "8"});
+
+        verify(mockModel).startShardedSimAndGetResult(5000, 3, SimulationEngine.KERNEL, Fidelity.PITCH, false,
+                RandomAlgorithm.SPLITTABLE, 8L);
+        verify(mockView).displayBatchResult(mockBatchResult);
+        verify(mockModel, never()).startBatchSimAndGetResult(anyInt(), any(), any(), anyBoolean(), any(), anyLong());
+
+        // Test with an invalid number of workers
+        reset(mockModel, mockView);
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "5000", "--workers",
+                "many"});
+
+        verify(mockView).displayError("Invalid number of workers: many");
+        verify(mockModel, never()).startShardedSimAndGetResult(anyInt(), anyInt(), any(), any(), anyBoolean(), any(),
+                anyLong());
+
+        // Test with a failing shard
+        reset(mockModel, mockView);
+        when(mockModel.startShardedSimAndGetResult(anyInt(), anyInt(), any(), any(), anyBoolean(), any(), anyLong()))
+                .thenThrow(new IllegalStateException("Shard of games [0, 10) failed 3 times"));
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "10", "--workers",
+                "1"});
+
+        verify(mockView).displayError("Shard of games [0, 10) failed 3 times");
+        verify(mockView, never()).displayBatchResult(any());
+    }
+
+    @Test
+    void testRunSimulationWithSeed() throws Exception {
+        // Setup
+        java.lang.reflect.Method runSimulation = MLBSimulatorController.class.getDeclaredMethod("runSimulation", String[].class);
+        runSimulation.setAccessible(true);
+
+        SimulationResult mockSimulationResult = mock(SimulationResult.class);
+        when(mockModel.startSimAndGetResult(any(), anyLong())).thenReturn(mockSimulationResult);
+
+        // Displayed games are seeded like the games of a batch with the same seed
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "2", "--seed", "5"});
+
+        verify(mockModel).startSimAndGetResult(RandomAlgorithm.SPLITTABLE, BatchSimulation.gameSeed(5L, 0));
+        verify(mockModel).startSimAndGetResult(RandomAlgorithm.SPLITTABLE, BatchSimulation.gameSeed(5L, 1));
+        verify(mockModel, never()).startSimAndGetResult();
+
+        // Replay one game of a batch
+        reset(mockModel, mockView);
+        when(mockModel.startSimAndGetResult(any(), anyLong())).thenReturn(mockSimulationResult);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "--seed", "5", "--game", "7"});
+
+        verify(mockModel).startSimAndGetResult(RandomAlgorithm.SPLITTABLE, BatchSimulation.gameSeed(5L, 7));
+        verify(mockView).displaySimulationResult(mockSimulationResult);
+
+        // Batches use the seed as given
+        reset(mockModel, mockView);
+        BatchResult mockBatchResult = mock(BatchResult.class);
+        when(mockModel.startBatchSimAndGetResult(1000, SimulationEngine.REFERENCE, Fidelity.PITCH, false, RandomAlgorithm.SPLITTABLE, 42L)).thenReturn(mockBatchResult);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "-n", "1000", "--seed", "42"});
+
+        verify(mockModel).startBatchSimAndGetResult(1000, SimulationEngine.REFERENCE, Fidelity.PITCH, false, RandomAlgorithm.SPLITTABLE, 42L);
+
+        // A game number without a seed cannot be replayed
+        reset(mockModel, mockView);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "--game", "3"});
+
+        verify(mockModel, never()).startSimAndGetResult();
+        verify(mockView).displayError(anyString());
+    }
+
+    @Test
+    void testRunSimulationUntilPrecision() throws Exception {
+        // Setup
+        java.lang.reflect.Method runSimulation = MLBSimulatorController.class.getDeclaredMethod("runSimulation", String[].class);
+        runSimulation.setAccessible(true);
+
+        BatchResult mockBatchResult = mock(BatchResult.class);
+        ArgumentCaptor<PrecisionTarget> targetCaptor = ArgumentCaptor.forClass(PrecisionTarget.class);
+        when(mockModel.startPrecisionSimAndGetResult(any(), eq(SimulationEngine.REFERENCE), eq(Fidelity.PITCH), eq(false), eq(RandomAlgorithm.SPLITTABLE), anyLong())).thenReturn(mockBatchResult);
+
+        String[] command = new String[]{"simulate", "--until-ci", "0.05", "--max-games", "50000",
+                "--time-limit", "2.5", "--track", "runs,k"};
+        runSimulation.invoke(controllerForPrivateMethods, (Object) command);
+
+        verify(mockModel).startPrecisionSimAndGetResult(targetCaptor.capture(), eq(SimulationEngine.REFERENCE), eq(Fidelity.PITCH), eq(false), eq(RandomAlgorithm.SPLITTABLE), anyLong());
+        verify(mockView).displayBatchResult(mockBatchResult);
+        PrecisionTarget target = targetCaptor.getValue();
+        assertEquals(0.05, target.getWidth());
+        assertEquals(50000, target.getMaxGames());
+        assertEquals(2500, target.getTimeBudgetMillis());
+        assertEquals(Set.of(TrackedStat.RUNS, TrackedStat.STRIKEOUTS), target.getStats());
+
+        // Test with an unknown statistic
+        reset(mockModel, mockView);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) new String[]{"simulate", "--until-ci", "0.05", "--track", "rbi"});
+
+        verify(mockModel, never()).startPrecisionSimAndGetResult(any(), any(), any(), anyBoolean(), any(), anyLong());
+        verify(mockView).displayError(anyString());
+    }
+
+    @Test
+    void testRunSimulationExact() throws Exception {
+        // Setup
+        java.lang.reflect.Method runSimulation = MLBSimulatorController.class.getDeclaredMethod("runSimulation", String[].class);
+        runSimulation.setAccessible(true);
+
+        RunDistribution mockDistribution = mock(RunDistribution.class);
+        when(mockModel.startExactSimAndGetResult()).thenReturn(mockDistribution);
+
+        String[] command = new String[]{"simulate", "--exact"};
+        runSimulation.invoke(controllerForPrivateMethods, (Object) command);
+
+        verify(mockModel).startExactSimAndGetResult();
+        verify(mockModel, never()).startSimAndGetResult();
+        verify(mockView).displayRunDistribution(mockDistribution);
+
+        // Test with lineup not completed
+        reset(mockModel, mockView);
+        when(mockModel.startExactSimAndGetResult()).thenReturn(null);
+
+        runSimulation.invoke(controllerForPrivateMethods, (Object) command);
+
+        verify(mockView).displayError(anyString());
+    }
+
     @Test
     void testRunSimulationWithInvalidNumber() throws Exception {
         // Setup
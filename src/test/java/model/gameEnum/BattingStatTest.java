@@ -0,0 +1,45 @@
+package model.gameEnum;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import gameEnum.BattingStat;
+import gameEnum.Hits;
+
+public class BattingStatTest {
+
+    @Test
+    public void testGetName() {
+        assertEquals("pa", BattingStat.PLATE_APPEARANCES.getName());
+        assertEquals("1b", BattingStat.SINGLES.getName());
+        assertEquals("rbi", BattingStat.RBI.getName());
+    }
+
+    @Test
+    public void testIsHit() {
+        assertTrue(BattingStat.SINGLES.isHit());
+        assertTrue(BattingStat.HOME_RUNS.isHit());
+        assertFalse(BattingStat.HITS.isHit());
+        assertFalse(BattingStat.WALKS.isHit());
+    }
+
+    @Test
+    public void testFromHit() {
+        assertEquals(BattingStat.DOUBLES, BattingStat.fromHit(Hits.DOUBLE));
+        assertEquals(BattingStat.HOME_RUNS, BattingStat.fromHit(Hits.HR));
+    }
+
+    @Test
+    public void testFromName_ValidNames() {
+        for (BattingStat stat : BattingStat.values()) {
+            assertEquals(stat, BattingStat.fromName(stat.getName()));
+        }
+        assertEquals(BattingStat.RBI, BattingStat.fromName("RBI"));
+    }
+
+    @Test
+    public void testFromName_InvalidName() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            BattingStat.fromName("sb");
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package model.gameEnum;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import gameEnum.Fidelity;
+
+public class FidelityTest {
+
+    @Test
+    public void testGetName() {
+        assertEquals("pitch", Fidelity.PITCH.getName());
+        assertEquals("pa", Fidelity.PLATE_APPEARANCE.getName());
+    }
+
+    @Test
+    public void testFromName_ValidNames() {
+        for (Fidelity fidelity : Fidelity.values()) {
+            assertEquals(fidelity, Fidelity.fromName(fidelity.getName()));
+        }
+        assertEquals(Fidelity.PLATE_APPEARANCE, Fidelity.fromName("PA"));
+    }
+
+    @Test
+    public void testFromName_InvalidName() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            Fidelity.fromName("inning");
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package model.gameEnum;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import gameEnum.Hits;
+import gameEnum.PitchResult;
+
+public class PitchResultTest {
+
+    @Test
+    public void testGetName() {
+        assertEquals("ball", PitchResult.BALL.getName());
+        assertEquals("swingingStrike", PitchResult.SWINGING_STRIKE.getName());
+        assertEquals("homeRun", PitchResult.HOME_RUN.getName());
+    }
+
+    @Test
+    public void testInPlayAndHits() {
+        assertFalse(PitchResult.CALLED_STRIKE.isInPlay());
+        assertTrue(PitchResult.IN_PLAY_OUT.isInPlay());
+        assertFalse(PitchResult.IN_PLAY_OUT.isHit());
+        assertTrue(PitchResult.TRIPLE.isHit());
+    }
+
+    @Test
+    public void testFromHit() {
+        assertEquals(PitchResult.SINGLE, PitchResult.fromHit(Hits.SINGLE));
+        assertEquals(PitchResult.HOME_RUN, PitchResult.fromHit(Hits.HR));
+    }
+
+    @Test
+    public void testFromName_ValidNames() {
+        for (PitchResult result : PitchResult.values()) {
+            assertEquals(result, PitchResult.fromName(result.getName()));
+        }
+        assertEquals(PitchResult.IN_PLAY_OUT, PitchResult.fromName("INPLAYOUT"));
+    }
+
+    @Test
+    public void testFromName_InvalidName() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            PitchResult.fromName("foul");
+        });
+    }
+}
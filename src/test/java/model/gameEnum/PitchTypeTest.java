@@ -0,0 +1,47 @@
+package model.gameEnum;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import gameEnum.PitchCategory;
+import gameEnum.PitchType;
+
+public class PitchTypeTest {
+
+    @Test
+    public void testGetDisplayName() {
+        assertEquals("fourSeam", PitchType.FOUR_SEAM.getDisplayName());
+        assertEquals("splitFinger", PitchType.SPLIT_FINGER.getDisplayName());
+        assertEquals("Fastball", PitchCategory.FASTBALL.getDisplayName());
+        assertEquals("Offspeed", PitchCategory.OFFSPEED.getDisplayName());
+    }
+
+    @Test
+    public void testGetCategory() {
+        assertEquals(PitchCategory.FASTBALL, PitchType.FOUR_SEAM.getCategory());
+        assertEquals(PitchCategory.FASTBALL, PitchType.SINKER.getCategory());
+        assertEquals(PitchCategory.BREAKING, PitchType.SLIDER.getCategory());
+        assertEquals(PitchCategory.BREAKING, PitchType.SLURVE.getCategory());
+        assertEquals(PitchCategory.OFFSPEED, PitchType.CHANGEUP.getCategory());
+        assertEquals(PitchCategory.OFFSPEED, PitchType.SCREW.getCategory());
+    }
+
+    @Test
+    public void testFromDisplayName_ValidNames() {
+        for (PitchType type : PitchType.values()) {
+            assertEquals(type, PitchType.fromDisplayName(type.getDisplayName()));
+        }
+        for (PitchCategory category : PitchCategory.values()) {
+            assertEquals(category, PitchCategory.fromDisplayName(category.getDisplayName()));
+        }
+    }
+
+    @Test
+    public void testFromDisplayName_InvalidName() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            PitchType.fromDisplayName("eephus");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            PitchCategory.fromDisplayName("Junk");
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package model.gameEnum;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import gameEnum.PitchingStat;
+
+public class PitchingStatTest {
+
+    @Test
+    public void testGetName() {
+        assertEquals("bf", PitchingStat.BATTERS_FACED.getName());
+        assertEquals("pitches", PitchingStat.PITCHES.getName());
+        assertEquals("r", PitchingStat.RUNS.getName());
+    }
+
+    @Test
+    public void testFromName_ValidNames() {
+        for (PitchingStat stat : PitchingStat.values()) {
+            assertEquals(stat, PitchingStat.fromName(stat.getName()));
+        }
+        assertEquals(PitchingStat.HOME_RUNS, PitchingStat.fromName("HR"));
+    }
+
+    @Test
+    public void testFromName_InvalidName() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            PitchingStat.fromName("era");
+        });
+    }
+}
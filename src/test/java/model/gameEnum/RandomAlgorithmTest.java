@@ -0,0 +1,52 @@
+package model.gameEnum;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import gameEnum.RandomAlgorithm;
+
+public class RandomAlgorithmTest {
+
+    @Test
+    public void testGetName() {
+        assertEquals("L64X128MixRandom", RandomAlgorithm.L64X128_MIX.getName());
+        assertEquals("Xoroshiro128PlusPlus", RandomAlgorithm.XOROSHIRO128_PLUS_PLUS.getName());
+        assertEquals("SplittableRandom", RandomAlgorithm.SPLITTABLE.getName());
+        assertEquals("Random", RandomAlgorithm.RANDOM.getName());
+    }
+
+    @Test
+    public void testFromName_ValidNames() {
+        for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+            assertEquals(algorithm, RandomAlgorithm.fromName(algorithm.getName()));
+        }
+        assertEquals(RandomAlgorithm.XOROSHIRO128_PLUS_PLUS, RandomAlgorithm.fromName("xoroshiro128plusplus"));
+    }
+
+    @Test
+    public void testFromName_InvalidName() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            RandomAlgorithm.fromName("MersenneTwister");
+        });
+    }
+
+    @Test
+    public void testCreateIsSeeded() {
+        for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+            RandomGenerator first = algorithm.create(42L);
+            RandomGenerator second = algorithm.create(42L);
+            for (int i = 0; i < 10; i++) {
+                assertEquals(first.nextLong(), second.nextLong());
+            }
+        }
+    }
+
+    @Test
+    public void testCreateKeepsLegacyStreams() {
+        assertEquals(new SplittableRandom(7L).nextLong(), RandomAlgorithm.SPLITTABLE.create(7L).nextLong());
+        assertEquals(new Random(7L).nextLong(), RandomAlgorithm.RANDOM.create(7L).nextLong());
+    }
+}
@@ -0,0 +1,30 @@
+package model.gameEnum;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import gameEnum.RareEvent;
+
+public class RareEventTest {
+
+    @Test
+    public void testGetName() {
+        assertEquals("no-hitter", RareEvent.NO_HITTER.getName());
+        assertEquals("perfect", RareEvent.PERFECT_GAME.getName());
+        assertEquals("runs", RareEvent.RUNS.getName());
+    }
+
+    @Test
+    public void testFromName_ValidNames() {
+        for (RareEvent event : RareEvent.values()) {
+            assertEquals(event, RareEvent.fromName(event.getName()));
+        }
+        assertEquals(RareEvent.PERFECT_GAME, RareEvent.fromName("Perfect"));
+    }
+
+    @Test
+    public void testFromName_InvalidName() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            RareEvent.fromName("cycle");
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package model.gameEnum;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import gameEnum.SimulationEngine;
+
+public class SimulationEngineTest {
+
+    @Test
+    public void testGetName() {
+        assertEquals("reference", SimulationEngine.REFERENCE.getName());
+        assertEquals("kernel", SimulationEngine.KERNEL.getName());
+        assertEquals("verify", SimulationEngine.VERIFY.getName());
+        assertEquals("composition", SimulationEngine.COMPOSITION.getName());
+        assertEquals("lanes", SimulationEngine.LANES.getName());
+    }
+
+    @Test
+    public void testFromName_ValidNames() {
+        for (SimulationEngine engine : SimulationEngine.values()) {
+            assertEquals(engine, SimulationEngine.fromName(engine.getName()));
+        }
+        assertEquals(SimulationEngine.KERNEL, SimulationEngine.fromName("Kernel"));
+    }
+
+    @Test
+    public void testFromName_InvalidName() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            SimulationEngine.fromName("fast");
+        });
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.SplittableRandom;
 import gameEnum.Teams;
 
 public class TeamsTest {
@@ -162,4 +163,16 @@ public class TeamsTest {
         // We should get at least 10 different teams after 100 attempts
         assertTrue(teamsGenerated.size() > 10, "Random team distribution too narrow");
     }
+
+    @Test
+    public void testRandomTeamFromSeed() {
+        // The same seed always draws the same opponents
+        SplittableRandom first = new SplittableRandom(99L);
+        SplittableRandom second = new SplittableRandom(99L);
+        for (int i = 0; i < 50; i++) {
+            Teams team = Teams.randomTeam(first);
+            assertNotEquals(Teams.MARINERS, team);
+            assertEquals(team, Teams.randomTeam(second));
+        }
+    }
 }
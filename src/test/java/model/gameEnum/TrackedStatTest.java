@@ -0,0 +1,30 @@
+package model.gameEnum;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import gameEnum.StopReason;
+import gameEnum.TrackedStat;
+
+public class TrackedStatTest {
+
+    @Test
+    public void testFromName_ValidNames() {
+        for (TrackedStat stat : TrackedStat.values()) {
+            assertEquals(stat, TrackedStat.fromName(stat.getName()));
+        }
+        assertEquals(TrackedStat.STRIKEOUTS, TrackedStat.fromName("K"));
+    }
+
+    @Test
+    public void testFromName_InvalidName() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            TrackedStat.fromName("rbi");
+        });
+    }
+
+    @Test
+    public void testStopReasonDescription() {
+        assertEquals("target precision reached", StopReason.PRECISION.getDescription());
+        assertEquals("time budget spent", StopReason.TIME_BUDGET.getDescription());
+    }
+}
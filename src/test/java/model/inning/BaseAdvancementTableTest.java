@@ -0,0 +1,63 @@
+package model.inning;
+
+import gameEnum.BaseEvent;
+import gameEnum.Hits;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseAdvancementTableTest {
+    private static final BaseAdvancementTable TABLE = BaseAdvancementTable.STANDARD;
+
+    @Test
+    void testStandardSingle() {
+        int transition = TABLE.transition(0b110, BaseEvent.SINGLE);
+
+        assertEquals(0b101, BaseAdvancementTable.basesOf(transition));
+        assertEquals(1, BaseAdvancementTable.runsOf(transition));
+    }
+
+    @Test
+    void testStandardWalkOnlyForcesRunners() {
+        assertEquals(BaseAdvancementTable.pack(0b101, 0), TABLE.transition(0b100, BaseEvent.WALK));
+        assertEquals(BaseAdvancementTable.pack(0b111, 0), TABLE.transition(0b101, BaseEvent.WALK));
+        assertEquals(BaseAdvancementTable.pack(0b011, 0), TABLE.transition(0b010, BaseEvent.WALK));
+        assertEquals(BaseAdvancementTable.pack(0b111, 1), TABLE.transition(0b111, BaseEvent.WALK));
+    }
+
+    @Test
+    void testStandardExtraBaseHits() {
+        assertEquals(BaseAdvancementTable.pack(0b110, 1), TABLE.transition(0b011, BaseEvent.DOUBLE));
+        assertEquals(BaseAdvancementTable.pack(0b100, 3), TABLE.transition(0b111, BaseEvent.TRIPLE));
+        assertEquals(BaseAdvancementTable.pack(0b000, 4), TABLE.transition(0b111, BaseEvent.HOME_RUN));
+    }
+
+    @Test
+    void testOutLeavesRunners() {
+        for (int bases = 0; bases < BaseAdvancementTable.STATES; bases++) {
+            assertEquals(BaseAdvancementTable.pack(bases, 0), TABLE.transition(bases, BaseEvent.OUT));
+        }
+    }
+
+    @Test
+    void testSecondScoresOnSingle() {
+        BaseAdvancementTable table = BaseAdvancementTable.SECOND_SCORES_ON_SINGLE;
+
+        assertEquals(BaseAdvancementTable.pack(0b001, 1), table.transition(0b010, BaseEvent.SINGLE));
+        assertEquals(BaseAdvancementTable.pack(0b011, 2), table.transition(0b111, BaseEvent.SINGLE));
+        assertEquals(TABLE.transition(0b010, BaseEvent.DOUBLE), table.transition(0b010, BaseEvent.DOUBLE));
+    }
+
+    @Test
+    void testRuleThatLosesRunners() {
+        assertThrows(IllegalArgumentException.class, () -> new BaseAdvancementTable(
+                (bases, event) -> BaseAdvancementTable.pack(0, 0)));
+    }
+
+    @Test
+    void testFromHit() {
+        assertEquals(BaseEvent.SINGLE, BaseEvent.fromHit(Hits.SINGLE));
+        assertEquals(BaseEvent.HOME_RUN, BaseEvent.fromHit(Hits.HR));
+        assertEquals("BB", BaseEvent.WALK.getAbbreviation());
+    }
+}
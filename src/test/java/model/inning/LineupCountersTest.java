@@ -0,0 +1,33 @@
+package model.inning;
+
+import gameEnum.BattingStat;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineupCountersTest {
+
+    @Test
+    void testAddPlateAppearance() {
+        int[] counters = new int[LineupCounters.LENGTH];
+        LineupCounters.addPlateAppearance(counters, 3, BattingStat.DOUBLES, 2);
+        LineupCounters.addPlateAppearance(counters, 3, null, 0);
+        LineupCounters.addPlateAppearance(counters, 3, BattingStat.WALKS, 1);
+
+        assertEquals(3, counters[LineupCounters.index(3, BattingStat.PLATE_APPEARANCES)]);
+        assertEquals(1, counters[LineupCounters.index(3, BattingStat.HITS)]);
+        assertEquals(1, counters[LineupCounters.index(3, BattingStat.DOUBLES)]);
+        assertEquals(1, counters[LineupCounters.index(3, BattingStat.WALKS)]);
+        assertEquals(3, counters[LineupCounters.index(3, BattingStat.RBI)]);
+        assertEquals(0, counters[LineupCounters.index(4, BattingStat.PLATE_APPEARANCES)]);
+    }
+
+    @Test
+    void testSlotsPastTheLineup() {
+        int[] counters = new int[2 * LineupCounters.LENGTH];
+        LineupCounters.addPlateAppearance(counters, LineupCounters.LINEUP_SIZE + 1, BattingStat.STRIKEOUTS, 0);
+
+        assertEquals(1, counters[LineupCounters.LENGTH + LineupCounters.index(1, BattingStat.STRIKEOUTS)]);
+        assertEquals(0, counters[LineupCounters.index(1, BattingStat.STRIKEOUTS)]);
+    }
+}
@@ -3,6 +3,8 @@ package model.inning;
 import static org.junit.jupiter.api.Assertions.*;
 
 import gameEnum.Hits;
+import gameEnum.PitchCategory;
+import gameEnum.PitchType;
 import gameEnum.Teams;
 import model.team.PlayerTeam;
 import model.team.Team;
@@ -15,6 +17,7 @@ import model.player.Pitcher;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 class RegularInningTest {
     private RegularInning inning;
@@ -78,6 +81,14 @@ class RegularInningTest {
         assertTrue(score >= 0);
     }
 
+    @Test
+    void testNextBatterHandedToNextInning() {
+        inning.runInning(team, 7);
+
+        // The batter after the last one up leads off the next inning
+        assertEquals((7 + inning.getBattersFaced()) % 9, inning.getCurrentBatterIndex());
+    }
+
     @Test
     void testPitchTypeDetermination() {
         inning.runInning(team, 0);
@@ -98,6 +109,27 @@ class RegularInningTest {
         assertEquals(inning.getPitchesThrown(), totalPitchCategoryCount);
     }
 
+    @Test
+    void testPitchCountsByEnum() {
+        inning.runInning(team, 0);
+
+        int typeTotal = 0;
+        int fastballTypes = 0;
+        for (PitchType type : PitchType.values()) {
+            typeTotal += inning.getPitchTypeCount(type);
+            if (type.getCategory() == PitchCategory.FASTBALL) {
+                fastballTypes += inning.getPitchTypeCount(type);
+            }
+        }
+        assertEquals(inning.getPitchesThrown(), typeTotal);
+        assertEquals(fastballTypes, inning.getPitchCategoryCount(PitchCategory.FASTBALL));
+
+        // the pitcher never throws a knuckle, so it is left out of the map view
+        assertEquals(0, inning.getPitchTypeCount(PitchType.KNUCKLE));
+        assertFalse(inning.getAllPitchTypeCounts().containsKey("knuckle"));
+        assertEquals(inning.getPitchTypeCount(PitchType.FOUR_SEAM), inning.getPitchTypeCount("fourSeam"));
+    }
+
     @Test
     void testHitOutcome() {
         // Run full game
@@ -116,93 +148,92 @@ class RegularInningTest {
 
     @Test
     void testBaseWithSingles() {
-        setPrivateField(inning, "bases", new int[]{0, 0, 0, 1});
+        setPrivateField(inning, "bases", 0b100);
 
         int score = inning.advanceRunners(Hits.SINGLE);
         assertEquals(1, score);
 
-        int[] bases = getPrivateField(inning, "bases");
-        assertEquals(1, bases[1]);
-        assertEquals(0, bases[2]);
-        assertEquals(0, bases[3]);
+        int bases = getPrivateField(inning, "bases");
+        assertEquals(0b001, bases);
     }
 
     @Test
     void testBaseWithDoubles() {
-        setPrivateField(inning, "bases", new int[]{0, 1, 0, 1});
+        setPrivateField(inning, "bases", 0b101);
 
         int score = inning.advanceRunners(Hits.DOUBLE);
         assertEquals(1, score);
 
-        int[] bases = getPrivateField(inning, "bases");
-        assertEquals(0, bases[1]);
-        assertEquals(1, bases[2]);
-        assertEquals(1, bases[3]);
+        int bases = getPrivateField(inning, "bases");
+        assertEquals(0b110, bases);
     }
 
     @Test
     void testBaseWithTriples() {
-        setPrivateField(inning, "bases", new int[]{0, 1, 0, 1});
+        setPrivateField(inning, "bases", 0b101);
 
         int score = inning.advanceRunners(Hits.TRIPLE);
         assertEquals(2, score);
 
-        int[] bases = getPrivateField(inning, "bases");
-        assertEquals(0, bases[1]);
-        assertEquals(0, bases[2]);
-        assertEquals(1, bases[3]);
+        int bases = getPrivateField(inning, "bases");
+        assertEquals(0b100, bases);
     }
 
     @Test
     void testBaseWithHR() {
-        setPrivateField(inning, "bases", new int[]{0, 1, 1, 1});
+        setPrivateField(inning, "bases", 0b111);
 
         int score = inning.advanceRunners(Hits.HR);
         assertEquals(4, score);
 
-        int[] bases = getPrivateField(inning, "bases");
-        assertEquals(0, bases[1]);
-        assertEquals(0, bases[2]);
-        assertEquals(0, bases[3]);
+        int bases = getPrivateField(inning, "bases");
+        assertEquals(0b000, bases);
     }
 
     @Test
     void testAdvanceRunnersOnWalkWithBaseLoad() {
-        setPrivateField(inning, "bases", new int[]{0, 1, 1, 1});
+        setPrivateField(inning, "bases", 0b111);
 
         int score = inning.advanceRunnersOnWalk();
         assertEquals(1, score);
 
-        int[] bases = getPrivateField(inning, "bases");
-        assertEquals(1, bases[1]);
-        assertEquals(1, bases[2]);
-        assertEquals(1, bases[3]);
+        int bases = getPrivateField(inning, "bases");
+        assertEquals(0b111, bases);
     }
 
     @Test
     void testAdvanceRunnersOnWalkWithFirstSecondLoad() {
-        setPrivateField(inning, "bases", new int[]{0, 1, 1, 0});
+        setPrivateField(inning, "bases", 0b011);
 
         int score = inning.advanceRunnersOnWalk();
         assertEquals(0, score);
 
-        int[] bases = getPrivateField(inning, "bases");
-        assertEquals(1, bases[1]);
-        assertEquals(1, bases[2]);
-        assertEquals(1, bases[3]);
+        int bases = getPrivateField(inning, "bases");
+        assertEquals(0b111, bases);
     }
 
     @Test
     void testAdvanceRunnersOnWalk() {
-        setPrivateField(inning, "bases", new int[]{0, 0, 0, 1});
+        setPrivateField(inning, "bases", 0b100);
 
         int score = inning.advanceRunnersOnWalk();
         assertEquals(0, score);
 
-        int[] bases = getPrivateField(inning, "bases");
-        assertEquals(1, bases[1]);
-        assertEquals(0, bases[2]);
-        assertEquals(1, bases[3]);
+        int bases = getPrivateField(inning, "bases");
+        assertEquals(0b101, bases);
+    }
+
+    @Test
+    void testPluggableBaseAdvancement() {
+        RegularInning aggressive = new RegularInning(pitcher, new Random(1L),
+                BaseAdvancementTable.SECOND_SCORES_ON_SINGLE);
+        setPrivateField(aggressive, "bases", 0b010);
+
+        int score = aggressive.advanceRunners(Hits.SINGLE);
+        assertEquals(1, score);
+
+        int bases = getPrivateField(aggressive, "bases");
+        assertEquals(0b001, bases);
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,40 @@
+package model.inning;
+
+import gameEnum.BattingStat;
+import gameEnum.PitchingStat;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RotationCountersTest {
+
+    @Test
+    void testAddPlateAppearance() {
+        int[] counters = new int[RotationCounters.LENGTH];
+        RotationCounters.addPlateAppearance(counters, 1, BattingStat.HOME_RUNS, 2, 3, 1);
+        RotationCounters.addPlateAppearance(counters, 1, BattingStat.STRIKEOUTS, 0, 5, 2);
+        RotationCounters.addPlateAppearance(counters, 1, BattingStat.WALKS, 1, 6, 4);
+        RotationCounters.addPlateAppearance(counters, 1, null, 0, 1, 0);
+
+        assertEquals(4, counters[RotationCounters.index(1, PitchingStat.BATTERS_FACED)]);
+        assertEquals(15, counters[RotationCounters.index(1, PitchingStat.PITCHES)]);
+        assertEquals(8, counters[RotationCounters.index(1, PitchingStat.STRIKES)]);
+        assertEquals(7, counters[RotationCounters.index(1, PitchingStat.BALLS)]);
+        assertEquals(1, counters[RotationCounters.index(1, PitchingStat.STRIKEOUTS)]);
+        assertEquals(1, counters[RotationCounters.index(1, PitchingStat.WALKS)]);
+        assertEquals(1, counters[RotationCounters.index(1, PitchingStat.HITS)]);
+        assertEquals(1, counters[RotationCounters.index(1, PitchingStat.HOME_RUNS)]);
+        assertEquals(3, counters[RotationCounters.index(1, PitchingStat.RUNS)]);
+        assertEquals(0, counters[RotationCounters.index(0, PitchingStat.BATTERS_FACED)]);
+    }
+
+    @Test
+    void testSlotsPastTheRotation() {
+        int[] counters = new int[2 * RotationCounters.LENGTH];
+        RotationCounters.addPlateAppearance(counters, RotationCounters.ROTATION_SIZE + 2, BattingStat.SINGLES, 0, 0,
+                0);
+
+        assertEquals(1, counters[RotationCounters.LENGTH + RotationCounters.index(2, PitchingStat.HITS)]);
+        assertEquals(0, counters[RotationCounters.index(2, PitchingStat.HITS)]);
+    }
+}
@@ -0,0 +1,72 @@
+package model.player;
+
+import gameEnum.Hits;
+import gameEnum.PitchCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatterProfileTest {
+    private Batter batter;
+    private BatterProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        batter = new Batter("Test Batter", 80, 20, 10, 5, 2,
+                3, 90, 18, 9, 6, 0, 3,
+                0, 0, 0, 0, 0, 0,
+                170, 38, 19, 11, 2, 6, 0.65, 0.80,
+                0.30, 0.40, 0.420, 0.450, 0.890);
+        profile = batter.getProfile();
+    }
+
+    @Test
+    void testProfileIsCached() {
+        assertSame(profile, batter.getProfile());
+    }
+
+    @Test
+    void testHitProbability() {
+        assertEquals(20.0 / 80, profile.getHitProbability(PitchCategory.FASTBALL), 1e-12);
+        assertEquals(18.0 / 90, profile.getHitProbability(PitchCategory.BREAKING), 1e-12);
+        // no plate appearances against offspeed means every ball in play is an out
+        assertEquals(0.0, profile.getHitProbability(PitchCategory.OFFSPEED));
+    }
+
+    @Test
+    void testHitTypeThresholds() {
+        // fastball: 10 singles, 5 doubles, 2 triples, 3 homers out of 20 hits
+        assertEquals(Hits.SINGLE, profile.getHitType(PitchCategory.FASTBALL, 0.0));
+        assertEquals(Hits.SINGLE, profile.getHitType(PitchCategory.FASTBALL, 0.49));
+        assertEquals(Hits.DOUBLE, profile.getHitType(PitchCategory.FASTBALL, 0.50));
+        assertEquals(Hits.DOUBLE, profile.getHitType(PitchCategory.FASTBALL, 0.74));
+        assertEquals(Hits.TRIPLE, profile.getHitType(PitchCategory.FASTBALL, 0.75));
+        assertEquals(Hits.HR, profile.getHitType(PitchCategory.FASTBALL, 0.85));
+        assertEquals(Hits.HR, profile.getHitType(PitchCategory.FASTBALL, 0.999));
+
+        // breaking: no triples, so the draw goes straight from double to homer
+        assertEquals(Hits.DOUBLE, profile.getHitType(PitchCategory.BREAKING, 0.80));
+        assertEquals(Hits.HR, profile.getHitType(PitchCategory.BREAKING, 0.84));
+    }
+
+    @Test
+    void testHitTypeProbability() {
+        assertEquals(0.50, profile.getHitTypeProbability(PitchCategory.FASTBALL, Hits.SINGLE), 1e-12);
+        assertEquals(0.25, profile.getHitTypeProbability(PitchCategory.FASTBALL, Hits.DOUBLE), 1e-12);
+        assertEquals(0.10, profile.getHitTypeProbability(PitchCategory.FASTBALL, Hits.TRIPLE), 1e-12);
+        assertEquals(0.15, profile.getHitTypeProbability(PitchCategory.FASTBALL, Hits.HR), 1e-12);
+        assertEquals(0.0, profile.getHitTypeProbability(PitchCategory.BREAKING, Hits.TRIPLE), 1e-12);
+    }
+
+    @Test
+    void testProfileIgnoredByEquals() {
+        Batter same = new Batter("Test Batter", 80, 20, 10, 5, 2,
+                3, 90, 18, 9, 6, 0, 3,
+                0, 0, 0, 0, 0, 0,
+                170, 38, 19, 11, 2, 6, 0.65, 0.80,
+                0.30, 0.40, 0.420, 0.450, 0.890);
+
+        assertEquals(batter, same);
+    }
+}
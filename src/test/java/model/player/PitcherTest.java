@@ -1,5 +1,6 @@
 package model.player;
 
+import gameEnum.PitchType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -56,6 +57,37 @@ class PitcherTest {
         assertNotEquals(pitcher, otherPitcher);
     }
 
+    @Test
+    void testPitchMixSampler() {
+        PitchMixSampler sampler = pitcher.getPitchMixSampler();
+
+        // compiled once and cached
+        assertSame(sampler, pitcher.getPitchMixSampler());
+
+        // only pitch types with a positive share are thrown
+        assertEquals(9, sampler.getPitchTypes().size());
+        assertFalse(sampler.getPitchTypes().contains(PitchType.KNUCKLE));
+        assertEquals(0.30, sampler.probabilityOf(PitchType.FOUR_SEAM), 1e-9);
+        assertEquals(0.0, sampler.probabilityOf(PitchType.SCREW));
+
+        java.util.Random random = new java.util.Random(3L);
+        int fourSeams = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (sampler.nextPitchType(random) == PitchType.FOUR_SEAM) {
+                fourSeams++;
+            }
+        }
+        assertEquals(0.30, fourSeams / 100_000.0, 0.01);
+    }
+
+    @Test
+    void testPitchMixSamplerWithoutPitches() {
+        Pitcher noMix = new Pitcher("No Mix", 2, 0, 0, 0.5, 0.5,
+                0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+        assertThrows(IllegalStateException.class, noMix::getPitchMixSampler);
+    }
+
     @Test
     void testToString() {
         String pitcherString = pitcher.toString();
@@ -0,0 +1,67 @@
+package model.player;
+
+import gameEnum.BaseEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlateAppearanceDistributionTest {
+    private Pitcher pitcher;
+
+    @BeforeEach
+    void setUp() {
+        pitcher = new Pitcher("Test Pitcher", 1, 100, 150, 0.5, 0.5,
+                0.30, 0.20, 0.15, 0.05, 0.10, 0.05,
+                0.00, 0.05, 0.00, 0.05, 0.05, 0.00, 0.00);
+    }
+
+    @Test
+    void testProbabilitiesSumToOne() {
+        Batter batter = createBatter(0.65, 0.80, 0.30, 0.40);
+        PlateAppearanceDistribution distribution = new PlateAppearanceDistribution(batter, pitcher);
+
+        double total = 0.0;
+        for (BaseEvent event : BaseEvent.values()) {
+            assertTrue(distribution.getProbability(event) >= 0.0);
+            total += distribution.getProbability(event);
+        }
+        assertEquals(1.0, total, 1e-12);
+        assertTrue(distribution.getStrikeoutProbability() <= distribution.getProbability(BaseEvent.OUT));
+        assertEquals(1.0 - distribution.getProbability(BaseEvent.OUT), distribution.getOnBaseProbability(), 1e-12);
+    }
+
+    @Test
+    void testBatterWhoNeverSwings() {
+        // every pitch is a fair coin between a ball and a strike
+        Batter batter = createBatter(0.0, 0.0, 0.0, 0.0);
+        PlateAppearanceDistribution distribution = new PlateAppearanceDistribution(batter, pitcher);
+
+        // four balls before three strikes: 1/16 * (1 + 4/2 + 10/4)
+        assertEquals(0.34375, distribution.getProbability(BaseEvent.WALK), 1e-12);
+        assertEquals(0.65625, distribution.getStrikeoutProbability(), 1e-12);
+        assertEquals(0.0, distribution.getProbability(BaseEvent.SINGLE));
+        assertTrue(distribution.getExpectedPitches() >= 3.0 && distribution.getExpectedPitches() <= 6.0);
+    }
+
+    @Test
+    void testBatterWhoAlwaysMakesContact() {
+        Batter batter = createBatter(1.0, 1.0, 1.0, 1.0);
+        PlateAppearanceDistribution distribution = new PlateAppearanceDistribution(batter, pitcher);
+
+        assertEquals(1.0, distribution.getExpectedPitches(), 1e-12);
+        assertEquals(0.0, distribution.getStrikeoutProbability());
+        assertEquals(0.0, distribution.getProbability(BaseEvent.WALK));
+        // 30 hits in 100 plate appearances against every category
+        assertEquals(0.30, distribution.getOnBaseProbability(), 1e-12);
+        assertEquals(0.30 * 20 / 30, distribution.getProbability(BaseEvent.SINGLE), 1e-12);
+    }
+
+    private Batter createBatter(double zoneSwing, double zoneContact, double chaseSwing, double chaseContact) {
+        return new Batter("Batter", 100, 30, 20, 5, 2, 3,
+                100, 30, 20, 5, 2, 3,
+                100, 30, 20, 5, 2, 3,
+                300, 90, 60, 15, 6, 9,
+                zoneSwing, zoneContact, chaseSwing, chaseContact, 0.300, 0.350, 0.800);
+    }
+}
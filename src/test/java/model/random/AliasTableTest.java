@@ -0,0 +1,62 @@
+package model.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliasTableTest {
+
+    @Test
+    void testProbabilities() {
+        AliasTable table = new AliasTable(new double[]{0.30, 0.20, 0.0, 0.50});
+
+        assertEquals(4, table.size());
+        assertEquals(0.30, table.probabilityOf(0), 1e-12);
+        assertEquals(0.20, table.probabilityOf(1), 1e-12);
+        assertEquals(0.00, table.probabilityOf(2), 1e-12);
+        assertEquals(0.50, table.probabilityOf(3), 1e-12);
+    }
+
+    @Test
+    void testUnnormalizedWeights() {
+        AliasTable table = new AliasTable(new double[]{3, 1});
+
+        assertEquals(0.75, table.probabilityOf(0), 1e-12);
+        assertEquals(0.25, table.probabilityOf(1), 1e-12);
+    }
+
+    @Test
+    void testSampleFrequencies() {
+        double[] weights = {0.30, 0.20, 0.15, 0.05, 0.10, 0.05, 0.05, 0.05, 0.05};
+        AliasTable table = new AliasTable(weights);
+        Random random = new Random(11L);
+        int draws = 200_000;
+        int[] counts = new int[weights.length];
+
+        for (int i = 0; i < draws; i++) {
+            counts[table.sample(random)]++;
+        }
+
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i], (double) counts[i] / draws, 0.005);
+        }
+    }
+
+    @Test
+    void testZeroWeightNeverDrawn() {
+        AliasTable table = new AliasTable(new double[]{0.0, 1.0, 0.0});
+
+        for (double u = 0.0; u < 1.0; u += 0.001) {
+            assertEquals(1, table.sample(u));
+        }
+    }
+
+    @Test
+    void testInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{0.0, 0.0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{0.5, -0.1}));
+    }
+}
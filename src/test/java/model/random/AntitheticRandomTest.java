@@ -0,0 +1,31 @@
+package model.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AntitheticRandomTest {
+
+    @Test
+    void testMirrorsDoubles() {
+        SplittableRandom plain = new SplittableRandom(9L);
+        AntitheticRandom mirror = new AntitheticRandom(new SplittableRandom(9L));
+
+        for (int i = 0; i < 1000; i++) {
+            double u = plain.nextDouble();
+            double v = mirror.nextDouble();
+            assertEquals(1.0, u + v, 1e-15);
+            assertTrue(v >= 0.0 && v < 1.0);
+        }
+    }
+
+    @Test
+    void testMirrorsLongs() {
+        SplittableRandom plain = new SplittableRandom(4L);
+        AntitheticRandom mirror = new AntitheticRandom(new SplittableRandom(4L));
+
+        assertEquals(~plain.nextLong(), mirror.nextLong());
+    }
+}
@@ -0,0 +1,45 @@
+package model.random;
+
+import gameEnum.RandomAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomStreamsTest {
+
+    @Test
+    void testReseedDrawsTheCreatedStream() {
+        for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+            RandomGenerator random = RandomStreams.reseed(algorithm, null, 3L);
+            random.nextLong();
+            random = RandomStreams.reseed(algorithm, random, 7L);
+
+            RandomGenerator expected = algorithm.create(7L);
+            for (int i = 0; i < 100; i++) {
+                assertEquals(expected.nextLong(), random.nextLong(), algorithm.getName());
+                assertEquals(expected.nextDouble(), random.nextDouble(), algorithm.getName());
+            }
+        }
+    }
+
+    @Test
+    void testReseedReusesTheGenerator() {
+        for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+            RandomGenerator first = RandomStreams.reseed(algorithm, null, 3L);
+            first.nextLong();
+
+            assertSame(first, RandomStreams.reseed(algorithm, first, 7L), algorithm.getName());
+        }
+    }
+
+    @Test
+    void testReseedReplacesAnotherAlgorithm() {
+        RandomGenerator splittable = RandomStreams.reseed(RandomAlgorithm.SPLITTABLE, null, 3L);
+        RandomGenerator random = RandomStreams.reseed(RandomAlgorithm.RANDOM, splittable, 7L);
+
+        assertNotSame(splittable, random);
+        assertEquals(RandomAlgorithm.RANDOM.create(7L).nextLong(), random.nextLong());
+    }
+}
@@ -0,0 +1,36 @@
+package model.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SplitMixRandomTest {
+
+    @Test
+    void testSameStreamAsSplittableRandom() {
+        SplittableRandom expected = new SplittableRandom(31L);
+        SplitMixRandom random = new SplitMixRandom(31L);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(expected.nextLong(), random.nextLong());
+            assertEquals(expected.nextInt(), random.nextInt());
+            assertEquals(expected.nextDouble(), random.nextDouble());
+            assertEquals(expected.nextBoolean(), random.nextBoolean());
+            assertEquals(expected.nextInt(17), random.nextInt(17));
+        }
+    }
+
+    @Test
+    void testReseed() {
+        SplitMixRandom random = new SplitMixRandom(1L);
+        random.nextLong();
+        random.setSeed(-5L);
+
+        SplittableRandom expected = new SplittableRandom(-5L);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expected.nextDouble(), random.nextDouble());
+        }
+    }
+}
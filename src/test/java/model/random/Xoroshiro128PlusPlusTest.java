@@ -0,0 +1,39 @@
+package model.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Xoroshiro128PlusPlusTest {
+
+    @Test
+    void testSameStreamAsJdkGenerator() {
+        for (long seed : new long[]{0L, 31L, -5L, Long.MIN_VALUE}) {
+            RandomGenerator expected = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(seed);
+            Xoroshiro128PlusPlus random = new Xoroshiro128PlusPlus(seed);
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(expected.nextLong(), random.nextLong());
+                assertEquals(expected.nextInt(), random.nextInt());
+                assertEquals(expected.nextDouble(), random.nextDouble());
+                assertEquals(expected.nextBoolean(), random.nextBoolean());
+                assertEquals(expected.nextInt(17), random.nextInt(17));
+            }
+        }
+    }
+
+    @Test
+    void testReseed() {
+        Xoroshiro128PlusPlus random = new Xoroshiro128PlusPlus(1L);
+        random.nextLong();
+        random.setSeed(-5L);
+
+        RandomGenerator expected = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(-5L);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expected.nextDouble(), random.nextDouble());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package model.simulation;
+
+import gameEnum.TrackedStat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchResultTest {
+    private BatchResult batch;
+
+    @BeforeEach
+    void setUp() {
+        batch = new BatchResult("mariners", "angels");
+    }
+
+    @Test
+    void testEmptyBatch() {
+        assertEquals("mariners", batch.getPlayerTeamName());
+        assertEquals("angels", batch.getComTeamName());
+        assertEquals(0, batch.getGames());
+        assertEquals(0, batch.getTotalRuns());
+        assertEquals(0.0, batch.getAverageRuns());
+    }
+
+    @Test
+    void testAddGames() {
+        batch.add(createGame(new int[]{1, 0, 2, 0, 0, 0, 0, 0, 1}, 12, 30));
+        batch.add(createGame(new int[]{0, 0, 0, 0, 3, 0, 0, 0, 0}, 8, 20));
+
+        assertEquals(2, batch.getGames());
+        assertEquals(7, batch.getTotalRuns());
+        assertEquals(3.5, batch.getAverageRuns(), 1e-9);
+        assertEquals(1, batch.getInningRuns(1));
+        assertEquals(3, batch.getInningRuns(5));
+        assertEquals(20, batch.getTotalHits());
+        assertEquals(50, batch.getTotalPitchesThrown());
+        assertEquals(50L, batch.getPitchTypeCounts().get("fourSeam"));
+        assertEquals(50L, batch.getPitchCategoryCounts().get("Fastball"));
+    }
+
+    @Test
+    void testMerge() {
+        BatchResult other = new BatchResult("mariners", "angels");
+        batch.add(createGame(new int[]{1, 0, 0, 0, 0, 0, 0, 0, 0}, 5, 10));
+        other.add(createGame(new int[]{0, 2, 0, 0, 0, 0, 0, 0, 0}, 7, 15));
+        other.add(createGame(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 4}, 9, 25));
+
+        batch.merge(other);
+
+        assertEquals(3, batch.getGames());
+        assertEquals(7, batch.getTotalRuns());
+        assertEquals(2, batch.getInningRuns(2));
+        assertEquals(4, batch.getInningRuns(9));
+        assertEquals(21, batch.getTotalHits());
+        assertEquals(50L, batch.getPitchTypeCounts().get("fourSeam"));
+        assertEquals(2, other.getGames());
+    }
+
+    @Test
+    void testAllocatedBytes() {
+        BatchResult other = new BatchResult("mariners", "angels");
+        batch.add(createGame(new int[]{1, 0, 0, 0, 0, 0, 0, 0, 0}, 5, 10));
+        other.add(createGame(new int[]{0, 2, 0, 0, 0, 0, 0, 0, 0}, 7, 15));
+        assertEquals(-1, batch.getAllocatedBytesPerGame());
+        assertFalse(batch.getSummary().contains("Allocated"));
+
+        batch.addAllocatedBytes(-1);
+        other.addAllocatedBytes(300);
+        batch.merge(other);
+
+        assertEquals(150, batch.getAllocatedBytesPerGame());
+        assertTrue(batch.getSummary().contains("Allocated: 150 bytes/game"));
+    }
+
+    @Test
+    void testStatistics() {
+        batch.add(createGame(new int[]{1, 0, 2, 0, 0, 0, 0, 0, 1}, 12, 30));
+        BatchResult other = new BatchResult("mariners", "angels");
+        other.add(createGame(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0}, 8, 20));
+        other.add(createGame(new int[]{0, 0, 2, 0, 0, 0, 0, 0, 0}, 7, 25));
+
+        batch.merge(other);
+
+        RunningStatistic runs = batch.getStatistic(TrackedStat.RUNS);
+        assertEquals(3, runs.getCount());
+        assertEquals(2.0, runs.getMean(), 1e-9);
+        assertEquals(4.0, runs.getVariance(), 1e-9);
+        assertEquals(9.0, batch.getStatistic(TrackedStat.HITS).getMean(), 1e-9);
+        assertEquals(25.0, batch.getStatistic(TrackedStat.PITCHES).getMean(), 1e-9);
+    }
+
+    @Test
+    void testAntitheticPairs() {
+        assertFalse(batch.isAntithetic());
+        assertEquals(1.0, batch.getVarianceReduction(TrackedStat.RUNS));
+
+        // pairs that always average to 2 runs leave no variance in the mean
+        batch.addPair(createGame(new int[]{4, 0, 0, 0, 0, 0, 0, 0, 0}, 10, 30),
+                createGame(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0}, 6, 30));
+        BatchResult other = new BatchResult("mariners", "angels");
+        other.addPair(createGame(new int[]{1, 0, 0, 0, 0, 0, 0, 0, 0}, 9, 30),
+                createGame(new int[]{0, 3, 0, 0, 0, 0, 0, 0, 0}, 7, 30));
+        batch.merge(other);
+
+        assertTrue(batch.isAntithetic());
+        assertEquals(4, batch.getGames());
+        assertEquals(2, batch.getPairs());
+        assertEquals(8, batch.getTotalRuns());
+        assertEquals(0.0, batch.getEffectiveVariance(TrackedStat.RUNS), 1e-12);
+        assertEquals(0.0, batch.getHalfWidth(TrackedStat.RUNS, PrecisionTarget.Z_95), 1e-12);
+        assertEquals(1.0, batch.getVarianceReduction(TrackedStat.RUNS));
+
+        // hits pair means are 8 and 8
+        assertEquals(0.0, batch.getEffectiveVariance(TrackedStat.HITS), 1e-12);
+        assertTrue(batch.getSummary().contains("Antithetic pairs: 2"));
+    }
+
+    @Test
+    void testVarianceReduction() {
+        batch.addPair(createGame(new int[]{4, 0, 0, 0, 0, 0, 0, 0, 0}, 10, 30),
+                createGame(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0}, 6, 30));
+        batch.addPair(createGame(new int[]{2, 0, 0, 0, 0, 0, 0, 0, 0}, 9, 30),
+                createGame(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 2}, 7, 30));
+        batch.addPair(createGame(new int[]{3, 0, 0, 0, 0, 0, 0, 0, 0}, 9, 30),
+                createGame(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0}, 7, 30));
+
+        // game runs 4, 0, 2, 2, 3, 0 and pair means 2, 2, 1.5
+        RunningStatistic runs = batch.getStatistic(TrackedStat.RUNS);
+        double pairVariance = 1.0 / 12;
+        assertEquals(2 * pairVariance, batch.getEffectiveVariance(TrackedStat.RUNS), 1e-12);
+        assertEquals(runs.getVariance() / (2 * pairVariance), batch.getVarianceReduction(TrackedStat.RUNS), 1e-9);
+        assertEquals(PrecisionTarget.Z_95 * Math.sqrt(pairVariance / 3),
+                batch.getHalfWidth(TrackedStat.RUNS, PrecisionTarget.Z_95), 1e-12);
+    }
+
+    @Test
+    void testSummary() {
+        batch.add(createGame(new int[]{1, 0, 2, 0, 0, 0, 0, 0, 1}, 12, 30));
+        String summary = batch.getSummary();
+
+        assertTrue(summary.contains("1 games"));
+        assertTrue(summary.contains("Average Runs: 4.000"));
+        assertTrue(summary.contains("Hits"));
+        assertTrue(summary.contains("fourSeam"));
+        assertTrue(batch.toString().contains("mariners"));
+    }
+
+    private SimulationResult createGame(int[] inningScores, int hits, int pitches) {
+        SimulationResult result = new SimulationResult("mariners", "angels");
+        int total = 0;
+        for (int score : inningScores) {
+            total += score;
+        }
+        result.setInningScores(inningScores);
+        result.setPlayerTeamScore(total);
+        result.addHits(hits);
+        result.addSingles(hits);
+        result.addPitchesThrown(pitches);
+
+        Map<String, Integer> types = new HashMap<>();
+        types.put("fourSeam", pitches);
+        result.addPitchTypeCounts(types);
+        Map<String, Integer> categories = new HashMap<>();
+        categories.put("Fastball", pitches);
+        result.addPitchCategoryCounts(categories);
+        return result;
+    }
+}
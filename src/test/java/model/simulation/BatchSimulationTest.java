@@ -0,0 +1,280 @@
+package model.simulation;
+
+import gameEnum.BattingStat;
+import gameEnum.Fidelity;
+import gameEnum.PitchingStat;
+import gameEnum.RandomAlgorithm;
+import gameEnum.SimulationEngine;
+import gameEnum.StopReason;
+import gameEnum.TrackedStat;
+import model.random.AntitheticRandom;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSimulationTest {
+    private PlayerTeam playerTeam;
+    private ComTeam comTeam;
+
+    @BeforeEach
+    void setUp() {
+        playerTeam = TestLineups.playerTeam();
+        comTeam = TestLineups.comTeam();
+    }
+
+    @Test
+    void testRunPlaysEveryGame() {
+        BatchResult result = new BatchSimulation(playerTeam, comTeam, 2).run(600, 42L);
+
+        assertEquals(600, result.getGames());
+        assertEquals(playerTeam.getTeamName(), result.getPlayerTeamName());
+        assertEquals(comTeam.getTeamName(), result.getComTeamName());
+
+        long inningRuns = 0;
+        for (int inning = 1; inning <= 9; inning++) {
+            inningRuns += result.getInningRuns(inning);
+        }
+        assertEquals(result.getTotalRuns(), inningRuns);
+        assertEquals(result.getTotalHits(), result.getTotalSingles() + result.getTotalDoubles()
+                + result.getTotalTriples() + result.getTotalHomeRuns());
+
+        long pitchTypes = result.getPitchTypeCounts().values().stream().mapToLong(Long::longValue).sum();
+        assertEquals(result.getTotalPitchesThrown(), pitchTypes);
+
+        // the report shows every batter's simulated line next to its input rates
+        String summary = result.getSummary();
+        assertTrue(summary.contains("Batting Lines"));
+        assertTrue(summary.contains("Batter 9"));
+        assertTrue(summary.contains("Pitching Lines"));
+        assertTrue(summary.contains("Reliever2"));
+        assertEquals(27 * 600 + result.getTotalHits() + result.getTotalWalks(),
+                result.getBattingLines().getPlateAppearances());
+    }
+
+    @Test
+    void testSameSeedSameResultOnAnyThreadCount() {
+        BatchResult single = new BatchSimulation(playerTeam, comTeam, 1).run(1000, 7L);
+        BatchResult parallel = new BatchSimulation(playerTeam, comTeam, 4).run(1000, 7L);
+
+        assertEquals(single.getTotalRuns(), parallel.getTotalRuns());
+        assertEquals(single.getTotalPitchesThrown(), parallel.getTotalPitchesThrown());
+        assertEquals(single.getTotalHits(), parallel.getTotalHits());
+        assertEquals(single.getTotalStrikeouts(), parallel.getTotalStrikeouts());
+        assertEquals(single.getTotalWalks(), parallel.getTotalWalks());
+        assertEquals(single.getPitchTypeCounts(), parallel.getPitchTypeCounts());
+        for (int inning = 1; inning <= 9; inning++) {
+            assertEquals(single.getInningRuns(inning), parallel.getInningRuns(inning));
+        }
+    }
+
+    @Test
+    void testGamesReplayOnTheirOwn() {
+        BatchResult batch = new BatchSimulation(playerTeam, comTeam, 3).run(40, 17L);
+
+        // Every game of the batch can be played again alone from its game seed
+        BatchResult replayed = new BatchResult(playerTeam.getTeamName(), comTeam.getTeamName());
+        for (int game = 0; game < 40; game++) {
+            long seed = BatchSimulation.gameSeed(17L, game);
+            replayed.add(new Simulation(playerTeam, comTeam, new SplittableRandom(seed)).runSimulation());
+        }
+
+        assertEquals(batch.getTotalRuns(), replayed.getTotalRuns());
+        assertEquals(batch.getTotalPitchesThrown(), replayed.getTotalPitchesThrown());
+        assertEquals(batch.getTotalHits(), replayed.getTotalHits());
+        assertEquals(17L, batch.getSeed());
+        assertTrue(batch.getSummary().contains("Seed: 17"));
+    }
+
+    @Test
+    void testGameSeedsAreDistinct() {
+        assertNotEquals(BatchSimulation.gameSeed(1L, 0), BatchSimulation.gameSeed(1L, 1));
+        assertNotEquals(BatchSimulation.gameSeed(1L, 0), BatchSimulation.gameSeed(2L, 0));
+        assertEquals(BatchSimulation.gameSeed(5L, 3), BatchSimulation.gameSeed(5L, 3));
+    }
+
+    @Test
+    void testRunUntilPrecision() {
+        PrecisionTarget target = new PrecisionTarget(0.5, 1_000_000, 0);
+        BatchResult result = new BatchSimulation(playerTeam, comTeam, 2).runUntil(target, 13L);
+
+        assertEquals(StopReason.PRECISION, result.getStopReason());
+        RunningStatistic runs = result.getStatistic(TrackedStat.RUNS);
+        assertEquals(result.getGames(), runs.getCount());
+        assertTrue(2 * runs.getHalfWidth(PrecisionTarget.Z_95) <= 0.5);
+        assertEquals(result.getAverageRuns(), runs.getMean(), 1e-9);
+
+        // stopping after n games gives the same games as a fixed batch of n
+        BatchResult fixed = new BatchSimulation(playerTeam, comTeam, 1).run((int) result.getGames(), 13L);
+        assertEquals(fixed.getTotalRuns(), result.getTotalRuns());
+        assertEquals(fixed.getTotalPitchesThrown(), result.getTotalPitchesThrown());
+        assertTrue(result.getSummary().contains("target precision reached"));
+    }
+
+    @Test
+    void testRunUntilGameLimit() {
+        PrecisionTarget target = new PrecisionTarget(0.001, 1500, 0, TrackedStat.RUNS, TrackedStat.HITS);
+        BatchResult result = new BatchSimulation(playerTeam, comTeam, 1).runUntil(target, 3L);
+
+        assertEquals(StopReason.MAX_GAMES, result.getStopReason());
+        assertEquals(1500, result.getGames());
+        assertNull(new BatchSimulation(playerTeam, comTeam, 1).run(10, 3L).getStopReason());
+    }
+
+    @Test
+    void testRunUntilTimeBudget() {
+        PrecisionTarget target = new PrecisionTarget(0.0001, Integer.MAX_VALUE, 1);
+        BatchResult result = new BatchSimulation(playerTeam, comTeam, 1).runUntil(target, 3L);
+
+        assertEquals(StopReason.TIME_BUDGET, result.getStopReason());
+        assertTrue(result.getGames() >= BatchSimulation.MIN_PRECISION_GAMES);
+    }
+
+    @Test
+    void testInvalidPrecisionTarget() {
+        assertThrows(IllegalArgumentException.class, () -> new PrecisionTarget(0, 100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new PrecisionTarget(0.1, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new PrecisionTarget(0.1, 100, -1));
+        assertThrows(IllegalArgumentException.class, () -> new PrecisionTarget(0.1, 100, 0, new TrackedStat[0]));
+    }
+
+    @Test
+    void testAntitheticPairs() {
+        BatchResult paired = new BatchSimulation(playerTeam, comTeam, 4).setAntithetic(true).run(1001, 21L);
+        BatchResult single = new BatchSimulation(playerTeam, comTeam, 1).setAntithetic(true).run(1001, 21L);
+
+        assertEquals(1001, paired.getGames());
+        assertEquals(500, paired.getPairs());
+        assertEquals(single.getTotalRuns(), paired.getTotalRuns());
+        assertEquals(single.getTotalPitchesThrown(), paired.getTotalPitchesThrown());
+        assertTrue(paired.getVarianceReduction(TrackedStat.RUNS) > 0);
+
+        // the first game of every pair is the plain game, the second plays on its mirror
+        BatchResult replayed = new BatchResult(playerTeam.getTeamName(), comTeam.getTeamName());
+        for (int game = 0; game < 10; game += 2) {
+            long seed = BatchSimulation.gameSeed(21L, game);
+            replayed.addPair(new Simulation(playerTeam, comTeam, new SplittableRandom(seed)).runSimulation(),
+                    new Simulation(playerTeam, comTeam, new AntitheticRandom(new SplittableRandom(seed))).runSimulation());
+        }
+        BatchResult firstTen = new BatchSimulation(playerTeam, comTeam, 1).setAntithetic(true).run(10, 21L);
+        assertEquals(replayed.getTotalRuns(), firstTen.getTotalRuns());
+        assertEquals(replayed.getTotalPitchesThrown(), firstTen.getTotalPitchesThrown());
+    }
+
+    @Test
+    void testRunUntilPrecisionAntithetic() {
+        PrecisionTarget target = new PrecisionTarget(0.5, 1_000_000, 0);
+        BatchResult result = new BatchSimulation(playerTeam, comTeam, 2).setAntithetic(true).runUntil(target, 13L);
+
+        assertEquals(StopReason.PRECISION, result.getStopReason());
+        assertEquals(0, result.getGames() % 2);
+        assertEquals(result.getGames() / 2, result.getPairs());
+        assertTrue(2 * result.getHalfWidth(TrackedStat.RUNS, PrecisionTarget.Z_95) <= 0.5);
+    }
+
+    @Test
+    void testLanesCannotPair() {
+        BatchSimulation batch = new BatchSimulation(playerTeam, comTeam, 1)
+                .setEngine(SimulationEngine.LANES).setAntithetic(true);
+
+        assertThrows(IllegalStateException.class, () -> batch.run(10, 1L));
+    }
+
+    @Test
+    void testRandomAlgorithm() {
+        BatchSimulation batch = new BatchSimulation(playerTeam, comTeam, 2);
+        assertEquals(RandomAlgorithm.SPLITTABLE, batch.getRandomAlgorithm());
+        BatchResult splittable = batch.run(200, 5L);
+
+        BatchResult xoroshiro = batch.setRandomAlgorithm(RandomAlgorithm.XOROSHIRO128_PLUS_PLUS).run(200, 5L);
+        BatchResult again = new BatchSimulation(playerTeam, comTeam, 1)
+                .setRandomAlgorithm(RandomAlgorithm.XOROSHIRO128_PLUS_PLUS).run(200, 5L);
+        assertEquals(again.getTotalRuns(), xoroshiro.getTotalRuns());
+        assertEquals(again.getTotalPitchesThrown(), xoroshiro.getTotalPitchesThrown());
+        assertNotEquals(splittable.getTotalPitchesThrown(), xoroshiro.getTotalPitchesThrown());
+
+        // game i of a batch replays on its own with the same algorithm
+        SimulationResult replayed = new Simulation(playerTeam, comTeam,
+                RandomAlgorithm.RANDOM.create(BatchSimulation.gameSeed(5L, 0))).runSimulation();
+        BatchResult first = new BatchSimulation(playerTeam, comTeam, 1).setRandomAlgorithm(RandomAlgorithm.RANDOM)
+                .run(1, 5L);
+        assertEquals(replayed.getTotalPitchesThrown(), first.getTotalPitchesThrown());
+
+        BatchResult lanes = new BatchSimulation(playerTeam, comTeam, 1).setEngine(SimulationEngine.LANES)
+                .setRandomAlgorithm(RandomAlgorithm.L64X128_MIX).run(100, 5L);
+        assertEquals(100, lanes.getGames());
+    }
+
+    @Test
+    void testRangeOnCallingThread() {
+        BatchSimulation batch = new BatchSimulation(playerTeam, comTeam, 4);
+        assertThrows(IllegalStateException.class, () -> batch.runOnCallingThread(100, 250, 17L));
+
+        BatchResult direct = batch.prepareRanges().runOnCallingThread(100, 250, 17L);
+        BatchResult pooled = batch.run(100, 250, 17L);
+
+        assertEquals(pooled.getGames(), direct.getGames());
+        assertEquals(pooled.getTotalRuns(), direct.getTotalRuns());
+        assertEquals(pooled.getTotalPitchesThrown(), direct.getTotalPitchesThrown());
+        assertEquals(pooled.getTotalStrikeouts(), direct.getTotalStrikeouts());
+        assertThrows(IllegalArgumentException.class, () -> batch.runOnCallingThread(10, 5, 17L));
+        // changing a setting drops the solved tables
+        batch.setFidelity(Fidelity.PLATE_APPEARANCE);
+        assertThrows(IllegalStateException.class, () -> batch.runOnCallingThread(100, 250, 17L));
+    }
+
+    @Test
+    void testRangesMergeToTheBatch() {
+        BatchSimulation batch = new BatchSimulation(playerTeam, comTeam, 2).setAntithetic(true);
+        BatchResult whole = batch.run(300, 31L);
+        BatchResult shards = batch.run(0, 120, 31L);
+        shards.merge(batch.run(120, 300, 31L));
+
+        assertEquals(whole.getGames(), shards.getGames());
+        assertEquals(whole.getTotalRuns(), shards.getTotalRuns());
+        assertEquals(whole.getTotalHits(), shards.getTotalHits());
+        for (int slot = 0; slot < 9; slot++) {
+            assertEquals(whole.getBattingLines().get(slot, BattingStat.PLATE_APPEARANCES),
+                    shards.getBattingLines().get(slot, BattingStat.PLATE_APPEARANCES));
+            assertEquals(whole.getBattingLines().get(slot, BattingStat.RBI),
+                    shards.getBattingLines().get(slot, BattingStat.RBI));
+        }
+        for (int pitcher = 0; pitcher < 3; pitcher++) {
+            assertEquals(whole.getPitchingLines().get(pitcher, PitchingStat.PITCHES),
+                    shards.getPitchingLines().get(pitcher, PitchingStat.PITCHES));
+            assertEquals(whole.getPitchingLines().get(pitcher, PitchingStat.RUNS),
+                    shards.getPitchingLines().get(pitcher, PitchingStat.RUNS));
+        }
+        assertThrows(IllegalArgumentException.class, () -> batch.run(121, 300, 31L));
+        assertThrows(IllegalArgumentException.class, () -> batch.run(200, 100, 31L));
+    }
+
+    @Test
+    void testEmptyBatch() {
+        BatchResult result = new BatchSimulation(playerTeam, comTeam).run(0, 1L);
+
+        assertEquals(0, result.getGames());
+        assertEquals(0.0, result.getAverageRuns());
+    }
+
+    @Test
+    void testIncompleteLineup() {
+        playerTeam.getBatterLineup().set(4, null);
+
+        Exception exception = assertThrows(IllegalStateException.class, () -> {
+            new BatchSimulation(playerTeam, comTeam).run(10, 1L);
+        });
+
+        assertTrue(exception.getMessage().contains("Player team must have a complete batting lineup of 9 players"));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchSimulation(playerTeam, comTeam, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BatchSimulation(playerTeam, comTeam).run(-1, 1L));
+    }
+}
@@ -0,0 +1,88 @@
+package model.simulation;
+
+import gameEnum.BattingStat;
+import gameEnum.Teams;
+import model.inning.LineupCounters;
+import model.player.Batter;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattingLinesTest {
+
+    @Test
+    void testRates() {
+        int[] game = new int[LineupCounters.LENGTH];
+        LineupCounters.addPlateAppearance(game, 0, BattingStat.SINGLES, 0);
+        LineupCounters.addPlateAppearance(game, 0, BattingStat.HOME_RUNS, 2);
+        LineupCounters.addPlateAppearance(game, 0, BattingStat.WALKS, 0);
+        LineupCounters.addPlateAppearance(game, 0, BattingStat.STRIKEOUTS, 0);
+        LineupCounters.addPlateAppearance(game, 0, null, 0);
+        BattingLines lines = new BattingLines();
+        lines.add(game);
+
+        // 5 PA, 4 AB, 2 H, 1 BB, 5 total bases
+        assertEquals(5, lines.get(0, BattingStat.PLATE_APPEARANCES));
+        assertEquals(2, lines.get(0, BattingStat.RBI));
+        assertEquals(0.5, lines.getAverage(0), 1e-9);
+        assertEquals(0.6, lines.getOnBasePercentage(0), 1e-9);
+        assertEquals(1.25, lines.getSlugging(0), 1e-9);
+        assertEquals(1.85, lines.getOps(0), 1e-9);
+        assertEquals(0.0, lines.getAverage(1));
+        assertEquals(5, lines.getPlateAppearances());
+    }
+
+    @Test
+    void testMerge() {
+        int[] game = new int[LineupCounters.LENGTH];
+        LineupCounters.addPlateAppearance(game, 8, BattingStat.TRIPLES, 1);
+        BattingLines lines = new BattingLines();
+        BattingLines other = new BattingLines();
+        lines.add(game);
+        other.add(game);
+        other.add(game);
+        other.setBatters(marinersLineup());
+
+        lines.merge(other);
+
+        assertEquals(3, lines.get(8, BattingStat.TRIPLES));
+        assertEquals(3, lines.get(8, BattingStat.HITS));
+        assertEquals(2, other.get(8, BattingStat.TRIPLES));
+        // the names come with the merged lines
+        assertTrue(lines.getTable(3).contains(marinersLineup().get(8).getName()));
+    }
+
+    @Test
+    void testTable() {
+        BattingLines lines = new BattingLines();
+        assertTrue(lines.getTable(0).contains("Slot 1"));
+
+        lines.setBatters(marinersLineup());
+        String table = lines.getTable(0);
+        assertTrue(table.contains("In OPS"));
+        assertTrue(table.contains(marinersLineup().get(0).getName()));
+        assertTrue(table.contains(String.format("%.3f", marinersLineup().get(0).getOPS())));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        BattingLines lines = new BattingLines();
+
+        assertThrows(IllegalArgumentException.class, () -> lines.get(9, BattingStat.HITS));
+        assertThrows(IllegalArgumentException.class, () -> lines.setBatters(new ArrayList<>()));
+    }
+
+    private List<Batter> marinersLineup() {
+        PlayerTeam team = new PlayerTeam(Teams.MARINERS);
+        List<Batter> lineup = new ArrayList<>();
+        for (String name : List.of("Julio Rodriguez", "Cal Raleigh", "Randy Arozarena", "Mitch Garver", "Luke Raley",
+                "J.P. Crawford", "Dylan Moore", "Leo Rivas", "Mitch Haniger")) {
+            lineup.add(team.getBatterFromLoader(name));
+        }
+        return lineup;
+    }
+}
@@ -0,0 +1,21 @@
+package model.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTest {
+
+    @Test
+    void testPlainFieldIsKept() {
+        assertEquals("Julio Rodriguez", Csv.quote("Julio Rodriguez"));
+        assertEquals("", Csv.quote(""));
+    }
+
+    @Test
+    void testSpecialFieldsAreQuoted() {
+        assertEquals("\"Smith, Jr.\"", Csv.quote("Smith, Jr."));
+        assertEquals("\"the \"\"Kid\"\"\"", Csv.quote("the \"Kid\""));
+        assertEquals("\"two\nlines\"", Csv.quote("two\nlines"));
+    }
+}
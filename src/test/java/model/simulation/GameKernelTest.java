@@ -0,0 +1,224 @@
+package model.simulation;
+
+import gameEnum.BattingStat;
+import gameEnum.Fidelity;
+import gameEnum.PitchingStat;
+import gameEnum.SimulationEngine;
+import gameEnum.TrackedStat;
+import model.inning.BaseAdvancementTable;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameKernelTest {
+    private PlayerTeam playerTeam;
+    private ComTeam comTeam;
+
+    @BeforeEach
+    void setUp() {
+        playerTeam = TestLineups.playerTeam();
+        comTeam = TestLineups.comTeam();
+    }
+
+    @Test
+    void testSameBoxScoreAsReference() {
+        GameKernel kernel = new GameKernel(playerTeam, comTeam);
+
+        for (long seed = 0; seed < 500; seed++) {
+            SimulationResult reference = new Simulation(playerTeam, comTeam, new Random(seed)).runSimulation();
+            SimulationResult result = kernel.playGame(new Random(seed));
+
+            assertTrue(reference.hasSameBoxScore(result), "Box scores differ for seed " + seed);
+        }
+    }
+
+    @Test
+    void testSameBoxScoreWithOtherBaseRunning() {
+        BaseAdvancementTable table = BaseAdvancementTable.SECOND_SCORES_ON_SINGLE;
+        GameKernel kernel = new GameKernel(playerTeam, comTeam, table);
+
+        for (long seed = 0; seed < 200; seed++) {
+            SimulationResult reference = new Simulation(playerTeam, comTeam, new Random(seed), table).runSimulation();
+
+            assertTrue(reference.hasSameBoxScore(kernel.playGame(new Random(seed))), "Box scores differ for seed " + seed);
+        }
+    }
+
+    @Test
+    void testPlayGame() {
+        SimulationResult result = new GameKernel(playerTeam, comTeam).playGame(new Random(3L));
+
+        int inningRuns = 0;
+        for (int score : result.getInningScores()) {
+            inningRuns += score;
+        }
+        assertEquals(result.getPlayerTeamScore(), inningRuns);
+        assertEquals(result.getTotalHits(), result.getTotalSingles() + result.getTotalDoubles()
+                + result.getTotalTriples() + result.getTotalHomeRuns());
+        int pitchTypes = result.getPitchTypeCounts().values().stream().mapToInt(Integer::intValue).sum();
+        assertEquals(result.getTotalPitchesThrown(), pitchTypes);
+        assertEquals("", result.getDetails());
+    }
+
+    @Test
+    void testKernelIsReusable() {
+        GameKernel kernel = new GameKernel(playerTeam, comTeam);
+        SimulationResult first = kernel.playGame(new Random(11L));
+        kernel.playGame(new Random(12L));
+
+        assertTrue(first.hasSameBoxScore(kernel.playGame(new Random(11L))));
+    }
+
+    @Test
+    void testBatchEngines() {
+        BatchResult reference = new BatchSimulation(playerTeam, comTeam, 1).run(300, 9L);
+        BatchResult kernel = new BatchSimulation(playerTeam, comTeam, 1)
+                .setEngine(SimulationEngine.KERNEL).run(300, 9L);
+        BatchResult verified = new BatchSimulation(playerTeam, comTeam, 1)
+                .setEngine(SimulationEngine.VERIFY).run(300, 9L);
+
+        assertEquals(reference.getTotalRuns(), kernel.getTotalRuns());
+        assertEquals(reference.getTotalPitchesThrown(), kernel.getTotalPitchesThrown());
+        assertEquals(reference.getPitchTypeCounts(), kernel.getPitchTypeCounts());
+        assertEquals(reference.getTotalWalks(), kernel.getTotalWalks());
+        assertEquals(reference.getTotalRuns(), verified.getTotalRuns());
+    }
+
+    @Test
+    void testPlateAppearanceFidelity() {
+        BatchResult result = new BatchSimulation(playerTeam, comTeam, 2)
+                .setFidelity(Fidelity.PLATE_APPEARANCE).run(20000, 5L);
+        double expected = new MarkovChainEngine(playerTeam, comTeam).solve().getExpectedRuns();
+
+        // one draw per plate appearance converges to the same runs as pitch by pitch
+        RunningStatistic runs = result.getStatistic(TrackedStat.RUNS);
+        assertEquals(expected, runs.getMean(), 4 * runs.getStandardError());
+        assertEquals(result.getTotalHits(), result.getTotalSingles() + result.getTotalDoubles()
+                + result.getTotalTriples() + result.getTotalHomeRuns());
+        assertTrue(result.getTotalPitchesThrown() > 0);
+
+        // same seed, same games on any thread count
+        BatchResult again = new BatchSimulation(playerTeam, comTeam, 1)
+                .setFidelity(Fidelity.PLATE_APPEARANCE).run(20000, 5L);
+        assertEquals(result.getTotalRuns(), again.getTotalRuns());
+        assertEquals(result.getTotalStrikeouts(), again.getTotalStrikeouts());
+    }
+
+    @Test
+    void testVerifyNeedsPitchFidelity() {
+        BatchSimulation batch = new BatchSimulation(playerTeam, comTeam, 1)
+                .setEngine(SimulationEngine.VERIFY).setFidelity(Fidelity.PLATE_APPEARANCE);
+
+        assertThrows(IllegalStateException.class, () -> batch.run(10, 1L));
+    }
+
+    @Test
+    void testBattingLinesAddUp() {
+        GameKernel pitchByPitch = new GameKernel(playerTeam, comTeam);
+        GameKernel sampled = new GameKernel(playerTeam, comTeam, BaseAdvancementTable.STANDARD,
+                new MatchupTable(playerTeam, comTeam));
+
+        for (GameKernel kernel : List.of(pitchByPitch, sampled)) {
+            for (long seed = 0; seed < 50; seed++) {
+                SimulationResult result = kernel.playGame(new Random(seed));
+                int plateAppearances = 0;
+                int hits = 0;
+                int walks = 0;
+                int strikeouts = 0;
+                int runs = 0;
+                for (int slot = 0; slot < 9; slot++) {
+                    plateAppearances += result.getBattingStat(slot, BattingStat.PLATE_APPEARANCES);
+                    hits += result.getBattingStat(slot, BattingStat.HITS);
+                    walks += result.getBattingStat(slot, BattingStat.WALKS);
+                    strikeouts += result.getBattingStat(slot, BattingStat.STRIKEOUTS);
+                    runs += result.getBattingStat(slot, BattingStat.RBI);
+                }
+
+                // every plate appearance ends in one of the 27 outs or on base
+                assertEquals(27 + result.getTotalHits() + result.getTotalWalks(), plateAppearances);
+                assertEquals(result.getTotalHits(), hits);
+                assertEquals(result.getTotalWalks(), walks);
+                assertEquals(result.getTotalStrikeouts(), strikeouts);
+                assertEquals(result.getPlayerTeamScore(), runs);
+                assertTrue(result.getBattingStat(0, BattingStat.PLATE_APPEARANCES)
+                        >= result.getBattingStat(8, BattingStat.PLATE_APPEARANCES));
+            }
+        }
+    }
+
+    @Test
+    void testPitchingLinesAddUp() {
+        GameKernel pitchByPitch = new GameKernel(playerTeam, comTeam);
+        GameKernel sampled = new GameKernel(playerTeam, comTeam, BaseAdvancementTable.STANDARD,
+                new MatchupTable(playerTeam, comTeam));
+
+        for (GameKernel kernel : List.of(pitchByPitch, sampled)) {
+            for (long seed = 0; seed < 50; seed++) {
+                SimulationResult result = kernel.playGame(new Random(seed));
+                int battersFaced = 0;
+                int pitches = 0;
+                int hits = 0;
+                int homeRuns = 0;
+                int runs = 0;
+                for (int pitcher = 0; pitcher < 3; pitcher++) {
+                    battersFaced += result.getPitchingStat(pitcher, PitchingStat.BATTERS_FACED);
+                    pitches += result.getPitchingStat(pitcher, PitchingStat.PITCHES);
+                    hits += result.getPitchingStat(pitcher, PitchingStat.HITS);
+                    homeRuns += result.getPitchingStat(pitcher, PitchingStat.HOME_RUNS);
+                    runs += result.getPitchingStat(pitcher, PitchingStat.RUNS);
+                    assertEquals(result.getPitchingStat(pitcher, PitchingStat.PITCHES),
+                            result.getPitchingStat(pitcher, PitchingStat.STRIKES)
+                                    + result.getPitchingStat(pitcher, PitchingStat.BALLS));
+                }
+
+                assertEquals(27 + result.getTotalHits() + result.getTotalWalks(), battersFaced);
+                assertEquals(kernel == pitchByPitch ? result.getTotalPitchesThrown() : 0, pitches);
+                assertEquals(result.getTotalHits(), hits);
+                assertEquals(result.getTotalHomeRuns(), homeRuns);
+                assertEquals(result.getPlayerTeamScore(), runs);
+                int starterRuns = 0;
+                for (int inning = 0; inning < 5; inning++) {
+                    starterRuns += result.getInningScores()[inning];
+                }
+                assertEquals(starterRuns, result.getPitchingStat(0, PitchingStat.RUNS));
+            }
+        }
+    }
+
+    @Test
+    void testRecordingKeepsTheGame() {
+        GameKernel kernel = new GameKernel(playerTeam, comTeam);
+        PitchLog log = new PitchLog();
+
+        for (long seed = 0; seed < 100; seed++) {
+            SimulationResult plain = kernel.playGame(new Random(seed));
+            kernel.setPitchLog(log);
+            SimulationResult recorded = kernel.playGame(new Random(seed));
+            kernel.setPitchLog(null);
+
+            assertTrue(plain.hasSameBoxScore(recorded), "Box scores differ for seed " + seed);
+            assertEquals(recorded.getTotalPitchesThrown(), log.size());
+        }
+    }
+
+    @Test
+    void testPitchLogNeedsPitchFidelity() {
+        GameKernel kernel = new GameKernel(playerTeam, comTeam, BaseAdvancementTable.STANDARD,
+                new MatchupTable(playerTeam, comTeam));
+
+        assertThrows(IllegalStateException.class, () -> kernel.setPitchLog(new PitchLog()));
+    }
+
+    @Test
+    void testIncompleteLineup() {
+        playerTeam.getBatterLineup().set(2, null);
+
+        assertThrows(IllegalStateException.class, () -> new GameKernel(playerTeam, comTeam));
+    }
+}
@@ -0,0 +1,73 @@
+package model.simulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistogramTest {
+    private Histogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new Histogram(11);
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(11, histogram.getBuckets());
+        assertEquals(0, histogram.getTotal());
+        assertEquals(0.0, histogram.getShareAtMost(0));
+        assertEquals(0.0, histogram.getShareAtLeast(5));
+        assertEquals(0, histogram.getPercentile(0.5));
+    }
+
+    @Test
+    void testSharesAndPercentiles() {
+        for (int value : new int[]{0, 0, 1, 2, 2, 2, 3, 5, 8, 14}) {
+            histogram.add(value);
+        }
+
+        assertEquals(10, histogram.getTotal());
+        assertEquals(3, histogram.getCount(2));
+        assertEquals(1, histogram.getCount(10));
+        assertEquals(1, histogram.getCount(25));
+        assertEquals(0, histogram.getCount(-1));
+        assertEquals(0.2, histogram.getShareAtMost(0), 1e-12);
+        assertEquals(0.7, histogram.getShareAtMost(3), 1e-12);
+        assertEquals(0.3, histogram.getShareAtLeast(5), 1e-12);
+        assertEquals(0.1, histogram.getShareAtLeast(10), 1e-12);
+        assertEquals(1.0, histogram.getShareAtLeast(0), 1e-12);
+        assertEquals(2, histogram.getPercentile(0.5));
+        assertEquals(0, histogram.getPercentile(0.2));
+        assertEquals(1, histogram.getPercentile(0.21));
+        // values past the last bucket are reported as the last bucket
+        assertEquals(10, histogram.getPercentile(1.0));
+    }
+
+    @Test
+    void testMerge() {
+        Histogram other = new Histogram(11);
+        histogram.add(1);
+        other.add(1);
+        other.add(4);
+
+        histogram.merge(other);
+
+        assertEquals(3, histogram.getTotal());
+        assertEquals(2, histogram.getCount(1));
+        assertEquals(1, histogram.getCount(4));
+        assertEquals(2, other.getTotal());
+        assertThrows(IllegalArgumentException.class, () -> histogram.merge(new Histogram(12)));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram(1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.add(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getShareAtMost(10));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getShareAtLeast(11));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(1.5));
+    }
+}
@@ -0,0 +1,107 @@
+package model.simulation;
+
+import gameEnum.SimulationEngine;
+import gameEnum.TrackedStat;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InningCompositionEngineTest {
+    private PlayerTeam playerTeam;
+    private ComTeam comTeam;
+
+    @BeforeEach
+    void setUp() {
+        playerTeam = TestLineups.playerTeam();
+        comTeam = TestLineups.comTeam();
+    }
+
+    @Test
+    void testInningTablesSumToOne() {
+        InningCompositionEngine engine = new InningCompositionEngine(playerTeam, comTeam);
+
+        for (int pitcher = 0; pitcher < 3; pitcher++) {
+            for (int leadoff = 0; leadoff < 9; leadoff++) {
+                double total = 0.0;
+                for (int next = 0; next < 9; next++) {
+                    for (int runs = 0; runs <= MarkovChainEngine.MAX_INNING_RUNS; runs++) {
+                        total += engine.getInningProbability(pitcher, leadoff, runs, next);
+                    }
+                }
+                assertEquals(1.0, total, 1e-9);
+                // three batters at least, so the leadoff slot always moves on by three or more
+                assertEquals(0.0, engine.getInningProbability(pitcher, leadoff, 0, (leadoff + 1) % 9));
+            }
+        }
+    }
+
+    @Test
+    void testPlayGame() {
+        InningCompositionEngine engine = new InningCompositionEngine(playerTeam, comTeam);
+        SimulationResult result = engine.playGame(new SplittableRandom(4L));
+
+        int inningRuns = 0;
+        for (int score : result.getInningScores()) {
+            inningRuns += score;
+        }
+        assertEquals(result.getPlayerTeamScore(), inningRuns);
+        assertEquals(0, result.getTotalHits());
+        assertTrue(engine.playGame(new SplittableRandom(4L)).hasSameBoxScore(result));
+    }
+
+    @Test
+    void testMatchesExactDistribution() {
+        BatchResult batch = new BatchSimulation(playerTeam, comTeam, 2)
+                .setEngine(SimulationEngine.COMPOSITION).run(50000, 8L);
+        RunDistribution exact = new MarkovChainEngine(playerTeam, comTeam).solve();
+
+        RunningStatistic runs = batch.getStatistic(TrackedStat.RUNS);
+        assertEquals(50000, runs.getCount());
+        assertEquals(exact.getExpectedRuns(), runs.getMean(), 4 * runs.getStandardError());
+        for (int inning = 1; inning <= 9; inning++) {
+            assertEquals(exact.getInningExpectedRuns(inning), (double) batch.getInningRuns(inning) / 50000, 0.03);
+        }
+
+        // same seed, same games on any thread count
+        BatchResult again = new BatchSimulation(playerTeam, comTeam, 1)
+                .setEngine(SimulationEngine.COMPOSITION).run(50000, 8L);
+        assertEquals(batch.getTotalRuns(), again.getTotalRuns());
+    }
+
+    @Test
+    void testBatchReportsRunsOnly() {
+        BatchSimulation batch = new BatchSimulation(playerTeam, comTeam, 2).setEngine(SimulationEngine.COMPOSITION);
+        BatchResult result = batch.run(1000, 3L);
+
+        assertTrue(result.isRunsOnly());
+        String summary = result.getSummary();
+        assertTrue(summary.contains("Average Runs"));
+        assertFalse(summary.contains("Hits"));
+        assertFalse(summary.contains("pitches"));
+        assertFalse(summary.contains("Pitch Types"));
+        assertFalse(batch.setEngine(SimulationEngine.KERNEL).run(100, 3L).isRunsOnly());
+    }
+
+    @Test
+    void testPrecisionTracksRunsOnly() {
+        BatchSimulation batch = new BatchSimulation(playerTeam, comTeam, 1).setEngine(SimulationEngine.COMPOSITION);
+
+        assertThrows(IllegalStateException.class, () -> batch.runUntil(new PrecisionTarget(0.5, 10_000, 0,
+                TrackedStat.RUNS, TrackedStat.HITS), 3L));
+        BatchResult result = batch.runUntil(new PrecisionTarget(0.5, 10_000, 0), 3L);
+        assertTrue(result.getSummary().contains("Stopped after"));
+        assertFalse(result.getSummary().contains("hits"));
+    }
+
+    @Test
+    void testIncompleteLineup() {
+        comTeam.getPitcherLineup().set(1, null);
+
+        assertThrows(IllegalStateException.class, () -> new InningCompositionEngine(playerTeam, comTeam));
+    }
+}
@@ -0,0 +1,121 @@
+package model.simulation;
+
+import gameEnum.BattingStat;
+import gameEnum.PitchingStat;
+import gameEnum.SimulationEngine;
+import gameEnum.TrackedStat;
+import model.inning.BaseAdvancementTable;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaneKernelTest {
+    private PlayerTeam playerTeam;
+    private ComTeam comTeam;
+
+    @BeforeEach
+    void setUp() {
+        playerTeam = TestLineups.playerTeam();
+        comTeam = TestLineups.comTeam();
+    }
+
+    @Test
+    void testPlayGames() {
+        BatchResult batch = new BatchResult(playerTeam.getTeamName(), comTeam.getTeamName());
+        new LaneKernel(playerTeam, comTeam, BaseAdvancementTable.STANDARD).playGames(3L, 0, 100, batch);
+
+        assertEquals(100, batch.getGames());
+        long inningRuns = 0;
+        for (int inning = 1; inning <= 9; inning++) {
+            inningRuns += batch.getInningRuns(inning);
+        }
+        assertEquals(batch.getTotalRuns(), inningRuns);
+        long pitchTypes = batch.getPitchTypeCounts().values().stream().mapToLong(Number::longValue).sum();
+        assertEquals(batch.getTotalPitchesThrown(), pitchTypes);
+
+        BattingLines lines = batch.getBattingLines();
+        long hits = 0;
+        long rbi = 0;
+        for (int slot = 0; slot < 9; slot++) {
+            hits += lines.get(slot, BattingStat.HITS);
+            rbi += lines.get(slot, BattingStat.RBI);
+        }
+        assertEquals(batch.getTotalHits(), hits);
+        assertEquals(batch.getTotalRuns(), rbi);
+        assertEquals(27 * 100 + batch.getTotalHits() + batch.getTotalWalks(), lines.getPlateAppearances());
+
+        PitchingLines pitching = batch.getPitchingLines();
+        assertEquals(lines.getPlateAppearances(), pitching.getTotal(PitchingStat.BATTERS_FACED));
+        assertEquals(batch.getTotalPitchesThrown(), pitching.getTotal(PitchingStat.PITCHES));
+        assertEquals(batch.getTotalPitchesThrown(),
+                pitching.getTotal(PitchingStat.STRIKES) + pitching.getTotal(PitchingStat.BALLS));
+        assertEquals(batch.getTotalRuns(), pitching.getTotal(PitchingStat.RUNS));
+        assertEquals(batch.getTotalStrikeouts(), pitching.getTotal(PitchingStat.STRIKEOUTS));
+    }
+
+    @Test
+    void testLaneCountDoesNotChangeGames() {
+        BatchResult one = new BatchResult(playerTeam.getTeamName(), comTeam.getTeamName());
+        BatchResult many = new BatchResult(playerTeam.getTeamName(), comTeam.getTeamName());
+        new LaneKernel(playerTeam, comTeam, BaseAdvancementTable.STANDARD, 1).playGames(6L, 10, 210, one);
+        new LaneKernel(playerTeam, comTeam, BaseAdvancementTable.STANDARD, 16).playGames(6L, 10, 210, many);
+
+        // every game has its own stream, so lanes only change the order games finish in
+        assertEquals(one.getTotalRuns(), many.getTotalRuns());
+        assertEquals(one.getTotalPitchesThrown(), many.getTotalPitchesThrown());
+        assertEquals(one.getTotalStrikeouts(), many.getTotalStrikeouts());
+        assertEquals(one.getPitchTypeCounts(), many.getPitchTypeCounts());
+    }
+
+    @Test
+    void testVectorDecisionsMatchScalarLoop() {
+        // 13 lanes leave a tail past the last full vector on every vector width
+        LaneKernel scalar = new LaneKernel(playerTeam, comTeam, BaseAdvancementTable.STANDARD, 13)
+                .setVectorized(false);
+        BatchResult expected = new BatchResult(playerTeam.getTeamName(), comTeam.getTeamName());
+        scalar.playGames(8L, 0, 300, expected);
+        assertFalse(scalar.isVectorized());
+
+        if (!LaneKernel.VECTOR_MODULE) {
+            assertThrows(IllegalStateException.class, () -> scalar.setVectorized(true));
+            return;
+        }
+        LaneKernel vector = new LaneKernel(playerTeam, comTeam, BaseAdvancementTable.STANDARD, 13);
+        assertTrue(vector.isVectorized());
+        BatchResult result = new BatchResult(playerTeam.getTeamName(), comTeam.getTeamName());
+        vector.playGames(8L, 0, 300, result);
+
+        assertEquals(expected.getTotalRuns(), result.getTotalRuns());
+        assertEquals(expected.getTotalPitchesThrown(), result.getTotalPitchesThrown());
+        assertEquals(expected.getTotalStrikeouts(), result.getTotalStrikeouts());
+        assertEquals(expected.getTotalWalks(), result.getTotalWalks());
+        assertEquals(expected.getPitchTypeCounts(), result.getPitchTypeCounts());
+    }
+
+    @Test
+    void testMatchesScalarEngine() {
+        BatchResult lanes = new BatchSimulation(playerTeam, comTeam, 2)
+                .setEngine(SimulationEngine.LANES).run(20000, 12L);
+        BatchResult kernel = new BatchSimulation(playerTeam, comTeam, 2)
+                .setEngine(SimulationEngine.KERNEL).run(20000, 13L);
+        double expected = new MarkovChainEngine(playerTeam, comTeam).solve().getExpectedRuns();
+
+        for (TrackedStat stat : TrackedStat.values()) {
+            RunningStatistic a = lanes.getStatistic(stat);
+            RunningStatistic b = kernel.getStatistic(stat);
+            double standardError = Math.hypot(a.getStandardError(), b.getStandardError());
+            assertEquals(b.getMean(), a.getMean(), 4 * standardError, stat.getName());
+        }
+        RunningStatistic runs = lanes.getStatistic(TrackedStat.RUNS);
+        assertEquals(expected, runs.getMean(), 4 * runs.getStandardError());
+    }
+
+    @Test
+    void testInvalidLanes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LaneKernel(playerTeam, comTeam, BaseAdvancementTable.STANDARD, 0));
+    }
+}
@@ -0,0 +1,70 @@
+package model.simulation;
+
+import gameEnum.Fidelity;
+import gameEnum.SimulationEngine;
+import gameEnum.TrackedStat;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineupComparisonTest {
+    private PlayerTeam playerTeam;
+    private ComTeam comTeam;
+
+    @BeforeEach
+    void setUp() {
+        playerTeam = TestLineups.playerTeam();
+        comTeam = TestLineups.comTeam();
+    }
+
+    @Test
+    void testSameLineupHasNoDifference() {
+        LineupComparison comparison = new BatchSimulation(playerTeam, comTeam, 2)
+                .compare(playerTeam, "same lineup", 500, 4L);
+
+        assertEquals(500, comparison.getGames());
+        for (TrackedStat stat : TrackedStat.values()) {
+            assertEquals(0.0, comparison.getDifferenceStatistic(stat).getMean());
+            assertEquals(0.0, comparison.getDifferenceStatistic(stat).getVariance());
+        }
+        assertEquals(4L, comparison.getSeed());
+    }
+
+    @Test
+    void testCommonRandomNumbersReduceVariance() {
+        PlayerTeam challenger = createChallenger();
+        LineupComparison comparison = new BatchSimulation(playerTeam, comTeam, 2)
+                .setEngine(SimulationEngine.KERNEL).setFidelity(Fidelity.PLATE_APPEARANCE)
+                .compare(challenger, "Batter 9 batting 1", 4000, 6L);
+
+        // the base lineup plays the same games as a plain batch with the same seed
+        BatchResult batch = new BatchSimulation(playerTeam, comTeam, 1)
+                .setEngine(SimulationEngine.KERNEL).setFidelity(Fidelity.PLATE_APPEARANCE).run(4000, 6L);
+        assertEquals(batch.getAverageRuns(), comparison.getBaseStatistic(TrackedStat.RUNS).getMean(), 1e-9);
+
+        RunningStatistic difference = comparison.getDifferenceStatistic(TrackedStat.RUNS);
+        assertEquals(comparison.getChallengerStatistic(TrackedStat.RUNS).getMean()
+                - comparison.getBaseStatistic(TrackedStat.RUNS).getMean(), difference.getMean(), 1e-9);
+        assertTrue(comparison.getVarianceReduction(TrackedStat.RUNS) > 2);
+        assertTrue(difference.getStandardError() < comparison.getIndependentStandardError(TrackedStat.RUNS));
+        assertTrue(comparison.getSummary().contains("Batter 9 batting 1"));
+    }
+
+    @Test
+    void testIncompleteChallenger() {
+        PlayerTeam challenger = createChallenger();
+        challenger.getBatterLineup().set(3, null);
+
+        assertThrows(IllegalStateException.class,
+                () -> new BatchSimulation(playerTeam, comTeam, 1).compare(challenger, "incomplete", 10, 1L));
+    }
+
+    private PlayerTeam createChallenger() {
+        PlayerTeam challenger = TestLineups.playerTeam();
+        challenger.getBatterLineup().set(0, challenger.getBatterLineup().get(8));
+        return challenger;
+    }
+}
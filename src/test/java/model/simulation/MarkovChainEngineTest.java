@@ -0,0 +1,88 @@
+package model.simulation;
+
+import gameEnum.SimulationEngine;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkovChainEngineTest {
+    private PlayerTeam playerTeam;
+    private ComTeam comTeam;
+
+    @BeforeEach
+    void setUp() {
+        playerTeam = TestLineups.playerTeam();
+        comTeam = TestLineups.comTeam();
+    }
+
+    @Test
+    void testDistributionsSumToOne() {
+        RunDistribution distribution = new MarkovChainEngine(playerTeam, comTeam).solve();
+
+        double game = 0.0;
+        for (int runs = 0; runs <= distribution.getMaxRuns(); runs++) {
+            game += distribution.getRunProbability(runs);
+        }
+        assertEquals(1.0, game, 1e-9);
+
+        double expected = 0.0;
+        for (int inning = 1; inning <= 9; inning++) {
+            double inningTotal = 0.0;
+            double leadoffTotal = 0.0;
+            for (int runs = 0; runs <= MarkovChainEngine.MAX_INNING_RUNS; runs++) {
+                inningTotal += distribution.getInningRunProbability(inning, runs);
+            }
+            for (int slot = 0; slot < 9; slot++) {
+                leadoffTotal += distribution.getLeadoffProbability(inning, slot);
+            }
+            assertEquals(1.0, inningTotal, 1e-9);
+            assertEquals(1.0, leadoffTotal, 1e-9);
+            expected += distribution.getInningExpectedRuns(inning);
+        }
+        assertEquals(distribution.getExpectedRuns(), expected, 1e-9);
+    }
+
+    @Test
+    void testFirstInningStartsWithLeadoffHitter() {
+        RunDistribution distribution = new MarkovChainEngine(playerTeam, comTeam).solve();
+
+        assertEquals(1.0, distribution.getLeadoffProbability(1, 0));
+        // three up, three down is the only way to start the second inning with the cleanup hitter
+        assertTrue(distribution.getLeadoffProbability(2, 3) > 0.0);
+        assertEquals(0.0, distribution.getInningRunProbability(1, -1));
+    }
+
+    @Test
+    void testMatchesMonteCarlo() {
+        RunDistribution distribution = new MarkovChainEngine(playerTeam, comTeam).solve();
+        GameKernel kernel = new GameKernel(playerTeam, comTeam);
+        Random random = new Random(2024L);
+
+        int games = 20000;
+        long runs = 0;
+        int shutouts = 0;
+        int scorelessFirst = 0;
+        for (int game = 0; game < games; game++) {
+            SimulationResult result = kernel.playGame(random);
+            runs += result.getPlayerTeamScore();
+            shutouts += result.getPlayerTeamScore() == 0 ? 1 : 0;
+            scorelessFirst += result.getInningScores()[0] == 0 ? 1 : 0;
+        }
+
+        assertEquals(distribution.getExpectedRuns(), (double) runs / games, 0.1);
+        assertEquals(distribution.getRunProbability(0), (double) shutouts / games, 0.01);
+        assertEquals(distribution.getInningRunProbability(1, 0), (double) scorelessFirst / games, 0.015);
+    }
+
+    @Test
+    void testIncompleteRotation() {
+        comTeam.getPitcherLineup().set(1, null);
+
+        assertThrows(IllegalStateException.class, () -> new MarkovChainEngine(playerTeam, comTeam));
+    }
+}
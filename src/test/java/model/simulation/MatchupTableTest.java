@@ -0,0 +1,72 @@
+package model.simulation;
+
+import gameEnum.BaseEvent;
+import model.player.PlateAppearanceDistribution;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchupTableTest {
+    private PlayerTeam playerTeam;
+    private ComTeam comTeam;
+
+    @BeforeEach
+    void setUp() {
+        playerTeam = TestLineups.playerTeam();
+        comTeam = TestLineups.comTeam();
+    }
+
+    @Test
+    void testOutcomesMatchCountChain() {
+        MatchupTable table = new MatchupTable(playerTeam, comTeam);
+
+        for (int pitcher = 0; pitcher < 3; pitcher++) {
+            for (int slot = 0; slot < 9; slot++) {
+                PlateAppearanceDistribution distribution = new PlateAppearanceDistribution(
+                        playerTeam.getBatterLineup().get(slot), comTeam.getPitcherLineup().get(pitcher));
+                double total = 0.0;
+                for (int outcome = 0; outcome < MatchupTable.OUTCOMES; outcome++) {
+                    total += table.probabilityOf(pitcher, slot, outcome);
+                }
+                assertEquals(1.0, total, 1e-9);
+                assertEquals(distribution.getStrikeoutProbability(),
+                        table.probabilityOf(pitcher, slot, MatchupTable.STRIKEOUT), 1e-9);
+                assertEquals(distribution.getProbability(BaseEvent.OUT),
+                        table.probabilityOf(pitcher, slot, BaseEvent.OUT.ordinal())
+                                + table.probabilityOf(pitcher, slot, MatchupTable.STRIKEOUT), 1e-9);
+                assertEquals(distribution.getProbability(BaseEvent.HOME_RUN),
+                        table.probabilityOf(pitcher, slot, BaseEvent.HOME_RUN.ordinal()), 1e-9);
+                assertEquals(distribution.getExpectedPitches(), table.getExpectedPitches(pitcher, slot));
+            }
+        }
+    }
+
+    @Test
+    void testSample() {
+        MatchupTable table = new MatchupTable(playerTeam, comTeam);
+        SplittableRandom random = new SplittableRandom(3L);
+
+        int strikeouts = 0;
+        int draws = 100000;
+        for (int i = 0; i < draws; i++) {
+            int outcome = table.sample(0, 4, random);
+            assertTrue(outcome >= 0 && outcome < MatchupTable.OUTCOMES);
+            if (outcome == MatchupTable.STRIKEOUT) {
+                strikeouts++;
+            }
+        }
+        assertEquals(table.probabilityOf(0, 4, MatchupTable.STRIKEOUT), (double) strikeouts / draws, 0.01);
+    }
+
+    @Test
+    void testIncompleteLineup() {
+        playerTeam.getBatterLineup().set(0, null);
+
+        assertThrows(IllegalStateException.class, () -> new MatchupTable(playerTeam, comTeam));
+    }
+}
@@ -0,0 +1,73 @@
+package model.simulation;
+
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PitchLogReplayerTest {
+    private PlayerTeam playerTeam;
+    private ComTeam comTeam;
+
+    @BeforeEach
+    void setUp() {
+        playerTeam = TestLineups.playerTeam();
+        comTeam = TestLineups.comTeam();
+    }
+
+    @Test
+    void testDetailsMatchTheReference() {
+        GameKernel kernel = new GameKernel(playerTeam, comTeam);
+        PitchLog log = new PitchLog();
+        kernel.setPitchLog(log);
+        PitchLogReplayer replayer = new PitchLogReplayer(playerTeam, comTeam);
+
+        for (long seed = 0; seed < 200; seed++) {
+            SimulationResult reference = new Simulation(playerTeam, comTeam, new Random(seed)).runSimulation();
+            kernel.playGame(new Random(seed));
+
+            assertEquals(reference.getDetails(), replayer.toDetails(log), "Details differ for seed " + seed);
+        }
+    }
+
+    @Test
+    void testCsvRows() {
+        GameKernel kernel = new GameKernel(playerTeam, comTeam);
+        PitchLog log = new PitchLog();
+        kernel.setPitchLog(log);
+        SimulationResult result = kernel.playGame(new Random(4L));
+
+        List<String> rows = new PitchLogReplayer(playerTeam, comTeam).toCsv(log, 7);
+        assertEquals(result.getTotalPitchesThrown(), rows.size());
+        String[] first = rows.get(0).split(",");
+        assertEquals(PitchLogReplayer.CSV_HEADER.split(",").length, first.length);
+        assertEquals("7", first[0]);
+        assertEquals("1", first[1]);
+        assertEquals("1", first[2]);
+        assertEquals("Starter", first[3]);
+        assertEquals("Batter 1", first[4]);
+        assertEquals("0", first[7]);
+        assertEquals("0", first[8]);
+
+        int runs = 0;
+        for (String row : rows) {
+            String[] fields = row.split(",");
+            runs += Integer.parseInt(fields[11]);
+        }
+        assertEquals(result.getPlayerTeamScore(), runs);
+        assertEquals("Reliever2", rows.get(rows.size() - 1).split(",")[3]);
+    }
+
+    @Test
+    void testEmptyLog() {
+        PitchLogReplayer replayer = new PitchLogReplayer(playerTeam, comTeam);
+
+        assertEquals("", replayer.toDetails(new PitchLog()));
+        assertTrue(replayer.toCsv(new PitchLog(), 0).isEmpty());
+    }
+}
@@ -0,0 +1,61 @@
+package model.simulation;
+
+import gameEnum.PitchResult;
+import gameEnum.PitchType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PitchLogTest {
+
+    @Test
+    void testPackRoundTrip() {
+        long event = PitchLog.pack(9, 2, 8, PitchType.SCREW, PitchResult.HOME_RUN, 3, 2, 3, 7, 4);
+
+        assertEquals(9, PitchLog.inning(event));
+        assertEquals(2, PitchLog.pitcher(event));
+        assertEquals(8, PitchLog.batter(event));
+        assertEquals(PitchType.SCREW, PitchLog.pitchType(event));
+        assertEquals(PitchResult.HOME_RUN, PitchLog.result(event));
+        assertEquals(3, PitchLog.balls(event));
+        assertEquals(2, PitchLog.strikes(event));
+        assertEquals(3, PitchLog.outs(event));
+        assertEquals(7, PitchLog.bases(event));
+        assertEquals(4, PitchLog.runs(event));
+
+        long first = PitchLog.pack(1, 0, 0, PitchType.FOUR_SEAM, PitchResult.BALL, 0, 0, 0, 0, 0);
+        assertEquals(1, PitchLog.inning(first));
+        assertEquals(PitchType.FOUR_SEAM, PitchLog.pitchType(first));
+        assertEquals(PitchResult.BALL, PitchLog.result(first));
+    }
+
+    @Test
+    void testEndsPlateAppearance() {
+        long ball = PitchLog.pack(1, 0, 0, PitchType.SLIDER, PitchResult.BALL, 2, 2, 0, 0, 0);
+        long walk = PitchLog.pack(1, 0, 0, PitchType.SLIDER, PitchResult.BALL, 3, 1, 0, 1, 0);
+        long strike = PitchLog.pack(1, 0, 0, PitchType.SLIDER, PitchResult.CALLED_STRIKE, 3, 1, 0, 0, 0);
+        long strikeout = PitchLog.pack(1, 0, 0, PitchType.SLIDER, PitchResult.SWINGING_STRIKE, 3, 2, 1, 0, 0);
+        long out = PitchLog.pack(1, 0, 0, PitchType.SLIDER, PitchResult.IN_PLAY_OUT, 0, 0, 1, 0, 0);
+
+        assertFalse(PitchLog.endsPlateAppearance(ball));
+        assertFalse(PitchLog.endsPlateAppearance(strike));
+        assertTrue(PitchLog.isWalk(walk));
+        assertTrue(PitchLog.isStrikeout(strikeout));
+        assertFalse(PitchLog.isStrikeout(strike));
+        assertTrue(PitchLog.endsPlateAppearance(out));
+    }
+
+    @Test
+    void testGrowAndClear() {
+        PitchLog log = new PitchLog();
+        for (int i = 0; i < 2000; i++) {
+            log.add(i);
+        }
+
+        assertEquals(2000, log.size());
+        assertEquals(1999L, log.get(1999));
+        log.clear();
+        assertEquals(0, log.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> log.get(0));
+    }
+}
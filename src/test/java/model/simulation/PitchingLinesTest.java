@@ -0,0 +1,83 @@
+package model.simulation;
+
+import gameEnum.BattingStat;
+import gameEnum.PitchingStat;
+import gameEnum.Teams;
+import model.inning.RotationCounters;
+import model.player.Pitcher;
+import model.team.ComTeam;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PitchingLinesTest {
+
+    @Test
+    void testRates() {
+        int[] game = new int[RotationCounters.LENGTH];
+        RotationCounters.addPlateAppearance(game, 2, BattingStat.STRIKEOUTS, 0, 4, 1);
+        RotationCounters.addPlateAppearance(game, 2, BattingStat.DOUBLES, 1, 2, 1);
+        PitchingLines lines = new PitchingLines();
+        lines.add(game);
+        lines.add(game);
+
+        // 12 pitches, 8 strikes, 2 runs in 4 innings of the closer
+        assertEquals(4, lines.get(2, PitchingStat.BATTERS_FACED));
+        assertEquals(12, lines.getTotal(PitchingStat.PITCHES));
+        assertEquals(8.0 / 12, lines.getStrikeRate(2), 1e-9);
+        assertEquals(4.5, lines.getRunsPerNine(2, 2), 1e-9);
+        assertEquals(0.0, lines.getStrikeRate(0));
+        assertEquals(0.0, lines.getRunsPerNine(0, 0));
+    }
+
+    @Test
+    void testMerge() {
+        int[] game = new int[RotationCounters.LENGTH];
+        RotationCounters.addPlateAppearance(game, 0, BattingStat.WALKS, 0, 5, 4);
+        PitchingLines lines = new PitchingLines();
+        PitchingLines other = new PitchingLines();
+        lines.add(game);
+        other.add(game);
+        other.setPitchers(angelsRotation());
+
+        lines.merge(other);
+
+        assertEquals(2, lines.get(0, PitchingStat.WALKS));
+        assertEquals(1, other.get(0, PitchingStat.WALKS));
+        // the names come with the merged lines
+        assertTrue(lines.getTable(2).contains(angelsRotation().get(0).getName()));
+    }
+
+    @Test
+    void testTable() {
+        PitchingLines lines = new PitchingLines();
+        int[] game = new int[RotationCounters.LENGTH];
+        RotationCounters.addPlateAppearance(game, 0, null, 0, 0, 0);
+        lines.add(game);
+        String table = lines.getTable(1);
+        assertTrue(table.contains("Pitcher 1"));
+        assertTrue(table.contains("8-9"));
+        // no pitch was counted, as when playing a plate appearance at a time
+        assertTrue(table.contains(" - "));
+
+        lines.setPitchers(angelsRotation());
+        table = lines.getTable(1);
+        assertTrue(table.contains("In Str%"));
+        assertTrue(table.contains(angelsRotation().get(2).getName()));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        PitchingLines lines = new PitchingLines();
+
+        assertThrows(IllegalArgumentException.class, () -> lines.get(3, PitchingStat.HITS));
+        assertThrows(IllegalArgumentException.class, () -> lines.setPitchers(new ArrayList<>()));
+    }
+
+    private List<Pitcher> angelsRotation() {
+        return new ArrayList<>(SeasonSimulation.rotation(Teams.ANGELS, 0).getPitcherLineup());
+    }
+}
@@ -0,0 +1,60 @@
+package model.simulation;
+
+import gameEnum.RandomAlgorithm;
+import gameEnum.SimulationEngine;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomBenchmarkTest {
+    private PlayerTeam playerTeam;
+    private ComTeam comTeam;
+
+    @BeforeEach
+    void setUp() {
+        playerTeam = TestLineups.playerTeam();
+        comTeam = TestLineups.comTeam();
+    }
+
+    @Test
+    void testEveryAlgorithmTimed() {
+        BatchSimulation batch = new BatchSimulation(playerTeam, comTeam, 1).setEngine(SimulationEngine.KERNEL);
+        RandomBenchmark benchmark = new RandomBenchmark(batch, 200, 64_000).run(3L);
+
+        for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+            assertTrue(benchmark.getDrawsPerSecond(algorithm) > 0);
+            assertTrue(benchmark.getGamesPerSecond(algorithm) > 0);
+            assertTrue(benchmark.isUniform(algorithm));
+            assertEquals(200, benchmark.getResult(algorithm).getGames());
+        }
+        assertNotNull(benchmark.getFastest());
+        // the batch keeps its own algorithm
+        assertEquals(RandomAlgorithm.SPLITTABLE, batch.getRandomAlgorithm());
+
+        String summary = benchmark.getSummary();
+        assertTrue(summary.contains("Random Generator Benchmark"));
+        assertTrue(summary.contains("Engine: kernel, fidelity: pitch, 200 games"));
+        assertTrue(summary.contains("Xoroshiro128PlusPlus"));
+        assertTrue(summary.contains("Fastest uniform generator: " + benchmark.getFastest().getName()));
+    }
+
+    @Test
+    void testNotRun() {
+        RandomBenchmark benchmark = new RandomBenchmark(new BatchSimulation(playerTeam, comTeam, 1), 10);
+
+        assertNull(benchmark.getFastest());
+        assertNull(benchmark.getResult(RandomAlgorithm.RANDOM));
+        assertEquals("Random generator benchmark not run", benchmark.toString());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        BatchSimulation batch = new BatchSimulation(playerTeam, comTeam, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> new RandomBenchmark(batch, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RandomBenchmark(batch, 100, 10));
+    }
+}
@@ -0,0 +1,88 @@
+package model.simulation;
+
+import gameEnum.RareEvent;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RareEventEstimatorTest {
+    private PlayerTeam playerTeam;
+    private ComTeam comTeam;
+
+    @BeforeEach
+    void setUp() {
+        playerTeam = TestLineups.playerTeam();
+        comTeam = TestLineups.comTeam();
+    }
+
+    @Test
+    void testRunsTailMatchesExactDistribution() {
+        RunDistribution distribution = new MarkovChainEngine(playerTeam, comTeam).solve();
+        double below = 0.0;
+        for (int runs = 0; runs < 12; runs++) {
+            below += distribution.getRunProbability(runs);
+        }
+        double exact = 1.0 - below;
+
+        RareEventResult result = new RareEventEstimator(playerTeam, comTeam, RareEvent.RUNS, 12).estimate(50_000, 3L);
+
+        assertTrue(result.getTilt() > 1.0);
+        assertEquals(exact, result.getProbability(), 4 * result.getStandardError());
+        assertTrue(result.getVarianceReduction() > 1.0);
+    }
+
+    @Test
+    void testUntiltedIsPlainMonteCarlo() {
+        RareEventResult result = new RareEventEstimator(playerTeam, comTeam, RareEvent.RUNS, 6)
+                .estimate(20_000, 1.0, 7L);
+
+        assertEquals(20_000, result.getGames());
+        assertEquals((double) result.getOccurrences() / result.getGames(), result.getProbability(), 1e-12);
+        assertEquals(1.0, result.getVarianceReduction(), 1e-3);
+    }
+
+    @Test
+    void testNoHitterTiltsAgree() {
+        RareEventEstimator estimator = new RareEventEstimator(playerTeam, comTeam, RareEvent.NO_HITTER, 0);
+        RareEventResult chosen = estimator.estimate(50_000, 1L);
+        RareEventResult fixed = estimator.estimate(50_000, 0.4, 2L);
+
+        assertTrue(chosen.getTilt() < 1.0);
+        assertTrue(chosen.getProbability() > 0.0);
+        double se = Math.hypot(chosen.getStandardError(), fixed.getStandardError());
+        assertEquals(chosen.getProbability(), fixed.getProbability(), 4 * se);
+    }
+
+    @Test
+    void testPerfectGameRarerThanNoHitter() {
+        RareEventResult noHitter = new RareEventEstimator(playerTeam, comTeam, RareEvent.NO_HITTER, 0)
+                .estimate(20_000, 5L);
+        RareEventResult perfect = new RareEventEstimator(playerTeam, comTeam, RareEvent.PERFECT_GAME, 0)
+                .estimate(20_000, 5L);
+
+        assertTrue(perfect.getProbability() > 0.0);
+        assertTrue(perfect.getProbability() < noHitter.getProbability());
+    }
+
+    @Test
+    void testSameSeedSameEstimate() {
+        RareEventEstimator estimator = new RareEventEstimator(playerTeam, comTeam, RareEvent.PERFECT_GAME, 0);
+
+        assertEquals(estimator.estimate(5_000, 9L).getProbability(), estimator.estimate(5_000, 9L).getProbability());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RareEventEstimator(playerTeam, comTeam, RareEvent.RUNS, 0));
+
+        RareEventEstimator estimator = new RareEventEstimator(playerTeam, comTeam, RareEvent.RUNS, 10);
+        assertThrows(IllegalArgumentException.class, () -> estimator.estimate(1_000, 0.0, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> estimator.estimate(1_000, estimator.getMaxTilt() * 2, 1L));
+        assertThrows(IllegalArgumentException.class, () -> estimator.estimate(1, 1.0, 1L));
+    }
+}
@@ -0,0 +1,52 @@
+package model.simulation;
+
+import gameEnum.RareEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RareEventResultTest {
+
+    @Test
+    void testWeightedEstimate() {
+        RareEventResult result = new RareEventResult(RareEvent.NO_HITTER, 0, 0.5);
+        result.add(0.0);
+        result.add(0.02);
+        result.add(0.0);
+        result.add(0.06);
+
+        assertEquals(4, result.getGames());
+        assertEquals(2, result.getOccurrences());
+        assertEquals(0.02, result.getProbability(), 1e-12);
+        assertEquals(0.5, result.getTilt());
+        assertEquals(result.getWeightedStatistic().getStandardError(), result.getStandardError());
+        assertEquals(result.getStandardError() / 0.02, result.getRelativeError(), 1e-12);
+    }
+
+    @Test
+    void testNeverHappened() {
+        RareEventResult result = new RareEventResult(RareEvent.PERFECT_GAME, 0, 0.1);
+        result.add(0.0);
+        result.add(0.0);
+
+        assertEquals(0.0, result.getProbability());
+        assertEquals(Double.POSITIVE_INFINITY, result.getRelativeError());
+        assertEquals(1.0, result.getVarianceReduction());
+    }
+
+    @Test
+    void testDescriptionAndSummary() {
+        RareEventResult result = new RareEventResult(RareEvent.RUNS, 10, 1.6);
+        result.add(0.5);
+        result.add(0.0);
+        result.setSeed(42L);
+
+        assertEquals("10+ runs", result.getDescription());
+        assertEquals("Perfect game", new RareEventResult(RareEvent.PERFECT_GAME, 0, 0.1).getDescription());
+        String summary = result.getSummary();
+        assertTrue(summary.contains("Rare Event Estimate"));
+        assertTrue(summary.contains("10+ runs, 2 games tilted by 1.60"));
+        assertTrue(summary.contains("Seed: 42"));
+        assertTrue(result.toString().startsWith("10+ runs: "));
+    }
+}
@@ -0,0 +1,77 @@
+package model.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunningStatisticTest {
+
+    @Test
+    void testEmpty() {
+        RunningStatistic statistic = new RunningStatistic();
+
+        assertEquals(0, statistic.getCount());
+        assertEquals(0.0, statistic.getMean());
+        assertEquals(0.0, statistic.getVariance());
+        assertEquals(Double.POSITIVE_INFINITY, statistic.getStandardError());
+        assertEquals(0.0, statistic.getMin());
+        assertEquals(0.0, statistic.getMax());
+    }
+
+    @Test
+    void testMeanAndVariance() {
+        RunningStatistic statistic = new RunningStatistic();
+        for (double value : new double[]{2, 4, 4, 4, 5, 5, 7, 9}) {
+            statistic.add(value);
+        }
+
+        assertEquals(8, statistic.getCount());
+        assertEquals(5.0, statistic.getMean(), 1e-12);
+        assertEquals(32.0 / 7, statistic.getVariance(), 1e-12);
+        assertEquals(Math.sqrt(32.0 / 7 / 8), statistic.getStandardError(), 1e-12);
+        assertEquals(1.96 * statistic.getStandardError(), statistic.getHalfWidth(1.96), 1e-12);
+        assertEquals(2.0, statistic.getMin());
+        assertEquals(9.0, statistic.getMax());
+    }
+
+    @Test
+    void testMergeMatchesSinglePass() {
+        RunningStatistic all = new RunningStatistic();
+        RunningStatistic left = new RunningStatistic();
+        RunningStatistic right = new RunningStatistic();
+        for (int i = 0; i < 100; i++) {
+            double value = (i * 37 % 11) + 1e6;
+            all.add(value);
+            if (i < 30) {
+                left.add(value);
+            } else {
+                right.add(value);
+            }
+        }
+
+        left.merge(right);
+
+        assertEquals(all.getCount(), left.getCount());
+        assertEquals(all.getMean(), left.getMean(), 1e-9);
+        assertEquals(all.getVariance(), left.getVariance(), 1e-9);
+        assertEquals(all.getMin(), left.getMin());
+        assertEquals(all.getMax(), left.getMax());
+    }
+
+    @Test
+    void testMergeWithEmpty() {
+        RunningStatistic statistic = new RunningStatistic();
+        RunningStatistic empty = new RunningStatistic();
+        statistic.add(3);
+        statistic.add(5);
+
+        statistic.merge(empty);
+        empty.merge(statistic);
+
+        assertEquals(2, statistic.getCount());
+        assertEquals(4.0, empty.getMean(), 1e-12);
+        assertEquals(2.0, empty.getVariance(), 1e-12);
+        assertEquals(3.0, empty.getMin());
+        assertEquals(5.0, empty.getMax());
+    }
+}
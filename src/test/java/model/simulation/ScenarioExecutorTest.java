@@ -0,0 +1,134 @@
+package model.simulation;
+
+import gameEnum.Fidelity;
+import gameEnum.SimulationEngine;
+import gameEnum.Teams;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioExecutorTest {
+    private static final String ORDER = "\"Julio Rodriguez\", \"Cal Raleigh\", \"Randy Arozarena\", \"Mitch Garver\", "
+            + "\"Luke Raley\", \"J.P. Crawford\", \"Dylan Moore\", \"Leo Rivas\", \"Mitch Haniger\"";
+    private static final String SWAPPED = "\"Cal Raleigh\", \"Julio Rodriguez\", \"Randy Arozarena\", \"Mitch Garver\", "
+            + "\"Luke Raley\", \"J.P. Crawford\", \"Dylan Moore\", \"Leo Rivas\", \"Mitch Haniger\"";
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("scenarios", ".json");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private ScenarioGrid grid(String json) throws IOException {
+        Files.writeString(file, json);
+        return ScenarioGrid.read(file);
+    }
+
+    @Test
+    void testReadDefaults() throws IOException {
+        ScenarioGrid grid = grid("{\"team\": \"mariners\", \"orders\": [[" + ORDER + "]], \"opponents\": [\"angels\"]}");
+
+        assertEquals("mariners", grid.getTeam());
+        assertEquals(9, grid.getOrders().get(0).size());
+        assertEquals(List.of(1), grid.getRotations());
+        assertEquals(List.of(1000), grid.getGames());
+        assertEquals(SimulationEngine.REFERENCE.getName(), grid.getEngine());
+        assertNull(grid.getSeed());
+    }
+
+    @Test
+    void testDuplicatesAreDropped() throws IOException {
+        // the third order only differs in case, and an opponent and a game count are listed twice
+        ScenarioExecutor executor = new ScenarioExecutor(grid("{\"team\": \"mariners\", \"orders\": [[" + ORDER
+                + "], [" + SWAPPED + "], [" + ORDER.toLowerCase() + "]], \"opponents\": [\"angels\", \"angels\"],"
+                + " \"rotations\": [1, 2], \"games\": [100, 300, 100], \"seed\": 3}"), 2);
+
+        assertEquals(3 * 2 * 2 * 3, executor.getListed());
+        assertEquals(2 * 2 * 2, executor.getScenarios().size());
+        Scenario first = executor.getScenarios().get(0);
+        assertEquals(1, first.getOrder());
+        assertEquals("Julio Rodriguez", first.getBatters().get(0));
+        assertEquals(Teams.ANGELS, first.getOpponent());
+        assertEquals(1, first.getRotation());
+        assertEquals(100, first.getGames());
+        assertEquals(new Scenario(5, first.getBatters(), Teams.ANGELS, 7, first.getPitchers(), 100), first);
+        assertNotEquals(new Scenario(1, first.getBatters(), Teams.ANGELS, 1, first.getPitchers(), 300), first);
+    }
+
+    @Test
+    void testPairsArePlayedOnceAsPrefixes() throws IOException {
+        ScenarioExecutor executor = new ScenarioExecutor(grid("{\"team\": \"mariners\", \"orders\": [[" + ORDER
+                + "], [" + SWAPPED + "]], \"opponents\": [\"angels\"], \"games\": [12000, 500],"
+                + " \"engine\": \"kernel\", \"fidelity\": \"pa\", \"seed\": 8}"), 3);
+        ScenarioGridResult result = executor.run();
+
+        assertEquals(4, result.getScenarios().size());
+        assertEquals(2, result.getPairs());
+        assertEquals(2 * 12000, result.getGamesPlayed());
+        assertEquals(8L, result.getSeed());
+
+        // every scenario is the batch the lineup would play on its own
+        Scenario scenario = result.getScenarios().get(1);
+        PlayerTeam lineup = new PlayerTeam(Teams.MARINERS);
+        for (int slot = 0; slot < 9; slot++) {
+            lineup.getBatterLineup().set(slot, lineup.getBatterFromLoader(scenario.getBatters().get(slot)));
+        }
+        ComTeam comTeam = SeasonSimulation.rotation(Teams.ANGELS, 0);
+        BatchResult expected = new BatchSimulation(lineup, comTeam, 1).setEngine(SimulationEngine.KERNEL)
+                .setFidelity(Fidelity.PLATE_APPEARANCE).run(500, 8L);
+        BatchResult actual = result.getResult(1);
+        assertEquals(500, scenario.getGames());
+        assertEquals(expected.getGames(), actual.getGames());
+        assertEquals(expected.getTotalRuns(), actual.getTotalRuns());
+        assertEquals(expected.getTotalHits(), actual.getTotalHits());
+        assertEquals(12000, result.getResult(0).getGames());
+    }
+
+    @Test
+    void testRows() throws IOException {
+        ScenarioGridResult result = new ScenarioExecutor(grid("{\"team\": \"mariners\", \"orders\": [[" + ORDER
+                + "]], \"opponents\": [\"angels\", \"astros\"], \"games\": [50], \"engine\": \"kernel\","
+                + " \"seed\": 1}"), 2).run();
+        List<String> rows = result.getRows();
+
+        assertEquals(3, rows.size());
+        assertEquals(ScenarioGridResult.CSV_HEADER, rows.get(0));
+        assertTrue(rows.get(1).startsWith("1,angels,1,50,Julio Rodriguez;Cal Raleigh;"));
+        assertTrue(rows.get(2).startsWith("1,astros,1,50,"));
+        assertEquals(ScenarioGridResult.CSV_HEADER.split(",").length, rows.get(1).split(",").length);
+        assertTrue(result.getSummary().startsWith("=====Scenario Grid=====\n\n"));
+    }
+
+    @Test
+    void testInvalidGrids() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> grid("{\"team\": \"mariners\", \"order\": []}"));
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioExecutor(grid("{\"team\": \"mariners\","
+                + " \"orders\": [[" + ORDER + "]]}")));
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioExecutor(grid("{\"team\": \"mariners\","
+                + " \"orders\": [[\"Julio Rodriguez\"]], \"opponents\": [\"angels\"]}")));
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioExecutor(grid("{\"team\": \"mariners\","
+                + " \"orders\": [[" + ORDER.replace("Leo Rivas", "Babe Ruth") + "]], \"opponents\": [\"angels\"]}")));
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioExecutor(grid("{\"team\": \"mariners\","
+                + " \"orders\": [[" + ORDER + "]], \"opponents\": [\"mariners\"]}")));
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioExecutor(grid("{\"team\": \"mariners\","
+                + " \"orders\": [[" + ORDER + "]], \"opponents\": [\"angels\"], \"rotations\": [0]}")));
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioExecutor(grid("{\"team\": \"mariners\","
+                + " \"orders\": [[" + ORDER + "]], \"opponents\": [\"angels\"], \"games\": [0]}")));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioGrid.read(file.resolveSibling("missing.json")));
+    }
+}
@@ -0,0 +1,82 @@
+package model.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeasonResultTest {
+
+    private SeasonResult createResult() {
+        return new SeasonResult("mariners", List.of("angels", "astros"));
+    }
+
+    @Test
+    void testAddGamesAndSeasons() {
+        SeasonResult result = createResult();
+        result.addGame(0, 3);
+        result.addGame(1, 5);
+        result.addSeason(8);
+        result.addGame(0, 1);
+        result.addGame(1, 1);
+        result.addSeason(2);
+
+        assertEquals(2, result.getSeasons());
+        assertEquals(4, result.getGames());
+        assertEquals(5.0, result.getSeasonRuns().getMean(), 1e-12);
+        assertEquals(2.0, result.getOpponentRuns(0).getMean(), 1e-12);
+        assertEquals(3.0, result.getOpponentRuns(1).getMean(), 1e-12);
+        assertEquals(List.of(1, 0), result.getStandings());
+    }
+
+    @Test
+    void testPercentiles() {
+        SeasonResult result = createResult();
+        for (int runs = 1; runs <= 100; runs++) {
+            result.addSeason(runs);
+        }
+        result.addSeason(5000);
+
+        assertEquals(1, result.getPercentile(0.005));
+        assertEquals(51, result.getPercentile(0.5));
+        assertEquals(96, result.getPercentile(0.95));
+        assertEquals(5000, result.getPercentile(1.0));
+        assertThrows(IllegalArgumentException.class, () -> result.getPercentile(0.0));
+        assertThrows(IllegalArgumentException.class, () -> result.addSeason(-1));
+    }
+
+    @Test
+    void testMerge() {
+        SeasonResult result = createResult();
+        SeasonResult other = createResult();
+        result.addGame(0, 4);
+        result.addSeason(4);
+        other.addGame(1, 2);
+        other.addSeason(2000);
+
+        result.merge(other);
+
+        assertEquals(2, result.getSeasons());
+        assertEquals(2, result.getGames());
+        assertEquals(2000, result.getPercentile(1.0));
+        assertEquals(4, result.getPercentile(0.5));
+        assertEquals(1, other.getSeasons());
+    }
+
+    @Test
+    void testSummary() {
+        SeasonResult result = createResult();
+        result.addGame(0, 3);
+        result.addGame(1, 5);
+        result.addSeason(8);
+        result.setSeed(9L);
+
+        String summary = result.getSummary();
+        assertTrue(summary.startsWith("=====Season Simulation=====\n\n"));
+        assertTrue(summary.contains("1 seasons of 2 games against 2 opponents"));
+        assertTrue(summary.contains("Seed: 9"));
+        assertTrue(summary.indexOf("astros") < summary.indexOf("angels"));
+        assertEquals("mariners: 8.0 runs per season (median 8) over 1 seasons", result.toString());
+    }
+}
@@ -0,0 +1,87 @@
+package model.simulation;
+
+import gameEnum.Fidelity;
+import gameEnum.Teams;
+import model.player.Pitcher;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeasonSimulationTest {
+    private PlayerTeam playerTeam;
+    private SeasonSimulation season;
+
+    @BeforeEach
+    void setUp() {
+        playerTeam = TestLineups.playerTeam();
+        season = new SeasonSimulation(playerTeam, 2).setFidelity(Fidelity.PLATE_APPEARANCE);
+    }
+
+    @Test
+    void testScheduleCoversTheLeague() {
+        assertEquals(29, season.getOpponents().size());
+        assertFalse(season.getOpponents().contains(Teams.MARINERS));
+
+        Map<Teams, Integer> games = new EnumMap<>(Teams.class);
+        for (int game = 0; game < SeasonSimulation.GAMES_PER_SEASON; game++) {
+            games.merge(season.getOpponent(game), 1, Integer::sum);
+        }
+        assertEquals(29, games.size());
+        for (int count : games.values()) {
+            assertTrue(count == 5 || count == 6);
+        }
+    }
+
+    @Test
+    void testRotationCycles() {
+        // every opponent is visited once per round of 29 games
+        List<Pitcher> first = season.getRotation(0);
+        List<Pitcher> second = season.getRotation(29);
+
+        assertEquals(season.getOpponent(0), season.getOpponent(29));
+        assertEquals(1, first.get(0).getRotation());
+        assertEquals(2, first.get(1).getRotation());
+        assertEquals(2, first.get(2).getRotation());
+        assertNotEquals(first.get(0), second.get(0));
+        assertNotEquals(first.get(1), second.get(1));
+    }
+
+    @Test
+    void testRunPlaysEverySeason() {
+        SeasonResult result = season.run(10, 5L);
+
+        assertEquals(10, result.getSeasons());
+        assertEquals(10L * SeasonSimulation.GAMES_PER_SEASON, result.getGames());
+        assertEquals(29, result.getOpponentNames().size());
+        assertEquals(5L, result.getSeed());
+        long opponentRuns = 0;
+        for (int i = 0; i < 29; i++) {
+            opponentRuns += Math.round(result.getOpponentRuns(i).getMean() * result.getOpponentRuns(i).getCount());
+        }
+        assertEquals(Math.round(result.getSeasonRuns().getMean() * 10), opponentRuns);
+    }
+
+    @Test
+    void testSameSeedSameResultOnAnyThreadCount() {
+        SeasonResult parallel = season.run(9, 3L);
+        SeasonResult single = new SeasonSimulation(playerTeam, 1).setFidelity(Fidelity.PLATE_APPEARANCE).run(9, 3L);
+
+        assertEquals(single.getSeasonRuns().getMean(), parallel.getSeasonRuns().getMean());
+        assertEquals(single.getPercentile(0.5), parallel.getPercentile(0.5));
+        assertEquals(single.getStandings(), parallel.getStandings());
+    }
+
+    @Test
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> season.run(-1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new SeasonSimulation(playerTeam, 0));
+        playerTeam.getBatterLineup().set(0, null);
+        assertThrows(IllegalStateException.class, () -> season.run(1, 1L));
+    }
+}
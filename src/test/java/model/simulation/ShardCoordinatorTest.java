@@ -0,0 +1,153 @@
+package model.simulation;
+
+import gameEnum.Fidelity;
+import gameEnum.RandomAlgorithm;
+import gameEnum.SimulationEngine;
+import gameEnum.Teams;
+import gameEnum.TrackedStat;
+import model.player.Batter;
+import model.player.Pitcher;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardCoordinatorTest {
+    private PlayerTeam playerTeam;
+    private ComTeam comTeam;
+
+    @BeforeEach
+    void setUp() {
+        // workers load the lineups by name, so they must come from the roster files
+        playerTeam = new PlayerTeam(Teams.MARINERS);
+        comTeam = new ComTeam(Teams.ANGELS);
+        List<Batter> batters = new ArrayList<>(playerTeam.getBatterLoaderLineup());
+        batters.sort(Comparator.comparing(Batter::getName));
+        for (int i = 0; i < 9; i++) {
+            playerTeam.getBatterLineup().set(i, batters.get(i));
+        }
+        List<Pitcher> pitchers = new ArrayList<>(comTeam.getPitcherLoaderLineup());
+        pitchers.sort(Comparator.comparing(Pitcher::getRotation).thenComparing(Pitcher::getName));
+        comTeam.getPitcherLineup().set(0, pitchers.get(0));
+        comTeam.getPitcherLineup().set(1, pitchers.get(pitchers.size() - 2));
+        comTeam.getPitcherLineup().set(2, pitchers.get(pitchers.size() - 1));
+    }
+
+    private ShardCoordinator createCoordinator(int workers) {
+        return new ShardCoordinator(playerTeam, comTeam, workers).setEngine(SimulationEngine.KERNEL)
+                .setFidelity(Fidelity.PLATE_APPEARANCE);
+    }
+
+    private void assertSameTotals(BatchResult expected, BatchResult actual) {
+        assertEquals(expected.getGames(), actual.getGames());
+        assertEquals(expected.getTotalRuns(), actual.getTotalRuns());
+        assertEquals(expected.getTotalHits(), actual.getTotalHits());
+        assertEquals(expected.getTotalWalks(), actual.getTotalWalks());
+        for (int inning = 1; inning <= 9; inning++) {
+            assertEquals(expected.getInningRuns(inning), actual.getInningRuns(inning));
+        }
+    }
+
+    @Test
+    void testWorkerArgumentsReplayTheShard() {
+        List<String> args = ShardWorker.arguments(playerTeam, comTeam, SimulationEngine.KERNEL,
+                Fidelity.PLATE_APPEARANCE, false, RandomAlgorithm.SPLITTABLE, 1, 11L, 100, 400);
+        BatchResult shard = ShardWorker.play(args.toArray(new String[0]));
+        BatchResult expected = new BatchSimulation(playerTeam, comTeam, 1).setEngine(SimulationEngine.KERNEL)
+                .setFidelity(Fidelity.PLATE_APPEARANCE).run(100, 400, 11L);
+
+        assertSameTotals(expected, shard);
+        assertSameTotals(shard, ShardWorker.decode(ShardWorker.encode(shard)));
+    }
+
+    @Test
+    void testShardsMergeToTheBatch() {
+        ShardCoordinator coordinator = createCoordinator(2);
+        BatchResult sharded = coordinator.run(2000, 5L);
+        BatchResult batch = new BatchSimulation(playerTeam, comTeam, 2).setEngine(SimulationEngine.KERNEL)
+                .setFidelity(Fidelity.PLATE_APPEARANCE).run(2000, 5L);
+
+        assertSameTotals(batch, sharded);
+        assertEquals(5L, sharded.getSeed());
+        assertEquals(batch.getStatistic(TrackedStat.RUNS).getMean(),
+                sharded.getStatistic(TrackedStat.RUNS).getMean(), 1e-12);
+        assertEquals(0, coordinator.getRetries());
+    }
+
+    @Test
+    void testForeignClassIsRejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new ArrayList<>(List.of("not a batch")));
+        }
+        String line = Base64.getEncoder().encodeToString(bytes.toByteArray());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> ShardWorker.decode(line));
+        assertTrue(e.getCause() instanceof InvalidClassException);
+    }
+
+    @Test
+    void testNoGamesStartNoWorker() {
+        ShardCoordinator coordinator = createCoordinator(2).setWorkerCommand(List.of("sh", "-c", "exit 2", "sh"));
+        BatchResult batch = coordinator.run(0, 4L);
+
+        assertEquals(0, batch.getGames());
+        assertEquals(4L, batch.getSeed());
+        assertEquals(0, coordinator.getRetries());
+    }
+
+    @Test
+    void testCrashedShardIsPlayedAgain() throws IOException {
+        Path dir = Files.createTempDirectory("shards");
+        // the first worker to start crashes, every later one runs normally
+        ShardCoordinator coordinator = createCoordinator(2);
+        List<String> command = new ArrayList<>(List.of("sh", "-c",
+                "if mkdir " + dir.resolve("crashed") + " 2>/dev/null; then exit 3; fi; exec \"$@\"", "sh"));
+        command.addAll(List.of(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"), ShardWorker.class.getName()));
+        coordinator.setWorkerCommand(command);
+
+        BatchResult sharded = coordinator.run(400, 9L);
+        BatchResult batch = new BatchSimulation(playerTeam, comTeam, 1).setEngine(SimulationEngine.KERNEL)
+                .setFidelity(Fidelity.PLATE_APPEARANCE).run(400, 9L);
+
+        assertSameTotals(batch, sharded);
+        assertEquals(1, coordinator.getRetries());
+        Files.delete(dir.resolve("crashed"));
+        Files.delete(dir);
+    }
+
+    @Test
+    void testShardFailsAfterEveryAttempt() {
+        ShardCoordinator coordinator = createCoordinator(1).setWorkerCommand(List.of("sh", "-c",
+                "echo broken worker; exit 2", "sh"));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> coordinator.run(10, 1L));
+        assertTrue(e.getMessage().contains("failed " + ShardCoordinator.MAX_ATTEMPTS + " times"));
+        assertTrue(e.getMessage().contains("broken worker"));
+    }
+
+    @Test
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardCoordinator(playerTeam, comTeam, 0));
+        assertThrows(IllegalArgumentException.class, () -> createCoordinator(1).run(-1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new BatchSimulation(playerTeam, comTeam, 1)
+                .setAntithetic(true).run(1, 10, 1L));
+        assertThrows(IllegalArgumentException.class, () -> ShardWorker.play(new String[]{"--team", "mariners",
+                "--opponent", "angels", "--color", "blue"}));
+    }
+}
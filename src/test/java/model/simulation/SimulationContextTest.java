@@ -0,0 +1,81 @@
+package model.simulation;
+
+import gameEnum.RandomAlgorithm;
+import model.inning.BaseAdvancementTable;
+import model.random.AntitheticRandom;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationContextTest {
+    private PlayerTeam playerTeam;
+    private ComTeam comTeam;
+
+    @BeforeEach
+    void setUp() {
+        playerTeam = TestLineups.playerTeam();
+        comTeam = TestLineups.comTeam();
+    }
+
+    private SimulationContext createContext(RandomAlgorithm algorithm) {
+        return new SimulationContext(playerTeam, comTeam, BaseAdvancementTable.STANDARD, algorithm);
+    }
+
+    @Test
+    void testReusedReferenceMatchesFreshGames() {
+        SimulationContext context = createContext(RandomAlgorithm.SPLITTABLE);
+
+        for (long seed = 0; seed < 200; seed++) {
+            context.reset(seed, false);
+            SimulationResult reused = context.playReference();
+            SimulationResult fresh = new Simulation(playerTeam, comTeam, new SplittableRandom(seed)).runSimulation();
+
+            assertSame(context.getResult(), reused);
+            assertTrue(fresh.hasSameBoxScore(reused), "Box scores differ for seed " + seed);
+            assertEquals(fresh.getDetails(), reused.getDetails());
+        }
+    }
+
+    @Test
+    void testReusedKernelResultMatchesFreshGames() {
+        SimulationContext context = createContext(RandomAlgorithm.SPLITTABLE);
+        GameKernel kernel = new GameKernel(playerTeam, comTeam);
+
+        for (long seed = 0; seed < 200; seed++) {
+            SimulationResult reused = kernel.playGame(context.reset(seed, false), context.getResult());
+            SimulationResult fresh = kernel.playGame(new SplittableRandom(seed));
+
+            assertTrue(fresh.hasSameBoxScore(reused), "Box scores differ for seed " + seed);
+        }
+    }
+
+    @Test
+    void testMirroredStream() {
+        SimulationContext context = createContext(RandomAlgorithm.SPLITTABLE);
+        context.reset(3L, false).nextLong();
+        RandomGenerator mirrored = context.reset(9L, true);
+        RandomGenerator expected = new AntitheticRandom(new SplittableRandom(9L));
+
+        assertSame(mirrored, context.getRandom());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expected.nextDouble(), mirrored.nextDouble());
+        }
+    }
+
+    @Test
+    void testResetWithOtherAlgorithm() {
+        SimulationContext context = createContext(RandomAlgorithm.XOROSHIRO128_PLUS_PLUS);
+
+        context.reset(21L, false);
+        int[] first = context.playReference().getInningScores().clone();
+        context.reset(21L, false);
+
+        assertArrayEquals(first, context.playReference().getInningScores());
+    }
+}
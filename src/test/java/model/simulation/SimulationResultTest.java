@@ -1,5 +1,7 @@
 package model.simulation;
 
+import gameEnum.PitchCategory;
+import gameEnum.PitchType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -41,6 +43,43 @@ class SimulationResultTest {
         assertEquals(details, result.getDetails());
     }
 
+    @Test
+    void testDetailsRenderedFromInnings() {
+        result.setInningScores(new int[]{2, 0, 0, 0, 0, 0, 0, 0, 0});
+        result.recordInning(1, "Ohtani", 6, 24, 3, 1, 1);
+        result.recordInning(2, "Ohtani", 3, 11, 0, 2, 0);
+
+        assertEquals(6, result.getInningBattersFaced(1));
+        assertEquals(11, result.getInningPitches(2));
+        assertEquals("Inning 1:\nPitcher: Ohtani\nBatters faced: 6\nScore: 2\n"
+                + "Pitches: 24\nHits: 3\nStrikeouts: 1\nWalks: 1\n\n"
+                + "Inning 2:\nPitcher: Ohtani\nBatters faced: 3\nScore: 0\n"
+                + "Pitches: 11\nHits: 0\nStrikeouts: 2\nWalks: 0\n\n", result.getDetails());
+    }
+
+    @Test
+    void testReset() {
+        result.setPlayerTeamScore(4);
+        result.recordInning(1, "Ohtani", 6, 24, 3, 1, 1);
+        result.addPitchesThrown(24);
+        result.addPitchTypeCount(PitchType.FOUR_SEAM, 24);
+        result.addHits(3);
+        result.addWalks(1);
+        int[] scores = result.getInningScores();
+        scores[0] = 4;
+
+        result.reset();
+
+        assertEquals(0, result.getPlayerTeamScore());
+        assertSame(scores, result.getInningScores());
+        assertArrayEquals(new int[9], scores);
+        assertEquals(0, result.getTotalPitchesThrown());
+        assertEquals(0, result.getPitchTypeCount(PitchType.FOUR_SEAM));
+        assertEquals(0, result.getTotalHits());
+        assertEquals(0, result.getTotalWalks());
+        assertEquals("", result.getDetails());
+    }
+
     @Test
     void testInningScores() {
         int[] scores = {1, 0, 3, 0, 0, 0, 1, 0, 0};
@@ -101,6 +140,30 @@ class SimulationResultTest {
         assertEquals(6, offspeedCount);
     }
 
+    @Test
+    void testAddPitchCountsByEnum() {
+        result.addPitchTypeCount(PitchType.SLIDER, 3);
+        result.addPitchTypeCount(PitchType.SLIDER, 2);
+        result.addPitchCategoryCount(PitchCategory.BREAKING, 5);
+
+        assertEquals(5, result.getPitchTypeCount(PitchType.SLIDER));
+        assertEquals(0, result.getPitchTypeCount(PitchType.CURVE));
+        assertEquals(5, result.getPitchCategoryCount(PitchCategory.BREAKING));
+
+        // map views only hold pitches that were thrown
+        assertEquals(1, result.getPitchTypeCounts().size());
+        assertEquals(5, result.getPitchTypeCounts().get("slider"));
+        assertEquals(1, result.getPitchCategoryCounts().size());
+    }
+
+    @Test
+    void testAddUnknownPitchType() {
+        Map<String, Integer> counts = new HashMap<>();
+        counts.put("eephus", 1);
+
+        assertThrows(IllegalArgumentException.class, () -> result.addPitchTypeCounts(counts));
+    }
+
     @Test
     void testAddHitStatistics() {
         result.addHits(10);
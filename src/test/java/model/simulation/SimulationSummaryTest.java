@@ -0,0 +1,125 @@
+package model.simulation;
+
+import gameEnum.TrackedStat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationSummaryTest {
+    private SimulationSummary summary;
+
+    @BeforeEach
+    void setUp() {
+        summary = new SimulationSummary();
+    }
+
+    @Test
+    void testEmptySummary() {
+        assertEquals(0, summary.getGames());
+        for (TrackedStat stat : TrackedStat.values()) {
+            assertEquals(0, summary.getStatistic(stat).getCount());
+            assertEquals(0.0, summary.getStatistic(stat).getMax());
+        }
+        assertEquals(0.0, summary.getInningRuns(1).getMean());
+    }
+
+    @Test
+    void testAddGames() {
+        summary.add(createGame(new int[]{1, 0, 2, 0, 0, 0, 0, 0, 1}, 8, 1, 1, 0, 120));
+        summary.add(createGame(new int[]{0, 0, 0, 0, 3, 0, 0, 0, 0}, 5, 0, 0, 2, 140));
+
+        assertEquals(2, summary.getGames());
+        RunningStatistic runs = summary.getStatistic(TrackedStat.RUNS);
+        assertEquals(3.5, runs.getMean(), 1e-12);
+        assertEquals(0.5, runs.getVariance(), 1e-12);
+        assertEquals(3.0, runs.getMin());
+        assertEquals(4.0, runs.getMax());
+        assertEquals(8.5, summary.getStatistic(TrackedStat.HITS).getMean(), 1e-12);
+        assertEquals(6.5, summary.getStatistic(TrackedStat.SINGLES).getMean(), 1e-12);
+        assertEquals(1.0, summary.getStatistic(TrackedStat.DOUBLES).getMax());
+        assertEquals(0.0, summary.getStatistic(TrackedStat.TRIPLES).getMin());
+        assertEquals(2.0, summary.getStatistic(TrackedStat.HOME_RUNS).getMax());
+        assertEquals(130.0, summary.getStatistic(TrackedStat.PITCHES).getMean(), 1e-12);
+        assertEquals(0.5, summary.getInningRuns(1).getMean(), 1e-12);
+        assertEquals(1.5, summary.getInningRuns(5).getMean(), 1e-12);
+        assertEquals(1, summary.getRunsHistogram().getCount(4));
+        assertEquals(0.5, summary.getRunsHistogram().getShareAtLeast(4), 1e-12);
+        assertEquals(1, summary.getHitsHistogram().getCount(7));
+        assertEquals(140, summary.getPitchesHistogram().getPercentile(1.0));
+        assertEquals(1, summary.getInningRunsHistogram(3).getCount(2));
+        assertEquals(0.5, summary.getInningRunsHistogram(9).getShareAtMost(0), 1e-12);
+    }
+
+    @Test
+    void testMergeMatchesSinglePass() {
+        SimulationSummary left = new SimulationSummary();
+        SimulationSummary right = new SimulationSummary();
+        for (int i = 0; i < 50; i++) {
+            SimulationResult game = createGame(new int[]{i % 3, 0, 0, i % 5, 0, 0, 0, 0, i % 2}, i % 7, i % 2,
+                    i % 4 == 0 ? 1 : 0, i % 3, 100 + i);
+            summary.add(game);
+            (i < 20 ? left : right).add(game);
+        }
+
+        left.merge(right);
+
+        assertEquals(summary.getGames(), left.getGames());
+        for (TrackedStat stat : TrackedStat.values()) {
+            assertEquals(summary.getStatistic(stat).getMean(), left.getStatistic(stat).getMean(), 1e-9);
+            assertEquals(summary.getStatistic(stat).getVariance(), left.getStatistic(stat).getVariance(), 1e-9);
+            assertEquals(summary.getStatistic(stat).getMin(), left.getStatistic(stat).getMin());
+            assertEquals(summary.getStatistic(stat).getMax(), left.getStatistic(stat).getMax());
+        }
+        for (int inning = 1; inning <= 9; inning++) {
+            assertEquals(summary.getInningRuns(inning).getMean(), left.getInningRuns(inning).getMean(), 1e-9);
+            assertEquals(summary.getInningRunsHistogram(inning).getShareAtMost(1),
+                    left.getInningRunsHistogram(inning).getShareAtMost(1), 1e-12);
+        }
+        for (int runs = 0; runs < 10; runs++) {
+            assertEquals(summary.getRunsHistogram().getCount(runs), left.getRunsHistogram().getCount(runs));
+        }
+        assertEquals(summary.getPitchesHistogram().getPercentile(0.5), left.getPitchesHistogram().getPercentile(0.5));
+    }
+
+    @Test
+    void testBatchKeepsSummary() {
+        BatchResult batch = new BatchResult("mariners", "angels");
+        batch.add(createGame(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 6}, 10, 2, 0, 3, 150));
+
+        assertEquals(1, batch.getSimulationSummary().getGames());
+        assertSame(batch.getStatistic(TrackedStat.RUNS), batch.getSimulationSummary().getStatistic(TrackedStat.RUNS));
+        assertTrue(batch.getSummary().contains("Per Game"));
+        assertTrue(batch.getSummary().contains("P(shutout): 0.0000  P(5+ runs): 1.0000"));
+    }
+
+    @Test
+    void testSummary() {
+        summary.add(createGame(new int[]{1, 0, 0, 0, 0, 0, 0, 0, 0}, 4, 0, 0, 0, 100));
+
+        assertTrue(summary.getSummary().startsWith("=====Simulation Summary=====\n\n1 games\n"));
+        assertEquals("1.000 runs per game over 1 games", summary.toString());
+        assertThrows(IllegalArgumentException.class, () -> summary.getInningRuns(0));
+        assertThrows(IllegalArgumentException.class, () -> summary.getInningRuns(10));
+        assertThrows(IllegalArgumentException.class, () -> summary.getInningRunsHistogram(0));
+        assertTrue(summary.getSummary().contains("P(shutout): 0.0000"));
+    }
+
+    private SimulationResult createGame(int[] inningScores, int singles, int doubles, int triples, int homeRuns,
+                                        int pitches) {
+        SimulationResult result = new SimulationResult("mariners", "angels");
+        int total = 0;
+        for (int score : inningScores) {
+            total += score;
+        }
+        result.setInningScores(inningScores);
+        result.setPlayerTeamScore(total);
+        result.addHits(singles + doubles + triples + homeRuns);
+        result.addSingles(singles);
+        result.addDoubles(doubles);
+        result.addTriples(triples);
+        result.addHR(homeRuns);
+        result.addPitchesThrown(pitches);
+        return result;
+    }
+}
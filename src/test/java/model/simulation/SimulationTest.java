@@ -4,13 +4,12 @@ import org.junit.jupiter.api.BeforeEach;
 
 import gameEnum.Teams;
 import model.player.Batter;
-import model.player.Pitcher;
 import model.team.ComTeam;
 import model.team.PlayerTeam;
 import org.junit.jupiter.api.Test;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -18,25 +17,11 @@ class SimulationTest {
     private Simulation simulation;
     private PlayerTeam playerTeam;
     private ComTeam comTeam;
-    private List<Batter> batters;
-    private List<Pitcher> pitchers;
 
     @BeforeEach
     void setUp() {
-        playerTeam = new PlayerTeam(Teams.MARINERS);
-        comTeam = new ComTeam(Teams.ANGELS);
-
-        batters = createTestBatters();
-        pitchers = createTestPitchers();
-
-        // set player team and computer team
-        for (int i = 0; i < 9; i++) {
-            playerTeam.getBatterLineup().set(i, batters.get(i));
-        }
-
-        for (int i = 0; i < 3; i++) {
-            comTeam.getPitcherLineup().set(i, pitchers.get(i));
-        }
+        playerTeam = TestLineups.playerTeam();
+        comTeam = TestLineups.comTeam();
 
         simulation = new Simulation(playerTeam, comTeam);
     }
@@ -63,9 +48,19 @@ class SimulationTest {
         assertEquals(sumInningScores, result.getPlayerTeamScore());
     }
 
+    @Test
+    void testSameSeedSameGame() {
+        SimulationResult first = new Simulation(playerTeam, comTeam, new SplittableRandom(21L)).runSimulation();
+        SimulationResult second = new Simulation(playerTeam, comTeam, new SplittableRandom(21L)).runSimulation();
+
+        assertTrue(first.hasSameBoxScore(second));
+        assertEquals(first.getDetails(), second.getDetails());
+    }
+
     @Test
     void testIncompleteBatterLineup() {
         playerTeam = new PlayerTeam(Teams.MARINERS);
+        List<Batter> batters = TestLineups.batters();
 
         // set partial lineup
         for (int i = 0; i < 5; i++) {
@@ -83,7 +78,7 @@ class SimulationTest {
     @Test
     void testIncompletePitcherLineup() {
         comTeam = new ComTeam(Teams.ANGELS);
-        comTeam.getPitcherLineup().set(0, pitchers.get(0));
+        comTeam.getPitcherLineup().set(0, TestLineups.pitchers().get(0));
         simulation = new Simulation(playerTeam, comTeam);
 
 
@@ -107,46 +102,4 @@ class SimulationTest {
                         result.getTotalTriples() + result.getTotalHomeRuns() == result.getTotalHits());
 
     }
-
-    private List<Batter> createTestBatters() {
-        List<Batter> batters = new ArrayList<>();
-
-        for (int i = 1; i <= 9; i++) {
-            double contactRate = 0.2 + (i * 0.03);
-
-            Batter batter = new Batter(
-                    "Batter " + i,
-                    100, 30, 20, 5, 2, 3,
-                    100, 25, 15, 5, 2, 3,
-                    100, 20, 12, 4, 2, 2,
-                    300, 75, 47, 14, 6, 8,
-                    0.5 + (i * 0.02), contactRate, 0.3 - (i * 0.01),
-                    contactRate * 0.7, 0.250 + (i * 0.01), 0.300 + (i * 0.01),
-                    0.700 + (i * 0.03)
-            );
-
-            batters.add(batter);
-        }
-
-        return batters;
-    }
-
-    private List<Pitcher> createTestPitchers() {
-        List<Pitcher> pitchers = new ArrayList<>();
-
-        pitchers.add(new Pitcher(
-                "Starter", 1, 100, 150, 0.65, 0.35, 0.30,
-                0.20, 0.15, 0.05, 0.10, 0.05, 0.00, 0.05,
-                0.00, 0.05, 0.05, 0.00, 0.00));
-
-        pitchers.add(new Pitcher("Reliever1", 2, 80, 130, 0.5, 0.5,
-                0.30, 0.20, 0.15, 0.05, 0.10, 0.05, 0.00,
-                0.05, 0.00, 0.05, 0.05, 0.00, 0.00));
-
-        pitchers.add(new Pitcher("Reliever2", 2, 100, 150, 0.4, 0.6,
-                0.30, 0.20, 0.10, 0.00, 0.10, 0.00, 0.00,
-                0.00, 0.10, 0.00, 0.00, 0.10, 0.10));
-
-        return pitchers;
-    }
 }
\ No newline at end of file
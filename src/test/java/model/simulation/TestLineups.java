@@ -0,0 +1,97 @@
+package model.simulation;
+
+import gameEnum.Teams;
+import model.player.Batter;
+import model.player.Pitcher;
+import model.team.ComTeam;
+import model.team.PlayerTeam;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Made-up lineups shared by the simulation tests: nine batters "Batter 1" to "Batter 9" who swing and make
+ * contact more often down the order, and a rotation of "Starter", "Reliever1" and "Reliever2".
+ * Every call builds new teams, so a test may change its lineups freely.
+ */
+final class TestLineups {
+
+    private TestLineups() {
+    }
+
+    /**
+     * Build the Mariners with the test batters in slot order.
+     * @return The player team
+     */
+    static PlayerTeam playerTeam() {
+        PlayerTeam playerTeam = new PlayerTeam(Teams.MARINERS);
+        List<Batter> batters = batters();
+        for (int i = 0; i < 9; i++) {
+            playerTeam.getBatterLineup().set(i, batters.get(i));
+        }
+        return playerTeam;
+    }
+
+    /**
+     * Build the Angels with the test rotation.
+     * @return The computer team
+     */
+    static ComTeam comTeam() {
+        ComTeam comTeam = new ComTeam(Teams.ANGELS);
+        List<Pitcher> pitchers = pitchers();
+        for (int i = 0; i < 3; i++) {
+            comTeam.getPitcherLineup().set(i, pitchers.get(i));
+        }
+        return comTeam;
+    }
+
+    /**
+     * Build the nine test batters.
+     * @return The batters in slot order
+     */
+    static List<Batter> batters() {
+        List<Batter> batters = new ArrayList<>();
+
+        for (int i = 1; i <= 9; i++) {
+            double contactRate = 0.2 + (i * 0.03);
+
+            Batter batter = new Batter(
+                    "Batter " + i,
+                    100, 30, 20, 5, 2, 3,
+                    100, 25, 15, 5, 2, 3,
+                    100, 20, 12, 4, 2, 2,
+                    300, 75, 47, 14, 6, 8,
+                    0.5 + (i * 0.02), contactRate, 0.3 - (i * 0.01),
+                    contactRate * 0.7, 0.250 + (i * 0.01), 0.300 + (i * 0.01),
+                    0.700 + (i * 0.03)
+            );
+
+            batters.add(batter);
+        }
+
+        return batters;
+    }
+
+    /**
+     * Build the three test pitchers.
+     * @return The starter, middle reliever and closer
+     */
+    static List<Pitcher> pitchers() {
+        List<Pitcher> pitchers = new ArrayList<>();
+
+        pitchers.add(new Pitcher(
+                "Starter", 1, 100, 150, 0.65, 0.35, 0.30,
+                0.20, 0.15, 0.05, 0.10, 0.05, 0.00, 0.05,
+                0.00, 0.05, 0.05, 0.00, 0.00));
+
+        pitchers.add(new Pitcher("Reliever1", 2, 80, 130, 0.5, 0.5,
+                0.30, 0.20, 0.15, 0.05, 0.10, 0.05, 0.00,
+                0.05, 0.00, 0.05, 0.05, 0.00, 0.00));
+
+        pitchers.add(new Pitcher("Reliever2", 2, 100, 150, 0.4, 0.6,
+                0.30, 0.20, 0.10, 0.00, 0.10, 0.00, 0.00,
+                0.00, 0.10, 0.00, 0.00, 0.10, 0.10));
+
+        return pitchers;
+    }
+}